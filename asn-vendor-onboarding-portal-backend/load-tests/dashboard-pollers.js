@@ -0,0 +1,64 @@
+// k6 load test: concurrent dashboard pollers
+//
+// Each virtual user polls the dashboard and onboarding progress the way the portal does,
+// revalidating with If-None-Match, so most polls are 304s that cost one version lookup.
+// Run it once per execution mode against the same database and compare the summaries:
+//
+//   VIRTUAL_THREADS_ENABLED=false java -jar target/asn-vendor-onboarding-portal.jar
+//   k6 run -e BASE_URL=http://localhost:8080/api/v1 -e TOKEN=... -e OEM_ID=... load-tests/dashboard-pollers.js
+//
+//   VIRTUAL_THREADS_ENABLED=true java -jar target/asn-vendor-onboarding-portal.jar   (Java 21+)
+//   k6 run ... load-tests/dashboard-pollers.js
+//
+// Also compare hikaricp_connections_pending and tomcat_threads_busy_threads from
+// /actuator/prometheus; portal_threading_virtual tells the two runs apart.
+
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/api/v1';
+const TOKEN = __ENV.TOKEN;
+const OEM_ID = __ENV.OEM_ID;
+const POLLERS = parseInt(__ENV.POLLERS || '2000', 10);
+const POLL_INTERVAL_S = parseFloat(__ENV.POLL_INTERVAL_S || '5');
+
+export const options = {
+    scenarios: {
+        pollers: {
+            executor: 'ramping-vus',
+            startVUs: 0,
+            stages: [
+                { duration: '1m', target: POLLERS },
+                { duration: __ENV.HOLD || '5m', target: POLLERS },
+                { duration: '30s', target: 0 },
+            ],
+            gracefulRampDown: '30s',
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        'http_req_duration{route:dashboard}': ['p(95)<500'],
+        'http_req_duration{route:progress}': ['p(95)<500'],
+    },
+};
+
+// Per-VU ETags, like a browser tab's HTTP cache
+const etags = {};
+
+function poll(route, path) {
+    const headers = { Authorization: `Bearer ${TOKEN}` };
+    if (etags[path]) {
+        headers['If-None-Match'] = etags[path];
+    }
+    const response = http.get(`${BASE_URL}${path}`, { headers, tags: { route } });
+    check(response, { [`${route} 200 or 304`]: (r) => r.status === 200 || r.status === 304 });
+    if (response.status === 200 && response.headers.Etag) {
+        etags[path] = response.headers.Etag;
+    }
+}
+
+export default function () {
+    poll('dashboard', `/dashboard/onboarding-progress/${OEM_ID}`);
+    poll('progress', `/onboarding/progress/${OEM_ID}`);
+    sleep(POLL_INTERVAL_S * (0.5 + Math.random()));
+}
@@ -0,0 +1,122 @@
+#!/usr/bin/env bash
+# Startup benchmark: standard build against the fast-startup build, with and without AppCDS
+#
+# Launches each build RUNS times and measures, from the moment the JVM is started:
+#
+#   ready          until the readiness probe answers 200, which is when a pod takes traffic
+#   first request  until the first API request has been answered, which includes the work
+#                  deferred to first use (DispatcherServlet, lazily created beans)
+#
+#   standard     java -jar target/asn-vendor-onboarding-portal.jar
+#   fast-no-cds  target/fast-startup/run.sh with CDS_ENABLED=false: Spring AOT and the plain
+#                class path only
+#   fast         target/fast-startup/run.sh: Spring AOT, the plain class path and the AppCDS archive
+#
+# Springdoc is created lazily in all three. Set BUILDS to boot a subset, e.g. BUILDS="standard fast".
+#
+# All three come out of one build, which trains the archive against DB_URL (already migrated):
+#
+#   DB_URL=... mvn -B -Pfast-startup -DskipTests -Dfast-startup.training.skip=false package
+#   DB_URL=... DB_USERNAME=postgres DB_PASSWORD=... RUNS=5 load-tests/fast-startup-benchmark.sh
+#
+# FIRST_REQUEST_PATH defaults to /actuator/info, which goes through the DispatcherServlet and
+# Jackson without a token; for a business endpoint such as /dashboard/..., pass the
+# Authorization header value in AUTH_HEADER. The first boot of each build is a warm-up and is not
+# counted. Background jobs stay off so the boots do not race each other for job locks.
+
+set -euo pipefail
+
+JAR=${JAR:-target/asn-vendor-onboarding-portal.jar}
+FAST_DIR=${FAST_DIR:-target/fast-startup}
+RUNS=${RUNS:-5}
+PORT=${PORT:-18080}
+BOOT_TIMEOUT_S=${BOOT_TIMEOUT_S:-180}
+BASE_URL="http://localhost:$PORT/api/v1"
+FIRST_REQUEST_PATH=${FIRST_REQUEST_PATH:-/actuator/info}
+read -r -a BUILDS <<<"${BUILDS:-standard fast-no-cds fast}"
+LOG=$(mktemp)
+trap 'rm -f "$LOG"' EXIT
+
+: "${DB_URL:?set DB_URL to the database to boot against}"
+
+if [[ ! -f "$JAR" || ! -x "$FAST_DIR/run.sh" ]]; then
+    echo "No $JAR or $FAST_DIR/run.sh; build them with: mvn -B -Pfast-startup -DskipTests package" >&2
+    exit 1
+fi
+if [[ ! -f "$FAST_DIR/application.jsa" ]]; then
+    echo "Warning: no $FAST_DIR/application.jsa, the fast build runs without class data sharing" >&2
+fi
+
+now_ms() {
+    date +%s%3N
+}
+
+# Boots once and prints the milliseconds to ready and to the first answered request
+boot() {
+    local build=$1 start pid ready_ms="" first_ms=""
+    start=$(now_ms)
+    if [[ $build == standard ]]; then
+        SERVER_PORT=$PORT JOBS_ENABLED=false java ${JAVA_OPTS:-} -jar "$JAR" >"$LOG" 2>&1 &
+    else
+        local cds=true
+        [[ $build == fast-no-cds ]] && cds=false
+        CDS_ENABLED=$cds SERVER_PORT=$PORT JOBS_ENABLED=false "$FAST_DIR/run.sh" >"$LOG" 2>&1 &
+    fi
+    pid=$!
+
+    local deadline=$((start + BOOT_TIMEOUT_S * 1000))
+    while (($(now_ms) < deadline)) && kill -0 "$pid" 2>/dev/null; do
+        if curl -fs -o /dev/null "$BASE_URL/actuator/health/readiness"; then
+            ready_ms=$(($(now_ms) - start))
+            break
+        fi
+        sleep 0.05
+    done
+    if [[ -n $ready_ms ]]; then
+        local auth=()
+        if [[ -n ${AUTH_HEADER:-} ]]; then
+            auth=(-H "Authorization: $AUTH_HEADER")
+        fi
+        if curl -fs -o /dev/null "${auth[@]}" "$BASE_URL$FIRST_REQUEST_PATH"; then
+            first_ms=$(($(now_ms) - start))
+        fi
+    fi
+    kill "$pid" 2>/dev/null || true
+    wait "$pid" 2>/dev/null || true
+
+    if [[ -z $first_ms ]]; then
+        echo "Boot of the $build build failed or $FIRST_REQUEST_PATH did not answer; last log lines:" >&2
+        tail -n 30 "$LOG" >&2
+        exit 1
+    fi
+    echo "$ready_ms $first_ms"
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : (v[NR / 2] + v[NR / 2 + 1]) / 2 }'
+}
+
+seconds() {
+    awk -v ms="$1" 'BEGIN { printf "%6.2fs", ms / 1000 }'
+}
+
+declare -A ready_times first_times
+for build in "${BUILDS[@]}"; do
+    boot "$build" >/dev/null
+done
+for ((run = 1; run <= RUNS; run++)); do
+    # Alternate the builds so database caches and machine load affect both alike
+    for build in "${BUILDS[@]}"; do
+        read -r ready_ms first_ms < <(boot "$build")
+        ready_times[$build]+="$ready_ms "
+        first_times[$build]+="$first_ms "
+        printf 'run %d  %-11s ready %s  first request %s\n' "$run" "$build" "$(seconds "$ready_ms")" "$(seconds "$first_ms")"
+    done
+done
+
+echo
+for build in "${BUILDS[@]}"; do
+    printf 'median  %-11s ready %s  first request %s\n' "$build" \
+        "$(seconds "$(tr ' ' '\n' <<<"${ready_times[$build]}" | grep . | median)")" \
+        "$(seconds "$(tr ' ' '\n' <<<"${first_times[$build]}" | grep . | median)")"
+done
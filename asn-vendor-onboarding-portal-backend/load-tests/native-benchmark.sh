@@ -0,0 +1,183 @@
+#!/usr/bin/env bash
+# Native image benchmark: the JVM jar against the GraalVM native executable
+#
+# Boots each build RUNS times and measures, from the moment the process is started:
+#
+#   ready       until the readiness probe answers 200
+#   rss         resident memory once ready, from /proc/<pid>/status
+#
+# After the last boot of each build it smoke-tests the endpoints that depend on reflection or
+# ServiceLoader lookups, then drives THROUGHPUT_PATH with k6 for DURATION and reports requests per
+# second and the resident memory after the load:
+#
+#   /actuator/info             Jackson serialization without a token
+#   /api-docs                  springdoc, created on first use
+#   /user/session-context      401 without a token, through the JWT filter and ErrorResponse
+#
+# With AUTH_HEADER set to an Authorization header value, /user/session-context must answer 200
+# and the load runs against it instead of /actuator/info, which exercises jjwt, Hibernate and the
+# view models on every request.
+#
+#   mvn -B -DskipTests package
+#   mvn -B -Pnative -DskipTests native:compile
+#   DB_URL=... DB_USERNAME=postgres DB_PASSWORD=... RUNS=5 load-tests/native-benchmark.sh
+#
+# Both builds are from the same sources, so set the same JAVA_OPTS heap limits you deploy with,
+# otherwise the JVM's resident memory mostly reflects its default heap sizing. The first boot of
+# each build is a warm-up and is not counted. Background jobs stay off so the boots do not race
+# each other for job locks.
+
+set -euo pipefail
+
+JAR=${JAR:-target/asn-vendor-onboarding-portal.jar}
+NATIVE=${NATIVE:-target/asn-vendor-onboarding-portal}
+RUNS=${RUNS:-5}
+PORT=${PORT:-18080}
+BOOT_TIMEOUT_S=${BOOT_TIMEOUT_S:-180}
+DURATION=${DURATION:-60s}
+VUS=${VUS:-50}
+BASE_URL="http://localhost:$PORT/api/v1"
+read -r -a BUILDS <<<"${BUILDS:-jvm native}"
+LOG=$(mktemp)
+SUMMARY=$(mktemp)
+trap 'rm -f "$LOG" "$SUMMARY"' EXIT
+
+: "${DB_URL:?set DB_URL to the database to boot against}"
+
+if [[ -n ${AUTH_HEADER:-} ]]; then
+    THROUGHPUT_PATH=${THROUGHPUT_PATH:-/user/session-context}
+else
+    THROUGHPUT_PATH=${THROUGHPUT_PATH:-/actuator/info}
+fi
+
+for build in "${BUILDS[@]}"; do
+    if [[ $build == jvm && ! -f "$JAR" ]]; then
+        echo "No $JAR; build it with: mvn -B -DskipTests package" >&2
+        exit 1
+    fi
+    if [[ $build == native && ! -x "$NATIVE" ]]; then
+        echo "No $NATIVE; build it with GraalVM: mvn -B -Pnative -DskipTests native:compile" >&2
+        exit 1
+    fi
+done
+if ! command -v k6 >/dev/null; then
+    echo "k6 is required for the throughput phase: https://k6.io" >&2
+    exit 1
+fi
+
+now_ms() {
+    date +%s%3N
+}
+
+rss_mb() {
+    awk '/^VmRSS:/ { printf "%.0f", $2 / 1024 }' "/proc/$1/status"
+}
+
+start() {
+    if [[ $1 == jvm ]]; then
+        SERVER_PORT=$PORT JOBS_ENABLED=false exec java ${JAVA_OPTS:-} -jar "$JAR"
+    else
+        SERVER_PORT=$PORT JOBS_ENABLED=false exec "$NATIVE" ${NATIVE_OPTS:-}
+    fi
+}
+
+fail() {
+    echo "$1; last log lines:" >&2
+    tail -n 30 "$LOG" >&2
+    kill "$PID" 2>/dev/null || true
+    exit 1
+}
+
+# Boots the build in the background and sets PID and READY_MS, the milliseconds to ready
+boot() {
+    local build=$1 started
+    started=$(now_ms)
+    start "$build" >"$LOG" 2>&1 &
+    PID=$!
+    local deadline=$((started + BOOT_TIMEOUT_S * 1000))
+    while (($(now_ms) < deadline)) && kill -0 "$PID" 2>/dev/null; do
+        if curl -fs -o /dev/null "$BASE_URL/actuator/health/readiness"; then
+            READY_MS=$(($(now_ms) - started))
+            return
+        fi
+        sleep 0.05
+    done
+    fail "Boot of the $build build failed"
+}
+
+stop() {
+    kill "$PID" 2>/dev/null || true
+    wait "$PID" 2>/dev/null || true
+}
+
+expect() {
+    local status=$1 path=$2 actual
+    shift 2
+    actual=$(curl -s -o /dev/null -w '%{http_code}' "$@" "$BASE_URL$path")
+    if [[ $actual != "$status" ]]; then
+        fail "Smoke test of the $BUILD build failed: $path answered $actual, expected $status"
+    fi
+}
+
+smoke() {
+    expect 200 /actuator/info
+    expect 200 /api-docs
+    expect 401 /user/session-context
+    if [[ -n ${AUTH_HEADER:-} ]]; then
+        expect 200 /user/session-context -H "Authorization: $AUTH_HEADER"
+    fi
+}
+
+# Prints the requests per second k6 sustained against THROUGHPUT_PATH
+throughput() {
+    URL="$BASE_URL$THROUGHPUT_PATH" AUTH_HEADER=${AUTH_HEADER:-} k6 run --quiet --vus "$VUS" \
+        --duration "$DURATION" --summary-export "$SUMMARY" - >/dev/null <<'EOF'
+import http from 'k6/http';
+import { check } from 'k6';
+
+const params = __ENV.AUTH_HEADER ? { headers: { Authorization: __ENV.AUTH_HEADER } } : {};
+
+export default function () {
+    check(http.get(__ENV.URL, params), { 'status is 200': (r) => r.status === 200 });
+}
+EOF
+    grep -A3 '"http_reqs"' "$SUMMARY" | grep -oE '"rate": *[0-9.]+' | grep -oE '[0-9.]+$'
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : (v[NR / 2] + v[NR / 2 + 1]) / 2 }'
+}
+
+seconds() {
+    awk -v ms="$1" 'BEGIN { printf "%6.2fs", ms / 1000 }'
+}
+
+declare -A ready_times rss_values load_rates load_rss
+for BUILD in "${BUILDS[@]}"; do
+    boot "$BUILD"
+    stop
+done
+for ((run = 1; run <= RUNS; run++)); do
+    # Alternate the builds so database caches and machine load affect both alike
+    for BUILD in "${BUILDS[@]}"; do
+        boot "$BUILD"
+        rss=$(rss_mb "$PID")
+        ready_times[$BUILD]+="$READY_MS "
+        rss_values[$BUILD]+="$rss "
+        printf 'run %d  %-6s ready %s  rss %5.0f MB\n' "$run" "$BUILD" "$(seconds "$READY_MS")" "$rss"
+        if ((run == RUNS)); then
+            smoke
+            load_rates[$BUILD]=$(throughput)
+            load_rss[$BUILD]=$(rss_mb "$PID")
+        fi
+        stop
+    done
+done
+
+echo
+for BUILD in "${BUILDS[@]}"; do
+    printf 'median  %-6s ready %s  rss %5.0f MB   %s: %8.1f req/s, rss after load %5.0f MB\n' "$BUILD" \
+        "$(seconds "$(tr ' ' '\n' <<<"${ready_times[$BUILD]}" | grep . | median)")" \
+        "$(tr ' ' '\n' <<<"${rss_values[$BUILD]}" | grep . | median)" \
+        "$THROUGHPUT_PATH" "${load_rates[$BUILD]}" "${load_rss[$BUILD]}"
+done
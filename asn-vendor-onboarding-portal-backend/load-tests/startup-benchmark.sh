@@ -0,0 +1,100 @@
+#!/usr/bin/env bash
+# Startup benchmark: schema handling at boot
+#
+# Boots the packaged application RUNS times per mode against the same database and reports two
+# times: the whole boot, as Spring Boot logs it in "Started ... in N seconds", and the schema
+# phase, from the first pool connection to "Initialized JPA EntityManagerFactory", which holds
+# Flyway and Hibernate's schema handling and little else:
+#
+#   update    the old default: no migrations, Hibernate ddl-auto=update reads the metadata of
+#             every table, column, index and constraint, then alters whatever differs
+#   validate  the new default: Flyway finds no pending migration and Hibernate only checks the
+#             mapped tables and columns
+#
+# Update mode may alter the schema, so point it at a scratch copy of a real database:
+#
+#   mvn -B -DskipTests package
+#   DB_URL='jdbc:postgresql://localhost:5432/db_copy?currentSchema=sch_asn_vendor_onboarding_portal' \
+#   DB_USERNAME=postgres DB_PASSWORD=... RUNS=5 load-tests/startup-benchmark.sh
+#
+# The first boot of each mode is a warm-up and is not counted. Background jobs stay off so the
+# boots do not race each other for job locks.
+
+set -euo pipefail
+
+JAR=${JAR:-target/asn-vendor-onboarding-portal.jar}
+RUNS=${RUNS:-5}
+PORT=${PORT:-18080}
+BOOT_TIMEOUT_S=${BOOT_TIMEOUT_S:-180}
+LOG=$(mktemp)
+trap 'rm -f "$LOG"' EXIT
+
+: "${DB_URL:?set DB_URL to the database to boot against}"
+
+if [[ ! -f "$JAR" ]]; then
+    echo "No $JAR; build it with: mvn -B -DskipTests package" >&2
+    exit 1
+fi
+
+# Milliseconds since midnight of the first log line matching the pattern
+log_time_ms() {
+    grep -m1 -E "$1" "$LOG" | awk '{ split($1, t, /[:.]/); print ((t[1] * 60 + t[2]) * 60 + t[3]) * 1000 + t[4] }'
+}
+
+# Boots once and prints the boot time and the schema phase in seconds
+boot() {
+    local mode=$1 migrations ddl_auto
+    if [[ $mode == update ]]; then
+        migrations=false ddl_auto=update
+    else
+        migrations=true ddl_auto=validate
+    fi
+
+    DB_MIGRATIONS_ENABLED=$migrations DB_DDL_AUTO=$ddl_auto SERVER_PORT=$PORT JOBS_ENABLED=false \
+        LOGGING_PATTERN_CONSOLE='%d{HH:mm:ss.SSS} - %msg%n' java ${JAVA_OPTS:-} -jar "$JAR" >"$LOG" 2>&1 &
+    local pid=$! started=""
+    for ((i = 0; i < BOOT_TIMEOUT_S * 10; i++)); do
+        started=$(grep -oE 'Started [A-Za-z]+ in [0-9.]+ seconds' "$LOG" | grep -oE '[0-9.]+' || true)
+        if [[ -n $started ]] || ! kill -0 "$pid" 2>/dev/null; then
+            break
+        fi
+        sleep 0.1
+    done
+    kill "$pid" 2>/dev/null || true
+    wait "$pid" 2>/dev/null || true
+
+    if [[ -z $started ]]; then
+        echo "Boot in $mode mode failed; last log lines:" >&2
+        tail -n 30 "$LOG" >&2
+        exit 1
+    fi
+    local pool_start emf_ready
+    pool_start=$(log_time_ms 'HikariPool-1 - Starting')
+    emf_ready=$(log_time_ms 'Initialized JPA EntityManagerFactory')
+    echo "$started $(awk -v a="$pool_start" -v b="$emf_ready" 'BEGIN { printf "%.3f", (b - a) / 1000 }')"
+}
+
+median() {
+    sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : (v[NR / 2] + v[NR / 2 + 1]) / 2 }'
+}
+
+declare -A boot_times schema_times
+for mode in update validate; do
+    boot "$mode" >/dev/null
+done
+for ((run = 1; run <= RUNS; run++)); do
+    # Alternate the modes so database caches and machine load affect both alike
+    for mode in update validate; do
+        read -r boot_s schema_s < <(boot "$mode")
+        boot_times[$mode]+="$boot_s "
+        schema_times[$mode]+="$schema_s "
+        printf 'run %d  %-8s boot %6.2fs  schema phase %6.2fs\n' "$run" "$mode" "$boot_s" "$schema_s"
+    done
+done
+
+echo
+for mode in update validate; do
+    printf 'median  %-8s boot %6.2fs  schema phase %6.2fs\n' "$mode" \
+        "$(tr ' ' '\n' <<<"${boot_times[$mode]}" | grep . | median)" \
+        "$(tr ' ' '\n' <<<"${schema_times[$mode]}" | grep . | median)"
+done
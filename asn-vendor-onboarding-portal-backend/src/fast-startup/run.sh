@@ -0,0 +1,36 @@
+#!/usr/bin/env sh
+# Starts the fast-startup build: AOT-generated context plus the class data sharing archive
+#
+#   run.sh           start the application
+#   run.sh --train   refresh the context once against DB_URL and record application.jsa
+#
+# Training requires DB_URL, so it never falls back to the configured default database, and runs
+# with Flyway disabled; point it at a scratch database that is already migrated.
+# The archive only matches the java that recorded it and this directory's absolute path, so train
+# where it will run: in the image, at its final location. When it does not match, the JVM logs a
+# warning and starts without it.
+# The archive is only used with CDS_ENABLED=true, until its gain is measured on the target machine.
+
+cd "$(dirname "$0")" || exit 1
+
+JAR=asn-vendor-onboarding-portal-fast-startup.jar
+
+if [ "${1:-}" = "--train" ]; then
+    shift
+    if [ -z "${DB_URL:-}" ]; then
+        echo "Set DB_URL to a migrated scratch database to train against" >&2
+        exit 1
+    fi
+    rm -f application.jsa
+    # Classes the archive cannot hold (old bytecode, classes JFR redefines) are only logged
+    exec java -XX:ArchiveClassesAtExit=application.jsa -Xlog:cds=error -Xlog:cds+dynamic=error \
+        -Dspring.aot.enabled=true -Dspring.context.exit=onRefresh -Dspring.flyway.enabled=false \
+        ${JAVA_OPTS:-} -jar "$JAR" "$@"
+fi
+
+CDS_OPTS=""
+if [ -f application.jsa ] && [ "${CDS_ENABLED:-false}" = "true" ]; then
+    CDS_OPTS="-XX:SharedArchiveFile=application.jsa"
+fi
+
+exec java $CDS_OPTS -Dspring.aot.enabled=true ${JAVA_OPTS:-} -jar "$JAR" "$@"
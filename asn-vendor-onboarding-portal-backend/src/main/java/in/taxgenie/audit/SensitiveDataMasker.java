@@ -3,6 +3,7 @@ package in.taxgenie.audit;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import in.taxgenie.monitoring.jfr.MaskingEvent;
 
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
@@ -58,12 +59,20 @@ public class SensitiveDataMasker {
     public static String mask(String message) {
         if (message == null) return null;
 
-        // Check if valid JSON, if yes, skip fallback masking
-        if (isValidJson(message)) {
-            return maskJsonFields(message);
-        }
+        MaskingEvent event = new MaskingEvent();
+        event.begin();
+        boolean json = false;
+        try {
+            // Check if valid JSON, if yes, skip fallback masking
+            if (isValidJson(message)) {
+                json = true;
+                return maskJsonFields(message);
+            }
 
-        return maskUnstructuredMessage(message);
+            return maskUnstructuredMessage(message);
+        } finally {
+            event.complete(message.length(), json);
+        }
     }
 
     /**
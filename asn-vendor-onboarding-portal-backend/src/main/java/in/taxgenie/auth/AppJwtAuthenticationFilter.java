@@ -5,6 +5,8 @@ import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import in.taxgenie.exception.ErrorResponse;
 import in.taxgenie.exception.TokenExpiredException;
+import in.taxgenie.monitoring.PhaseTimer;
+import in.taxgenie.monitoring.RequestPhase;
 import in.taxgenie.multitenancy.context.TenantContext;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -61,8 +63,10 @@ public class AppJwtAuthenticationFilter extends OncePerRequestFilter {
 
         HttpServletRequest effectiveRequest = httpServletRequest;
         if (!isMultipart) {
-            effectiveRequest = new CachedBodyHttpServletRequest(httpServletRequest);
-            RequestLogger.logRequest((CachedBodyHttpServletRequest) effectiveRequest, appLogger);
+            try (PhaseTimer.Scope ignored = PhaseTimer.enter(RequestPhase.LOGGING)) {
+                effectiveRequest = new CachedBodyHttpServletRequest(httpServletRequest);
+                RequestLogger.logRequest((CachedBodyHttpServletRequest) effectiveRequest, appLogger);
+            }
         }
 
         if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
@@ -70,19 +74,23 @@ public class AppJwtAuthenticationFilter extends OncePerRequestFilter {
 
             try {
                 Authentication authentication;
-                setTenantContext(jwt);
-
-                if (jwtFacilities.isCompanyToken(jwt)) {
-                    // Create the CompanyAuthenticationToken for company tokens
-                    CompanyDetails companyDetails = jwtFacilities.getCompanyDetails(jwt);
-                    authentication = new CompanyAuthenticationToken(companyDetails, jwt);
-                } else {
-                    // Create the AppJwtAuthentication for user tokens
-                    authentication = new AppJwtAuthentication(jwt);
+                try (PhaseTimer.Scope ignored = PhaseTimer.enter(RequestPhase.TENANT)) {
+                    setTenantContext(jwt);
                 }
 
-                // Authenticate the token (company or user) using the authentication manager
-                authentication = jwtAuthenticationManager.authenticate(authentication);
+                try (PhaseTimer.Scope ignored = PhaseTimer.enter(RequestPhase.AUTH)) {
+                    if (jwtFacilities.isCompanyToken(jwt)) {
+                        // Create the CompanyAuthenticationToken for company tokens
+                        CompanyDetails companyDetails = jwtFacilities.getCompanyDetails(jwt);
+                        authentication = new CompanyAuthenticationToken(companyDetails, jwt);
+                    } else {
+                        // Create the AppJwtAuthentication for user tokens
+                        authentication = new AppJwtAuthentication(jwt);
+                    }
+
+                    // Authenticate the token (company or user) using the authentication manager
+                    authentication = jwtAuthenticationManager.authenticate(authentication);
+                }
 
                 SecurityContextHolder.getContext().setAuthentication(authentication);
                 filterChain.doFilter(effectiveRequest, httpServletResponse);
@@ -1,5 +1,6 @@
 package in.taxgenie.auth;
 
+import in.taxgenie.monitoring.jfr.JwtVerificationEvent;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.core.Authentication;
@@ -29,7 +30,19 @@ public class AppJwtAuthenticationManager implements AuthenticationManager {
 
     @Override
     public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        JwtVerificationEvent event = new JwtVerificationEvent();
+        event.begin();
+        boolean authenticated = false;
+        try {
+            Authentication result = authenticateToken(authentication);
+            authenticated = result != null && result.isAuthenticated();
+            return result;
+        } finally {
+            event.complete(authentication instanceof CompanyAuthenticationToken ? "company" : "user", authenticated);
+        }
+    }
 
+    private Authentication authenticateToken(Authentication authentication) {
         if (authentication instanceof CompanyAuthenticationToken) {
             // If it's a company token, use CompanyJwtAuthenticationProvider
             return companyJwtAuthenticationProvider.authenticate(authentication);
@@ -0,0 +1,29 @@
+package in.taxgenie.billing;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+/**
+ * Billing period of a subscription, from billing_cycle in its pricing snapshot
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+public enum BillingCycle {
+    MONTHLY,
+    YEARLY;
+
+    /**
+     * Billing date one period after the given one; month ends clamp, e.g. Jan 31 to Feb 28
+     */
+    public LocalDate advance(LocalDate billingDate) {
+        return this == YEARLY ? billingDate.plusYears(1) : billingDate.plusMonths(1);
+    }
+
+    /**
+     * Parses billing_cycle; anything but "yearly" bills monthly, as the plans are priced
+     */
+    public static BillingCycle fromSnapshot(String value) {
+        return value != null && value.trim().toLowerCase(Locale.ROOT).equals("yearly") ? YEARLY : MONTHLY;
+    }
+}
@@ -0,0 +1,72 @@
+package in.taxgenie.billing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+/**
+ * What one renewal of a subscription charges, read from its pricing snapshot
+ * The snapshot is the price agreed at subscription time, e.g.
+ * {"monthly_cost": 8000, "yearly_cost": 80000, "currency": "INR", "billing_cycle": "yearly",
+ * "discount_applied": 10}; the plan's current price does not matter.
+ * @param cycle Billing period
+ * @param amount Charge per period after the discount, zero for free subscriptions
+ * @param currency ISO currency code
+ */
+public record RenewalTerms(BillingCycle cycle, BigDecimal amount, String currency) {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String DEFAULT_CURRENCY = "INR";
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+    private static final DateTimeFormatter REF_DATE = DateTimeFormatter.BASIC_ISO_DATE;
+
+    public static RenewalTerms fromSnapshot(String pricingSnapshot) {
+        JsonNode snapshot;
+        try {
+            snapshot = pricingSnapshot == null ? MAPPER.createObjectNode() : MAPPER.readTree(pricingSnapshot);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed pricing snapshot", e);
+        }
+
+        BillingCycle cycle = BillingCycle.fromSnapshot(snapshot.path("billing_cycle").asText(null));
+        BigDecimal cost = decimal(snapshot.path(cycle == BillingCycle.YEARLY ? "yearly_cost" : "monthly_cost"));
+        BigDecimal discountPercent = decimal(snapshot.path("discount_applied"))
+                .max(BigDecimal.ZERO)
+                .min(HUNDRED);
+        BigDecimal amount = cost.max(BigDecimal.ZERO)
+                .multiply(HUNDRED.subtract(discountPercent))
+                .divide(HUNDRED, 2, RoundingMode.HALF_UP);
+
+        String currency = snapshot.path("currency").asText("");
+        return new RenewalTerms(cycle, amount, currency.isBlank() ? DEFAULT_CURRENCY : currency);
+    }
+
+    public boolean isChargeable() {
+        return amount.signum() > 0;
+    }
+
+    /**
+     * Reference of the renewal payment for one billing date
+     * Deterministic, so a chunk replayed after a crash finds its payments already there.
+     */
+    public static String transactionRef(UUID subscriptionId, LocalDate billingDate) {
+        return "RNW-" + subscriptionId.toString().replace("-", "") + "-" + billingDate.format(REF_DATE);
+    }
+
+    private static BigDecimal decimal(JsonNode node) {
+        if (node.isNumber()) {
+            return node.decimalValue();
+        }
+        try {
+            return node.isTextual() ? new BigDecimal(node.asText().trim()) : BigDecimal.ZERO;
+        } catch (NumberFormatException e) {
+            return BigDecimal.ZERO;
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package in.taxgenie.billing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import in.taxgenie.cache.DashboardChangedEvent;
+import in.taxgenie.multitenancy.schema.TenantSchemaRouting;
+import in.taxgenie.scheduling.ChunkStep.Chunk;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Chunk steps of the daily subscription lifecycle run
+ * Each step handles the next chunk of one shard in subscription_id order, inside the
+ * transaction the job runner opens for the chunk, and touches the chunk with a fixed
+ * number of statements whatever its size: one keyset SELECT ... FOR UPDATE, one JDBC
+ * batch of renewal payment inserts and one UPDATE for the whole chunk. Subscriptions are
+ * split over shards by a hash of their ID, so shards never share a row.
+ * A pass covers one {@link Scope}: the shared schema, or one dedicated tenant schema. Each
+ * tenant is covered in the schema its route is active in, and tenants whose writes are
+ * frozen for a cutover are left out until the next day's run.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SubscriptionLifecycleBatch {
+
+    static final UUID FIRST_KEY = new UUID(0L, 0L);
+
+    private static final String SHARD_PREDICATE =
+            "(hashtext(CAST(s.subscription_id AS text)) & 2147483647) % ? = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TenantSchemaRouting routing;
+
+    /**
+     * Schema and tenants one pass covers
+     * @param schema Schema whose tables the pass works on
+     * @param shared Whether it is the shared schema
+     * @param companyCodes Tenants the pass covers in a dedicated schema; in the shared schema,
+     *                     the routed or frozen tenants it leaves out
+     */
+    public record Scope(String schema, boolean shared, List<Long> companyCodes) {
+
+        /**
+         * Suffix of the pass's checkpoint phases; empty for the shared schema, so its
+         * checkpoints keep their names
+         */
+        public String phaseSuffix() {
+            return shared ? "" : "@" + schema;
+        }
+
+        private String tenantPredicate() {
+            return shared
+                    ? "(s.company_code IS NULL OR s.company_code <> ALL(?))"
+                    : "s.company_code = ANY(?)";
+        }
+
+        private Long[] companyCodeArray() {
+            return companyCodes.toArray(new Long[0]);
+        }
+    }
+
+    /**
+     * Scopes of a run: the shared schema, then each dedicated schema with an active route
+     * @return no scopes while schema routing is enabled but not yet loaded, since routed
+     *         tenants cannot be told apart from shared ones
+     */
+    public List<Scope> scopes() {
+        String sharedSchema = routing.getSharedSchema();
+        if (!routing.isEnabled()) {
+            return List.of(new Scope(sharedSchema, true, List.of()));
+        }
+        if (!routing.isLoaded()) {
+            return List.of();
+        }
+        List<Long> leftOut = new ArrayList<>();
+        Map<String, List<Long>> dedicated = new TreeMap<>();
+        routing.getRoutes().forEach((companyCode, route) -> {
+            boolean inShared = route.schema().equals(sharedSchema);
+            if (!inShared || route.writesFrozen()) {
+                leftOut.add(companyCode);
+            }
+            if (!inShared && !route.writesFrozen()) {
+                dedicated.computeIfAbsent(route.schema(), schema -> new ArrayList<>()).add(companyCode);
+            }
+        });
+        List<Scope> scopes = new ArrayList<>();
+        scopes.add(new Scope(sharedSchema, true, leftOut));
+        dedicated.forEach((schema, companyCodes) -> scopes.add(new Scope(schema, false, companyCodes)));
+        return scopes;
+    }
+
+    /**
+     * Bills the next chunk of auto-renewing subscriptions whose billing date has come
+     * Each gets a PENDING renewal payment and its billing date moved one period on; a term
+     * ending before the new billing date is extended to it. A subscription several periods
+     * behind advances one period per run.
+     */
+    public Chunk renewChunk(Scope scope, LocalDate asOf, int shard, int shardCount, String afterKey, int chunkSize) {
+        String schema = TenantSchemaRouting.quote(scope.schema());
+        List<DueRenewal> due = jdbcTemplate.query("""
+                        SELECT s.subscription_id, s.vendor_id, s.oem_id, s.company_code, s.next_billing_date,
+                               CAST(s.pricing_snapshot AS text) AS pricing_snapshot
+                        FROM %s.subscriptions s
+                        WHERE s.status = 'ACTIVE' AND s.auto_renew = true AND s.next_billing_date <= ?
+                          AND s.subscription_id > ? AND %s AND %s
+                        ORDER BY s.subscription_id
+                        LIMIT ?
+                        FOR UPDATE
+                        """.formatted(schema, scope.tenantPredicate(), SHARD_PREDICATE),
+                (resultSet, rowNumber) -> new DueRenewal(
+                        resultSet.getObject("subscription_id", UUID.class),
+                        resultSet.getObject("vendor_id", UUID.class),
+                        resultSet.getObject("oem_id", UUID.class),
+                        resultSet.getObject("company_code", Long.class),
+                        resultSet.getObject("next_billing_date", LocalDate.class),
+                        resultSet.getString("pricing_snapshot")),
+                Date.valueOf(asOf), resumeAfter(afterKey, asOf), scope.companyCodeArray(), shardCount, shard, chunkSize);
+        if (due.isEmpty()) {
+            return Chunk.empty();
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Object[]> payments = new ArrayList<>();
+        UUID[] ids = new UUID[due.size()];
+        Date[] nextBillingDates = new Date[due.size()];
+        Set<Long> companies = new LinkedHashSet<>();
+        for (int i = 0; i < due.size(); i++) {
+            DueRenewal renewal = due.get(i);
+            RenewalTerms terms = termsOf(renewal);
+            if (terms.isChargeable()) {
+                payments.add(new Object[]{
+                        UUID.randomUUID(), renewal.subscriptionId(), renewal.vendorId(), renewal.oemId(),
+                        RenewalTerms.transactionRef(renewal.subscriptionId(), renewal.billingDate()),
+                        terms.amount(), terms.currency(), gatewayData(renewal, terms), Timestamp.valueOf(now)});
+            }
+            ids[i] = renewal.subscriptionId();
+            nextBillingDates[i] = Date.valueOf(terms.cycle().advance(renewal.billingDate()));
+            if (renewal.companyCode() != null) {
+                companies.add(renewal.companyCode());
+            }
+        }
+
+        if (!payments.isEmpty()) {
+            // A replayed chunk finds its deterministic references already taken and inserts nothing
+            jdbcTemplate.batchUpdate("""
+                    INSERT INTO %s.payment_transactions (transaction_id, subscription_id, vendor_id, oem_id,
+                        transaction_ref, amount, currency, status, gateway_data, initiated_at)
+                    VALUES (?, ?, ?, ?, ?, ?, ?, 'PENDING', CAST(? AS jsonb), ?)
+                    ON CONFLICT (transaction_ref) DO NOTHING
+                    """.formatted(schema), payments);
+        }
+        jdbcTemplate.update(connection -> {
+            var statement = connection.prepareStatement("""
+                    UPDATE %s.subscriptions s
+                    SET next_billing_date = v.next_billing_date,
+                        end_date = GREATEST(s.end_date, v.next_billing_date),
+                        updated_at = now()
+                    FROM unnest(?, ?) AS v(subscription_id, next_billing_date)
+                    WHERE s.subscription_id = v.subscription_id
+                    """.formatted(schema));
+            statement.setArray(1, connection.createArrayOf("uuid", ids));
+            statement.setArray(2, connection.createArrayOf("date", nextBillingDates));
+            return statement;
+        });
+
+        companies.forEach(companyCode -> eventPublisher.publishEvent(DashboardChangedEvent.forCompany(companyCode)));
+        log.debug("Renewed {} subscriptions of shard {}/{} in {} with {} payments",
+                due.size(), shard, shardCount, scope.schema(), payments.size());
+        return Chunk.of(due.size(), checkpointKey(asOf, ids[ids.length - 1]));
+    }
+
+    /**
+     * Marks the next chunk of subscriptions whose term ended before asOf as EXPIRED
+     * Runs after renewals, so auto-renewing subscriptions that were billed have had their
+     * term extended and are left alone.
+     */
+    public Chunk expireChunk(Scope scope, LocalDate asOf, int shard, int shardCount, String afterKey, int chunkSize) {
+        String schema = TenantSchemaRouting.quote(scope.schema());
+        List<UUID> ids = new ArrayList<>();
+        Set<Long> companies = new LinkedHashSet<>();
+        // RETURNING has no order, so the expired rows are read back in key order for the checkpoint
+        jdbcTemplate.query("""
+                        WITH chunk AS (
+                            SELECT s.subscription_id
+                            FROM %1$s.subscriptions s
+                            WHERE s.end_date < ? AND s.status <> 'EXPIRED'
+                              AND s.subscription_id > ? AND %2$s AND %3$s
+                            ORDER BY s.subscription_id
+                            LIMIT ?
+                            FOR UPDATE),
+                        expired AS (
+                            UPDATE %1$s.subscriptions s
+                            SET status = 'EXPIRED', updated_at = now()
+                            FROM chunk
+                            WHERE s.subscription_id = chunk.subscription_id
+                            RETURNING s.subscription_id, s.company_code)
+                        SELECT subscription_id, company_code
+                        FROM expired
+                        ORDER BY subscription_id
+                        """.formatted(schema, scope.tenantPredicate(), SHARD_PREDICATE),
+                (RowCallbackHandler) resultSet -> {
+                    ids.add(resultSet.getObject("subscription_id", UUID.class));
+                    Long companyCode = resultSet.getObject("company_code", Long.class);
+                    if (companyCode != null) {
+                        companies.add(companyCode);
+                    }
+                },
+                Date.valueOf(asOf), resumeAfter(afterKey, asOf), scope.companyCodeArray(), shardCount, shard, chunkSize);
+        if (ids.isEmpty()) {
+            return Chunk.empty();
+        }
+
+        companies.forEach(companyCode -> eventPublisher.publishEvent(DashboardChangedEvent.forCompany(companyCode)));
+        log.debug("Expired {} subscriptions of shard {}/{} in {}", ids.size(), shard, shardCount, scope.schema());
+        return Chunk.of(ids.size(), checkpointKey(asOf, ids.get(ids.size() - 1)));
+    }
+
+    private RenewalTerms termsOf(DueRenewal renewal) {
+        try {
+            return RenewalTerms.fromSnapshot(renewal.pricingSnapshot());
+        } catch (IllegalArgumentException e) {
+            // Still roll the date over so one bad row cannot stall its shard; no charge is raised
+            log.warn("Subscription {} has a malformed pricing snapshot, renewing without a payment", renewal.subscriptionId());
+            return new RenewalTerms(BillingCycle.MONTHLY, BigDecimal.ZERO, "INR");
+        }
+    }
+
+    private String gatewayData(DueRenewal renewal, RenewalTerms terms) {
+        Map<String, Object> data = new LinkedHashMap<>();
+        data.put("type", "RENEWAL");
+        data.put("billing_date", renewal.billingDate().toString());
+        data.put("billing_cycle", terms.cycle().name());
+        try {
+            return objectMapper.writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot encode renewal gateway data", e);
+        }
+    }
+
+    /**
+     * Checkpoints carry their run's date; a pass left unfinished on an earlier day starts
+     * over, since rows before its checkpoint may have fallen due since
+     */
+    static String checkpointKey(LocalDate asOf, UUID subscriptionId) {
+        return asOf + "/" + subscriptionId;
+    }
+
+    static UUID resumeAfter(String afterKey, LocalDate asOf) {
+        String prefix = asOf + "/";
+        return afterKey != null && afterKey.startsWith(prefix)
+                ? UUID.fromString(afterKey.substring(prefix.length()))
+                : FIRST_KEY;
+    }
+
+    private record DueRenewal(UUID subscriptionId, UUID vendorId, UUID oemId, Long companyCode,
+                              LocalDate billingDate, String pricingSnapshot) {
+    }
+}
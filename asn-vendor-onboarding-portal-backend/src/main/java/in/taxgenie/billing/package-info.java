@@ -0,0 +1,11 @@
+/**
+ * Subscription billing lifecycle for the ASN Vendor Onboarding Portal application.
+ * 
+ * This package contains:
+ * - Renewal terms read from a subscription's pricing snapshot
+ * - The set-based chunk steps that renew and expire subscriptions in bulk
+ * 
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+package in.taxgenie.billing;
@@ -0,0 +1,50 @@
+package in.taxgenie.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.util.Properties;
+
+/**
+ * Opens the invalidation bus connections outside the Hikari pool
+ * The listener holds one for as long as the node runs and the publisher one for sending, so
+ * neither ever competes with request threads for pooled connections. Each shows up in
+ * pg_stat_activity under its own application name.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Slf4j
+final class BusConnections {
+
+    private BusConnections() {
+    }
+
+    static Connection open(DataSourceProperties dataSourceProperties, String applicationName) throws SQLException {
+        Properties properties = new Properties();
+        String username = dataSourceProperties.determineUsername();
+        String password = dataSourceProperties.determinePassword();
+        if (username != null) {
+            properties.setProperty("user", username);
+        }
+        if (password != null) {
+            properties.setProperty("password", password);
+        }
+        properties.setProperty("ApplicationName", applicationName);
+        return DriverManager.getConnection(dataSourceProperties.determineUrl(), properties);
+    }
+
+    static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            log.debug("Error closing cache invalidation bus connection", e);
+        }
+    }
+}
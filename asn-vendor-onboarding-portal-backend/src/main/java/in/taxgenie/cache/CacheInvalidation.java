@@ -0,0 +1,27 @@
+package in.taxgenie.cache;
+
+import java.util.Objects;
+
+/**
+ * One cache eviction sent over the invalidation bus
+ * @param cache Name of the {@link InvalidatableCache}
+ * @param key Key in the cache's own format, or null to drop the whole cache
+ */
+public record CacheInvalidation(String cache, String key) {
+
+    public CacheInvalidation {
+        Objects.requireNonNull(cache, "cache");
+    }
+
+    public static CacheInvalidation of(String cache, String key) {
+        return new CacheInvalidation(cache, Objects.requireNonNull(key, "key"));
+    }
+
+    public static CacheInvalidation all(String cache) {
+        return new CacheInvalidation(cache, null);
+    }
+
+    public boolean isCacheWide() {
+        return key == null;
+    }
+}
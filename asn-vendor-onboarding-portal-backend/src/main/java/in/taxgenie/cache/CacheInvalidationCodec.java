@@ -0,0 +1,96 @@
+package in.taxgenie.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Wire format of the invalidation bus
+ * A payload is a JSON object holding the sending node and its evictions, for example
+ * {"origin":"3f0c…","entries":[["dashboard","12/acme"],["user-session",null]]}. PostgreSQL
+ * limits NOTIFY payloads to 8000 bytes, so larger sets are split over several payloads.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+final class CacheInvalidationCodec {
+
+    /**
+     * Headroom below the 8000 byte NOTIFY limit
+     */
+    static final int MAX_PAYLOAD_BYTES = 7500;
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    record Message(String origin, List<CacheInvalidation> entries) {
+    }
+
+    private record Wire(String origin, List<List<String>> entries) {
+    }
+
+    private CacheInvalidationCodec() {
+    }
+
+    static List<String> encode(String origin, Collection<CacheInvalidation> invalidations, int maxPayloadBytes) {
+        List<String> payloads = new ArrayList<>();
+        List<List<String>> chunk = new ArrayList<>();
+        int overhead = bytes(write(new Wire(origin, List.of())));
+        int chunkBytes = overhead;
+
+        for (CacheInvalidation invalidation : invalidations) {
+            List<String> entry = new ArrayList<>(2);
+            entry.add(invalidation.cache());
+            entry.add(invalidation.key());
+            int entryBytes = bytes(write(entry)) + 1;
+            if (overhead + entryBytes > maxPayloadBytes) {
+                // A single key too large for NOTIFY; dropping its whole cache is always safe
+                entry.set(1, null);
+                entryBytes = bytes(write(entry)) + 1;
+            }
+            if (!chunk.isEmpty() && chunkBytes + entryBytes > maxPayloadBytes) {
+                payloads.add(write(new Wire(origin, chunk)));
+                chunk = new ArrayList<>();
+                chunkBytes = overhead;
+            }
+            chunk.add(entry);
+            chunkBytes += entryBytes;
+        }
+        if (!chunk.isEmpty()) {
+            payloads.add(write(new Wire(origin, chunk)));
+        }
+        return payloads;
+    }
+
+    static Message decode(String payload) {
+        try {
+            Wire wire = MAPPER.readValue(payload, Wire.class);
+            List<CacheInvalidation> entries = new ArrayList<>();
+            if (wire.entries() != null) {
+                for (List<String> entry : wire.entries()) {
+                    if (entry != null && !entry.isEmpty() && entry.get(0) != null) {
+                        entries.add(new CacheInvalidation(entry.get(0), entry.size() > 1 ? entry.get(1) : null));
+                    }
+                }
+            }
+            return new Message(wire.origin(), entries);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed cache invalidation payload", e);
+        }
+    }
+
+    private static String write(Object value) {
+        try {
+            return MAPPER.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot encode cache invalidation", e);
+        }
+    }
+
+    private static int bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8).length;
+    }
+}
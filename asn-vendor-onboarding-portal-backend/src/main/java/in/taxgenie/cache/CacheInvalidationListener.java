@@ -0,0 +1,202 @@
+package in.taxgenie.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Applies cache invalidations sent by other nodes
+ * Each node keeps one dedicated connection, opened outside the Hikari pool, that LISTENs on
+ * the bus channel. Notifications arriving within the coalescing window are deduplicated and
+ * applied together, so a burst of writes costs each cache one pass. Notifications sent
+ * while the connection is down are lost, so every successful LISTEN, including the first
+ * one at startup, is followed by clearing all caches.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class CacheInvalidationListener {
+
+    private static final int VALIDATION_TIMEOUT_SECONDS = 5;
+
+    private final CacheInvalidationPublisher publisher;
+    private final DataSourceProperties dataSourceProperties;
+    private final Map<String, InvalidatableCache> caches;
+    private final long coalesceMs;
+    private final int maxKeysPerCache;
+    private final long reconnectDelayMs;
+    private final int pollTimeoutMs;
+    private final Counter received;
+    private final Counter fullRefreshes;
+
+    private volatile boolean running;
+    private volatile Connection connection;
+    private Thread thread;
+
+    public CacheInvalidationListener(CacheInvalidationPublisher publisher,
+                                     DataSourceProperties dataSourceProperties,
+                                     List<InvalidatableCache> caches,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${asn.vendor.portal.cache.invalidation.coalesce-ms:50}") long coalesceMs,
+                                     @Value("${asn.vendor.portal.cache.invalidation.max-keys-per-cache:500}") int maxKeysPerCache,
+                                     @Value("${asn.vendor.portal.cache.invalidation.reconnect-delay-ms:5000}") long reconnectDelayMs,
+                                     @Value("${asn.vendor.portal.cache.invalidation.poll-timeout-ms:10000}") int pollTimeoutMs) {
+        this.publisher = publisher;
+        this.dataSourceProperties = dataSourceProperties;
+        this.caches = caches.stream().collect(Collectors.toMap(InvalidatableCache::cacheName, Function.identity()));
+        this.coalesceMs = coalesceMs;
+        this.maxKeysPerCache = maxKeysPerCache;
+        this.reconnectDelayMs = reconnectDelayMs;
+        this.pollTimeoutMs = pollTimeoutMs;
+        this.received = Counter.builder("asn.cache.invalidations")
+                .description("Cache invalidations exchanged with other nodes")
+                .tag("direction", "received")
+                .register(meterRegistry);
+        this.fullRefreshes = Counter.builder("asn.cache.invalidation.full.refreshes")
+                .description("Times every cache was cleared after (re)connecting to the invalidation bus")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (!publisher.isEnabled() || running) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::run, "cache-invalidation-listener");
+        thread.setDaemon(true);
+        thread.start();
+        log.info("Listening for cache invalidations on channel {} for caches {}", publisher.getChannel(), caches.keySet());
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        running = false;
+        if (thread != null) {
+            thread.interrupt();
+            BusConnections.closeQuietly(connection);
+            thread = null;
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try (Connection listening = openConnection()) {
+                connection = listening;
+                try (Statement statement = listening.createStatement()) {
+                    statement.execute("LISTEN " + publisher.getChannel());
+                }
+                refreshAll();
+                receive(listening.unwrap(PGConnection.class), listening);
+            } catch (SQLException e) {
+                if (running) {
+                    log.warn("Cache invalidation listener lost its connection, reconnecting in {} ms: {}",
+                            reconnectDelayMs, e.getMessage());
+                    sleep(reconnectDelayMs);
+                }
+            } catch (RuntimeException e) {
+                if (running) {
+                    log.error("Cache invalidation listener failed, reconnecting in {} ms", reconnectDelayMs, e);
+                    sleep(reconnectDelayMs);
+                }
+            } finally {
+                connection = null;
+            }
+        }
+    }
+
+    private void receive(PGConnection pgConnection, Connection listening) throws SQLException {
+        while (running) {
+            PGNotification[] notifications = pgConnection.getNotifications(pollTimeoutMs);
+            if (notifications == null || notifications.length == 0) {
+                // An idle socket does not notice a dropped connection by itself
+                if (!listening.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+                    throw new SQLException("Listener connection is no longer valid");
+                }
+                continue;
+            }
+
+            CoalescedInvalidations batch = new CoalescedInvalidations(publisher.getNodeId(), maxKeysPerCache);
+            add(batch, notifications);
+            long deadline = System.currentTimeMillis() + coalesceMs;
+            long remaining;
+            while ((remaining = deadline - System.currentTimeMillis()) > 0) {
+                PGNotification[] more = pgConnection.getNotifications((int) remaining);
+                if (more == null || more.length == 0) {
+                    break;
+                }
+                add(batch, more);
+            }
+            apply(batch);
+        }
+    }
+
+    private void add(CoalescedInvalidations batch, PGNotification[] notifications) {
+        for (PGNotification notification : notifications) {
+            try {
+                batch.add(CacheInvalidationCodec.decode(notification.getParameter()));
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring malformed cache invalidation from backend {}", notification.getPID(), e);
+            }
+        }
+    }
+
+    private void apply(CoalescedInvalidations batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        received.increment(batch.getReceived());
+        for (String cacheName : batch.getCacheWide()) {
+            InvalidatableCache cache = caches.get(cacheName);
+            if (cache != null) {
+                cache.evictAll();
+            }
+        }
+        for (Map.Entry<String, Set<String>> entry : batch.getKeysByCache().entrySet()) {
+            InvalidatableCache cache = caches.get(entry.getKey());
+            if (cache == null) {
+                // Sent by a node that has a cache this one does not, e.g. during a rolling deploy
+                continue;
+            }
+            entry.getValue().forEach(cache::evict);
+        }
+        log.debug("Applied {} cache invalidations from other nodes", batch.getReceived());
+    }
+
+    private void refreshAll() {
+        caches.values().forEach(InvalidatableCache::evictAll);
+        fullRefreshes.increment();
+        log.info("Connected to cache invalidation channel {}; cleared caches {}", publisher.getChannel(), caches.keySet());
+    }
+
+    private Connection openConnection() throws SQLException {
+        return BusConnections.open(dataSourceProperties, "asn-cache-invalidation");
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            running = false;
+        }
+    }}
@@ -0,0 +1,231 @@
+package in.taxgenie.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.regex.Pattern;
+
+/**
+ * Sends cache invalidations to the other nodes with PostgreSQL NOTIFY
+ * Invalidations published inside a transaction are collected and queued once it commits, so
+ * other nodes never reload data that is not visible yet and rolled back writes send
+ * nothing. A single sender thread drains the queue over its own connection, opened outside
+ * the Hikari pool like the listener's: the committing thread still holds its pooled
+ * connection at that point, and borrowing a second one per write could exhaust the pool.
+ * Batches queued while a NOTIFY is in flight are merged into the next one. A failed send,
+ * or a batch that finds the queue full, is logged and dropped; the cache TTLs still bound
+ * staleness.
+ * Disabled by default, in which case publishing does nothing; single-node deployments and
+ * H2 need no bus.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class CacheInvalidationPublisher {
+
+    private static final Pattern CHANNEL_NAME = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+
+    private static final String APPLICATION_NAME = "asn-cache-invalidation-sender";
+
+    private final DataSourceProperties dataSourceProperties;
+
+    @Getter
+    private final boolean enabled;
+
+    @Getter
+    private final String channel;
+
+    /**
+     * Identifies this node's notifications so the listener can skip them
+     */
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Counter sent;
+    private final Counter failed;
+    private final BlockingQueue<Collection<CacheInvalidation>> outbox;
+
+    private volatile boolean stopped;
+    private Thread sender;
+
+    /**
+     * Only used by the sender thread
+     */
+    private Connection connection;
+
+    public CacheInvalidationPublisher(DataSourceProperties dataSourceProperties,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${asn.vendor.portal.cache.invalidation.enabled:false}") boolean enabled,
+                                      @Value("${asn.vendor.portal.cache.invalidation.channel:asn_cache_invalidation}") String channel,
+                                      @Value("${asn.vendor.portal.cache.invalidation.send-queue-capacity:1000}") int sendQueueCapacity) {
+        if (!CHANNEL_NAME.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid cache invalidation channel: " + channel);
+        }
+        this.dataSourceProperties = dataSourceProperties;
+        this.outbox = new LinkedBlockingQueue<>(sendQueueCapacity);
+        this.enabled = enabled;
+        this.channel = channel;
+        this.sent = Counter.builder("asn.cache.invalidations")
+                .description("Cache invalidations exchanged with other nodes")
+                .tag("direction", "sent")
+                .register(meterRegistry);
+        this.failed = Counter.builder("asn.cache.invalidations")
+                .description("Cache invalidations exchanged with other nodes")
+                .tag("direction", "failed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues the invalidation for the other nodes once the current transaction commits, or
+     * right away outside a transaction; the caller evicts its own node's entries itself
+     */
+    public void publish(CacheInvalidation invalidation) {
+        if (!enabled) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(List.of(invalidation));
+            return;
+        }
+
+        pendingForCurrentTransaction().invalidations.add(invalidation);
+    }
+
+    /**
+     * Looked up among the transaction's synchronizations rather than bound as a resource,
+     * so a nested REQUIRES_NEW transaction sends its own invalidations when it commits
+     */
+    private PendingInvalidations pendingForCurrentTransaction() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingInvalidations pending && pending.publisher() == this) {
+                return pending;
+            }
+        }
+        PendingInvalidations pending = new PendingInvalidations();
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        stopped = true;
+        if (sender != null) {
+            sender.interrupt();
+            sender = null;
+        }
+    }
+
+    private void enqueue(Collection<CacheInvalidation> invalidations) {
+        if (!outbox.offer(List.copyOf(invalidations))) {
+            failed.increment(invalidations.size());
+            log.warn("Cache invalidation send queue is full, dropping {} invalidations", invalidations.size());
+            return;
+        }
+        startSender();
+    }
+
+    private synchronized void startSender() {
+        if (sender != null || stopped) {
+            return;
+        }
+        sender = new Thread(this::runSender, "cache-invalidation-sender");
+        sender.setDaemon(true);
+        sender.start();
+    }
+
+    private void runSender() {
+        try {
+            while (!stopped) {
+                Set<CacheInvalidation> batch = new LinkedHashSet<>(outbox.take());
+                Collection<CacheInvalidation> queued;
+                while ((queued = outbox.poll()) != null) {
+                    batch.addAll(queued);
+                }
+                send(batch);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            closeConnection();
+        }
+    }
+
+    /**
+     * A connection that went stale while idle only fails on use, so a failure on an existing
+     * connection is retried once on a new one
+     */
+    private void send(Set<CacheInvalidation> invalidations) {
+        List<String> payloads = CacheInvalidationCodec.encode(nodeId, invalidations, CacheInvalidationCodec.MAX_PAYLOAD_BYTES);
+        boolean retry = connection != null;
+        while (true) {
+            try {
+                if (connection == null) {
+                    connection = BusConnections.open(dataSourceProperties, APPLICATION_NAME);
+                }
+                try (PreparedStatement statement = connection.prepareStatement("SELECT pg_notify(?, ?)")) {
+                    for (String payload : payloads) {
+                        statement.setString(1, channel);
+                        statement.setString(2, payload);
+                        statement.execute();
+                    }
+                }
+                sent.increment(invalidations.size());
+                return;
+            } catch (SQLException e) {
+                closeConnection();
+                if (!retry) {
+                    failed.increment(invalidations.size());
+                    log.warn("Could not send {} cache invalidations to other nodes: {}", invalidations.size(), e.getMessage());
+                    return;
+                }
+                retry = false;
+            }
+        }
+    }
+
+    private void closeConnection() {
+        BusConnections.closeQuietly(connection);
+        connection = null;
+    }
+
+    /**
+     * Invalidations of one transaction, deduplicated, queued after it completes
+     * afterCompletion rather than afterCommit, so invalidations published from an
+     * after-commit callback of the same transaction are still sent.
+     */
+    private final class PendingInvalidations implements TransactionSynchronization {
+
+        private final Set<CacheInvalidation> invalidations = new LinkedHashSet<>();
+
+        private CacheInvalidationPublisher publisher() {
+            return CacheInvalidationPublisher.this;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (status == STATUS_COMMITTED && !invalidations.isEmpty()) {
+                enqueue(invalidations);
+            }
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package in.taxgenie.cache;
+
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Invalidations received during one coalescing window, deduplicated per cache
+ * A burst of writes arrives as many notifications for few keys; each key is evicted once.
+ * When a cache collects more than maxKeysPerCache keys, or a cache-wide invalidation, it is
+ * cleared once instead of evicted key by key.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+class CoalescedInvalidations {
+
+    private final String ownOrigin;
+    private final int maxKeysPerCache;
+    private final Map<String, Set<String>> keysByCache = new LinkedHashMap<>();
+    private final Set<String> cacheWide = new LinkedHashSet<>();
+    private int received;
+
+    CoalescedInvalidations(String ownOrigin, int maxKeysPerCache) {
+        this.ownOrigin = ownOrigin;
+        this.maxKeysPerCache = maxKeysPerCache;
+    }
+
+    /**
+     * Adds one decoded notification; the node's own notifications were applied locally and are skipped
+     */
+    void add(CacheInvalidationCodec.Message message) {
+        if (ownOrigin.equals(message.origin())) {
+            return;
+        }
+        for (CacheInvalidation invalidation : message.entries()) {
+            received++;
+            String cache = invalidation.cache();
+            if (cacheWide.contains(cache)) {
+                continue;
+            }
+            if (invalidation.isCacheWide()) {
+                markCacheWide(cache);
+                continue;
+            }
+            Set<String> keys = keysByCache.computeIfAbsent(cache, name -> new LinkedHashSet<>());
+            keys.add(invalidation.key());
+            if (keys.size() > maxKeysPerCache) {
+                markCacheWide(cache);
+            }
+        }
+    }
+
+    boolean isEmpty() {
+        return keysByCache.isEmpty() && cacheWide.isEmpty();
+    }
+
+    /**
+     * Number of evictions received, before deduplication
+     */
+    int getReceived() {
+        return received;
+    }
+
+    Set<String> getCacheWide() {
+        return cacheWide;
+    }
+
+    Map<String, Set<String>> getKeysByCache() {
+        return keysByCache;
+    }
+
+    private void markCacheWide(String cache) {
+        keysByCache.remove(cache);
+        cacheWide.add(cache);
+    }
+}
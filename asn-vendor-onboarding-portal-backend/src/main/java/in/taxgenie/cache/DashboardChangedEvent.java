@@ -0,0 +1,37 @@
+package in.taxgenie.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Published by write paths that change what the vendor dashboard shows
+ * Listeners act on it only after the surrounding transaction commits.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class DashboardChangedEvent {
+
+    private final Long companyCode;
+
+    /**
+     * OEM whose dashboard changed, or null when the change affects every OEM of the company
+     */
+    private final String oemId;
+
+    public static DashboardChangedEvent forOem(Long companyCode, String oemId) {
+        return new DashboardChangedEvent(companyCode, oemId);
+    }
+
+    public static DashboardChangedEvent forCompany(Long companyCode) {
+        return new DashboardChangedEvent(companyCode, null);
+    }
+
+    public boolean isCompanyWide() {
+        return oemId == null;
+    }
+}
@@ -0,0 +1,188 @@
+package in.taxgenie.cache;
+
+import in.taxgenie.monitoring.PortalMetrics;
+import in.taxgenie.utils.BoundedTtlCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Per-(company, OEM) cache of the dashboard views the frontend polls
+ * Entries are dropped when a {@link DashboardChangedEvent} commits, on this node directly and
+ * on the others through the invalidation bus; the TTL only bounds staleness for values
+ * derived from the clock (days to the ASN deadline) and for invalidations lost in transit.
+ * Each entry keeps the version tag it was loaded under, and a read under another tag reloads
+ * it, so a response never pairs an ETag with a view older than it.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+public class DashboardSnapshotCache implements InvalidatableCache {
+
+    public static final String CACHE_NAME = "dashboard";
+
+    public enum View {
+        STATS,
+        ONBOARDING_PROGRESS,
+        IMPLEMENTATION_PROGRESS,
+        QUICK_ACTIONS
+    }
+
+    private static final String KEY_SEPARATOR = "/";
+
+    private final boolean enabled;
+    private final BoundedTtlCache<SnapshotKey, Snapshot> snapshots;
+    private final PortalMetrics.CacheMeter cacheMeter;
+    private final CacheInvalidationPublisher invalidationPublisher;
+
+    /**
+     * Bumped on every invalidation. A loader that started before an invalidation may have
+     * read pre-commit data, so its result is returned but not stored.
+     */
+    private long generation;
+
+    public DashboardSnapshotCache(PortalMetrics portalMetrics,
+                                  CacheInvalidationPublisher invalidationPublisher,
+                                  @Value("${asn.vendor.portal.cache.dashboard.enabled:true}") boolean enabled,
+                                  @Value("${asn.vendor.portal.cache.dashboard.ttl-seconds:300}") long ttlSeconds,
+                                  @Value("${asn.vendor.portal.cache.dashboard.max-entries:10000}") int maxEntries) {
+        this.enabled = enabled;
+        this.snapshots = new BoundedTtlCache<>(maxEntries, Duration.ofSeconds(ttlSeconds));
+        this.cacheMeter = portalMetrics.cache(CACHE_NAME);
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    /**
+     * Returns the cached view or computes and caches it
+     * Shared instances are returned on hits, so callers must treat them as read-only.
+     */
+    public <T> T get(Long companyCode, String oemId, View view, Supplier<T> loader) {
+        return get(companyCode, oemId, view, null, loader, value -> true);
+    }
+
+    /**
+     * As {@link #get(Long, String, View, Supplier)}, but only an entry loaded under the same
+     * version tag is a hit, and a loaded value failing the predicate is returned without being
+     * cached, for placeholders served when loading failed
+     * @param version ETag the caller will serve the view under, or null when it has none
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Long companyCode, String oemId, View view, String version, Supplier<T> loader,
+                     Predicate<? super T> cacheable) {
+        if (!enabled || companyCode == null || oemId == null) {
+            return loader.get();
+        }
+
+        SnapshotKey key = new SnapshotKey(companyCode, normalizeOemId(oemId), view);
+        Snapshot cached = snapshots.get(key);
+        if (cached != null && Objects.equals(cached.version(), version)) {
+            cacheMeter.hit();
+            return (T) cached.value();
+        }
+
+        cacheMeter.miss();
+        long startedAt = currentGeneration();
+        T value = loader.get();
+        if (value != null && cacheable.test(value)) {
+            storeIfCurrent(key, new Snapshot(value, version), startedAt);
+        }
+        return value;
+    }
+
+    public synchronized void invalidate(Long companyCode, String oemId) {
+        generation++;
+        String normalized = normalizeOemId(oemId);
+        int removed = snapshots.removeIf(key -> key.companyCode().equals(companyCode) && key.oemId().equals(normalized));
+        log.debug("Invalidated {} dashboard snapshots for company: {}, OEM ID: {}", removed, companyCode, oemId);
+    }
+
+    public synchronized void invalidateCompany(Long companyCode) {
+        generation++;
+        int removed = snapshots.removeIf(key -> key.companyCode().equals(companyCode));
+        log.debug("Invalidated {} dashboard snapshots for company: {}", removed, companyCode);
+    }
+
+    public synchronized void clear() {
+        generation++;
+        snapshots.clear();
+    }
+
+    public int size() {
+        return snapshots.size();
+    }
+
+    /**
+     * Runs after the publishing transaction commits, or immediately when published outside one
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDashboardChanged(DashboardChangedEvent event) {
+        if (event.getCompanyCode() == null) {
+            return;
+        }
+        if (event.isCompanyWide()) {
+            invalidateCompany(event.getCompanyCode());
+            invalidationPublisher.publish(CacheInvalidation.of(CACHE_NAME, event.getCompanyCode().toString()));
+        } else {
+            invalidate(event.getCompanyCode(), event.getOemId());
+            invalidationPublisher.publish(CacheInvalidation.of(CACHE_NAME,
+                    event.getCompanyCode() + KEY_SEPARATOR + normalizeOemId(event.getOemId())));
+        }
+    }
+
+    @Override
+    public String cacheName() {
+        return CACHE_NAME;
+    }
+
+    /**
+     * Applies an invalidation from another node; keys are "companyCode" or "companyCode/oemId"
+     */
+    @Override
+    public void evict(String key) {
+        int separator = key.indexOf(KEY_SEPARATOR);
+        try {
+            if (separator < 0) {
+                invalidateCompany(Long.valueOf(key));
+            } else {
+                invalidate(Long.valueOf(key.substring(0, separator)), key.substring(separator + 1));
+            }
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring dashboard invalidation with malformed key: {}", key);
+        }
+    }
+
+    @Override
+    public void evictAll() {
+        clear();
+    }
+
+    private synchronized long currentGeneration() {
+        return generation;
+    }
+
+    private synchronized void storeIfCurrent(SnapshotKey key, Snapshot value, long startedAt) {
+        if (generation == startedAt) {
+            snapshots.put(key, value);
+        }
+    }
+
+    private static String normalizeOemId(String oemId) {
+        return Objects.requireNonNull(oemId).trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record SnapshotKey(Long companyCode, String oemId, View view) {
+    }
+
+    private record Snapshot(Object value, String version) {
+    }
+}
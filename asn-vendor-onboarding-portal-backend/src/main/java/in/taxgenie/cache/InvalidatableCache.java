@@ -0,0 +1,27 @@
+package in.taxgenie.cache;
+
+/**
+ * In-process cache that other nodes can invalidate through the {@link CacheInvalidationListener}
+ * Implementations only drop entries here; they never publish, so remote invalidations do
+ * not echo back onto the bus.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+public interface InvalidatableCache {
+
+    /**
+     * Name used on the bus; must be the same on every node
+     */
+    String cacheName();
+
+    /**
+     * Drops the entries for a key published by {@link CacheInvalidation#of(String, String)}
+     */
+    void evict(String key);
+
+    /**
+     * Drops every entry, e.g. after the node may have missed invalidations
+     */
+    void evictAll();
+}
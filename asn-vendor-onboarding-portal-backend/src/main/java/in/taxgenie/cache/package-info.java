@@ -0,0 +1,12 @@
+/**
+ * In-memory read caches for the ASN Vendor Onboarding Portal application.
+ * 
+ * This package contains:
+ * - The per-(company, OEM) dashboard snapshot cache
+ * - Change events published by write paths to invalidate it after commit
+ * - The invalidation bus that evicts caches on the other nodes over PostgreSQL LISTEN/NOTIFY
+ * 
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+package in.taxgenie.cache;
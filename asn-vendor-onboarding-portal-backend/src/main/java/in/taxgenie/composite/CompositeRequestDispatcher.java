@@ -0,0 +1,339 @@
+package in.taxgenie.composite;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import in.taxgenie.context.TenantAwareTaskDecorator;
+import in.taxgenie.monitoring.PortalMetrics;
+import in.taxgenie.viewmodels.composite.CompositeRequestViewModel;
+import in.taxgenie.viewmodels.composite.CompositeResponseViewModel;
+import in.taxgenie.viewmodels.response.ServerResponseFactory;
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.PathMatcher;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+import org.springframework.web.servlet.HandlerExecutionChain;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.ServletRequestPathUtils;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Runs the sub-requests of a composite call concurrently through the regular Spring MVC
+ * handler mapping, interceptors and handler adapter, so each part gets exactly the
+ * response its route would return on its own, without another pass through the servlet
+ * filter chain, JWT verification and request logging. Parts run on a bounded pool whose
+ * tasks carry the caller's tenant and security context. Only GET routes matching the
+ * configured paths that return a buffered ResponseEntity can be called; streaming and async
+ * bodies would start async processing the sub-request cannot provide. URL-level security
+ * rules are not re-evaluated for parts, which is why the paths must only name routes that
+ * need nothing beyond an authenticated caller (method security still applies).
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+public class CompositeRequestDispatcher {
+
+    /**
+     * Headers of the composite call not passed on to its parts
+     */
+    private static final Set<String> NON_FORWARDED_HEADERS = Set.of(
+            "content-type", "content-length", "transfer-encoding", "expect", "origin",
+            "if-none-match", "if-match", "if-modified-since", "if-unmodified-since");
+
+    private static final Set<String> EXPOSED_PART_HEADERS = Set.of(
+            HttpHeaders.ETAG, HttpHeaders.CACHE_CONTROL, HttpHeaders.LOCATION, HttpHeaders.RETRY_AFTER);
+
+    /**
+     * Response bodies Spring MVC completes asynchronously, after the handler has returned
+     */
+    private static final List<Class<?>> ASYNC_BODY_TYPES = List.of(
+            ResponseBodyEmitter.class, StreamingResponseBody.class, Callable.class, DeferredResult.class);
+
+    private static final PathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final RequestMappingHandlerMapping handlerMapping;
+    private final RequestMappingHandlerAdapter handlerAdapter;
+    private final HandlerExceptionResolver exceptionResolver;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolTaskExecutor executor;
+    private final List<String> allowedPaths;
+    private final int maxParts;
+    private final long timeoutMs;
+
+    public CompositeRequestDispatcher(@Qualifier("requestMappingHandlerMapping") RequestMappingHandlerMapping handlerMapping,
+                                      @Qualifier("requestMappingHandlerAdapter") RequestMappingHandlerAdapter handlerAdapter,
+                                      @Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver,
+                                      ObjectMapper objectMapper,
+                                      TenantAwareTaskDecorator tenantAwareTaskDecorator,
+                                      PortalMetrics portalMetrics,
+                                      @Value("${asn.vendor.portal.composite.allowed-paths:/dashboard/,/onboarding/progress/*,/user/profile,/user/session-context}") String allowedPaths,
+                                      @Value("${asn.vendor.portal.composite.max-parts:10}") int maxParts,
+                                      @Value("${asn.vendor.portal.composite.timeout-ms:10000}") long timeoutMs,
+                                      @Value("${asn.vendor.portal.composite.threads:8}") int threads,
+                                      @Value("${asn.vendor.portal.composite.queue-capacity:64}") int queueCapacity) {
+        this.handlerMapping = handlerMapping;
+        this.handlerAdapter = handlerAdapter;
+        this.exceptionResolver = exceptionResolver;
+        this.objectMapper = objectMapper;
+        this.allowedPaths = PortalMetrics.splitList(allowedPaths);
+        this.maxParts = maxParts;
+        this.timeoutMs = timeoutMs;
+
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("composite-");
+        executor.setDaemon(true);
+        // Decorated on the submitting thread, so tenant, security context and MDC are the caller's
+        executor.setTaskDecorator(tenantAwareTaskDecorator);
+        executor.initialize();
+        portalMetrics.registerQueueDepth("composite-requests", executor, pool -> pool.getQueueSize());
+    }
+
+    /**
+     * Executes the sub-requests and waits for all of them up to the composite timeout
+     * @return one part per sub-request, in request order
+     * @throws IllegalArgumentException when there are too many parts or duplicate IDs
+     */
+    public CompositeResponseViewModel dispatch(HttpServletRequest request, HttpServletResponse response,
+                                               List<CompositeRequestViewModel.SubRequestViewModel> subRequests) {
+        if (subRequests.size() > maxParts) {
+            throw new IllegalArgumentException("At most " + maxParts + " sub-requests are allowed");
+        }
+        Set<String> ids = new HashSet<>();
+        for (CompositeRequestViewModel.SubRequestViewModel subRequest : subRequests) {
+            if (!ids.add(subRequest.getId())) {
+                throw new IllegalArgumentException("Duplicate sub-request ID: " + subRequest.getId());
+            }
+        }
+
+        HttpHeaders forwardedHeaders = forwardedHeaders(request);
+        List<Future<CompositeResponseViewModel.PartViewModel>> futures = new ArrayList<>();
+        for (CompositeRequestViewModel.SubRequestViewModel subRequest : subRequests) {
+            String rejection = rejectionReason(subRequest, allowedPaths);
+            if (rejection != null) {
+                futures.add(CompletableFuture.completedFuture(errorPart(subRequest.getId(), HttpStatus.BAD_REQUEST, rejection, 0)));
+                continue;
+            }
+            SubRequest partRequest = SubRequest.of(request, subRequest.getPath(), forwardedHeaders, subRequest.getHeaders());
+            BufferedSubResponse partResponse = new BufferedSubResponse(response);
+            try {
+                futures.add(executor.submit(() -> execute(subRequest.getId(), partRequest, partResponse)));
+            } catch (RejectedExecutionException e) {
+                futures.add(CompletableFuture.completedFuture(errorPart(subRequest.getId(), HttpStatus.SERVICE_UNAVAILABLE,
+                        "Too many concurrent sub-requests, retry later", 0)));
+            }
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        List<CompositeResponseViewModel.PartViewModel> parts = new ArrayList<>();
+        for (int i = 0; i < futures.size(); i++) {
+            String id = subRequests.get(i).getId();
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                parts.add(futures.get(i).get(remaining, TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                // Interrupts the part, or drops it if it is still queued, so it stops holding a thread and connection
+                futures.get(i).cancel(true);
+                parts.add(errorPart(id, HttpStatus.GATEWAY_TIMEOUT, "Sub-request did not finish within " + timeoutMs + " ms", timeoutMs));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                parts.add(errorPart(id, HttpStatus.SERVICE_UNAVAILABLE, "Composite request interrupted", 0));
+            } catch (ExecutionException e) {
+                log.error("Composite sub-request {} failed", id, e.getCause());
+                parts.add(errorPart(id, HttpStatus.INTERNAL_SERVER_ERROR, "Sub-request failed", 0));
+            }
+        }
+        return CompositeResponseViewModel.builder().parts(parts).build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private CompositeResponseViewModel.PartViewModel execute(String id, SubRequest request, BufferedSubResponse response) {
+        long start = System.nanoTime();
+        HandlerExecutionChain chain = null;
+        List<HandlerInterceptor> appliedInterceptors = new ArrayList<>();
+        Exception failure = null;
+        try {
+            if (handlerMapping.usesPathPatterns()) {
+                ServletRequestPathUtils.parseAndCache(request);
+            }
+            chain = handlerMapping.getHandler(request);
+            if (chain == null || !(chain.getHandler() instanceof HandlerMethod handlerMethod)
+                    || !ResponseEntity.class.isAssignableFrom(handlerMethod.getReturnType().getParameterType())) {
+                return errorPart(id, HttpStatus.NOT_FOUND, "No GET route for " + request.getServletPath(), elapsedMs(start));
+            }
+            if (hasAsyncBody(handlerMethod.getReturnType())) {
+                return errorPart(id, HttpStatus.BAD_REQUEST, "Streaming routes are not available in composite requests",
+                        elapsedMs(start));
+            }
+
+            for (HandlerInterceptor interceptor : chain.getInterceptorList()) {
+                if (!interceptor.preHandle(request, response, chain.getHandler())) {
+                    return toPart(id, response, elapsedMs(start));
+                }
+                appliedInterceptors.add(interceptor);
+            }
+            handlerAdapter.handle(request, response, chain.getHandler());
+            for (int i = appliedInterceptors.size() - 1; i >= 0; i--) {
+                appliedInterceptors.get(i).postHandle(request, response, chain.getHandler(), null);
+            }
+        } catch (Exception e) {
+            failure = e;
+            Object handler = chain != null ? chain.getHandler() : null;
+            response.reset();
+            if (exceptionResolver.resolveException(request, response, handler, e) == null) {
+                log.error("Unhandled exception in composite sub-request {} {}", id, request.getServletPath(), e);
+                return errorPart(id, HttpStatus.INTERNAL_SERVER_ERROR, "Sub-request failed", elapsedMs(start));
+            }
+        } finally {
+            for (int i = appliedInterceptors.size() - 1; i >= 0; i--) {
+                try {
+                    appliedInterceptors.get(i).afterCompletion(request, response, chain.getHandler(), failure);
+                } catch (Exception e) {
+                    log.debug("Interceptor afterCompletion failed for composite sub-request {}: {}", id, e.getMessage());
+                }
+            }
+        }
+        return toPart(id, response, elapsedMs(start));
+    }
+
+    private CompositeResponseViewModel.PartViewModel toPart(String id, BufferedSubResponse response, long durationMs) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        response.getHeadersSnapshot().forEach((name, values) -> {
+            if (EXPOSED_PART_HEADERS.stream().anyMatch(name::equalsIgnoreCase) && !values.isEmpty()) {
+                headers.put(name, values.get(0));
+            }
+        });
+        return CompositeResponseViewModel.PartViewModel.builder()
+                .id(id)
+                .status(response.getStatus())
+                .headers(headers)
+                .body(readBody(response))
+                .durationMs(durationMs)
+                .build();
+    }
+
+    private JsonNode readBody(BufferedSubResponse response) {
+        byte[] body = response.getBody();
+        if (body.length == 0) {
+            return null;
+        }
+        String contentType = response.getContentType();
+        if (contentType != null && MediaType.parseMediaType(contentType).isCompatibleWith(MediaType.APPLICATION_JSON)) {
+            try {
+                return objectMapper.readTree(body);
+            } catch (IOException e) {
+                log.debug("Composite part body is not valid JSON: {}", e.getMessage());
+            }
+        }
+        return TextNode.valueOf(new String(body, Charset.forName(response.getCharacterEncoding())));
+    }
+
+    private CompositeResponseViewModel.PartViewModel errorPart(String id, HttpStatus status, String message, long durationMs) {
+        return CompositeResponseViewModel.PartViewModel.builder()
+                .id(id)
+                .status(status.value())
+                .headers(Collections.emptyMap())
+                .body(objectMapper.valueToTree(ServerResponseFactory.error(message, status.value())))
+                .durationMs(durationMs)
+                .build();
+    }
+
+    /**
+     * Returns why a sub-request may not run, or null when it may
+     */
+    static String rejectionReason(CompositeRequestViewModel.SubRequestViewModel subRequest, List<String> allowedPaths) {
+        String method = subRequest.getMethod();
+        if (method != null && !"GET".equalsIgnoreCase(method)) {
+            return "Only GET sub-requests are supported";
+        }
+        String path = subRequest.getPath();
+        int queryStart = path.indexOf('?');
+        String route = (queryStart >= 0 ? path.substring(0, queryStart) : path).toLowerCase(Locale.ROOT);
+        if (!route.startsWith("/") || route.contains("..") || route.contains("//") || route.contains("\\")
+                || route.contains(";") || route.contains("%2e") || route.contains("%2f") || route.contains("%5c")
+                || path.contains("#")) {
+            return "Invalid sub-request path";
+        }
+        if (allowedPaths.stream().noneMatch(allowed -> isAllowed(route, allowed.toLowerCase(Locale.ROOT)))) {
+            return "Route is not available in composite requests";
+        }
+        return null;
+    }
+
+    /**
+     * Entries with wildcards are Ant-style patterns; "/onboarding/progress/*" matches a progress
+     * route but not the stream below it. Plain entries are prefixes.
+     */
+    private static boolean isAllowed(String route, String allowed) {
+        return PATH_MATCHER.isPattern(allowed) ? PATH_MATCHER.match(allowed, route) : route.startsWith(allowed);
+    }
+
+    /**
+     * Whether the handler returns a body MVC writes asynchronously, such as the SseEmitter of a
+     * progress stream; running one would register the stream before startAsync fails on the
+     * sub-request, leaving it open with nobody to complete it
+     */
+    static boolean hasAsyncBody(MethodParameter returnType) {
+        ResolvableType type = ResolvableType.forMethodParameter(returnType);
+        Class<?> body = type.as(ResponseEntity.class).getGeneric(0).resolve(Object.class);
+        return ASYNC_BODY_TYPES.stream().anyMatch(async -> async.isAssignableFrom(body));
+    }
+
+    private static HttpHeaders forwardedHeaders(HttpServletRequest request) {
+        HttpHeaders headers = new HttpHeaders();
+        for (String name : Collections.list(request.getHeaderNames())) {
+            if (!NON_FORWARDED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                headers.put(name, Collections.list(request.getHeaders(name)));
+            }
+        }
+        return headers;
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+}
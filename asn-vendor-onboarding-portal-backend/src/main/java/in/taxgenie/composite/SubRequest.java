@@ -0,0 +1,335 @@
+package in.taxgenie.composite;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.http.HttpHeaders;
+import org.springframework.util.LinkedMultiValueMap;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.util.UriComponents;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * GET request for one part of a composite call
+ * Everything a handler may read is copied from the outer request on the request thread, so
+ * parts running concurrently never touch the container's request object, and each part has
+ * its own attributes for the handler mapping to write into.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+final class SubRequest extends HttpServletRequestWrapper {
+
+    private final String contextPath;
+    private final String path;
+    private final String queryString;
+    private final Map<String, String[]> parameters;
+    private final HttpHeaders headers;
+    private final Map<String, Object> attributes = new ConcurrentHashMap<>();
+    private final String scheme;
+    private final String serverName;
+    private final int serverPort;
+    private final String remoteAddr;
+    private final boolean secure;
+    private final Locale locale;
+    private final List<Locale> locales;
+
+    private SubRequest(HttpServletRequest outer, String path, String queryString,
+                       Map<String, String[]> parameters, HttpHeaders headers) {
+        super(outer);
+        this.contextPath = outer.getContextPath();
+        this.path = path;
+        this.queryString = queryString;
+        this.parameters = parameters;
+        this.headers = headers;
+        this.scheme = outer.getScheme();
+        this.serverName = outer.getServerName();
+        this.serverPort = outer.getServerPort();
+        this.remoteAddr = outer.getRemoteAddr();
+        this.secure = outer.isSecure();
+        this.locale = outer.getLocale();
+        this.locales = Collections.list(outer.getLocales());
+    }
+
+    /**
+     * Builds a part from its path and query, relative to the servlet context
+     * @param outerHeaders headers copied from the composite request, without body headers
+     * @param partHeaders headers set for this part only, overriding the copied ones
+     */
+    static SubRequest of(HttpServletRequest outer, String pathAndQuery, HttpHeaders outerHeaders,
+                         Map<String, String> partHeaders) {
+        UriComponents uri = UriComponentsBuilder.fromUriString(pathAndQuery).build();
+        MultiValueMap<String, String> query = uri.getQueryParams();
+        Map<String, String[]> parameters = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> entry : query.entrySet()) {
+            parameters.put(decode(entry.getKey()), entry.getValue().stream()
+                    .map(value -> value != null ? decode(value) : "")
+                    .toArray(String[]::new));
+        }
+
+        HttpHeaders headers = new HttpHeaders(new LinkedMultiValueMap<>(outerHeaders));
+        if (partHeaders != null) {
+            partHeaders.forEach(headers::set);
+        }
+        return new SubRequest(outer, uri.getPath(), uri.getQuery(), Collections.unmodifiableMap(parameters), headers);
+    }
+
+    private static String decode(String value) {
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    // ==================== Request Line ====================
+
+    @Override
+    public String getMethod() {
+        return "GET";
+    }
+
+    @Override
+    public DispatcherType getDispatcherType() {
+        return DispatcherType.REQUEST;
+    }
+
+    @Override
+    public String getContextPath() {
+        return contextPath;
+    }
+
+    @Override
+    public String getServletPath() {
+        return UriUtils.decode(path, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String getPathInfo() {
+        return null;
+    }
+
+    @Override
+    public String getRequestURI() {
+        return contextPath + path;
+    }
+
+    @Override
+    public StringBuffer getRequestURL() {
+        StringBuffer url = new StringBuffer(scheme).append("://").append(serverName);
+        if (!(("http".equals(scheme) && serverPort == 80) || ("https".equals(scheme) && serverPort == 443))) {
+            url.append(':').append(serverPort);
+        }
+        return url.append(getRequestURI());
+    }
+
+    @Override
+    public String getQueryString() {
+        return queryString;
+    }
+
+    @Override
+    public String getScheme() {
+        return scheme;
+    }
+
+    @Override
+    public String getServerName() {
+        return serverName;
+    }
+
+    @Override
+    public int getServerPort() {
+        return serverPort;
+    }
+
+    @Override
+    public String getRemoteAddr() {
+        return remoteAddr;
+    }
+
+    @Override
+    public boolean isSecure() {
+        return secure;
+    }
+
+    // ==================== Parameters ====================
+
+    @Override
+    public String getParameter(String name) {
+        String[] values = parameters.get(name);
+        return values != null && values.length > 0 ? values[0] : null;
+    }
+
+    @Override
+    public Map<String, String[]> getParameterMap() {
+        return parameters;
+    }
+
+    @Override
+    public Enumeration<String> getParameterNames() {
+        return Collections.enumeration(parameters.keySet());
+    }
+
+    @Override
+    public String[] getParameterValues(String name) {
+        return parameters.get(name);
+    }
+
+    // ==================== Headers ====================
+
+    @Override
+    public String getHeader(String name) {
+        return headers.getFirst(name);
+    }
+
+    @Override
+    public Enumeration<String> getHeaders(String name) {
+        List<String> values = headers.get(name);
+        return Collections.enumeration(values != null ? values : List.of());
+    }
+
+    @Override
+    public Enumeration<String> getHeaderNames() {
+        return Collections.enumeration(headers.keySet());
+    }
+
+    @Override
+    public long getDateHeader(String name) {
+        return headers.getFirst(name) != null ? headers.getFirstDate(name) : -1;
+    }
+
+    @Override
+    public int getIntHeader(String name) {
+        String value = headers.getFirst(name);
+        return value != null ? Integer.parseInt(value) : -1;
+    }
+
+    @Override
+    public String getContentType() {
+        return null;
+    }
+
+    @Override
+    public int getContentLength() {
+        return 0;
+    }
+
+    @Override
+    public long getContentLengthLong() {
+        return 0;
+    }
+
+    @Override
+    public Locale getLocale() {
+        return locale;
+    }
+
+    @Override
+    public Enumeration<Locale> getLocales() {
+        return Collections.enumeration(locales);
+    }
+
+    // ==================== Attributes and Body ====================
+
+    @Override
+    public Object getAttribute(String name) {
+        return attributes.get(name);
+    }
+
+    @Override
+    public Enumeration<String> getAttributeNames() {
+        return Collections.enumeration(attributes.keySet());
+    }
+
+    @Override
+    public void setAttribute(String name, Object value) {
+        if (value == null) {
+            attributes.remove(name);
+        } else {
+            attributes.put(name, value);
+        }
+    }
+
+    @Override
+    public void removeAttribute(String name) {
+        attributes.remove(name);
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        return new ServletInputStream() {
+            @Override
+            public boolean isFinished() {
+                return true;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setReadListener(ReadListener readListener) {
+                throw new UnsupportedOperationException("Sub-requests have no body");
+            }
+
+            @Override
+            public int read() {
+                return -1;
+            }
+        };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        return new BufferedReader(new StringReader(""));
+    }
+
+    // ==================== Session and Async ====================
+
+    @Override
+    public HttpSession getSession() {
+        return null;
+    }
+
+    @Override
+    public HttpSession getSession(boolean create) {
+        return null;
+    }
+
+    @Override
+    public boolean isAsyncSupported() {
+        return false;
+    }
+
+    @Override
+    public boolean isAsyncStarted() {
+        return false;
+    }
+
+    @Override
+    public AsyncContext startAsync() {
+        throw new IllegalStateException("Sub-requests cannot start async processing");
+    }
+
+    @Override
+    public AsyncContext startAsync(ServletRequest servletRequest, ServletResponse servletResponse) {
+        throw new IllegalStateException("Sub-requests cannot start async processing");
+    }
+}
@@ -0,0 +1,12 @@
+/**
+ * Composite requests for the ASN Vendor Onboarding Portal application.
+ * 
+ * This package contains:
+ * - The dispatcher that runs several GET sub-requests of one authenticated call
+ *   concurrently through the regular Spring MVC handler mapping and adapter
+ * - The detached request and buffering response each sub-request runs against
+ * 
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+package in.taxgenie.composite;
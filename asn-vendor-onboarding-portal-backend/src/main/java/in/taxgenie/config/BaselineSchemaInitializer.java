@@ -0,0 +1,70 @@
+package in.taxgenie.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.flywaydb.core.api.configuration.Configuration;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Applies the V1 baseline script to a database that does not have the shared schema yet
+ * V1 is the schema script databases were built from before Flyway, and it creates the shared
+ * schema itself, whereas Flyway needs that schema first to keep its history table in. Running
+ * the script as-is before Flyway starts leaves a fresh database in the state of one built by
+ * hand, which baseline-on-migrate then baselines at V1, so both continue from V2.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Slf4j
+public class BaselineSchemaInitializer {
+
+    private static final String BASELINE_SCRIPT = "db/migration/V1__baseline.sql";
+
+    private static final String SCHEMA_EXISTS_SQL = "SELECT EXISTS (SELECT 1 FROM pg_namespace WHERE nspname = ?)";
+
+    /**
+     * Runs the baseline script in one transaction unless the configured default schema exists
+     */
+    public void initializeIfMissing(Configuration configuration) {
+        String schema = configuration.getDefaultSchema();
+        DataSource dataSource = configuration.getDataSource();
+        try (Connection connection = dataSource.getConnection()) {
+            if (schema == null || schemaExists(connection, schema)) {
+                return;
+            }
+            log.info("Schema {} does not exist, applying {} before migrating", schema, BASELINE_SCRIPT);
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                ScriptUtils.executeSqlScript(connection, new ClassPathResource(BASELINE_SCRIPT));
+                if (!schemaExists(connection, schema)) {
+                    throw new IllegalStateException(BASELINE_SCRIPT + " does not create schema " + schema
+                            + "; the shared schema must match the baseline script");
+                }
+                connection.commit();
+            } catch (RuntimeException | SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to apply " + BASELINE_SCRIPT, e);
+        }
+    }
+
+    private static boolean schemaExists(Connection connection, String schema) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(SCHEMA_EXISTS_SQL)) {
+            statement.setString(1, schema);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+}
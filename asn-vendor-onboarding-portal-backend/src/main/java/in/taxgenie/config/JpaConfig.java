@@ -0,0 +1,78 @@
+package in.taxgenie.config;
+
+import in.taxgenie.funnel.OnboardingFunnelIntegrator;
+import in.taxgenie.monitoring.BusinessMetricsIntegrator;
+import in.taxgenie.monitoring.JdbcTimingSessionListener;
+import in.taxgenie.monitoring.PortalMetrics;
+import in.taxgenie.monitoring.QueryCountingStatementInspector;
+import in.taxgenie.monitoring.QueryStatisticsIntegrator;
+import in.taxgenie.multitenancy.schema.SchemaRoutingConnectionProvider;
+import in.taxgenie.multitenancy.schema.TenantSchemaIdentifierResolver;
+import in.taxgenie.multitenancy.schema.TenantSchemaRouting;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * JPA configuration for fetch-plan enforcement and query instrumentation
+ * Open-session-in-view is disabled in application.yml, so every association a response
+ * needs must be fetched inside the service transaction
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Configuration
+public class JpaConfig {
+
+    /**
+     * Routes sessions to per-tenant schemas when schema-per-tenant is enabled; the tenant
+     * identifier is the schema name, and tenants without a route stay in the shared schema
+     */
+    @Bean
+    public HibernatePropertiesCustomizer hibernateSchemaPerTenantCustomizer(TenantSchemaRouting tenantSchemaRouting,
+                                                                           DataSource dataSource) {
+        return hibernateProperties -> {
+            if (tenantSchemaRouting.isEnabled()) {
+                hibernateProperties.put(AvailableSettings.MULTI_TENANT_CONNECTION_PROVIDER,
+                        new SchemaRoutingConnectionProvider(dataSource, tenantSchemaRouting));
+                hibernateProperties.put(AvailableSettings.MULTI_TENANT_IDENTIFIER_RESOLVER,
+                        new TenantSchemaIdentifierResolver(tenantSchemaRouting));
+            }
+        };
+    }
+
+    /**
+     * Registers the per-request query counters, the business transition metrics, the
+     * onboarding funnel projection and, when enabled (on in the test profile), the lazy-load
+     * guard. All go through one integrator provider because Hibernate accepts a single one.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer hibernateInstrumentationCustomizer(
+            @Value("${asn.vendor.portal.jpa.lazy-load-guard:false}") boolean lazyLoadGuard,
+            @Value("${asn.vendor.portal.analytics.funnel.enabled:true}") boolean onboardingFunnel,
+            ObjectProvider<PortalMetrics> portalMetrics) {
+        return hibernateProperties -> {
+            List<Integrator> integrators = new ArrayList<>();
+            integrators.add(new QueryStatisticsIntegrator());
+            integrators.add(new BusinessMetricsIntegrator(portalMetrics));
+            if (onboardingFunnel) {
+                integrators.add(new OnboardingFunnelIntegrator());
+            }
+            if (lazyLoadGuard) {
+                integrators.add(new LazyLoadGuardIntegrator());
+            }
+            hibernateProperties.put("hibernate.integrator_provider", (IntegratorProvider) () -> integrators);
+            hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountingStatementInspector());
+            hibernateProperties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER, JdbcTimingSessionListener.class.getName());
+        };
+    }
+}
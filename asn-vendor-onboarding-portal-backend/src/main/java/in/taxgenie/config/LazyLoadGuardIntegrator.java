@@ -0,0 +1,63 @@
+package in.taxgenie.config;
+
+import org.hibernate.LazyInitializationException;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.event.spi.LoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Hibernate integrator that fails fast when a lazy proxy or collection is initialized
+ * outside a Spring-managed transaction. Enabled in tests so that code relying on
+ * open-session-in-view, or on a non-transactional session lingering after a repository
+ * call, breaks the build instead of silently holding connections in production.
+ */
+public class LazyLoadGuardIntegrator implements Integrator {
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        LazyLoadGuardListener listener = new LazyLoadGuardListener();
+        registry.prependListeners(EventType.INIT_COLLECTION, listener);
+        registry.prependListeners(EventType.LOAD, listener);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        // Nothing to release
+    }
+
+    /**
+     * Rejects lazy collection initialization and proxy loading when no transaction is active
+     */
+    static class LazyLoadGuardListener implements InitializeCollectionEventListener, LoadEventListener {
+
+        @Override
+        public void onInitializeCollection(InitializeCollectionEvent event) {
+            assertTransactionActive("collection " + (event.getCollection() != null ? event.getCollection().getRole() : "<unknown>"));
+        }
+
+        @Override
+        public void onLoad(LoadEvent event, LoadType loadType) {
+            // IMMEDIATE_LOAD is the load type Hibernate uses when a lazy proxy is initialized
+            if (loadType == LoadEventListener.IMMEDIATE_LOAD) {
+                assertTransactionActive("proxy " + event.getEntityClassName() + "#" + event.getEntityId());
+            }
+        }
+
+        private void assertTransactionActive(String target) {
+            if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+                throw new LazyInitializationException("Lazy loading of " + target
+                        + " outside a transaction; fetch it explicitly in the service's fetch plan");
+            }
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package in.taxgenie.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+
+import java.util.List;
+
+/**
+ * Marks the bean definitions declared in the given packages as lazy
+ * A bean belongs to the package of its class, or for {@code @Bean} methods of the configuration
+ * class declaring it. Beans that an eagerly created bean depends on are still created at
+ * startup; infrastructure such as post-processors ignores the flag.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Slf4j
+public class LazyPackagesPostProcessor implements BeanFactoryPostProcessor {
+
+    private final List<String> packagePrefixes;
+
+    public LazyPackagesPostProcessor(List<String> packages) {
+        this.packagePrefixes = packages.stream()
+                .filter(p -> !p.isEmpty())
+                .map(p -> p.endsWith(".") ? p : p + ".")
+                .toList();
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        int deferred = 0;
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            BeanDefinition definition = beanFactory.getBeanDefinition(beanName);
+            if (definition.isLazyInit() || definition.getRole() == BeanDefinition.ROLE_INFRASTRUCTURE) {
+                continue;
+            }
+            String declaringClass = declaringClassName(beanFactory, definition);
+            if (declaringClass != null && packagePrefixes.stream().anyMatch(declaringClass::startsWith)) {
+                definition.setLazyInit(true);
+                deferred++;
+            }
+        }
+        if (deferred > 0) {
+            log.info("Deferred {} beans from {} to first use", deferred, packagePrefixes);
+        }
+    }
+
+    private static String declaringClassName(ConfigurableListableBeanFactory beanFactory, BeanDefinition definition) {
+        String factoryBeanName = definition.getFactoryBeanName();
+        if (factoryBeanName != null && beanFactory.containsBeanDefinition(factoryBeanName)) {
+            return beanFactory.getBeanDefinition(factoryBeanName).getBeanClassName();
+        }
+        return definition.getBeanClassName();
+    }
+}
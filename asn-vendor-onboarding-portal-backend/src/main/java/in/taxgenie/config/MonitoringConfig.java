@@ -0,0 +1,103 @@
+package in.taxgenie.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import in.taxgenie.monitoring.PortalMetrics;
+import in.taxgenie.monitoring.RepositoryCallInterceptor;
+import in.taxgenie.monitoring.SamplingDataSource;
+import in.taxgenie.monitoring.ServerTimingPolicy;
+import in.taxgenie.monitoring.SlowQuerySampler;
+import in.taxgenie.monitoring.TagLimiter;
+import in.taxgenie.monitoring.TimedJacksonHttpMessageConverter;
+import in.taxgenie.monitoring.jfr.ControllerEventInterceptor;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * Monitoring configuration
+ * Wraps the application DataSource so every JDBC execution feeds the slow-query sampler,
+ * hooks repositories and JSON serialization into the request phase timer, and emits
+ * flight recorder events for controller invocations
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Configuration
+public class MonitoringConfig implements WebMvcConfigurer {
+
+    /**
+     * Static so the post-processor is registered before the DataSource is created; the
+     * sampler is resolved lazily at wrap time
+     */
+    @Bean
+    @ConditionalOnProperty(name = "asn.vendor.portal.monitoring.slow-queries.enabled", havingValue = "true", matchIfMissing = true)
+    public static BeanPostProcessor slowQueryDataSourcePostProcessor(ObjectProvider<SlowQuerySampler> sampler) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof SamplingDataSource)) {
+                    return new SamplingDataSource(dataSource, sampler.getObject());
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Adds the repository call interceptor to every Spring Data repository proxy; must run
+     * before the factory bean creates the repository in afterPropertiesSet
+     */
+    @Bean
+    public static BeanPostProcessor repositoryCallPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory ->
+                            factory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) ->
+                                    proxyFactory.addAdvice(new RepositoryCallInterceptor(repositoryInformation.getRepositoryInterface()))));
+                }
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Replaces Spring Boot's JSON converter with one that times serialization
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper,
+                                                                                 ServerTimingPolicy serverTimingPolicy) {
+        return new TimedJacksonHttpMessageConverter(objectMapper, serverTimingPolicy);
+    }
+
+    /**
+     * Backstop for the tenant tag: if a meter ever bypasses PortalMetrics' limiter, series
+     * beyond the limiter's bound are dropped instead of exploding the scrape
+     */
+    @Bean
+    public static MeterFilter tenantTagCardinalityFilter(
+            @Value("${asn.vendor.portal.monitoring.tenant-tags.max:50}") int maxTenantTags,
+            @Value("${asn.vendor.portal.monitoring.tenant-tags.pinned:}") String pinnedTenants) {
+        int bound = new TagLimiter(maxTenantTags, PortalMetrics.splitList(pinnedTenants)).maxDistinctValues();
+        return MeterFilter.maximumAllowableTags("asn.", "tenant", bound, MeterFilter.deny());
+    }
+
+    /**
+     * Registers the controller invocation flight recorder interceptor
+     */
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new ControllerEventInterceptor());
+    }
+}
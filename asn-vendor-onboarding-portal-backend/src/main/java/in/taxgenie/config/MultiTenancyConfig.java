@@ -1,18 +1,26 @@
 package in.taxgenie.config;
 
 import in.taxgenie.multitenancy.interceptor.TenantInterceptor;
+import in.taxgenie.multitenancy.schema.TenantSchemaRouting;
+import in.taxgenie.multitenancy.service.TenantFilterService;
+import in.taxgenie.multitenancy.transaction.TenantAwareJpaTransactionManager;
 import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.orm.hibernate5.HibernateTransactionManager;
 import org.springframework.orm.hibernate5.LocalSessionFactoryBean;
+import org.springframework.transaction.TransactionManager;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.persistence.EntityManagerFactory;
 
 /**
  * Configuration for multi-tenancy support
- * Registers the tenant interceptor with Hibernate
+ * Registers the tenant interceptor with Hibernate and a transaction manager
+ * that enables the company filter when each transaction begins
  */
 @Configuration
 public class MultiTenancyConfig {
@@ -35,4 +43,21 @@ public class MultiTenancyConfig {
             // This is a simplified approach for demonstration
         }
     }
+
+    /**
+     * Replaces Spring Boot's default JPA transaction manager so that the company filter
+     * is enabled on the transaction's session instead of per request, and writes of a tenant
+     * are refused while its schema cutover runs
+     */
+    @Bean
+    public TenantAwareJpaTransactionManager transactionManager(EntityManagerFactory entityManagerFactory,
+                                                               TenantFilterService tenantFilterService,
+                                                               TenantSchemaRouting tenantSchemaRouting,
+                                                               ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers) {
+        TenantAwareJpaTransactionManager transactionManager =
+                new TenantAwareJpaTransactionManager(entityManagerFactory, tenantFilterService, tenantSchemaRouting);
+        // The PlatformTransactionManager overload is deprecated for removal
+        transactionManagerCustomizers.ifAvailable(customizers -> customizers.customize((TransactionManager) transactionManager));
+        return transactionManager;
+    }
 }
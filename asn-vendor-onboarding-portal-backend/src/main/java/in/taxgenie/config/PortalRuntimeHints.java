@@ -0,0 +1,90 @@
+package in.taxgenie.config;
+
+import in.taxgenie.exception.ErrorResponse;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.util.ClassUtils;
+
+import java.util.List;
+
+/**
+ * Reflection and resource hints for the native image
+ * Spring AOT writes these into the generated reachability metadata; the JVM build ignores them
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+public class PortalRuntimeHints implements RuntimeHintsRegistrar {
+
+    /**
+     * Response and request bodies; most controllers declare them as Object, so Spring cannot
+     * infer them from the handler signatures
+     */
+    static final List<String> BINDING_PACKAGES = List.of(
+            "in.taxgenie.viewmodels",
+            "in.taxgenie.response");
+
+    /**
+     * jjwt 0.11 creates its implementation by class name and finds its Jackson codec through
+     * ServiceLoader
+     */
+    static final List<String> JJWT_TYPES = List.of(
+            "io.jsonwebtoken.impl.DefaultJwtParserBuilder",
+            "io.jsonwebtoken.impl.DefaultJwtParser",
+            "io.jsonwebtoken.impl.DefaultJwtBuilder",
+            "io.jsonwebtoken.impl.DefaultClaims",
+            "io.jsonwebtoken.impl.DefaultHeader",
+            "io.jsonwebtoken.impl.DefaultJwsHeader",
+            "io.jsonwebtoken.impl.compression.DefaultCompressionCodecResolver",
+            "io.jsonwebtoken.impl.compression.DeflateCompressionCodec",
+            "io.jsonwebtoken.impl.compression.GzipCompressionCodec",
+            "io.jsonwebtoken.jackson.io.JacksonSerializer",
+            "io.jsonwebtoken.jackson.io.JacksonDeserializer");
+
+    /** Hibernate binds jsonb and inet parameters through PGobject, looked up reflectively */
+    static final String PG_OBJECT = "org.postgresql.util.PGobject";
+
+    /** Private record read and written by the cache invalidation bus */
+    static final String CACHE_INVALIDATION_WIRE = "in.taxgenie.cache.CacheInvalidationCodec$Wire";
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        BindingReflectionHintsRegistrar bindings = new BindingReflectionHintsRegistrar();
+        for (String basePackage : BINDING_PACKAGES) {
+            for (Class<?> type : bindingTypes(basePackage, classLoader)) {
+                bindings.registerReflectionHints(hints.reflection(), type);
+            }
+        }
+        bindings.registerReflectionHints(hints.reflection(), ErrorResponse.class,
+                ClassUtils.resolveClassName(CACHE_INVALIDATION_WIRE, classLoader));
+
+        hints.reflection().registerType(TypeReference.of(PG_OBJECT),
+                MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+
+        for (String type : JJWT_TYPES) {
+            hints.reflection().registerType(TypeReference.of(type),
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        hints.resources().registerPattern("META-INF/services/io.jsonwebtoken.*");
+    }
+
+    /**
+     * Concrete top-level and static nested classes under the package; anonymous and inner classes
+     * are never bound by Jackson
+     */
+    static List<Class<?>> bindingTypes(String basePackage, ClassLoader classLoader) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+        scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+        scanner.addIncludeFilter((reader, factory) -> true);
+        return scanner.findCandidateComponents(basePackage).stream()
+                .map(BeanDefinition::getBeanClassName)
+                .<Class<?>>map(name -> ClassUtils.resolveClassName(name, classLoader))
+                .toList();
+    }
+}
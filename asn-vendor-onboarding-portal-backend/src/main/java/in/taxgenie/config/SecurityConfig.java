@@ -1,6 +1,7 @@
 package in.taxgenie.config;
 
 import in.taxgenie.auth.AppJwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
@@ -95,12 +96,17 @@ public class SecurityConfig {
                                 .requestMatchers("/actuator/loggers", "/actuator/loggers/**").hasRole("ADMIN")
                                 .requestMatchers("/actuator/threaddump").hasRole("ADMIN")
                                 .requestMatchers("/actuator/heapdump").hasRole("ADMIN")
+                                .requestMatchers("/actuator/slowqueries").hasRole("ADMIN")
+                                .requestMatchers("/actuator/jfr").hasRole("ADMIN")
 
                                 // Deny all other actuator endpoints by default
                                 .requestMatchers("/actuator/**").denyAll()
 
                                 .requestMatchers("/error").permitAll()
 
+                                // Async re-dispatch of streaming responses that were already authorized
+                                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                                 // All other endpoints require authentication
                                 .anyRequest().authenticated();
                     })
@@ -157,6 +163,9 @@ public class SecurityConfig {
             // Allow all headers for flexibility
             configuration.setAllowedHeaders(Arrays.asList("*"));
 
+            // Let the frontend read validators for conditional polling
+            configuration.setExposedHeaders(Arrays.asList("ETag"));
+
             // Allow credentials for authentication
             configuration.setAllowCredentials(true);
 
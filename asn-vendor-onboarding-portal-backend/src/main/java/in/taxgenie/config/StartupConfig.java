@@ -0,0 +1,54 @@
+package in.taxgenie.config;
+
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+import java.util.List;
+
+/**
+ * Startup configuration
+ * Defers beans that neither requests on the hot path nor jobs need at boot, so a new instance
+ * reaches readiness sooner; they are created on first use instead. Also contributes the native
+ * image hints Spring AOT cannot infer on its own, and keeps spring.flyway.enabled effective
+ * in AOT builds
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ImportRuntimeHints(PortalRuntimeHints.class)
+public class StartupConfig {
+
+    /**
+     * Static so it runs before any singleton is created; reads the Environment directly because
+     * placeholders are not resolved yet at that point. Under Spring AOT the lazy flags are
+     * recorded in the generated bean definitions at build time.
+     */
+    @Bean
+    public static BeanFactoryPostProcessor lazyPackagesPostProcessor(Environment environment) {
+        String packages = environment.getProperty("asn.vendor.portal.startup.lazy-packages", "org.springdoc");
+        return new LazyPackagesPostProcessor(List.of(StringUtils.commaDelimitedListToStringArray(
+                StringUtils.trimAllWhitespace(packages))));
+    }
+
+    /**
+     * Spring AOT decides at build time whether Flyway is configured, so spring.flyway.enabled=false
+     * given at runtime, as the fast-startup training run does, would still migrate without this
+     * check. In the standard build a disabled Flyway has no beans and this is never called.
+     * An empty database first gets the baseline script, see {@link BaselineSchemaInitializer}.
+     */
+    @Bean
+    public FlywayMigrationStrategy flywayMigrationStrategy(Environment environment) {
+        return flyway -> {
+            if (environment.getProperty("spring.flyway.enabled", Boolean.class, true)) {
+                new BaselineSchemaInitializer().initializeIfMissing(flyway.getConfiguration());
+                flyway.migrate();
+            }
+        };
+    }
+}
@@ -0,0 +1,143 @@
+package in.taxgenie.context;
+
+import in.taxgenie.monitoring.PortalMetrics;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Runs the independent reads of one request in parallel on a small executor of its own
+ * Each read gets its own read-only transaction (and so its own pooled connection) with the
+ * caller's tenant, security context and MDC. A batch never has more than
+ * max-parallel-reads-per-request reads in flight, so one request cannot drain the pool, and
+ * the executor's thread count caps the connections all parallel reads hold together. It is
+ * kept apart from the application task executor, where long streaming exports would
+ * otherwise occupy the threads reads are waiting for. Reads the executor rejects run on the
+ * calling thread instead.
+ */
+@Component
+public class ParallelReadExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ParallelReadExecutor.class);
+
+    private final ThreadPoolTaskExecutor executor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int maxParallelReadsPerRequest;
+    private final long timeoutMs;
+
+    public ParallelReadExecutor(TenantAwareTaskDecorator tenantAwareTaskDecorator,
+                                PortalMetrics portalMetrics,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${asn.vendor.portal.async.max-parallel-reads-per-request:4}") int maxParallelReadsPerRequest,
+                                @Value("${asn.vendor.portal.async.read-timeout-ms:10000}") long timeoutMs,
+                                @Value("${asn.vendor.portal.async.read-threads:6}") int threads,
+                                @Value("${asn.vendor.portal.async.read-queue-capacity:32}") int queueCapacity) {
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("parallel-read-");
+        executor.setDaemon(true);
+        // Decorated on the submitting thread, so tenant, security context and MDC are the caller's
+        executor.setTaskDecorator(tenantAwareTaskDecorator);
+        executor.initialize();
+        portalMetrics.registerQueueDepth("parallel-reads", executor, pool -> pool.getQueueSize());
+
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.readOnlyTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxParallelReadsPerRequest = Math.max(1, maxParallelReadsPerRequest);
+        this.timeoutMs = timeoutMs;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Starts a batch of reads for the current request
+     */
+    public ReadBatch batch() {
+        return new ReadBatch(new Semaphore(maxParallelReadsPerRequest),
+                System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs));
+    }
+
+    /**
+     * Reads forked for one request; not shared between requests
+     */
+    public final class ReadBatch {
+
+        private final Semaphore permits;
+        private final long deadlineNanos;
+
+        private ReadBatch(Semaphore permits, long deadlineNanos) {
+            this.permits = permits;
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        /**
+         * Starts a read in its own read-only transaction, waiting for a free slot when the batch is full
+         * Map lazy associations inside the read; the entities are detached once it returns.
+         */
+        public <T> CompletableFuture<T> fork(Supplier<T> read) {
+            permits.acquireUninterruptibly();
+            CompletableFuture<T> future = new CompletableFuture<>();
+            Runnable task = () -> {
+                try {
+                    future.complete(readOnlyTransaction.execute(status -> read.get()));
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                } finally {
+                    permits.release();
+                }
+            };
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                logger.debug("Task executor saturated, running read on the calling thread");
+                task.run();
+            }
+            return future;
+        }
+
+        /**
+         * Waits for a forked read, rethrowing its failure
+         * @throws IllegalStateException when the batch's read timeout passes before the read finishes
+         */
+        public <T> T join(CompletableFuture<T> future) {
+            try {
+                return future.get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                future.cancel(false);
+                throw new IllegalStateException("Read did not finish within " + timeoutMs + " ms");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for a read", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException runtimeException) {
+                    throw runtimeException;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException(cause);
+            }
+        }
+    }
+}
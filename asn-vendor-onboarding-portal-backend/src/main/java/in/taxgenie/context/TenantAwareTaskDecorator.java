@@ -1,30 +1,59 @@
 package in.taxgenie.context;
 
 import in.taxgenie.multitenancy.context.TenantContext;
+import org.slf4j.MDC;
 import org.springframework.core.task.TaskDecorator;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+
 /**
  * Task decorator that preserves tenant context across async operations
  * Ensures multi-tenancy is maintained in background tasks
+ * Boot's auto-configured application task executor picks this bean up, so @Async methods,
+ * MVC async requests and parallel reads all run with the submitting thread's tenant,
+ * schema, security context and MDC.
  */
 @Component
 public class TenantAwareTaskDecorator implements TaskDecorator {
 
     @Override
     public Runnable decorate(Runnable runnable) {
-        // Capture the current tenant context
-        Long tenantId = TenantContext.getCurrentTenant();
+        // Capture the submitting thread's context
+        TenantContext.Snapshot tenant = TenantContext.snapshot();
+        SecurityContext securityContext = SecurityContextHolder.getContext();
+        Map<String, String> mdc = MDC.getCopyOfContextMap();
 
         return () -> {
+            // Remember the running thread's own context; with caller-runs the task executes
+            // on the submitting thread, whose context must survive the task
+            TenantContext.Snapshot previousTenant = TenantContext.snapshot();
+            SecurityContext previousSecurityContext = SecurityContextHolder.getContext();
+            Map<String, String> previousMdc = MDC.getCopyOfContextMap();
             try {
-                // Set the tenant context before running the task
-                TenantContext.setCurrentTenant(tenantId);
+                apply(tenant, securityContext, mdc);
                 runnable.run();
             } finally {
-                // Clear the tenant context after execution
-                TenantContext.clear();
+                apply(previousTenant, previousSecurityContext, previousMdc);
             }
         };
     }
+
+    private static void apply(TenantContext.Snapshot tenant, SecurityContext securityContext, Map<String, String> mdc) {
+        TenantContext.restore(tenant);
+
+        if (securityContext == null || securityContext.getAuthentication() == null) {
+            SecurityContextHolder.clearContext();
+        } else {
+            SecurityContextHolder.setContext(securityContext);
+        }
+
+        if (mdc == null) {
+            MDC.clear();
+        } else {
+            MDC.setContextMap(mdc);
+        }
+    }
 }
@@ -0,0 +1,137 @@
+package in.taxgenie.controllers;
+
+import in.taxgenie.auth.IAuthContextFactory;
+import in.taxgenie.auth.IAuthContextViewModel;
+import in.taxgenie.entities.enums.RollupGranularity;
+import in.taxgenie.exception.ResourceNotFoundException;
+import in.taxgenie.services.interfaces.IApiUsageAnalyticsService;
+import in.taxgenie.viewmodels.analytics.ApiUsageSeriesViewModel;
+import in.taxgenie.viewmodels.response.ServerResponseFactory;
+import in.taxgenie.viewmodels.response.ServerResponseViewModel;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * REST Controller for API usage analytics served from pre-aggregated rollups
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/analytics/api-usage")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "API Usage Analytics", description = "APIs for API usage charts backed by minute/hour/day rollups")
+public class ApiUsageAnalyticsController {
+
+    private static final int DEFAULT_WINDOW_DAYS = 7;
+
+    private final IApiUsageAnalyticsService apiUsageAnalyticsService;
+    private final IAuthContextFactory authContextFactory;
+
+    @Operation(summary = "Get vendor API usage", description = "Usage series for the authenticated vendor, optionally restricted to one OEM")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Usage retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid time window"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping
+    public ResponseEntity<ServerResponseViewModel<ApiUsageSeriesViewModel>> getVendorUsage(
+            @RequestParam(required = false) UUID oemId,
+            @RequestParam(required = false) RollupGranularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        try {
+            IAuthContextViewModel auth = authContextFactory.getAuthContext(SecurityContextHolder.getContext());
+            LocalDateTime endTime = to != null ? to : LocalDateTime.now();
+            LocalDateTime startTime = from != null ? from : endTime.minusDays(DEFAULT_WINDOW_DAYS);
+
+            ApiUsageSeriesViewModel response = apiUsageAnalyticsService.getVendorUsage(auth, oemId, granularity, startTime, endTime);
+            return ResponseEntity.ok(ServerResponseFactory.success(response, "API usage retrieved successfully"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ServerResponseFactory.validationError(e.getMessage()));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ServerResponseFactory.notFound(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error getting vendor API usage", e);
+            return ResponseEntity.internalServerError()
+                    .body(ServerResponseFactory.error("Failed to retrieve API usage"));
+        }
+    }
+
+    @Operation(summary = "Get API credential usage", description = "Usage series for one API credential of the authenticated vendor")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Usage retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid time window"),
+        @ApiResponse(responseCode = "404", description = "Credential not found"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @GetMapping("/credentials/{credentialId}")
+    public ResponseEntity<ServerResponseViewModel<ApiUsageSeriesViewModel>> getCredentialUsage(
+            @PathVariable UUID credentialId,
+            @RequestParam(required = false) RollupGranularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        try {
+            IAuthContextViewModel auth = authContextFactory.getAuthContext(SecurityContextHolder.getContext());
+            LocalDateTime endTime = to != null ? to : LocalDateTime.now();
+            LocalDateTime startTime = from != null ? from : endTime.minusDays(DEFAULT_WINDOW_DAYS);
+
+            ApiUsageSeriesViewModel response = apiUsageAnalyticsService.getCredentialUsage(auth, credentialId, granularity, startTime, endTime);
+            return ResponseEntity.ok(ServerResponseFactory.success(response, "API usage retrieved successfully"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ServerResponseFactory.validationError(e.getMessage()));
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ServerResponseFactory.notFound(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error getting API usage for credential: {}", credentialId, e);
+            return ResponseEntity.internalServerError()
+                    .body(ServerResponseFactory.error("Failed to retrieve API usage"));
+        }
+    }
+
+    @Operation(summary = "Get OEM-wide API usage", description = "Usage series for an OEM across all vendors (admin only)")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Usage retrieved successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid time window"),
+        @ApiResponse(responseCode = "403", description = "Access denied"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/oems/{oemId}")
+    public ResponseEntity<ServerResponseViewModel<ApiUsageSeriesViewModel>> getOemUsage(
+            @PathVariable UUID oemId,
+            @RequestParam(required = false) RollupGranularity granularity,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+
+        try {
+            LocalDateTime endTime = to != null ? to : LocalDateTime.now();
+            LocalDateTime startTime = from != null ? from : endTime.minusDays(DEFAULT_WINDOW_DAYS);
+
+            ApiUsageSeriesViewModel response = apiUsageAnalyticsService.getOemUsage(oemId, granularity, startTime, endTime);
+            return ResponseEntity.ok(ServerResponseFactory.success(response, "API usage retrieved successfully"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ServerResponseFactory.validationError(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error getting OEM API usage for OEM: {}", oemId, e);
+            return ResponseEntity.internalServerError()
+                    .body(ServerResponseFactory.error("Failed to retrieve API usage"));
+        }
+    }
+}
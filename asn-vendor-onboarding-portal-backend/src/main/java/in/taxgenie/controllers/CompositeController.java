@@ -0,0 +1,59 @@
+package in.taxgenie.controllers;
+
+import in.taxgenie.composite.CompositeRequestDispatcher;
+import in.taxgenie.viewmodels.composite.CompositeRequestViewModel;
+import in.taxgenie.viewmodels.composite.CompositeResponseViewModel;
+import in.taxgenie.viewmodels.response.ServerResponseFactory;
+import in.taxgenie.viewmodels.response.ServerResponseViewModel;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST Controller for composite calls that answer several GET routes in one round trip
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/composite")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Composite Requests", description = "APIs for running several GET routes in one authenticated call")
+public class CompositeController {
+
+    private final CompositeRequestDispatcher compositeRequestDispatcher;
+
+    @Operation(summary = "Execute composite request",
+               description = "Runs the listed GET sub-requests concurrently and returns one part per sub-request with its own status, headers and body")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Sub-requests executed; see each part for its status"),
+        @ApiResponse(responseCode = "400", description = "Too many sub-requests or duplicate IDs"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PostMapping
+    public ResponseEntity<ServerResponseViewModel<CompositeResponseViewModel>> execute(
+            @Valid @RequestBody CompositeRequestViewModel compositeRequest,
+            HttpServletRequest request,
+            HttpServletResponse response) {
+
+        try {
+            CompositeResponseViewModel result = compositeRequestDispatcher.dispatch(request, response, compositeRequest.getRequests());
+            return ResponseEntity.ok(ServerResponseFactory.success(result, "Composite request executed"));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ServerResponseFactory.validationError(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Error executing composite request", e);
+            return ResponseEntity.internalServerError()
+                    .body(ServerResponseFactory.error("Failed to execute composite request"));
+        }
+    }
+}
@@ -5,7 +5,10 @@ import in.taxgenie.auth.IAuthContextViewModel;
 import in.taxgenie.response.interfaces.factory.IServerResponseFactory;
 import in.taxgenie.response.interfaces.infra.IServerResponseWithBody;
 import in.taxgenie.services.interfaces.IDashboardService;
+import in.taxgenie.services.interfaces.IResourceVersionService;
+import in.taxgenie.utils.ConditionalResponses;
 import in.taxgenie.viewmodels.dashboard.DashboardStatsViewModel;
+import in.taxgenie.viewmodels.dashboard.OemOverviewViewModel;
 import in.taxgenie.viewmodels.dashboard.ProgressViewModel;
 import in.taxgenie.viewmodels.dashboard.UserProfileViewModel;
 import lombok.extern.slf4j.Slf4j;
@@ -13,9 +16,11 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import jakarta.validation.Valid;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * REST Controller for dashboard operations
@@ -37,6 +42,9 @@ public class DashboardController {
     @Autowired
     private IServerResponseFactory serverResponseFactory;
 
+    @Autowired
+    private IResourceVersionService resourceVersionService;
+
     /**
      * Test endpoint to verify dashboard APIs are working
      */
@@ -57,22 +65,31 @@ public class DashboardController {
      * Get dashboard statistics
      */
     @GetMapping("/stats/{id}")
-    public ResponseEntity<IServerResponseWithBody<DashboardStatsViewModel>> getDashboardStats(@PathVariable String id) {
+    public ResponseEntity<IServerResponseWithBody<DashboardStatsViewModel>> getDashboardStats(@PathVariable String id, WebRequest webRequest) {
         log.info("Getting dashboard stats for OEM ID: {}", id);
 
         try {
             IAuthContextViewModel auth = authContextFactory.getAuthContext(SecurityContextHolder.getContext());
 
+            Optional<String> eTag = resourceVersionService.getDashboardETag(auth.getCompanyCode(), id, "stats");
+            if (ConditionalResponses.isNotModified(webRequest, eTag)) {
+                return ConditionalResponses.notModified(eTag);
+            }
+
             DashboardStatsViewModel stats = dashboardService.getDashboardStats(
                 String.valueOf(auth.getUserId()),
                 id,
-                String.valueOf(auth.getCompanyCode())
+                String.valueOf(auth.getCompanyCode()),
+                eTag.orElse(null)
             );
 
             log.info("Successfully retrieved dashboard stats for OEM ID: {}", id);
             IServerResponseWithBody<DashboardStatsViewModel> response = serverResponseFactory
                     .getServerResponseWithBody(200, "Dashboard stats retrieved successfully", true, stats);
-            return ResponseEntity.ok(response);
+            if (stats.isDegraded()) {
+                return ConditionalResponses.noStore(response);
+            }
+            return ConditionalResponses.ok(response, eTag);
 
         } catch (Exception e) {
             log.error("Error getting dashboard stats for OEM ID: {}", id, e);
@@ -86,22 +103,31 @@ public class DashboardController {
      * Get onboarding progress
      */
     @GetMapping("/onboarding-progress/{id}")
-    public ResponseEntity<IServerResponseWithBody<ProgressViewModel>> getOnboardingProgress(@PathVariable String id) {
+    public ResponseEntity<IServerResponseWithBody<ProgressViewModel>> getOnboardingProgress(@PathVariable String id, WebRequest webRequest) {
         log.info("Getting onboarding progress for OEM ID: {}", id);
 
         try {
             IAuthContextViewModel auth = authContextFactory.getAuthContext(SecurityContextHolder.getContext());
 
+            Optional<String> eTag = resourceVersionService.getDashboardETag(auth.getCompanyCode(), id, "onboarding-progress");
+            if (ConditionalResponses.isNotModified(webRequest, eTag)) {
+                return ConditionalResponses.notModified(eTag);
+            }
+
             ProgressViewModel progress = dashboardService.getOnboardingProgress(
                 String.valueOf(auth.getUserId()),
                 id,
-                String.valueOf(auth.getCompanyCode())
+                String.valueOf(auth.getCompanyCode()),
+                eTag.orElse(null)
             );
 
             log.info("Successfully retrieved onboarding progress for OEM ID: {}", id);
             IServerResponseWithBody<ProgressViewModel> response = serverResponseFactory
                     .getServerResponseWithBody(200, "Onboarding progress retrieved successfully", true, progress);
-            return ResponseEntity.ok(response);
+            if (progress.isDegraded()) {
+                return ConditionalResponses.noStore(response);
+            }
+            return ConditionalResponses.ok(response, eTag);
 
         } catch (Exception e) {
             log.error("Error getting onboarding progress for OEM ID: {}", id, e);
@@ -115,22 +141,31 @@ public class DashboardController {
      * Get implementation progress
      */
     @GetMapping("/implementation-progress/{id}")
-    public ResponseEntity<IServerResponseWithBody<ProgressViewModel>> getImplementationProgress(@PathVariable String id) {
+    public ResponseEntity<IServerResponseWithBody<ProgressViewModel>> getImplementationProgress(@PathVariable String id, WebRequest webRequest) {
         log.info("Getting implementation progress for OEM ID: {}", id);
 
         try {
             IAuthContextViewModel auth = authContextFactory.getAuthContext(SecurityContextHolder.getContext());
 
+            Optional<String> eTag = resourceVersionService.getDashboardETag(auth.getCompanyCode(), id, "implementation-progress");
+            if (ConditionalResponses.isNotModified(webRequest, eTag)) {
+                return ConditionalResponses.notModified(eTag);
+            }
+
             ProgressViewModel progress = dashboardService.getImplementationProgress(
                 String.valueOf(auth.getUserId()),
                 id,
-                String.valueOf(auth.getCompanyCode())
+                String.valueOf(auth.getCompanyCode()),
+                eTag.orElse(null)
             );
 
             log.info("Successfully retrieved implementation progress for OEM ID: {}", id);
             IServerResponseWithBody<ProgressViewModel> response = serverResponseFactory
                     .getServerResponseWithBody(200, "Implementation progress retrieved successfully", true, progress);
-            return ResponseEntity.ok(response);
+            if (progress.isDegraded()) {
+                return ConditionalResponses.noStore(response);
+            }
+            return ConditionalResponses.ok(response, eTag);
 
         } catch (Exception e) {
             log.error("Error getting implementation progress for OEM ID: {}", id, e);
@@ -201,22 +236,32 @@ public class DashboardController {
      * Get quick actions
      */
     @GetMapping("/quick-actions/{id}")
-    public ResponseEntity<IServerResponseWithBody<List<IDashboardService.QuickActionViewModel>>> getQuickActions(@PathVariable String id) {
+    public ResponseEntity<IServerResponseWithBody<List<IDashboardService.QuickActionViewModel>>> getQuickActions(@PathVariable String id, WebRequest webRequest) {
         log.info("Getting quick actions for OEM ID: {}", id);
 
         try {
             IAuthContextViewModel auth = authContextFactory.getAuthContext(SecurityContextHolder.getContext());
 
+            Optional<String> eTag = resourceVersionService.getDashboardETag(auth.getCompanyCode(), id, "quick-actions");
+            if (ConditionalResponses.isNotModified(webRequest, eTag)) {
+                return ConditionalResponses.notModified(eTag);
+            }
+
             List<IDashboardService.QuickActionViewModel> actions = dashboardService.getQuickActions(
                 String.valueOf(auth.getUserId()),
                 id,
-                String.valueOf(auth.getCompanyCode())
+                String.valueOf(auth.getCompanyCode()),
+                eTag.orElse(null)
             );
 
             log.info("Successfully retrieved quick actions for OEM ID: {}", id);
             IServerResponseWithBody<List<IDashboardService.QuickActionViewModel>> response = serverResponseFactory
                     .getServerResponseWithBody(200, "Quick actions retrieved successfully", true, actions);
-            return ResponseEntity.ok(response);
+            // Empty when loading failed, so it may be a placeholder
+            if (actions.isEmpty()) {
+                return ConditionalResponses.noStore(response);
+            }
+            return ConditionalResponses.ok(response, eTag);
 
         } catch (Exception e) {
             log.error("Error getting quick actions for OEM ID: {}", id, e);
@@ -226,6 +271,35 @@ public class DashboardController {
         }
     }
 
+    /**
+     * Get onboarding, subscription and access status for every OEM the vendor is linked to
+     * Replaces one stats and one progress call per OEM on the OEM picker.
+     */
+    @GetMapping("/oem-overview")
+    public ResponseEntity<IServerResponseWithBody<List<OemOverviewViewModel>>> getOemOverview() {
+        log.info("Getting OEM overview");
+
+        try {
+            IAuthContextViewModel auth = authContextFactory.getAuthContext(SecurityContextHolder.getContext());
+
+            List<OemOverviewViewModel> overview = dashboardService.getOemOverview(
+                String.valueOf(auth.getUserId()),
+                String.valueOf(auth.getCompanyCode())
+            );
+
+            log.info("Successfully retrieved OEM overview with {} OEMs", overview.size());
+            IServerResponseWithBody<List<OemOverviewViewModel>> response = serverResponseFactory
+                    .getServerResponseWithBody(200, "OEM overview retrieved successfully", true, overview);
+            return ResponseEntity.ok(response);
+
+        } catch (Exception e) {
+            log.error("Error getting OEM overview", e);
+            IServerResponseWithBody<List<OemOverviewViewModel>> response = serverResponseFactory
+                    .getServerResponseWithBody(500, "Failed to get OEM overview: " + e.getMessage(), false, null);
+            return ResponseEntity.internalServerError().body(response);
+        }
+    }
+
     /**
      * Get recent activities
      */
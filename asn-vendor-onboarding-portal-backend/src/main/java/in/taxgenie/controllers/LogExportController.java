@@ -0,0 +1,132 @@
+package in.taxgenie.controllers;
+
+import in.taxgenie.auth.IAuthContextFactory;
+import in.taxgenie.auth.IAuthContextViewModel;
+import in.taxgenie.exception.ResourceNotFoundException;
+import in.taxgenie.services.interfaces.ILogExportService;
+import in.taxgenie.viewmodels.export.ExportFormat;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
+
+/**
+ * REST Controller for compliance exports of audit trails and API usage.
+ * Responses are streamed from a database cursor on the MVC async executor, so the
+ * servlet thread is released as soon as headers are written.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/exports")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Log Exports", description = "APIs for streaming audit and API request log exports")
+public class LogExportController {
+
+    private static final int DEFAULT_WINDOW_DAYS = 30;
+    private static final DateTimeFormatter FILE_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    private final ILogExportService logExportService;
+    private final IAuthContextFactory authContextFactory;
+
+    @Operation(summary = "Export audit logs", description = "Stream audit logs for the authenticated vendor as CSV or NDJSON, optionally gzipped")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export streamed successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid export window"),
+        @ApiResponse(responseCode = "404", description = "Vendor not found")
+    })
+    @GetMapping("/audit-logs")
+    public ResponseEntity<StreamingResponseBody> exportAuditLogs(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+
+        IAuthContextViewModel auth = authContextFactory.getAuthContext(SecurityContextHolder.getContext());
+        LocalDateTime endTime = to != null ? to : LocalDateTime.now();
+        LocalDateTime startTime = from != null ? from : endTime.minusDays(DEFAULT_WINDOW_DAYS);
+        if (!startTime.isBefore(endTime)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        UUID vendorId;
+        try {
+            vendorId = logExportService.resolveVendorId(auth);
+        } catch (ResourceNotFoundException e) {
+            log.warn("No vendor for audit log export: {}", e.getMessage());
+            return ResponseEntity.notFound().build();
+        }
+
+        log.info("Streaming audit log export for vendor: {}", vendorId);
+        StreamingResponseBody body = outputStream ->
+                logExportService.exportAuditLogs(vendorId, startTime, endTime, format, gzip, outputStream);
+
+        return buildStreamingResponse("audit-logs", startTime, endTime, format, gzip, body);
+    }
+
+    @Operation(summary = "Export API request logs", description = "Stream API request logs for the authenticated vendor, optionally for a single OEM, as CSV or NDJSON")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Export streamed successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid export window"),
+        @ApiResponse(responseCode = "404", description = "Vendor not found")
+    })
+    @GetMapping("/api-request-logs")
+    public ResponseEntity<StreamingResponseBody> exportApiRequestLogs(
+            @RequestParam(required = false) UUID oemId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(defaultValue = "CSV") ExportFormat format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+
+        IAuthContextViewModel auth = authContextFactory.getAuthContext(SecurityContextHolder.getContext());
+        LocalDateTime endTime = to != null ? to : LocalDateTime.now();
+        LocalDateTime startTime = from != null ? from : endTime.minusDays(DEFAULT_WINDOW_DAYS);
+        if (!startTime.isBefore(endTime)) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        UUID vendorId;
+        try {
+            vendorId = logExportService.resolveVendorId(auth);
+        } catch (ResourceNotFoundException e) {
+            log.warn("No vendor for API request log export: {}", e.getMessage());
+            return ResponseEntity.notFound().build();
+        }
+
+        log.info("Streaming API request log export for vendor: {} and OEM: {}", vendorId, oemId);
+        StreamingResponseBody body = outputStream ->
+                logExportService.exportApiRequestLogs(vendorId, oemId, startTime, endTime, format, gzip, outputStream);
+
+        return buildStreamingResponse("api-request-logs", startTime, endTime, format, gzip, body);
+    }
+
+    private ResponseEntity<StreamingResponseBody> buildStreamingResponse(String prefix, LocalDateTime startTime,
+                                                                         LocalDateTime endTime, ExportFormat format,
+                                                                         boolean gzip, StreamingResponseBody body) {
+        String fileName = String.format("%s-%s-%s.%s%s", prefix,
+                startTime.format(FILE_DATE_FORMATTER), endTime.format(FILE_DATE_FORMATTER),
+                format.getFileExtension(), gzip ? ".gz" : "");
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                .header(HttpHeaders.CACHE_CONTROL, "no-store")
+                .body(body);
+    }
+}
@@ -5,14 +5,25 @@ import in.taxgenie.auth.IAuthContextFactory;
 import in.taxgenie.response.interfaces.factory.IServerResponseFactory;
 import in.taxgenie.response.interfaces.infra.IServerResponseWithBody;
 import in.taxgenie.services.interfaces.IOnboardingService;
+import in.taxgenie.services.interfaces.IResourceVersionService;
+import in.taxgenie.streaming.OnboardingProgressStreams;
+import in.taxgenie.utils.ConditionalResponses;
 import in.taxgenie.viewmodels.onboarding.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import jakarta.validation.Valid;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * REST Controller for onboarding operations
@@ -30,6 +41,11 @@ public class OnboardingController {
     private final IOnboardingService onboardingService;
     private final IAuthContextFactory authContextFactory;
     private final IServerResponseFactory serverResponseFactory;
+    private final IResourceVersionService resourceVersionService;
+    private final OnboardingProgressStreams progressStreams;
+
+    @Value("${asn.vendor.portal.streams.onboarding-progress.replay-limit:100}")
+    private int streamReplayLimit;
 
     /**
      * Test endpoint to verify onboarding APIs are working
@@ -120,15 +136,20 @@ public class OnboardingController {
      * @return onboarding progress information
      */
     @GetMapping("/progress/{id}")
-    public ResponseEntity<IServerResponseWithBody<OnboardingProgressViewModel>> getOnboardingProgress(@PathVariable String id) {
+    public ResponseEntity<IServerResponseWithBody<OnboardingProgressViewModel>> getOnboardingProgress(@PathVariable String id, WebRequest webRequest) {
         log.info("Getting onboarding progress for OEM ID: {}", id);
 
         try {
             IAuthContextViewModel auth = authContextFactory.getAuthContext(SecurityContextHolder.getContext());
+
+            Optional<String> eTag = resourceVersionService.getOnboardingProgressETag(auth.getCompanyCode(), id);
+            if (ConditionalResponses.isNotModified(webRequest, eTag)) {
+                return ConditionalResponses.notModified(eTag);
+            }
             OnboardingProgressViewModel progress = onboardingService.getOnboardingProgress(auth, id);
             IServerResponseWithBody<OnboardingProgressViewModel> response = serverResponseFactory
                     .getServerResponseWithBody(200, "Onboarding progress retrieved successfully", true, progress);
-            return ResponseEntity.ok(response);
+            return ConditionalResponses.ok(response, eTag);
         } catch (Exception e) {
             log.error("Error getting onboarding progress for OEM ID: {}", id, e);
             IServerResponseWithBody<OnboardingProgressViewModel> response = serverResponseFactory
@@ -137,6 +158,55 @@ public class OnboardingController {
         }
     }
 
+    /**
+     * Stream live onboarding progress for a specific OEM as server-sent events
+     * Sends "onboarding-event" for each new event and "progress" whenever the progress changes.
+     * A reconnecting client gets the events it missed via the Last-Event-ID header.
+     *
+     * @param id the OEM ID
+     * @param lastEventId ID of the last event the client received, sent automatically on reconnect
+     * @return event stream, 403 for a user without a company, or 429 when the tenant already has
+     * its maximum number of streams open
+     */
+    @GetMapping(value = "/progress/{id}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamOnboardingProgress(
+            @PathVariable String id,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        log.info("Opening onboarding progress stream for OEM ID: {}, resuming after: {}", id, lastEventId);
+
+        IAuthContextViewModel auth = authContextFactory.getAuthContext(SecurityContextHolder.getContext());
+        // A token without a company carries 0; such users have no onboarding to follow
+        if (auth.getCompanyCode() <= 0) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        Optional<OnboardingProgressStreams.Subscription> opened = progressStreams.open(auth.getCompanyCode(), id);
+        if (opened.isEmpty()) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).build();
+        }
+
+        OnboardingProgressStreams.Subscription subscription = opened.get();
+        try {
+            List<OnboardingStreamEventViewModel> replay = onboardingService
+                    .getOnboardingEventsSince(auth, id, lastEventId, streamReplayLimit);
+            OnboardingProgressViewModel progress = onboardingService.getOnboardingProgress(auth, id);
+            String snapshotEventId = !replay.isEmpty()
+                    ? replay.get(replay.size() - 1).getEventId()
+                    : onboardingService.getLatestOnboardingEvent(auth, id)
+                        .map(OnboardingStreamEventViewModel::getEventId)
+                        .orElse(null);
+
+            progressStreams.sendInitial(subscription, replay, progress, snapshotEventId);
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noStore())
+                    .header("X-Accel-Buffering", "no")
+                    .body(subscription.getEmitter());
+        } catch (Exception e) {
+            log.error("Error opening onboarding progress stream for OEM ID: {}", id, e);
+            subscription.close();
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
     @GetMapping("/vendor/by-gstin/{gstin}")
     public ResponseEntity<IServerResponseWithBody<VendorCheckResponseViewModel>> findVendorByGstin(@PathVariable String gstin) {
         log.info("Received request to find vendor by GSTIN: {}", gstin);
@@ -0,0 +1,73 @@
+package in.taxgenie.controllers;
+
+import in.taxgenie.services.interfaces.IOnboardingFunnelService;
+import in.taxgenie.viewmodels.analytics.OnboardingFunnelViewModel;
+import in.taxgenie.viewmodels.response.ServerResponseFactory;
+import in.taxgenie.viewmodels.response.ServerResponseViewModel;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * REST Controller for OEM onboarding funnel analytics served from the materialized funnel
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/analytics/onboarding-funnel")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Onboarding Funnel Analytics", description = "APIs for per-OEM onboarding funnel counts (admin only)")
+public class OnboardingFunnelController {
+
+    private final IOnboardingFunnelService onboardingFunnelService;
+
+    @Operation(summary = "Get OEM onboarding funnel", description = "Vendors per onboarding step and status, completion rate and stale processes for an OEM")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Funnel retrieved successfully"),
+        @ApiResponse(responseCode = "403", description = "Access denied"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/oems/{oemId}")
+    public ResponseEntity<ServerResponseViewModel<OnboardingFunnelViewModel>> getOemFunnel(@PathVariable UUID oemId) {
+        try {
+            OnboardingFunnelViewModel response = onboardingFunnelService.getOemFunnel(oemId);
+            return ResponseEntity.ok(ServerResponseFactory.success(response, "Onboarding funnel retrieved successfully"));
+        } catch (Exception e) {
+            log.error("Error getting onboarding funnel for OEM: {}", oemId, e);
+            return ResponseEntity.internalServerError()
+                    .body(ServerResponseFactory.error("Failed to retrieve onboarding funnel"));
+        }
+    }
+
+    @Operation(summary = "Reconcile OEM onboarding funnel", description = "Rebuild the funnel of an OEM from its onboarding processes without waiting for the scheduled run")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Funnel reconciled successfully"),
+        @ApiResponse(responseCode = "403", description = "Access denied"),
+        @ApiResponse(responseCode = "500", description = "Internal server error")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/oems/{oemId}/reconcile")
+    public ResponseEntity<ServerResponseViewModel<OnboardingFunnelViewModel>> reconcileOemFunnel(@PathVariable UUID oemId) {
+        try {
+            long drift = onboardingFunnelService.reconcileOemFunnel(oemId);
+            OnboardingFunnelViewModel response = onboardingFunnelService.getOemFunnel(oemId);
+            return ResponseEntity.ok(ServerResponseFactory.success(response,
+                    "Onboarding funnel reconciled, vendor total corrected by " + drift));
+        } catch (Exception e) {
+            log.error("Error reconciling onboarding funnel for OEM: {}", oemId, e);
+            return ResponseEntity.internalServerError()
+                    .body(ServerResponseFactory.error("Failed to reconcile onboarding funnel"));
+        }
+    }
+}
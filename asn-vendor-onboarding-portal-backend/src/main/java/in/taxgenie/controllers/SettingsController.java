@@ -4,6 +4,8 @@ import in.taxgenie.auth.IAuthContextFactory;
 import in.taxgenie.auth.IAuthContextViewModel;
 import in.taxgenie.response.interfaces.infra.IServerResponseWithBody;
 import in.taxgenie.services.interfaces.ISettingsService;
+import in.taxgenie.services.interfaces.IResourceVersionService;
+import in.taxgenie.utils.ConditionalResponses;
 import in.taxgenie.viewmodels.onboarding.ApiCredentialsResponseViewModel;
 import in.taxgenie.viewmodels.settings.*;
 import in.taxgenie.viewmodels.response.ServerResponseFactory;
@@ -20,7 +22,9 @@ import org.springframework.data.web.PageableDefault;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -40,24 +44,32 @@ public class SettingsController {
 
     private final ISettingsService settingsService;
     private final IAuthContextFactory authContextFactory;
+    private final IResourceVersionService resourceVersionService;
 
     // ==================== Company Information APIs ====================
 
     @Operation(summary = "Get company information", description = "Retrieve current company information for the authenticated vendor")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Company information retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Unchanged since the ETag sent in If-None-Match"),
         @ApiResponse(responseCode = "404", description = "Company not found"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/company-info")
-    public ResponseEntity<ServerResponseViewModel<CompanyInfoResponseViewModel>> getCompanyInfo() {
+    public ResponseEntity<ServerResponseViewModel<CompanyInfoResponseViewModel>> getCompanyInfo(WebRequest webRequest) {
 
         try {
             IAuthContextViewModel auth = authContextFactory.getAuthContext(SecurityContextHolder.getContext());
+
+            Optional<String> eTag = resourceVersionService.getCompanyInfoETag(auth.getCompanyCode());
+            if (ConditionalResponses.isNotModified(webRequest, eTag)) {
+                return ConditionalResponses.notModified(eTag);
+            }
+
             log.info("Getting company info for vendor: {}", auth.getUserId());
 
             CompanyInfoResponseViewModel response = settingsService.getCompanyInfo(auth);
-            return ResponseEntity.ok(ServerResponseFactory.success(response, "Company information retrieved successfully"));
+            return ConditionalResponses.ok(ServerResponseFactory.success(response, "Company information retrieved successfully"), eTag);
         } catch (Exception e) {
             log.error("Error getting company info", e);
             return ResponseEntity.internalServerError()
@@ -94,20 +106,26 @@ public class SettingsController {
     @Operation(summary = "Get GSTIN management data", description = "Retrieve all GSTIN information for the authenticated vendor")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "GSTIN data retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Unchanged since the ETag sent in If-None-Match"),
         @ApiResponse(responseCode = "500", description = "Internal server error")
     })
     @GetMapping("/gstin-management")
     // Update the method to accept a Pageable parameter
     public ResponseEntity<ServerResponseViewModel<GstinManagementViewModel>> getGstinManagement(
-            @PageableDefault(page = 0, size = 5) Pageable pageable) {
+            @PageableDefault(page = 0, size = 5) Pageable pageable, WebRequest webRequest) {
 
         log.info("Getting GSTIN management, page: {}, size: {}", pageable.getPageNumber(), pageable.getPageSize());
         try {
             IAuthContextViewModel auth = authContextFactory.getAuthContext(SecurityContextHolder.getContext());
+
+            Optional<String> eTag = resourceVersionService.getGstinManagementETag(auth.getCompanyCode(), pageable);
+            if (ConditionalResponses.isNotModified(webRequest, eTag)) {
+                return ConditionalResponses.notModified(eTag);
+            }
             GstinManagementViewModel gstinManagement = settingsService.getGstinManagement(auth, pageable);
 
             // Use the same static ServerResponseFactory as all other methods
-            return ResponseEntity.ok(ServerResponseFactory.success(gstinManagement, "GSTIN data retrieved successfully"));
+            return ConditionalResponses.ok(ServerResponseFactory.success(gstinManagement, "GSTIN data retrieved successfully"), eTag);
 
         } catch (Exception e) {
             log.error("Error getting GSTIN management data", e);
@@ -0,0 +1,112 @@
+package in.taxgenie.controllers;
+
+import in.taxgenie.services.interfaces.ITenantSchemaService;
+import in.taxgenie.viewmodels.response.ServerResponseFactory;
+import in.taxgenie.viewmodels.response.ServerResponseViewModel;
+import in.taxgenie.viewmodels.tenancy.TenantSchemaMigrationViewModel;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.function.Supplier;
+
+/**
+ * REST Controller for moving tenants between the shared schema and dedicated schemas
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@RestController
+@RequestMapping("/admin/tenant-schemas")
+@RequiredArgsConstructor
+@Slf4j
+@Tag(name = "Tenant Schemas", description = "APIs for online migration of tenants between shared and dedicated schemas (admin only)")
+public class TenantSchemaController {
+
+    private final ITenantSchemaService tenantSchemaService;
+
+    @Operation(summary = "Get tenant schema placement", description = "Mode, active schema and the tenant's row counts in both schemas")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Placement retrieved successfully"),
+        @ApiResponse(responseCode = "403", description = "Access denied"),
+        @ApiResponse(responseCode = "409", description = "Schema-per-tenant routing is disabled")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/{companyCode}")
+    public ResponseEntity<ServerResponseViewModel<TenantSchemaMigrationViewModel>> getStatus(@PathVariable Long companyCode) {
+        return run(companyCode, "Tenant schema placement retrieved successfully", () -> tenantSchemaService.getStatus(companyCode));
+    }
+
+    @Operation(summary = "Prepare dedicated schema", description = "Create the dedicated schema and tenant-owned tables for a shared tenant")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Schema prepared successfully"),
+        @ApiResponse(responseCode = "400", description = "Invalid schema name"),
+        @ApiResponse(responseCode = "403", description = "Access denied"),
+        @ApiResponse(responseCode = "409", description = "Tenant is not in a state that allows this step")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/{companyCode}/prepare")
+    public ResponseEntity<ServerResponseViewModel<TenantSchemaMigrationViewModel>> prepare(@PathVariable Long companyCode,
+                                                                                         @RequestParam String schemaName) {
+        return run(companyCode, "Dedicated schema prepared", () -> tenantSchemaService.prepare(companyCode, schemaName));
+    }
+
+    @Operation(summary = "Copy tenant rows", description = "Copy the tenant's changed rows from its active schema to the other one; repeat until few rows change")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Rows copied successfully"),
+        @ApiResponse(responseCode = "403", description = "Access denied"),
+        @ApiResponse(responseCode = "409", description = "Tenant is not in a state that allows this step")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/{companyCode}/copy")
+    public ResponseEntity<ServerResponseViewModel<TenantSchemaMigrationViewModel>> copy(@PathVariable Long companyCode) {
+        return run(companyCode, "Tenant rows copied", () -> tenantSchemaService.copy(companyCode));
+    }
+
+    @Operation(summary = "Cut tenant over", description = "Pause the tenant's writes, then sync the last changes and switch it to the other schema in the background; poll the placement until cutoverRunning is false")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "202", description = "Writes paused and cutover started"),
+        @ApiResponse(responseCode = "403", description = "Access denied"),
+        @ApiResponse(responseCode = "409", description = "Tenant is not in a state that allows this step")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/{companyCode}/cutover")
+    public ResponseEntity<ServerResponseViewModel<TenantSchemaMigrationViewModel>> cutover(@PathVariable Long companyCode) {
+        ResponseEntity<ServerResponseViewModel<TenantSchemaMigrationViewModel>> response =
+                run(companyCode, "Tenant cutover started", () -> tenantSchemaService.cutover(companyCode));
+        return response.getStatusCode().is2xxSuccessful() ? ResponseEntity.accepted().body(response.getBody()) : response;
+    }
+
+    @Operation(summary = "Purge inactive schema", description = "Remove the tenant's rows from the schema it no longer uses")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Inactive copy removed successfully"),
+        @ApiResponse(responseCode = "403", description = "Access denied"),
+        @ApiResponse(responseCode = "409", description = "Tenant is not in a state that allows this step")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/{companyCode}/purge-inactive")
+    public ResponseEntity<ServerResponseViewModel<TenantSchemaMigrationViewModel>> purgeInactive(@PathVariable Long companyCode) {
+        return run(companyCode, "Inactive tenant copy removed", () -> tenantSchemaService.purgeInactive(companyCode));
+    }
+
+    private ResponseEntity<ServerResponseViewModel<TenantSchemaMigrationViewModel>> run(Long companyCode, String message,
+                                                                                     Supplier<TenantSchemaMigrationViewModel> step) {
+        try {
+            return ResponseEntity.ok(ServerResponseFactory.success(step.get(), message));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ServerResponseFactory.error(e.getMessage()));
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(409).body(ServerResponseFactory.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("Tenant schema step failed for tenant: {}", companyCode, e);
+            return ResponseEntity.internalServerError()
+                    .body(ServerResponseFactory.error("Tenant schema step failed"));
+        }
+    }
+}
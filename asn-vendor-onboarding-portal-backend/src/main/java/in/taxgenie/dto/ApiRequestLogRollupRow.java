@@ -0,0 +1,32 @@
+package in.taxgenie.dto;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projection of the API request log columns needed to build usage rollups.
+ * Avoids loading the jsonb payload columns of the raw log.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+public interface ApiRequestLogRollupRow {
+
+    UUID getLogId();
+
+    LocalDateTime getRequestTimestamp();
+
+    UUID getCredentialId();
+
+    UUID getVendorId();
+
+    UUID getOemId();
+
+    String getEndpoint();
+
+    Short getStatusCode();
+
+    Integer getResponseTimeMs();
+
+    String getErrorCode();
+}
@@ -0,0 +1,53 @@
+package in.taxgenie.dto;
+
+import in.taxgenie.entities.enums.AccessLevel;
+import in.taxgenie.entities.enums.AccessStatus;
+import in.taxgenie.entities.enums.OnboardingStatus;
+import in.taxgenie.entities.enums.SubscriptionStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Projection of one OEM a vendor is linked to, with its onboarding process and active
+ * subscription, as returned by the multi-OEM overview query.
+ * Onboarding and subscription columns are null when the vendor has none for the OEM.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+public interface OemOverviewRow {
+
+    UUID getOemId();
+
+    String getOemCode();
+
+    String getOemName();
+
+    String getOemFullName();
+
+    String getAsnVersion();
+
+    LocalDate getAsnDeadline();
+
+    String getVendorCode();
+
+    AccessLevel getAccessLevel();
+
+    AccessStatus getAccessStatus();
+
+    OnboardingStatus getOnboardingStatus();
+
+    String getCurrentStep();
+
+    LocalDateTime getOnboardingCompletedAt();
+
+    SubscriptionStatus getSubscriptionStatus();
+
+    LocalDate getSubscriptionEndDate();
+
+    String getPlanCode();
+
+    String getPlanName();
+}
@@ -29,7 +29,11 @@ import java.util.UUID;
 @Table(name = "api_credentials", 
        indexes = {
            @Index(name = "idx_api_credentials_vendor_oem", columnList = "vendor_id, oem_id"),
-           @Index(name = "idx_api_credentials_active", columnList = "is_active")
+           @Index(name = "idx_api_credentials_active", columnList = "is_active"),
+           @Index(name = "idx_api_credentials_company", columnList = "company_code"),
+           @Index(name = "idx_api_credentials_oem", columnList = "oem_id"),
+           @Index(name = "idx_api_credentials_gstin", columnList = "gstin"),
+           @Index(name = "idx_api_credentials_vendor_code", columnList = "vendor_code")
        },
        uniqueConstraints = {
            @UniqueConstraint(name = "uk_api_credentials_vendor_oem_env", 
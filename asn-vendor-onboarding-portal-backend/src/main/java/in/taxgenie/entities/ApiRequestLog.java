@@ -15,14 +15,15 @@ import java.util.UUID;
 
 /**
  * Entity representing API request logs
- * Maps to the api_request_logs table
+ * Maps to the api_request_logs table, partitioned by month on request_timestamp;
+ * the primary key in the database is (log_id, request_timestamp)
  * 
  * @author ASN Development Team
  * @version 1.0.0
  */
 @Entity
 @Table(name = "api_request_logs", indexes = {
-    @Index(name = "idx_api_request_logs_credential", columnList = "credential_id"),
+    @Index(name = "idx_api_request_logs_credential", columnList = "credential_id, request_timestamp"),
     @Index(name = "idx_api_request_logs_timestamp", columnList = "request_timestamp")
 })
 @Getter
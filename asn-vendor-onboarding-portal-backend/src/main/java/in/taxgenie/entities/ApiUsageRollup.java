@@ -0,0 +1,107 @@
+package in.taxgenie.entities;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import in.taxgenie.entities.enums.RollupGranularity;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entity representing a pre-aggregated bucket of API request logs
+ * Maps to the api_usage_rollups table
+ * 
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "api_usage_rollups", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_api_usage_rollups_bucket", columnNames = {"granularity", "bucket_start", "credential_id", "endpoint"})
+}, indexes = {
+    @Index(name = "idx_api_usage_rollups_oem", columnList = "oem_id, granularity, bucket_start"),
+    @Index(name = "idx_api_usage_rollups_vendor", columnList = "vendor_id, granularity, bucket_start"),
+    @Index(name = "idx_api_usage_rollups_credential", columnList = "credential_id, granularity, bucket_start")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+public class ApiUsageRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    @Column(name = "rollup_id", columnDefinition = "uuid")
+    private UUID rollupId;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "granularity", nullable = false, length = 10)
+    private RollupGranularity granularity;
+
+    @NotNull
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDateTime bucketStart;
+
+    @NotNull
+    @Column(name = "credential_id", nullable = false, columnDefinition = "uuid")
+    private UUID credentialId;
+
+    @Column(name = "vendor_id", columnDefinition = "uuid")
+    private UUID vendorId;
+
+    @Column(name = "oem_id", columnDefinition = "uuid")
+    private UUID oemId;
+
+    @NotBlank
+    @Size(max = 100)
+    @Column(name = "endpoint", nullable = false, length = 100)
+    private String endpoint;
+
+    @Builder.Default
+    @Column(name = "request_count", nullable = false)
+    private Long requestCount = 0L;
+
+    @Builder.Default
+    @Column(name = "error_count", nullable = false)
+    private Long errorCount = 0L;
+
+    @Builder.Default
+    @Column(name = "latency_count", nullable = false)
+    private Long latencyCount = 0L;
+
+    @Builder.Default
+    @Column(name = "latency_sum_ms", nullable = false)
+    private Long latencySumMs = 0L;
+
+    @Column(name = "latency_min_ms")
+    private Integer latencyMinMs;
+
+    @Column(name = "latency_max_ms")
+    private Integer latencyMaxMs;
+
+    @Column(name = "latency_sketch", columnDefinition = "bytea")
+    private byte[] latencySketch;
+
+    @Builder.Default
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    @Override
+    public String toString() {
+        return "ApiUsageRollup{" +
+                "rollupId=" + rollupId +
+                ", granularity=" + granularity +
+                ", bucketStart=" + bucketStart +
+                ", credentialId=" + credentialId +
+                ", endpoint='" + endpoint + '\'' +
+                ", requestCount=" + requestCount +
+                ", errorCount=" + errorCount +
+                '}';
+    }
+}
@@ -16,15 +16,17 @@ import java.util.UUID;
 
 /**
  * Entity representing audit logs for compliance and security
- * Maps to the audit_logs table
+ * Maps to the audit_logs table, partitioned by month on event_time;
+ * the primary key in the database is (audit_id, event_time)
  * 
  * @author ASN Development Team
  * @version 1.0.0
  */
 @Entity
 @Table(name = "audit_logs", indexes = {
-    @Index(name = "idx_audit_logs_actor", columnList = "actor_id"),
-    @Index(name = "idx_audit_logs_resource", columnList = "resource_type, resource_id"),
+    @Index(name = "idx_audit_logs_actor", columnList = "actor_id, event_time"),
+    @Index(name = "idx_audit_logs_resource", columnList = "resource_type, resource_id, event_time"),
+    @Index(name = "idx_audit_logs_resource_id", columnList = "resource_id, event_time"),
     @Index(name = "idx_audit_logs_timestamp", columnList = "event_time")
 })
 @Getter
@@ -0,0 +1,54 @@
+package in.taxgenie.entities;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing the resume position of an incremental background job
+ * Maps to the job_checkpoints table
+ * 
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "job_checkpoints")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+public class JobCheckpoint {
+
+    @Id
+    @NotBlank
+    @Size(max = 100)
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    @Column(name = "checkpoint_timestamp")
+    private LocalDateTime checkpointTimestamp;
+
+    @Size(max = 100)
+    @Column(name = "checkpoint_key", length = 100)
+    private String checkpointKey;
+
+    @Builder.Default
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    @Override
+    public String toString() {
+        return "JobCheckpoint{" +
+                "jobName='" + jobName + '\'' +
+                ", checkpointTimestamp=" + checkpointTimestamp +
+                ", checkpointKey='" + checkpointKey + '\'' +
+                ", updatedAt=" + updatedAt +
+                '}';
+    }
+}
@@ -0,0 +1,91 @@
+package in.taxgenie.entities;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import in.taxgenie.entities.enums.JobRunStatus;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entity representing one run of a cluster-scheduled background job
+ * Maps to the job_runs table. Non-sharded jobs run as shard 0 of 1.
+ * 
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "job_runs", indexes = {
+    @Index(name = "idx_job_runs_job_shard_started", columnList = "job_name, shard, started_at"),
+    @Index(name = "idx_job_runs_started", columnList = "started_at")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+public class JobRun {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    @Column(name = "run_id", columnDefinition = "uuid")
+    private UUID runId;
+
+    @NotBlank
+    @Size(max = 100)
+    @Column(name = "job_name", nullable = false, length = 100)
+    private String jobName;
+
+    @Builder.Default
+    @Column(name = "shard", nullable = false)
+    private Integer shard = 0;
+
+    @Builder.Default
+    @Column(name = "shard_count", nullable = false)
+    private Integer shardCount = 1;
+
+    @Size(max = 100)
+    @Column(name = "node_id", length = 100)
+    private String nodeId;
+
+    @NotNull
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private JobRunStatus status = JobRunStatus.RUNNING;
+
+    @Builder.Default
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt = LocalDateTime.now();
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Builder.Default
+    @Column(name = "items_processed", nullable = false)
+    private Long itemsProcessed = 0L;
+
+    @Size(max = 500)
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    @Override
+    public String toString() {
+        return "JobRun{" +
+                "runId=" + runId +
+                ", jobName='" + jobName + '\'' +
+                ", shard=" + shard +
+                ", shardCount=" + shardCount +
+                ", nodeId='" + nodeId + '\'' +
+                ", status=" + status +
+                ", startedAt=" + startedAt +
+                ", finishedAt=" + finishedAt +
+                ", itemsProcessed=" + itemsProcessed +
+                '}';
+    }
+}
@@ -9,6 +9,8 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Filter;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
@@ -35,6 +37,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+@BatchSize(size = 32)
 public class OemMaster extends BaseEntity {
 
     @Id
@@ -90,7 +93,9 @@ public class OemMaster extends BaseEntity {
     private LocalDate goLiveDate;
 
     // Relationships
+    @BatchSize(size = 32)
     @OneToMany(mappedBy = "oem", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @Filter(name = BaseEntity.COMPANY_FILTER, condition = BaseEntity.COMPANY_FILTER_CONDITION)
     @JsonManagedReference
     @Builder.Default
     private Set<VendorOemAccess> vendorOemAccesses = new HashSet<>();
@@ -23,8 +23,9 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "onboarding_events", indexes = {
-    @Index(name = "idx_onboarding_events_onboarding", columnList = "onboarding_id"),
-    @Index(name = "idx_onboarding_events_timestamp", columnList = "event_timestamp")
+    @Index(name = "idx_onboarding_events_onboarding_time", columnList = "onboarding_id, event_timestamp"),
+    @Index(name = "idx_onboarding_events_timestamp", columnList = "event_timestamp"),
+    @Index(name = "idx_onboarding_events_idempotency", columnList = "idempotency_key")
 })
 @Getter
 @Setter
@@ -0,0 +1,80 @@
+package in.taxgenie.entities;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Entity representing one cell of the materialized onboarding funnel: the number of
+ * onboarding processes of an OEM sitting at a given step with a given status
+ * Maps to the onboarding_funnel_counts table
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "onboarding_funnel_counts", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_onboarding_funnel_counts_cell", columnNames = {"oem_id", "current_step", "status"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+public class OnboardingFunnelCount {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    @Column(name = "funnel_id", columnDefinition = "uuid")
+    private UUID funnelId;
+
+    @NotNull
+    @Column(name = "oem_id", nullable = false, columnDefinition = "uuid")
+    private UUID oemId;
+
+    @NotBlank
+    @Size(max = 50)
+    @Column(name = "current_step", nullable = false, length = 50)
+    private String currentStep;
+
+    @NotBlank
+    @Size(max = 20)
+    @Column(name = "status", nullable = false, length = 20)
+    private String status;
+
+    @Builder.Default
+    @Column(name = "vendor_count", nullable = false)
+    private Long vendorCount = 0L;
+
+    /**
+     * In-progress processes in this cell not touched within the stale threshold, as of reconciledAt
+     */
+    @Builder.Default
+    @Column(name = "stale_count", nullable = false)
+    private Long staleCount = 0L;
+
+    @Column(name = "reconciled_at")
+    private LocalDateTime reconciledAt;
+
+    @Builder.Default
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    @Override
+    public String toString() {
+        return "OnboardingFunnelCount{" +
+                "oemId=" + oemId +
+                ", currentStep='" + currentStep + '\'' +
+                ", status='" + status + '\'' +
+                ", vendorCount=" + vendorCount +
+                ", staleCount=" + staleCount +
+                '}';
+    }
+}
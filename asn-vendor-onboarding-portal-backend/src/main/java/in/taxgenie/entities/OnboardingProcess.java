@@ -32,7 +32,8 @@ import java.util.UUID;
        indexes = {
            @Index(name = "idx_onboarding_process_vendor", columnList = "vendor_id"),
            @Index(name = "idx_onboarding_process_oem", columnList = "oem_id"),
-           @Index(name = "idx_onboarding_process_status", columnList = "status")
+           @Index(name = "idx_onboarding_process_status", columnList = "status"),
+           @Index(name = "idx_onboarding_process_company_oem", columnList = "company_code, oem_id")
        },
        uniqueConstraints = {
            @UniqueConstraint(name = "uk_onboarding_process_vendor_oem", 
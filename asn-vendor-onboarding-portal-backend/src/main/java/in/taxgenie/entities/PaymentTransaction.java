@@ -25,7 +25,8 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "payment_transactions", indexes = {
-    @Index(name = "idx_payment_transactions_vendor", columnList = "vendor_id"),
+    @Index(name = "idx_payment_transactions_vendor_date", columnList = "vendor_id, initiated_at"),
+    @Index(name = "idx_payment_transactions_oem_status", columnList = "oem_id, status"),
     @Index(name = "idx_payment_transactions_subscription", columnList = "subscription_id"),
     @Index(name = "idx_payment_transactions_status", columnList = "status"),
     @Index(name = "idx_payment_transactions_date", columnList = "initiated_at")
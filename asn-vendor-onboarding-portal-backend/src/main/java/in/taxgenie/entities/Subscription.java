@@ -28,8 +28,11 @@ import java.util.UUID;
        indexes = {
            @Index(name = "idx_subscriptions_vendor", columnList = "vendor_id"),
            @Index(name = "idx_subscriptions_oem", columnList = "oem_id"),
+           @Index(name = "idx_subscriptions_plan", columnList = "plan_id"),
            @Index(name = "idx_subscriptions_status", columnList = "status"),
-           @Index(name = "idx_subscriptions_dates", columnList = "start_date, end_date")
+           @Index(name = "idx_subscriptions_dates", columnList = "start_date, end_date"),
+           @Index(name = "idx_subscriptions_end_date", columnList = "end_date"),
+           @Index(name = "idx_subscriptions_next_billing", columnList = "next_billing_date")
        },
        uniqueConstraints = {
            @UniqueConstraint(name = "uk_subscriptions_vendor_oem", 
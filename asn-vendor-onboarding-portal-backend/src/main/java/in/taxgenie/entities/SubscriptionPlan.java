@@ -9,6 +9,7 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.Filter;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
@@ -111,6 +112,7 @@ public class SubscriptionPlan extends BaseEntity {
 
     // Relationships
     @OneToMany(mappedBy = "plan", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @Filter(name = BaseEntity.COMPANY_FILTER, condition = BaseEntity.COMPANY_FILTER_CONDITION)
     @JsonManagedReference
     @Builder.Default
     private Set<Subscription> subscriptions = new HashSet<>();
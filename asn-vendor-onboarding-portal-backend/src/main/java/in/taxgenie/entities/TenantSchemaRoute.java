@@ -0,0 +1,67 @@
+package in.taxgenie.entities;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import in.taxgenie.entities.enums.TenantSchemaMode;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing the schema a tenant is routed to
+ * Maps to the tenant_schema_routes table. Tenants without a row live in the shared schema.
+ * The schema name is kept while the tenant is SHARED so a migration can be prepared and
+ * copied before the cutover flips the mode; writes_frozen is only set during a cutover.
+ * 
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Entity
+@Table(name = "tenant_schema_routes", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_tenant_schema_routes_schema", columnNames = {"schema_name"})
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+public class TenantSchemaRoute {
+
+    @Id
+    @Column(name = "company_code")
+    private Long companyCode;
+
+    @NotBlank
+    @Size(max = 63)
+    @Column(name = "schema_name", nullable = false, length = 63)
+    private String schemaName;
+
+    @NotNull
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(name = "mode", nullable = false, length = 20)
+    private TenantSchemaMode mode = TenantSchemaMode.SHARED;
+
+    @Builder.Default
+    @Column(name = "writes_frozen", nullable = false)
+    private Boolean writesFrozen = false;
+
+    @Builder.Default
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    @Override
+    public String toString() {
+        return "TenantSchemaRoute{" +
+                "companyCode=" + companyCode +
+                ", schemaName='" + schemaName + '\'' +
+                ", mode=" + mode +
+                ", writesFrozen=" + writesFrozen +
+                ", updatedAt=" + updatedAt +
+                '}';
+    }
+}
@@ -10,6 +10,8 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Filter;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
@@ -27,6 +29,7 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "vendors", indexes = {
+    @Index(name = "idx_vendors_company", columnList = "company_code"),
     @Index(name = "idx_vendors_status", columnList = "status"),
     @Index(name = "idx_vendors_company_name", columnList = "company_name"),
     @Index(name = "idx_vendors_pan", columnList = "pan_number", unique = true)
@@ -37,6 +40,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+@BatchSize(size = 32)
 public class Vendor extends BaseEntity {
 
     @Id
@@ -95,32 +99,43 @@ public class Vendor extends BaseEntity {
     private LocalDateTime lastActivityAt;
 
     // Relationships
+    @BatchSize(size = 32)
     @OneToMany(mappedBy = "vendor", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @Filter(name = BaseEntity.COMPANY_FILTER, condition = BaseEntity.COMPANY_FILTER_CONDITION)
     @JsonManagedReference
     @Builder.Default
     private Set<VendorGstin> vendorGstins = new HashSet<>();
 
+    @BatchSize(size = 32)
     @OneToMany(mappedBy = "vendor", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @Filter(name = BaseEntity.COMPANY_FILTER, condition = BaseEntity.COMPANY_FILTER_CONDITION)
     @JsonManagedReference
     @Builder.Default
     private Set<VendorOemAccess> vendorOemAccesses = new HashSet<>();
 
+    @BatchSize(size = 32)
     @OneToMany(mappedBy = "vendor", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @Filter(name = BaseEntity.COMPANY_FILTER, condition = BaseEntity.COMPANY_FILTER_CONDITION)
     @JsonManagedReference
     @Builder.Default
     private Set<OnboardingProcess> onboardingProcesses = new HashSet<>();
 
+    @BatchSize(size = 32)
     @OneToMany(mappedBy = "vendor", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @Filter(name = BaseEntity.COMPANY_FILTER, condition = BaseEntity.COMPANY_FILTER_CONDITION)
     @JsonManagedReference
     @Builder.Default
     private Set<Subscription> subscriptions = new HashSet<>();
 
+    @BatchSize(size = 32)
     @OneToMany(mappedBy = "vendor", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     @JsonManagedReference
     @Builder.Default
     private Set<PaymentTransaction> paymentTransactions = new HashSet<>();
 
+    @BatchSize(size = 32)
     @OneToMany(mappedBy = "vendor", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @Filter(name = BaseEntity.COMPANY_FILTER, condition = BaseEntity.COMPANY_FILTER_CONDITION)
     @JsonManagedReference
     @Builder.Default
     private Set<ApiCredential> apiCredentials = new HashSet<>();
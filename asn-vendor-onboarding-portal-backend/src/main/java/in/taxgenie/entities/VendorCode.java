@@ -37,6 +37,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+@NamedEntityGraph(name = "VendorCode.vendorGstin", attributeNodes = @NamedAttributeNode("vendorGstin"))
 public class VendorCode extends BaseEntity {
 
     @Id
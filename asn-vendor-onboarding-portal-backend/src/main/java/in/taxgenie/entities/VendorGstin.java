@@ -10,6 +10,8 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.Filter;
 
 import java.time.LocalDateTime;
 import java.util.HashSet;
@@ -25,6 +27,7 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "vendor_gstin", indexes = {
+    @Index(name = "idx_vendor_gstin_company", columnList = "company_code"),
     @Index(name = "idx_vendor_gstin_vendor", columnList = "vendor_id"),
     @Index(name = "idx_vendor_gstin_primary", columnList = "vendor_id, is_primary")
 })
@@ -70,12 +73,16 @@ public class VendorGstin extends BaseEntity {
     private LocalDateTime verifiedAt;
 
     // Relationships
+    @BatchSize(size = 32)
     @OneToMany(mappedBy = "vendorGstin", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @Filter(name = BaseEntity.COMPANY_FILTER, condition = BaseEntity.COMPANY_FILTER_CONDITION)
     @JsonManagedReference
     @Builder.Default
     private Set<VendorCode> vendorCodes = new HashSet<>();
 
+    @BatchSize(size = 32)
     @OneToMany(mappedBy = "vendorGstin", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @Filter(name = BaseEntity.COMPANY_FILTER, condition = BaseEntity.COMPANY_FILTER_CONDITION)
     @JsonManagedReference
     @Builder.Default
     private Set<ApiCredential> apiCredentials = new HashSet<>();
@@ -42,6 +42,7 @@ import java.util.UUID;
 @AllArgsConstructor
 @Builder
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
+@NamedEntityGraph(name = "VendorOemAccess.oem", attributeNodes = @NamedAttributeNode("oem"))
 public class VendorOemAccess extends BaseEntity {
 
     @Id
@@ -23,10 +23,18 @@ import java.util.UUID;
 @Setter
 @MappedSuperclass
 @EntityListeners(AuditingEntityListener.class)
-@FilterDef(name = "companyFilter", parameters = @ParamDef(name = "companyCode", type = Long.class))
-@Filter(name = "companyFilter", condition = "company_code = :companyCode")
+@FilterDef(name = BaseEntity.COMPANY_FILTER, parameters = @ParamDef(name = "companyCode", type = Long.class))
+@Filter(name = BaseEntity.COMPANY_FILTER, condition = BaseEntity.COMPANY_FILTER_CONDITION)
 public abstract class BaseEntity {
 
+    public static final String COMPANY_FILTER = "companyFilter";
+
+    /**
+     * Hibernate applies the entity filter to queries only; one-to-many collections of tenant
+     * entities repeat it with this condition, or a lazy load would return every tenant's rows
+     */
+    public static final String COMPANY_FILTER_CONDITION = "company_code = :companyCode";
+
     /**
      * Company code for multi-tenancy support
      * This field is required for all entities to ensure proper data isolation
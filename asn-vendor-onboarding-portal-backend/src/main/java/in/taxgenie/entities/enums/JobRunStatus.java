@@ -0,0 +1,15 @@
+package in.taxgenie.entities.enums;
+
+/**
+ * Enumeration for the outcome of a cluster job run
+ * ABANDONED marks runs whose node died before recording an outcome.
+ * 
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+public enum JobRunStatus {
+    RUNNING,
+    SUCCEEDED,
+    FAILED,
+    ABANDONED
+}
@@ -0,0 +1,13 @@
+package in.taxgenie.entities.enums;
+
+/**
+ * Enumeration for API usage rollup bucket sizes
+ * 
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+public enum RollupGranularity {
+    MINUTE,
+    HOUR,
+    DAY
+}
@@ -0,0 +1,12 @@
+package in.taxgenie.entities.enums;
+
+/**
+ * Enumeration for where a tenant's rows live
+ * 
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+public enum TenantSchemaMode {
+    SHARED,
+    DEDICATED
+}
@@ -0,0 +1,11 @@
+package in.taxgenie.exception;
+
+/**
+ * Exception thrown when a requested resource does not exist or is not visible to the caller
+ */
+public class ResourceNotFoundException extends RuntimeException {
+
+    public ResourceNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,31 @@
+package in.taxgenie.funnel;
+
+import in.taxgenie.entities.enums.OnboardingStatus;
+
+import java.util.UUID;
+
+/**
+ * Key of one funnel cell; a missing status is counted as NOT_STARTED, as the reconcile query does
+ */
+record FunnelCell(UUID oemId, String step, String status) implements Comparable<FunnelCell> {
+
+    static FunnelCell of(UUID oemId, String step, Object status) {
+        String statusName = status instanceof OnboardingStatus onboardingStatus
+                ? onboardingStatus.name()
+                : OnboardingStatus.NOT_STARTED.name();
+        return new FunnelCell(oemId, step, statusName);
+    }
+
+    /**
+     * Fixed order so concurrent transactions lock cells in the same sequence
+     */
+    @Override
+    public int compareTo(FunnelCell other) {
+        int byOem = oemId.compareTo(other.oemId);
+        if (byOem != 0) {
+            return byOem;
+        }
+        int byStep = step.compareTo(other.step);
+        return byStep != 0 ? byStep : status.compareTo(other.status);
+    }
+}
@@ -0,0 +1,103 @@
+package in.taxgenie.funnel;
+
+import in.taxgenie.entities.OnboardingFunnelCount;
+import in.taxgenie.entities.enums.OnboardingStatus;
+import in.taxgenie.viewmodels.analytics.OnboardingFunnelViewModel;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Turns the funnel cells of an OEM into the funnel view
+ * Steps follow the onboarding flow; steps outside it are listed after it in name order.
+ * The reached count of a step in the flow includes every vendor at that step or a later one.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+public final class OnboardingFunnelAssembler {
+
+    static final List<String> STEP_ORDER = List.of(
+            "CONFIRMATION", "DEPLOYMENT", "PAYMENT", "API_CREDENTIALS", "SERVICE_DETAILS", "COMPLETION", "COMPLETED");
+
+    private OnboardingFunnelAssembler() {
+    }
+
+    public static OnboardingFunnelViewModel assemble(UUID oemId, List<OnboardingFunnelCount> cells, int staleAfterDays) {
+        Map<String, OnboardingFunnelViewModel.FunnelStepViewModel> byStep = new TreeMap<>();
+        long total = 0;
+        long completed = 0;
+        long stale = 0;
+        LocalDateTime staleCountedAt = null;
+        LocalDateTime updatedAt = null;
+
+        for (OnboardingFunnelCount cell : cells) {
+            // A negative cell is drift the next reconcile will correct; never report it
+            long count = Math.max(cell.getVendorCount(), 0);
+            OnboardingFunnelViewModel.FunnelStepViewModel step = byStep.computeIfAbsent(cell.getCurrentStep(),
+                    name -> OnboardingFunnelViewModel.FunnelStepViewModel.builder()
+                            .step(name)
+                            .statusCounts(new TreeMap<>())
+                            .build());
+            step.setVendorCount(step.getVendorCount() + count);
+            step.setStaleCount(step.getStaleCount() + cell.getStaleCount());
+            step.getStatusCounts().merge(cell.getStatus(), count, Long::sum);
+
+            total += count;
+            stale += cell.getStaleCount();
+            if (OnboardingStatus.COMPLETED.name().equals(cell.getStatus())) {
+                completed += count;
+            }
+            staleCountedAt = earliest(staleCountedAt, cell.getReconciledAt());
+            updatedAt = latest(updatedAt, cell.getUpdatedAt());
+        }
+
+        List<OnboardingFunnelViewModel.FunnelStepViewModel> steps = new ArrayList<>();
+        for (String name : STEP_ORDER) {
+            OnboardingFunnelViewModel.FunnelStepViewModel step = byStep.remove(name);
+            steps.add(step != null ? step : OnboardingFunnelViewModel.FunnelStepViewModel.builder()
+                    .step(name)
+                    .statusCounts(new TreeMap<>())
+                    .build());
+        }
+        long reached = 0;
+        for (int i = steps.size() - 1; i >= 0; i--) {
+            reached += steps.get(i).getVendorCount();
+            steps.get(i).setReachedCount(reached);
+        }
+        for (OnboardingFunnelViewModel.FunnelStepViewModel step : byStep.values()) {
+            step.setReachedCount(step.getVendorCount());
+            steps.add(step);
+        }
+
+        return OnboardingFunnelViewModel.builder()
+                .oemId(oemId.toString())
+                .totalVendors(total)
+                .completedVendors(completed)
+                .completionRate(total > 0 ? Math.round(completed * 1000.0 / total) / 10.0 : 0.0)
+                .staleVendors(stale)
+                .staleAfterDays(staleAfterDays)
+                .staleCountedAt(staleCountedAt)
+                .updatedAt(updatedAt)
+                .steps(steps)
+                .build();
+    }
+
+    private static LocalDateTime earliest(LocalDateTime current, LocalDateTime candidate) {
+        if (candidate == null) {
+            return current;
+        }
+        return current == null || candidate.isBefore(current) ? candidate : current;
+    }
+
+    private static LocalDateTime latest(LocalDateTime current, LocalDateTime candidate) {
+        if (candidate == null) {
+            return current;
+        }
+        return current == null || candidate.isAfter(current) ? candidate : current;
+    }
+}
@@ -0,0 +1,171 @@
+package in.taxgenie.funnel;
+
+import in.taxgenie.entities.OemMaster;
+import in.taxgenie.entities.OnboardingProcess;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.action.spi.BeforeTransactionCompletionProcess;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Hibernate listener that keeps onboarding_funnel_counts in step with onboarding_process
+ * Each insert, step or status change and delete becomes a -1/+1 delta on the affected
+ * (OEM, step, status) cells. Deltas are written just before the transaction commits, on the
+ * same connection, so they commit or roll back with the change itself and the row locks on
+ * the hot cells are held only for the commit. A failed delta is rolled back to a savepoint
+ * and logged rather than failing the onboarding write; the reconcile job repairs the drift.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Slf4j
+public class OnboardingFunnelListener implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    /**
+     * Shared mode of the lock a reconcile takes exclusively, see OnboardingFunnelCountRepository
+     */
+    private static final String LOCK_SQL =
+            "SELECT pg_advisory_xact_lock_shared(hashtext('onboarding-funnel:' || ?))";
+
+    /**
+     * A decrement can reach a cell with no row yet, e.g. before the first reconcile, so the
+     * inserted count is clamped too; EXCLUDED then holds the clamped value, so the update
+     * binds the raw delta a second time
+     */
+    private static final String APPLY_DELTA_SQL = """
+            INSERT INTO onboarding_funnel_counts (funnel_id, oem_id, current_step, status, vendor_count, stale_count, updated_at)
+            VALUES (gen_random_uuid(), ?, ?, ?, GREATEST(?, 0), 0, ?)
+            ON CONFLICT (oem_id, current_step, status) DO UPDATE
+            SET vendor_count = GREATEST(onboarding_funnel_counts.vendor_count + ?, 0),
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof OnboardingProcess process) {
+            FunnelCell cell = cellOf(process);
+            if (cell != null) {
+                schedule(event.getSession(), Map.of(cell, 1L));
+            }
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof OnboardingProcess process) || event.getOldState() == null) {
+            return;
+        }
+        FunnelCell current = cellOf(process);
+        if (current == null) {
+            return;
+        }
+        String[] properties = event.getPersister().getPropertyNames();
+        Object previousStep = valueOf(properties, event.getOldState(), "currentStep");
+        Object previousStatus = valueOf(properties, event.getOldState(), "status");
+        FunnelCell previous = previousStep instanceof String step
+                ? FunnelCell.of(current.oemId(), step, previousStatus)
+                : null;
+        if (current.equals(previous)) {
+            return;
+        }
+
+        Map<FunnelCell, Long> deltas = new TreeMap<>();
+        deltas.put(current, 1L);
+        if (previous != null) {
+            deltas.put(previous, -1L);
+        }
+        schedule(event.getSession(), deltas);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (!(event.getEntity() instanceof OnboardingProcess process)) {
+            return;
+        }
+        // Report the cell the row was in when loaded, not any unflushed in-memory change
+        String[] properties = event.getPersister().getPropertyNames();
+        Object[] deletedState = event.getDeletedState();
+        FunnelCell cell = cellOf(process);
+        if (cell != null && deletedState != null && valueOf(properties, deletedState, "currentStep") instanceof String step) {
+            cell = FunnelCell.of(cell.oemId(), step, valueOf(properties, deletedState, "status"));
+        }
+        if (cell != null) {
+            schedule(event.getSession(), Map.of(cell, -1L));
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private static void schedule(SessionImplementor session, Map<FunnelCell, Long> deltas) {
+        session.getActionQueue().registerProcess((BeforeTransactionCompletionProcess) completingSession ->
+                completingSession.doWork(connection -> apply(connection, new TreeMap<>(deltas))));
+    }
+
+    private static void apply(Connection connection, Map<FunnelCell, Long> deltas) throws SQLException {
+        Savepoint savepoint = connection.setSavepoint();
+        try {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            UUID lockedOem = null;
+            for (Map.Entry<FunnelCell, Long> delta : deltas.entrySet()) {
+                FunnelCell cell = delta.getKey();
+                if (!cell.oemId().equals(lockedOem)) {
+                    try (PreparedStatement lock = connection.prepareStatement(LOCK_SQL)) {
+                        lock.setString(1, cell.oemId().toString());
+                        lock.execute();
+                    }
+                    lockedOem = cell.oemId();
+                }
+                try (PreparedStatement upsert = connection.prepareStatement(APPLY_DELTA_SQL)) {
+                    upsert.setObject(1, cell.oemId());
+                    upsert.setString(2, cell.step());
+                    upsert.setString(3, cell.status());
+                    upsert.setLong(4, delta.getValue());
+                    upsert.setTimestamp(5, now);
+                    upsert.setLong(6, delta.getValue());
+                    upsert.executeUpdate();
+                }
+            }
+            connection.releaseSavepoint(savepoint);
+        } catch (SQLException e) {
+            connection.rollback(savepoint);
+            log.warn("Failed to apply onboarding funnel deltas {}, left for reconcile: {}", deltas, e.getMessage());
+        }
+    }
+
+    private static FunnelCell cellOf(OnboardingProcess process) {
+        OemMaster oem = process.getOem();
+        if (oem == null || oem.getOemId() == null || process.getCurrentStep() == null) {
+            return null;
+        }
+        return FunnelCell.of(oem.getOemId(), process.getCurrentStep(), process.getStatus());
+    }
+
+    private static Object valueOf(String[] properties, Object[] state, String property) {
+        for (int i = 0; i < properties.length; i++) {
+            if (Objects.equals(properties[i], property)) {
+                return state[i];
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,15 @@
+/**
+ * Materialized onboarding funnel for the ASN Vendor Onboarding Portal application.
+ * 
+ * This package contains:
+ * - The Hibernate listener that applies per-(OEM, step, status) count deltas in the
+ *   transaction that moves an onboarding process
+ * - The integrator that registers it
+ * - The assembler that turns the cells of an OEM into the funnel view
+ * 
+ * Reconciliation and the read API live in the analytics service and controller.
+ * 
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+package in.taxgenie.funnel;
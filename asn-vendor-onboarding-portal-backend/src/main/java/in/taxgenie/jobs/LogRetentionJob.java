@@ -0,0 +1,93 @@
+package in.taxgenie.jobs;
+
+import in.taxgenie.scheduling.ChunkStep.Chunk;
+import in.taxgenie.scheduling.ClusterJobRunner;
+import in.taxgenie.services.interfaces.IApiUsageAnalyticsService;
+import in.taxgenie.services.interfaces.IDataRetentionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * Scheduled job that deletes API request logs, audit logs and job runs past retention.
+ * The monthly partitioned log tables first get their next partition-months-ahead months
+ * created and lose every partition that lies entirely before the cutoff.
+ * Remaining rows go in chunks of chunk-size, one transaction each, on one node of the cluster.
+ * A run stops after max-chunks-per-run per table and the next run continues the backlog.
+ * API request logs not yet folded into the usage rollups are kept whatever their age.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class LogRetentionJob {
+
+    private final IDataRetentionService dataRetentionService;
+    private final IApiUsageAnalyticsService apiUsageAnalyticsService;
+    private final ClusterJobRunner clusterJobRunner;
+
+    @Value("${asn.vendor.portal.jobs.log-retention.api-request-log-days:90}")
+    private long apiRequestLogDays;
+
+    @Value("${asn.vendor.portal.jobs.log-retention.audit-log-days:365}")
+    private long auditLogDays;
+
+    @Value("${asn.vendor.portal.jobs.log-retention.job-run-days:30}")
+    private long jobRunDays;
+
+    @Value("${asn.vendor.portal.jobs.log-retention.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${asn.vendor.portal.jobs.log-retention.max-chunks-per-run:200}")
+    private int maxChunksPerRun;
+
+    @Value("${asn.vendor.portal.jobs.log-retention.partition-months-ahead:3}")
+    private int partitionMonthsAhead;
+
+    @Scheduled(cron = "${asn.vendor.portal.jobs.log-retention.cron:0 45 3 * * *}")
+    public void deleteExpiredLogs() {
+        try {
+            clusterJobRunner.run("log-retention", Duration.ofHours(12), context -> {
+                LocalDateTime now = LocalDateTime.now();
+                dataRetentionService.createLogPartitionsThrough(YearMonth.from(now).plusMonths(partitionMonthsAhead));
+
+                LocalDateTime apiLogCutoff = now.minusDays(apiRequestLogDays);
+                LocalDateTime rollupWatermark = apiUsageAnalyticsService.getRollupWatermark().orElse(null);
+                if (rollupWatermark == null || rollupWatermark.isBefore(apiLogCutoff)) {
+                    apiLogCutoff = rollupWatermark;
+                }
+
+                long deleted = 0;
+                int droppedPartitions = 0;
+                if (apiLogCutoff != null) {
+                    LocalDateTime cutoff = apiLogCutoff;
+                    droppedPartitions += dataRetentionService.dropApiRequestLogPartitionsBefore(cutoff);
+                    deleted += context.runChunks(maxChunksPerRun, afterKey ->
+                            Chunk.ofCount(dataRetentionService.deleteApiRequestLogsBefore(cutoff, chunkSize)));
+                }
+                LocalDateTime auditCutoff = now.minusDays(auditLogDays);
+                droppedPartitions += dataRetentionService.dropAuditLogPartitionsBefore(auditCutoff);
+                deleted += context.runChunks(maxChunksPerRun, afterKey ->
+                        Chunk.ofCount(dataRetentionService.deleteAuditLogsBefore(auditCutoff, chunkSize)));
+                LocalDateTime jobRunCutoff = now.minusDays(jobRunDays);
+                deleted += context.runChunks(maxChunksPerRun, afterKey ->
+                        Chunk.ofCount(dataRetentionService.deleteJobRunsBefore(jobRunCutoff, chunkSize)));
+
+                if (deleted > 0 || droppedPartitions > 0) {
+                    log.info("Log retention deleted {} expired rows and dropped {} expired partitions", deleted, droppedPartitions);
+                }
+                return deleted;
+            });
+        } catch (Exception e) {
+            log.error("Log retention failed", e);
+        }
+    }
+}
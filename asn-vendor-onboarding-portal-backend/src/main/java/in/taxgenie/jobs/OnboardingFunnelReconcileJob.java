@@ -0,0 +1,61 @@
+package in.taxgenie.jobs;
+
+import in.taxgenie.scheduling.ClusterJobRunner;
+import in.taxgenie.services.interfaces.IOnboardingFunnelService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Scheduled job that rebuilds the materialized onboarding funnel of every OEM.
+ * Each OEM is reconciled in its own transaction, so a failure only skips that OEM
+ * and incremental updates for the others are blocked only while their own rebuild runs.
+ * One node reconciles per interval; the others skip the run.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class OnboardingFunnelReconcileJob {
+
+    private final IOnboardingFunnelService onboardingFunnelService;
+    private final ClusterJobRunner clusterJobRunner;
+
+    @Value("${asn.vendor.portal.analytics.funnel.reconcile-interval-ms:900000}")
+    private long reconcileIntervalMs;
+
+    @Scheduled(fixedDelayString = "${asn.vendor.portal.analytics.funnel.reconcile-interval-ms:900000}",
+               initialDelayString = "${asn.vendor.portal.analytics.funnel.reconcile-initial-delay-ms:60000}")
+    public void reconcileOnboardingFunnels() {
+        try {
+            // Half the interval, so drifting node schedules still reconcile about once per interval
+            clusterJobRunner.run("onboarding-funnel-reconcile", Duration.ofMillis(reconcileIntervalMs / 2), context -> {
+                int reconciled = 0;
+                int drifted = 0;
+                for (UUID oemId : onboardingFunnelService.getFunnelOemIds()) {
+                    try {
+                        if (onboardingFunnelService.reconcileOemFunnel(oemId) != 0) {
+                            drifted++;
+                        }
+                        reconciled++;
+                    } catch (Exception e) {
+                        log.error("Onboarding funnel reconcile failed for OEM: {}", oemId, e);
+                    }
+                }
+                if (drifted > 0) {
+                    log.info("Onboarding funnel reconcile corrected {} OEMs", drifted);
+                }
+                return reconciled;
+            });
+        } catch (Exception e) {
+            log.error("Onboarding funnel reconcile failed", e);
+        }
+    }
+}
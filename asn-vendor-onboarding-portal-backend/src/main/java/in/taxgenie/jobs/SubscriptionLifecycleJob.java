@@ -0,0 +1,86 @@
+package in.taxgenie.jobs;
+
+import in.taxgenie.billing.SubscriptionLifecycleBatch;
+import in.taxgenie.scheduling.ClusterJobRunner;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Scheduled job that renews and expires subscriptions once a day.
+ * Subscriptions are hashed into shards; the cluster's nodes share the shards and each node
+ * runs up to parallelism of them at once. Within a shard, renewals run before expiry,
+ * chunk by chunk, each chunk committed with its checkpoint, first in the shared schema and
+ * then in each dedicated tenant schema. The job fires hourly but a
+ * shard that already succeeded today is skipped, so a shard whose run crashed is retried
+ * within the hour and resumes after its last committed chunk.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class SubscriptionLifecycleJob {
+
+    static final String JOB_NAME = "subscription-lifecycle";
+
+    private final SubscriptionLifecycleBatch subscriptionLifecycleBatch;
+    private final ClusterJobRunner clusterJobRunner;
+
+    @Value("${asn.vendor.portal.jobs.subscription-lifecycle.shards:8}")
+    private int shards;
+
+    @Value("${asn.vendor.portal.jobs.subscription-lifecycle.parallelism:4}")
+    private int parallelism;
+
+    @Value("${asn.vendor.portal.jobs.subscription-lifecycle.chunk-size:500}")
+    private int chunkSize;
+
+    @Value("${asn.vendor.portal.jobs.subscription-lifecycle.max-chunks-per-shard:10000}")
+    private int maxChunksPerShard;
+
+    @Scheduled(cron = "${asn.vendor.portal.jobs.subscription-lifecycle.cron:0 30 * * * *}")
+    public void runSubscriptionLifecycle() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDate asOf = now.toLocalDate();
+            Duration sinceMidnight = Duration.between(asOf.atStartOfDay(), now);
+            List<SubscriptionLifecycleBatch.Scope> scopes = subscriptionLifecycleBatch.scopes();
+            if (scopes.isEmpty()) {
+                log.info("Subscription lifecycle waits for the tenant schema routing to load");
+                return;
+            }
+
+            int ran = clusterJobRunner.runSharded(JOB_NAME, shards, parallelism, sinceMidnight, context -> {
+                int shard = context.getShard();
+                int shardCount = context.getShardCount();
+                long processed = 0;
+                for (SubscriptionLifecycleBatch.Scope scope : scopes) {
+                    long renewed = context.runChunks("renew" + scope.phaseSuffix(), maxChunksPerShard, afterKey ->
+                            subscriptionLifecycleBatch.renewChunk(scope, asOf, shard, shardCount, afterKey, chunkSize));
+                    long expired = context.runChunks("expire" + scope.phaseSuffix(), maxChunksPerShard, afterKey ->
+                            subscriptionLifecycleBatch.expireChunk(scope, asOf, shard, shardCount, afterKey, chunkSize));
+                    if (renewed > 0 || expired > 0) {
+                        log.info("Subscription lifecycle shard {}/{} renewed {} and expired {} subscriptions in {}",
+                                shard, shardCount, renewed, expired, scope.schema());
+                    }
+                    processed += renewed + expired;
+                }
+                return processed;
+            });
+            if (ran > 0) {
+                log.debug("Subscription lifecycle ran {} of {} shards on this node", ran, shards);
+            }
+        } catch (Exception e) {
+            log.error("Subscription lifecycle run failed", e);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package in.taxgenie.jobs;
+
+import in.taxgenie.entities.TenantSchemaRoute;
+import in.taxgenie.entities.enums.TenantSchemaMode;
+import in.taxgenie.multitenancy.schema.TenantSchemaRouting;
+import in.taxgenie.repositories.TenantSchemaRouteRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Scheduled job that reloads the tenant schema routing table from tenant_schema_routes.
+ * It first runs before the web server accepts requests; a cutover waits longer than the
+ * refresh interval, so every instance has seen a write freeze before data is moved.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class TenantSchemaRoutingRefreshJob {
+
+    private final TenantSchemaRouting routing;
+    private final TenantSchemaRouteRepository tenantSchemaRouteRepository;
+
+    @PostConstruct
+    public void loadOnStartup() {
+        refreshTenantSchemaRouting();
+    }
+
+    @Scheduled(fixedDelayString = "${asn.vendor.portal.tenancy.schema-per-tenant.refresh-interval-ms:5000}",
+               initialDelayString = "${asn.vendor.portal.tenancy.schema-per-tenant.refresh-interval-ms:5000}")
+    public void refreshTenantSchemaRouting() {
+        if (!routing.isEnabled()) {
+            return;
+        }
+        try {
+            Map<Long, TenantSchemaRouting.Route> routes = new HashMap<>();
+            for (TenantSchemaRoute route : tenantSchemaRouteRepository.findAll()) {
+                String schema = route.getMode() == TenantSchemaMode.DEDICATED
+                        ? TenantSchemaRouting.requireValidSchemaName(route.getSchemaName())
+                        : routing.getSharedSchema();
+                routes.put(route.getCompanyCode(), new TenantSchemaRouting.Route(schema, Boolean.TRUE.equals(route.getWritesFrozen())));
+            }
+            if (!routes.equals(routing.getRoutes())) {
+                log.info("Tenant schema routing changed: {} routed tenants", routes.size());
+            }
+            routing.replace(routes);
+        } catch (Exception e) {
+            log.error("Tenant schema routing refresh failed, keeping the previous routes", e);
+        }
+    }
+}
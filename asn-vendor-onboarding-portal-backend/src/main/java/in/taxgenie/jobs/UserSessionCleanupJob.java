@@ -0,0 +1,32 @@
+package in.taxgenie.jobs;
+
+import in.taxgenie.services.UserSessionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Scheduled job that removes expired user sessions from the session store.
+ * Expired sessions are never returned anyway; this only reclaims their space.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class UserSessionCleanupJob {
+
+    private final UserSessionService userSessionService;
+
+    @Scheduled(fixedDelayString = "${asn.vendor.portal.session.purge-interval-ms:300000}",
+               initialDelayString = "${asn.vendor.portal.session.purge-interval-ms:300000}")
+    public void purgeExpiredSessions() {
+        try {
+            userSessionService.cleanupExpiredSessions();
+        } catch (Exception e) {
+            log.error("User session cleanup failed", e);
+        }
+    }
+}
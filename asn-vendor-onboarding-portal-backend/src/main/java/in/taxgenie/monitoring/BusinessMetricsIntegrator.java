@@ -0,0 +1,38 @@
+package in.taxgenie.monitoring;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * Hibernate integrator that registers the {@link BusinessTransitionListener}
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+public class BusinessMetricsIntegrator implements Integrator {
+
+    private final ObjectProvider<PortalMetrics> portalMetrics;
+
+    public BusinessMetricsIntegrator(ObjectProvider<PortalMetrics> portalMetrics) {
+        this.portalMetrics = portalMetrics;
+    }
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        BusinessTransitionListener listener = new BusinessTransitionListener(portalMetrics);
+        registry.appendListeners(EventType.POST_INSERT, listener);
+        registry.appendListeners(EventType.POST_UPDATE, listener);
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        // Nothing to release
+    }
+}
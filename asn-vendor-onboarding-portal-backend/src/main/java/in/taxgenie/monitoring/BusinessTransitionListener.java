@@ -0,0 +1,147 @@
+package in.taxgenie.monitoring;
+
+import in.taxgenie.entities.OemMaster;
+import in.taxgenie.entities.OnboardingProcess;
+import in.taxgenie.entities.PaymentTransaction;
+import in.taxgenie.multitenancy.context.TenantContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.LazyInitializationException;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Hibernate listener that turns onboarding step and payment status changes into metrics
+ * Works from the entity's old and new state, so every write path is covered without
+ * touching the services; metrics are recorded after commit so rolled-back changes are
+ * not counted
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Slf4j
+public class BusinessTransitionListener implements PostInsertEventListener, PostUpdateEventListener {
+
+    private static final Set<String> TERMINAL_PAYMENT_STATUSES =
+            Set.of("SUCCESS", "COMPLETED", "FAILED", "CANCELLED");
+
+    private final ObjectProvider<PortalMetrics> portalMetrics;
+
+    public BusinessTransitionListener(ObjectProvider<PortalMetrics> portalMetrics) {
+        this.portalMetrics = portalMetrics;
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof OnboardingProcess process) {
+            String oem = oemCode(process.getOem());
+            afterCommit(metrics -> metrics.recordOnboardingTransition(oem, process.getCompanyCode(),
+                    null, process.getCurrentStep(), null));
+        } else if (event.getEntity() instanceof PaymentTransaction transaction && transaction.getStatus() != null) {
+            String oem = oemCode(transaction.getOem());
+            Long tenant = TenantContext.getCurrentTenant();
+            afterCommit(metrics -> metrics.recordPaymentTransition(oem, tenant, null,
+                    transaction.getStatus().name(), null));
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        Object[] oldState = event.getOldState();
+        if (oldState == null) {
+            return;
+        }
+        String[] properties = event.getPersister().getPropertyNames();
+
+        if (event.getEntity() instanceof OnboardingProcess process) {
+            Object previousStep = valueOf(properties, oldState, "currentStep");
+            if (Objects.equals(previousStep, process.getCurrentStep())) {
+                return;
+            }
+            Duration timeInStep = since(valueOf(properties, oldState, "updatedAt"));
+            String oem = oemCode(process.getOem());
+            afterCommit(metrics -> metrics.recordOnboardingTransition(oem, process.getCompanyCode(),
+                    (String) previousStep, process.getCurrentStep(), timeInStep));
+        } else if (event.getEntity() instanceof PaymentTransaction transaction) {
+            Object previousStatus = valueOf(properties, oldState, "status");
+            if (transaction.getStatus() == null || Objects.equals(previousStatus, transaction.getStatus())) {
+                return;
+            }
+            String to = transaction.getStatus().name();
+            Duration settlement = TERMINAL_PAYMENT_STATUSES.contains(to) ? since(transaction.getInitiatedAt()) : null;
+            String oem = oemCode(transaction.getOem());
+            Long tenant = TenantContext.getCurrentTenant();
+            afterCommit(metrics -> metrics.recordPaymentTransition(oem, tenant,
+                    previousStatus != null ? previousStatus.toString() : null, to, settlement));
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void afterCommit(Consumer<PortalMetrics> recorder) {
+        PortalMetrics metrics = portalMetrics.getIfAvailable();
+        if (metrics == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            recorder.accept(metrics);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    recorder.accept(metrics);
+                } catch (RuntimeException e) {
+                    log.debug("Failed to record business transition metric: {}", e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * OEM code, read during flush while the session is still open; OEM rows are few and
+     * usually already loaded by the write path
+     */
+    private static String oemCode(OemMaster oem) {
+        if (oem == null) {
+            return null;
+        }
+        try {
+            return oem.getOemCode();
+        } catch (LazyInitializationException e) {
+            return null;
+        }
+    }
+
+    private static Object valueOf(String[] properties, Object[] state, String property) {
+        for (int i = 0; i < properties.length; i++) {
+            if (properties[i].equals(property)) {
+                return state[i];
+            }
+        }
+        return null;
+    }
+
+    private static Duration since(Object timestamp) {
+        if (timestamp instanceof LocalDateTime time) {
+            Duration elapsed = Duration.between(time, LocalDateTime.now());
+            return elapsed.isNegative() ? null : elapsed;
+        }
+        return null;
+    }
+}
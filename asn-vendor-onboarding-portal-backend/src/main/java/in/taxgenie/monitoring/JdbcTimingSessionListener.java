@@ -0,0 +1,43 @@
+package in.taxgenie.monitoring;
+
+import org.hibernate.BaseSessionEventListener;
+
+/**
+ * Per-session listener that measures time spent in JDBC statement and batch execution
+ * Hibernate creates one instance per session (hibernate.session.events.auto), so the
+ * start timestamp needs no synchronization.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+public class JdbcTimingSessionListener extends BaseSessionEventListener {
+
+    private long executionStart = -1;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        recordExecution();
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        executionStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        recordExecution();
+    }
+
+    private void recordExecution() {
+        if (executionStart >= 0) {
+            QueryCountHolder.recordJdbcExecution(System.nanoTime() - executionStart);
+            executionStart = -1;
+        }
+    }
+}
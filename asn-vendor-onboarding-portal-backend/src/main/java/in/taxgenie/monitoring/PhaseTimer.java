@@ -0,0 +1,160 @@
+package in.taxgenie.monitoring;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Per-request phase timer bound to the request thread
+ * Phases nest; time is charged exclusively to the innermost open phase, so a repository
+ * call made while mapping counts as db, not as mapping. Time outside any phase is
+ * reported as "app". All calls are no-ops on threads without an active timer.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+public final class PhaseTimer {
+
+    private static final ThreadLocal<PhaseTimer> current = new ThreadLocal<>();
+    private static final RequestPhase[] PHASES = RequestPhase.values();
+    private static final int MAX_DEPTH = 32;
+
+    /**
+     * Open phase; closing it resumes the enclosing phase
+     */
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private static final Scope NOOP = () -> { };
+
+    private final LongSupplier ticker;
+    private final long startNanos;
+    private final long[] phaseNanos = new long[PHASES.length];
+    private final RequestPhase[] stack = new RequestPhase[MAX_DEPTH];
+    private int depth;
+    private long activeSince;
+    private boolean reportRequested;
+
+    private PhaseTimer(LongSupplier ticker) {
+        this.ticker = ticker;
+        this.startNanos = ticker.getAsLong();
+        this.activeSince = startNanos;
+    }
+
+    /**
+     * Starts a timer for the current thread
+     */
+    public static PhaseTimer start() {
+        return start(System::nanoTime);
+    }
+
+    /**
+     * Starts a timer for the current thread reading time from the given nanosecond ticker
+     */
+    static PhaseTimer start(LongSupplier ticker) {
+        PhaseTimer timer = new PhaseTimer(ticker);
+        current.set(timer);
+        return timer;
+    }
+
+    /**
+     * @return the timer of the current thread, or null
+     */
+    public static PhaseTimer current() {
+        return current.get();
+    }
+
+    public static void clear() {
+        current.remove();
+    }
+
+    /**
+     * Opens a phase on the current thread's timer
+     * Use with try-with-resources
+     */
+    public static Scope enter(RequestPhase phase) {
+        PhaseTimer timer = current.get();
+        if (timer == null || timer.depth >= MAX_DEPTH) {
+            return NOOP;
+        }
+        return timer.push(phase);
+    }
+
+    private Scope push(RequestPhase phase) {
+        long now = ticker.getAsLong();
+        chargeActive(now);
+        stack[depth++] = phase;
+        int expectedDepth = depth;
+        return () -> {
+            // Ignore out-of-order closes rather than corrupting the stack
+            if (depth == expectedDepth) {
+                chargeActive(ticker.getAsLong());
+                stack[--depth] = null;
+            }
+        };
+    }
+
+    private void chargeActive(long now) {
+        if (depth > 0) {
+            phaseNanos[stack[depth - 1].ordinal()] += now - activeSince;
+        }
+        activeSince = now;
+    }
+
+    /**
+     * Exclusive time spent in a phase so far, including a still-open one
+     */
+    public long getNanos(RequestPhase phase) {
+        long nanos = phaseNanos[phase.ordinal()];
+        if (depth > 0 && stack[depth - 1] == phase) {
+            nanos += ticker.getAsLong() - activeSince;
+        }
+        return nanos;
+    }
+
+    public long getElapsedNanos() {
+        return ticker.getAsLong() - startNanos;
+    }
+
+    /**
+     * Time not attributed to any phase (controller and service logic, framework dispatch)
+     */
+    public long getUnattributedNanos() {
+        long attributed = 0;
+        for (RequestPhase phase : PHASES) {
+            attributed += getNanos(phase);
+        }
+        return Math.max(0, getElapsedNanos() - attributed);
+    }
+
+    public boolean isReportRequested() {
+        return reportRequested;
+    }
+
+    public void setReportRequested(boolean reportRequested) {
+        this.reportRequested = reportRequested;
+    }
+
+    /**
+     * Renders the Server-Timing header value (durations in milliseconds)
+     */
+    public String toServerTimingHeader() {
+        StringBuilder header = new StringBuilder();
+        for (RequestPhase phase : PHASES) {
+            long nanos = getNanos(phase);
+            if (nanos > 0) {
+                appendMetric(header, phase.getMetricName(), nanos);
+            }
+        }
+        appendMetric(header, "app", getUnattributedNanos());
+        appendMetric(header, "total", getElapsedNanos());
+        return header.toString();
+    }
+
+    private static void appendMetric(StringBuilder header, String name, long nanos) {
+        if (header.length() > 0) {
+            header.append(", ");
+        }
+        header.append(name).append(";dur=").append(Math.round(nanos / 10_000.0) / 100.0);
+    }
+}
@@ -0,0 +1,191 @@
+package in.taxgenie.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Business and infrastructure meters for the portal
+ * All tenant and OEM tags go through {@link TagLimiter}s so the number of series stays
+ * bounded regardless of how many companies use the portal. Step and status tags come
+ * from fixed vocabularies.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Component
+public class PortalMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final TagLimiter tenantTags;
+    private final TagLimiter oemTags;
+    private final Map<String, CacheMeter> caches = new ConcurrentHashMap<>();
+
+    public PortalMetrics(MeterRegistry meterRegistry,
+                         @Value("${asn.vendor.portal.monitoring.tenant-tags.max:50}") int maxTenantTags,
+                         @Value("${asn.vendor.portal.monitoring.tenant-tags.pinned:}") String pinnedTenants,
+                         @Value("${asn.vendor.portal.monitoring.oem-tags.max:50}") int maxOemTags) {
+        this.meterRegistry = meterRegistry;
+        this.tenantTags = new TagLimiter(maxTenantTags, splitList(pinnedTenants));
+        this.oemTags = new TagLimiter(maxOemTags, List.of());
+    }
+
+    public String tenantTag(Long companyCode) {
+        return tenantTags.limit(companyCode != null ? companyCode.toString() : null);
+    }
+
+    public String oemTag(String oemCode) {
+        return oemTags.limit(oemCode);
+    }
+
+    // ==================== Onboarding ====================
+
+    /**
+     * Records an onboarding step change
+     * @param timeInPreviousStep time since the process last changed, null when unknown
+     */
+    public void recordOnboardingTransition(String oemCode, Long companyCode, String fromStep, String toStep,
+                                           Duration timeInPreviousStep) {
+        String oem = oemTag(oemCode);
+        Counter.builder("asn.onboarding.step.transitions")
+                .description("Onboarding step transitions by OEM")
+                .tags("oem", oem, "from", stepTag(fromStep), "to", stepTag(toStep))
+                .register(meterRegistry)
+                .increment();
+        // Tenant gets its own series without step tags to keep the product small
+        Counter.builder("asn.onboarding.tenant.transitions")
+                .description("Onboarding step transitions by tenant")
+                .tag("tenant", tenantTag(companyCode))
+                .register(meterRegistry)
+                .increment();
+        if (timeInPreviousStep != null && fromStep != null) {
+            Timer.builder("asn.onboarding.step.duration")
+                    .description("Time spent in an onboarding step before moving on")
+                    .tags("oem", oem, "step", stepTag(fromStep))
+                    .register(meterRegistry)
+                    .record(timeInPreviousStep);
+        }
+    }
+
+    // ==================== Payments ====================
+
+    /**
+     * Records a payment status change; fromStatus is null for a new transaction
+     * @param sinceInitiated elapsed time since the payment was initiated, recorded for terminal states
+     */
+    public void recordPaymentTransition(String oemCode, Long companyCode, String fromStatus, String toStatus,
+                                        Duration sinceInitiated) {
+        String oem = oemTag(oemCode);
+        Counter.builder("asn.payment.transitions")
+                .description("Payment transaction status transitions")
+                .tags("oem", oem, "from", fromStatus != null ? fromStatus : "NEW", "to", toStatus)
+                .register(meterRegistry)
+                .increment();
+        Counter.builder("asn.payment.tenant.transitions")
+                .description("Payment status transitions by tenant")
+                .tags("tenant", tenantTag(companyCode), "to", toStatus)
+                .register(meterRegistry)
+                .increment();
+        if (sinceInitiated != null) {
+            Timer.builder("asn.payment.settlement.duration")
+                    .description("Time from payment initiation to a terminal status")
+                    .tags("oem", oem, "outcome", toStatus)
+                    .register(meterRegistry)
+                    .record(sinceInitiated);
+        }
+    }
+
+    // ==================== Caches and queues ====================
+
+    /**
+     * Hit/miss meters for a cache, created once per name
+     * Exposes asn.cache.requests{cache,result} and asn.cache.hit.ratio{cache}
+     */
+    public CacheMeter cache(String name) {
+        return caches.computeIfAbsent(name, key -> new CacheMeter(meterRegistry, key));
+    }
+
+    /**
+     * Registers a depth gauge for an in-process queue or backlog; the object is held weakly
+     */
+    public <T> void registerQueueDepth(String queue, T stateObject, ToDoubleFunction<T> depth) {
+        Gauge.builder("asn.queue.depth", stateObject, depth)
+                .description("Items waiting in an in-process queue or backlog")
+                .tag("queue", queue)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registers a lag gauge for a pipeline that consumes rows written elsewhere
+     * (seconds between now and the pipeline's watermark)
+     */
+    public <T> void registerIngestionLag(String pipeline, T stateObject, ToDoubleFunction<T> lagSeconds) {
+        Gauge.builder("asn.ingestion.lag", stateObject, lagSeconds)
+                .description("Seconds the pipeline's watermark trails the current time")
+                .baseUnit("seconds")
+                .tag("pipeline", pipeline)
+                .register(meterRegistry);
+    }
+
+    private static String stepTag(String step) {
+        return step != null ? step : TagLimiter.NONE;
+    }
+
+    /**
+     * Splits a comma-separated property value, ignoring blanks
+     */
+    public static List<String> splitList(String value) {
+        return Arrays.stream(value.split(","))
+                .map(String::trim)
+                .filter(item -> !item.isEmpty())
+                .toList();
+    }
+
+    /**
+     * Hit and miss counters for one cache
+     */
+    public static final class CacheMeter {
+
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+
+        CacheMeter(MeterRegistry registry, String name) {
+            FunctionCounter.builder("asn.cache.requests", hits, LongAdder::doubleValue)
+                    .tags("cache", name, "result", "hit")
+                    .register(registry);
+            FunctionCounter.builder("asn.cache.requests", misses, LongAdder::doubleValue)
+                    .tags("cache", name, "result", "miss")
+                    .register(registry);
+            Gauge.builder("asn.cache.hit.ratio", this, CacheMeter::hitRatio)
+                    .description("Cumulative cache hit ratio")
+                    .tag("cache", name)
+                    .register(registry);
+        }
+
+        public void hit() {
+            hits.increment();
+        }
+
+        public void miss() {
+            misses.increment();
+        }
+
+        public double hitRatio() {
+            long hitCount = hits.sum();
+            long total = hitCount + misses.sum();
+            return total == 0 ? Double.NaN : (double) hitCount / total;
+        }
+    }
+}
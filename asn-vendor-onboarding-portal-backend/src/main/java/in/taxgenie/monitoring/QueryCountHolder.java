@@ -0,0 +1,69 @@
+package in.taxgenie.monitoring;
+
+/**
+ * Thread-bound holder for the active {@link QueryStats} scope
+ * The request filter opens a scope per request; tests may open one directly around
+ * the code under test. Hibernate hooks are no-ops when no scope is open. Nothing stays
+ * on the thread once a scope is stopped, so pooled request threads keep no statements.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+public final class QueryCountHolder {
+
+    private static final ThreadLocal<QueryStats> current = new ThreadLocal<>();
+
+    private QueryCountHolder() {
+    }
+
+    /**
+     * Opens a fresh scope on the current thread, replacing any open one
+     */
+    public static QueryStats start() {
+        QueryStats stats = new QueryStats();
+        current.set(stats);
+        return stats;
+    }
+
+    /**
+     * Closes the current scope
+     * @return the closed scope, or null when none was open
+     */
+    public static QueryStats stop() {
+        QueryStats stats = current.get();
+        current.remove();
+        return stats;
+    }
+
+    /**
+     * @return the open scope, or null
+     */
+    public static QueryStats current() {
+        return current.get();
+    }
+
+    public static void clear() {
+        current.remove();
+    }
+
+    static void recordStatement(String sql) {
+        QueryStats stats = current.get();
+        if (stats != null) {
+            stats.recordStatement(sql);
+        }
+    }
+
+    static void recordEntityRow() {
+        QueryStats stats = current.get();
+        if (stats != null) {
+            stats.recordEntityRow();
+        }
+    }
+
+    static void recordJdbcExecution(long nanos) {
+        QueryStats stats = current.get();
+        if (stats != null) {
+            stats.recordJdbcExecution(nanos);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package in.taxgenie.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Statement inspector that counts every SQL statement Hibernate prepares against the
+ * current {@link QueryCountHolder} scope. The SQL is returned unchanged.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+public class QueryCountingStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCountHolder.recordStatement(sql);
+        return sql;
+    }
+}
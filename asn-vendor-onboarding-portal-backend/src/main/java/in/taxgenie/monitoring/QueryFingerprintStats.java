@@ -0,0 +1,109 @@
+package in.taxgenie.monitoring;
+
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latency accounting for one SQL fingerprint
+ * Totals use striped adders; recent latencies go into a fixed-size ring written with a
+ * single atomic increment, so recording never blocks. Percentiles are computed on read
+ * from the ring, i.e. over the most recent {@value #RING_SIZE} executions.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+public final class QueryFingerprintStats {
+
+    static final int RING_SIZE = 1024;
+    private static final int RING_MASK = RING_SIZE - 1;
+
+    private final String id;
+    private final String fingerprint;
+    private final Timer timer;
+
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final AtomicLongArray ring = new AtomicLongArray(RING_SIZE);
+    private final AtomicLong cursor = new AtomicLong();
+
+    QueryFingerprintStats(String id, String fingerprint, Timer timer) {
+        this.id = id;
+        this.fingerprint = fingerprint;
+        this.timer = timer;
+    }
+
+    void record(long nanos) {
+        count.increment();
+        totalNanos.add(nanos);
+        if (nanos > maxNanos.get()) {
+            maxNanos.accumulateAndGet(nanos, Math::max);
+        }
+        ring.set((int) (cursor.getAndIncrement() & RING_MASK), nanos);
+        if (timer != null) {
+            timer.record(nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    /**
+     * Percentiles over the ring; slots being overwritten concurrently may mix in a newer
+     * sample, which is acceptable for a sampler
+     */
+    public Map<String, Object> snapshot() {
+        int filled = (int) Math.min(cursor.get(), RING_SIZE);
+        long[] recent = new long[filled];
+        for (int i = 0; i < filled; i++) {
+            recent[i] = ring.get(i);
+        }
+        Arrays.sort(recent);
+
+        long executions = getCount();
+        Map<String, Object> view = new LinkedHashMap<>();
+        view.put("id", id);
+        view.put("fingerprint", fingerprint);
+        view.put("count", executions);
+        view.put("totalMs", toMillis(getTotalNanos()));
+        view.put("meanMs", executions == 0 ? 0.0 : toMillis(getTotalNanos() / executions));
+        view.put("maxMs", toMillis(maxNanos.get()));
+        view.put("p50Ms", toMillis(percentile(recent, 0.50)));
+        view.put("p95Ms", toMillis(percentile(recent, 0.95)));
+        view.put("p99Ms", toMillis(percentile(recent, 0.99)));
+        view.put("window", filled);
+        return view;
+    }
+
+    static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    static double toMillis(long nanos) {
+        return Math.round(nanos / 1_000.0) / 1_000.0;
+    }
+}
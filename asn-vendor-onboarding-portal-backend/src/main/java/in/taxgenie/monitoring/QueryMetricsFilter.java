@@ -0,0 +1,113 @@
+package in.taxgenie.monitoring;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Servlet filter that opens a {@link QueryStats} scope per request and publishes the
+ * statement count, entity rows and JDBC time to Micrometer tagged by route template
+ * Requests where one statement repeats beyond the configured threshold are logged and
+ * counted as suspected N+1 access.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+    private final RouteTags routeTags;
+    private final int nPlusOneThreshold;
+    private final int statementWarnThreshold;
+
+    public QueryMetricsFilter(MeterRegistry meterRegistry,
+                              RouteTags routeTags,
+                              @Value("${asn.vendor.portal.monitoring.queries.n-plus-one-threshold:10}") int nPlusOneThreshold,
+                              @Value("${asn.vendor.portal.monitoring.queries.statement-warn-threshold:50}") int statementWarnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.routeTags = routeTags;
+        this.nPlusOneThreshold = nPlusOneThreshold;
+        this.statementWarnThreshold = statementWarnThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryCountHolder.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            QueryStats stats = QueryCountHolder.stop();
+            if (stats != null) {
+                publish(request, stats);
+            }
+        }
+    }
+
+    private void publish(HttpServletRequest request, QueryStats stats) {
+        String route = routeTags.resolve(request);
+        if (RouteTags.UNMATCHED_ROUTE.equals(route) && stats.getStatements() == 0) {
+            // 404s and static resources would only add noise
+            return;
+        }
+        String method = request.getMethod();
+
+        DistributionSummary.builder("asn.db.request.statements")
+                .description("SQL statements issued per request")
+                .baseUnit("statements")
+                .tags("route", route, "method", method)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        DistributionSummary.builder("asn.db.request.entity.rows")
+                .description("Entity rows hydrated per request")
+                .baseUnit("rows")
+                .tags("route", route, "method", method)
+                .register(meterRegistry)
+                .record(stats.getEntityRows());
+        Timer.builder("asn.db.request.jdbc.time")
+                .description("Time spent executing JDBC statements per request")
+                .tags("route", route, "method", method)
+                .register(meterRegistry)
+                .record(stats.getJdbcNanos(), TimeUnit.NANOSECONDS);
+
+        if (stats.getMostRepeatedCount() >= nPlusOneThreshold) {
+            Counter.builder("asn.db.request.n_plus_one")
+                    .description("Requests where a single statement repeated beyond the N+1 threshold")
+                    .tags("route", route, "method", method)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("Possible N+1 on {} {}: statement executed {} times: {}",
+                    method, route, stats.getMostRepeatedCount(), abbreviate(stats.getMostRepeatedSql()));
+        } else if (stats.getStatements() >= statementWarnThreshold) {
+            log.warn("{} {} issued {} SQL statements ({})", method, route, stats.getStatements(), stats);
+        } else if (log.isDebugEnabled()) {
+            log.debug("{} {} {}", method, route, stats);
+        }
+    }
+
+    private static String abbreviate(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        String flat = sql.replaceAll("\\s+", " ").trim();
+        return flat.length() > 300 ? flat.substring(0, 300) + "..." : flat;
+    }
+}
@@ -0,0 +1,43 @@
+package in.taxgenie.monitoring;
+
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostLoadEvent;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Hibernate integrator that counts hydrated entity rows against the current
+ * {@link QueryCountHolder} scope
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+public class QueryStatisticsIntegrator implements Integrator {
+
+    @Override
+    public void integrate(Metadata metadata, BootstrapContext bootstrapContext, SessionFactoryImplementor sessionFactory) {
+        EventListenerRegistry registry = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_LOAD, new EntityRowCountListener());
+    }
+
+    @Override
+    public void disintegrate(SessionFactoryImplementor sessionFactory, SessionFactoryServiceRegistry serviceRegistry) {
+        // Nothing to release
+    }
+
+    /**
+     * Counts one row per entity instance loaded from a result set
+     */
+    static class EntityRowCountListener implements PostLoadEventListener {
+
+        @Override
+        public void onPostLoad(PostLoadEvent event) {
+            QueryCountHolder.recordEntityRow();
+        }
+    }
+}
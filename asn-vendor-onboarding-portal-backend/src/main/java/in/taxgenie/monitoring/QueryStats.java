@@ -0,0 +1,160 @@
+package in.taxgenie.monitoring;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Mutable SQL counters for a single unit of work (normally one HTTP request)
+ * Instances are confined to the thread that owns the scope, so no synchronization is used
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+public final class QueryStats {
+
+    /**
+     * Distinct statements tracked for repeat detection; beyond this only totals are kept
+     */
+    private static final int MAX_TRACKED_STATEMENTS = 256;
+
+    private int statements;
+    private int selects;
+    private int inserts;
+    private int updates;
+    private int deletes;
+    private long entityRows;
+    private long jdbcExecutions;
+    private long jdbcNanos;
+
+    private final Map<String, Integer> executionsBySql = new HashMap<>();
+    private String mostRepeatedSql;
+    private int mostRepeatedCount;
+
+    void recordStatement(String sql) {
+        statements++;
+        switch (verbOf(sql)) {
+            case "select", "with" -> selects++;
+            case "insert" -> inserts++;
+            case "update" -> updates++;
+            case "delete" -> deletes++;
+            default -> { }
+        }
+
+        Integer seen = executionsBySql.get(sql);
+        if (seen == null && executionsBySql.size() >= MAX_TRACKED_STATEMENTS) {
+            return;
+        }
+        int count = seen == null ? 1 : seen + 1;
+        executionsBySql.put(sql, count);
+        if (count > mostRepeatedCount) {
+            mostRepeatedCount = count;
+            mostRepeatedSql = sql;
+        }
+    }
+
+    void recordEntityRow() {
+        entityRows++;
+    }
+
+    void recordJdbcExecution(long nanos) {
+        jdbcExecutions++;
+        jdbcNanos += nanos;
+    }
+
+    /**
+     * Total statements prepared by Hibernate
+     */
+    public int getStatements() {
+        return statements;
+    }
+
+    public int getSelects() {
+        return selects;
+    }
+
+    public int getInserts() {
+        return inserts;
+    }
+
+    public int getUpdates() {
+        return updates;
+    }
+
+    public int getDeletes() {
+        return deletes;
+    }
+
+    /**
+     * Entity rows hydrated from result sets (projection and native rows are not counted)
+     */
+    public long getEntityRows() {
+        return entityRows;
+    }
+
+    /**
+     * JDBC statement and batch executions
+     */
+    public long getJdbcExecutions() {
+        return jdbcExecutions;
+    }
+
+    /**
+     * Wall-clock time spent inside JDBC execute calls
+     */
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    /**
+     * How often the most frequent identical statement ran; a high value with a
+     * parameterized select is the signature of an N+1 access pattern
+     */
+    public int getMostRepeatedCount() {
+        return mostRepeatedCount;
+    }
+
+    public String getMostRepeatedSql() {
+        return mostRepeatedSql;
+    }
+
+    private static String verbOf(String sql) {
+        int start = 0;
+        int length = sql.length();
+        // Skip whitespace and the /* comment */ Hibernate adds with use_sql_comments
+        while (start < length) {
+            char c = sql.charAt(start);
+            if (Character.isWhitespace(c) || c == '(') {
+                start++;
+            } else if (c == '/' && start + 1 < length && sql.charAt(start + 1) == '*') {
+                int end = sql.indexOf("*/", start + 2);
+                if (end < 0) {
+                    return "";
+                }
+                start = end + 2;
+            } else {
+                break;
+            }
+        }
+        int end = start;
+        while (end < length && Character.isLetter(sql.charAt(end))) {
+            end++;
+        }
+        return sql.substring(start, end).toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public String toString() {
+        return "QueryStats{" +
+                "statements=" + statements +
+                ", selects=" + selects +
+                ", inserts=" + inserts +
+                ", updates=" + updates +
+                ", deletes=" + deletes +
+                ", entityRows=" + entityRows +
+                ", jdbcExecutions=" + jdbcExecutions +
+                ", jdbcMillis=" + jdbcNanos / 1_000_000 +
+                ", mostRepeatedCount=" + mostRepeatedCount +
+                '}';
+    }
+}
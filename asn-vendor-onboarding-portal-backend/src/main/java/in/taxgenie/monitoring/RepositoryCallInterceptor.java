@@ -0,0 +1,41 @@
+package in.taxgenie.monitoring;
+
+import in.taxgenie.monitoring.jfr.RepositoryCallEvent;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+
+/**
+ * Repository interceptor that charges every Spring Data repository call to the db phase
+ * and emits a {@link RepositoryCallEvent}. Covers statement execution and entity
+ * hydration; lazy loads triggered later are charged to whichever phase touches the
+ * association
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+public class RepositoryCallInterceptor implements MethodInterceptor {
+
+    private final String repositoryName;
+
+    public RepositoryCallInterceptor(Class<?> repositoryInterface) {
+        this.repositoryName = repositoryInterface.getSimpleName();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (AopUtils.isToStringMethod(invocation.getMethod()) || AopUtils.isHashCodeMethod(invocation.getMethod())) {
+            return invocation.proceed();
+        }
+        RepositoryCallEvent event = new RepositoryCallEvent();
+        event.begin();
+        boolean failed = true;
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(RequestPhase.DB)) {
+            Object result = invocation.proceed();
+            failed = false;
+            return result;
+        } finally {
+            event.complete(repositoryName, invocation.getMethod().getName(), failed);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package in.taxgenie.monitoring;
+
+/**
+ * Request phases reported in the Server-Timing header and the phase timers
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+public enum RequestPhase {
+    AUTH("auth", "JWT verification and authentication"),
+    TENANT("tenant", "Tenant resolution and company filter"),
+    LOGGING("logging", "Request body caching and request log"),
+    DB("db", "Repository calls"),
+    MAPPING("mapping", "Entity to view-model mapping"),
+    SERIALIZATION("serialization", "JSON serialization");
+
+    private final String metricName;
+    private final String description;
+
+    RequestPhase(String metricName, String description) {
+        this.metricName = metricName;
+        this.description = description;
+    }
+
+    public String getMetricName() {
+        return metricName;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
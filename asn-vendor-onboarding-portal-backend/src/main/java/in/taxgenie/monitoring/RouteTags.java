@@ -0,0 +1,47 @@
+package in.taxgenie.monitoring;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the bounded "route" tag shared by request-level meters
+ * Uses the handler's path template, so the tag is bounded by the number of mappings;
+ * the cap guards against unexpected template churn
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Component
+public class RouteTags {
+
+    public static final String UNMATCHED_ROUTE = "UNMATCHED";
+    public static final String OTHER_ROUTE = "OTHER";
+
+    private final int maxRoutes;
+    private final Set<String> knownRoutes = ConcurrentHashMap.newKeySet();
+
+    public RouteTags(@Value("${asn.vendor.portal.monitoring.max-routes:300}") int maxRoutes) {
+        this.maxRoutes = maxRoutes;
+    }
+
+    public String resolve(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        if (pattern == null) {
+            return UNMATCHED_ROUTE;
+        }
+        String route = pattern.toString();
+        if (knownRoutes.contains(route)) {
+            return route;
+        }
+        if (knownRoutes.size() >= maxRoutes) {
+            return OTHER_ROUTE;
+        }
+        knownRoutes.add(route);
+        return route;
+    }
+}
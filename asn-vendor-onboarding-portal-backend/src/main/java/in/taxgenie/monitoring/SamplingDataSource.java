@@ -0,0 +1,182 @@
+package in.taxgenie.monitoring;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+
+/**
+ * DataSource wrapper that times statement execution for the {@link SlowQuerySampler}
+ * Connections and statements are thin JDK proxies; unwrap/isWrapperFor still reach the
+ * pool, so pool metrics and health checks keep working.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+public class SamplingDataSource extends DelegatingDataSource {
+
+    private final SlowQuerySampler sampler;
+
+    public SamplingDataSource(DataSource target, SlowQuerySampler sampler) {
+        super(target);
+        this.sampler = sampler;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrapConnection(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{Connection.class}, new ConnectionHandler(connection));
+    }
+
+    private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Sampling[" + target + "]";
+                default:
+                    break;
+            }
+            Object result = invokeTarget(target, method, args);
+            if (result instanceof CallableStatement callable) {
+                return wrapStatement(CallableStatement.class, callable, (String) args[0]);
+            }
+            if (result instanceof PreparedStatement prepared) {
+                return wrapStatement(PreparedStatement.class, prepared, (String) args[0]);
+            }
+            if (result instanceof Statement statement) {
+                return wrapStatement(Statement.class, statement, null);
+            }
+            return result;
+        }
+    }
+
+    private Object wrapStatement(Class<? extends Statement> type, Statement statement, String sql) {
+        return Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{type}, new StatementHandler(statement, sql));
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Statement target;
+        private final String preparedSql;
+        private String[] parameterTypes = new String[8];
+        private int parameterCount;
+        private int batchSize;
+
+        StatementHandler(Statement target, String preparedSql) {
+            this.target = target;
+            this.preparedSql = preparedSql;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (name.startsWith("execute")) {
+                return timeExecution(method, args, name);
+            }
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                recordParameter(index, name, args[1]);
+            } else if ("addBatch".equals(name)) {
+                batchSize++;
+            } else if ("clearParameters".equals(name)) {
+                parameterCount = 0;
+            } else if ("equals".equals(name)) {
+                return proxy == args[0];
+            } else if ("hashCode".equals(name)) {
+                return System.identityHashCode(proxy);
+            }
+            return invokeTarget(target, method, args);
+        }
+
+        private Object timeExecution(Method method, Object[] args, String name) throws Throwable {
+            String sql = preparedSql;
+            if (sql == null && args != null && args.length > 0 && args[0] instanceof String text) {
+                sql = text;
+            }
+            long start = System.nanoTime();
+            try {
+                return invokeTarget(target, method, args);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                if (sql != null) {
+                    sampler.record(sql, elapsed, shape(name.startsWith("executeBatch") || name.startsWith("executeLargeBatch")));
+                }
+                if (name.contains("Batch")) {
+                    batchSize = 0;
+                }
+            }
+        }
+
+        private void recordParameter(int index, String setter, Object value) {
+            if (index < 1 || index > 1000) {
+                return;
+            }
+            if (index > parameterTypes.length) {
+                parameterTypes = Arrays.copyOf(parameterTypes, Math.max(index, parameterTypes.length * 2));
+            }
+            String type;
+            if ("setNull".equals(setter) || value == null) {
+                type = "null";
+            } else if ("setObject".equals(setter)) {
+                type = value.getClass().getSimpleName();
+            } else {
+                type = setter.substring(3);
+            }
+            parameterTypes[index - 1] = type;
+            parameterCount = Math.max(parameterCount, index);
+        }
+
+        private String shape(boolean batch) {
+            StringBuilder builder = new StringBuilder("(");
+            for (int i = 0; i < parameterCount; i++) {
+                if (i > 0) {
+                    builder.append(", ");
+                }
+                builder.append(parameterTypes[i] == null ? "?" : parameterTypes[i]);
+            }
+            builder.append(')');
+            if (batch) {
+                builder.append(" x ").append(batchSize);
+            }
+            return builder.toString();
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package in.taxgenie.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Servlet filter that starts the request {@link PhaseTimer} and publishes per-phase timers
+ * JSON responses of opted-in requests get their Server-Timing header from
+ * {@link TimedJacksonHttpMessageConverter} (so serialization is included); other
+ * responses get it here if they are not yet committed
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+    private static final RequestPhase[] PHASES = RequestPhase.values();
+
+    private final MeterRegistry meterRegistry;
+    private final RouteTags routeTags;
+    private final ServerTimingPolicy serverTimingPolicy;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        PhaseTimer timer = PhaseTimer.start();
+        timer.setReportRequested(serverTimingPolicy.isRequestedByHeader(request));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            PhaseTimer.clear();
+            if (timer.isReportRequested() && !response.isCommitted()
+                    && !response.containsHeader(ServerTimingPolicy.SERVER_TIMING_HEADER)) {
+                response.setHeader(ServerTimingPolicy.SERVER_TIMING_HEADER, timer.toServerTimingHeader());
+            }
+            publish(request, timer);
+        }
+    }
+
+    private void publish(HttpServletRequest request, PhaseTimer timer) {
+        String route = routeTags.resolve(request);
+        if (RouteTags.UNMATCHED_ROUTE.equals(route)) {
+            return;
+        }
+        for (RequestPhase phase : PHASES) {
+            phaseTimer(route, phase.getMetricName()).record(timer.getNanos(phase), TimeUnit.NANOSECONDS);
+        }
+        phaseTimer(route, "app").record(timer.getUnattributedNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private Timer phaseTimer(String route, String phase) {
+        return Timer.builder("asn.request.phase")
+                .description("Exclusive time per request phase")
+                .tags("route", route, "phase", phase)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,61 @@
+package in.taxgenie.monitoring;
+
+import in.taxgenie.multitenancy.context.TenantContext;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Decides which requests receive a Server-Timing header
+ * Timings are always recorded as metrics; the header is opt-in, either per request via
+ * the debug header or for configured tenants. The debug header is ignored unless enabled,
+ * since the timings tell any client how long the database took.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Component
+public class ServerTimingPolicy {
+
+    public static final String DEBUG_HEADER = "X-Debug-Timing";
+    public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private final boolean headerOptIn;
+    private final Set<Long> tenants;
+
+    public ServerTimingPolicy(@Value("${asn.vendor.portal.monitoring.server-timing.header-opt-in:false}") boolean headerOptIn,
+                              @Value("${asn.vendor.portal.monitoring.server-timing.tenants:}") String tenants) {
+        this.headerOptIn = headerOptIn;
+        this.tenants = Arrays.stream(tenants.split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .map(Long::valueOf)
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    /**
+     * Request-level opt-in, evaluated when the timer starts
+     */
+    public boolean isRequestedByHeader(HttpServletRequest request) {
+        return headerOptIn && "true".equalsIgnoreCase(request.getHeader(DEBUG_HEADER));
+    }
+
+    /**
+     * Full decision, evaluated once the tenant is known; remembers a tenant match on the timer
+     */
+    public boolean shouldReport(PhaseTimer timer) {
+        if (timer.isReportRequested()) {
+            return true;
+        }
+        Long tenant = TenantContext.getCurrentTenant();
+        if (tenant != null && tenants.contains(tenant)) {
+            timer.setReportRequested(true);
+            return true;
+        }
+        return false;
+    }
+}
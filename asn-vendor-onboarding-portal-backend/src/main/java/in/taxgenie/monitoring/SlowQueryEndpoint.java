@@ -0,0 +1,42 @@
+package in.taxgenie.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Actuator endpoint exposing the slow-query sampler (admin only, see SecurityConfig)
+ * GET /actuator/slowqueries returns the top fingerprints by total time and the slowest
+ * captured executions; DELETE clears the slowest list
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Component
+@Endpoint(id = "slowqueries")
+@RequiredArgsConstructor
+public class SlowQueryEndpoint {
+
+    private final SlowQuerySampler sampler;
+
+    @ReadOperation
+    public Map<String, Object> slowQueries(@Nullable Integer limit) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("generatedAt", Instant.now());
+        report.put("fingerprints", sampler.getTopFingerprints(limit != null && limit > 0 ? limit : 50));
+        report.put("slowest", sampler.getSlowest());
+        return report;
+    }
+
+    @DeleteOperation
+    public void reset() {
+        sampler.resetSlowest();
+    }
+}
@@ -0,0 +1,27 @@
+package in.taxgenie.monitoring;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * One captured slow execution: the query shape, the bind-parameter types (never values)
+ * and the tenant it ran for
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlowQuerySample {
+
+    private String fingerprintId;
+    private String fingerprint;
+    private double durationMs;
+    private String parameterShape;
+    private Long companyCode;
+    private String thread;
+    private Instant capturedAt;
+}
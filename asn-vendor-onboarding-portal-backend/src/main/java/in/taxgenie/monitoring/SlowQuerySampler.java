@@ -0,0 +1,177 @@
+package in.taxgenie.monitoring;
+
+import in.taxgenie.multitenancy.context.TenantContext;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Always-on sampler for JDBC executions
+ * Every execution is attributed to its SQL fingerprint; executions above the slow
+ * threshold are counted, and the slowest N are kept with their bind-parameter shape and
+ * tenant. The hot path is lock-free: the slowest-N heap is only locked for executions
+ * slower than the current admission bar.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class SlowQuerySampler {
+
+    static final String OVERFLOW_ID = "other";
+
+    private final MeterRegistry meterRegistry;
+    private final long slowThresholdNanos;
+    private final int slowestSize;
+    private final int maxFingerprints;
+    private final int maxExportedFingerprints;
+
+    private final Map<String, String> fingerprintCache = new ConcurrentHashMap<>();
+    private final Map<String, QueryFingerprintStats> statsById = new ConcurrentHashMap<>();
+    private final AtomicInteger exportedFingerprints = new AtomicInteger();
+    private final Counter slowCounter;
+
+    private final PriorityQueue<SlowQuerySample> slowest =
+            new PriorityQueue<>(Comparator.comparingDouble(SlowQuerySample::getDurationMs));
+    private volatile long admissionNanos;
+
+    public SlowQuerySampler(MeterRegistry meterRegistry,
+                            @Value("${asn.vendor.portal.monitoring.slow-queries.threshold-ms:200}") long slowThresholdMs,
+                            @Value("${asn.vendor.portal.monitoring.slow-queries.slowest-size:50}") int slowestSize,
+                            @Value("${asn.vendor.portal.monitoring.slow-queries.max-fingerprints:1000}") int maxFingerprints,
+                            @Value("${asn.vendor.portal.monitoring.slow-queries.max-exported-fingerprints:100}") int maxExportedFingerprints) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+        this.slowestSize = slowestSize;
+        this.maxFingerprints = maxFingerprints;
+        this.maxExportedFingerprints = maxExportedFingerprints;
+        this.admissionNanos = slowThresholdNanos;
+        this.slowCounter = Counter.builder("asn.db.query.slow")
+                .description("JDBC executions slower than the slow-query threshold")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Records one JDBC execution
+     * @param sql statement text as sent to the driver
+     * @param nanos execution time
+     * @param parameterShape bind-parameter types, e.g. "(UUID, Long) x 3"
+     */
+    public void record(String sql, long nanos, String parameterShape) {
+        try {
+            QueryFingerprintStats stats = statsFor(sql);
+            stats.record(nanos);
+            if (nanos >= slowThresholdNanos) {
+                slowCounter.increment();
+            }
+            if (nanos >= admissionNanos) {
+                admit(stats, nanos, parameterShape);
+            }
+        } catch (RuntimeException e) {
+            // Instrumentation must never fail the query it observes
+            log.debug("Slow query sampler failed: {}", e.getMessage());
+        }
+    }
+
+    private QueryFingerprintStats statsFor(String sql) {
+        String fingerprint = fingerprintCache.get(sql);
+        if (fingerprint == null) {
+            fingerprint = SqlFingerprint.normalize(sql);
+            // Hibernate emits a fixed set of statements; the cap protects against ad-hoc literal SQL
+            if (fingerprintCache.size() < maxFingerprints * 4) {
+                fingerprintCache.put(sql, fingerprint);
+            }
+        }
+        String id = SqlFingerprint.idOf(fingerprint);
+        QueryFingerprintStats stats = statsById.get(id);
+        if (stats != null) {
+            return stats;
+        }
+        if (statsById.size() >= maxFingerprints) {
+            return statsById.computeIfAbsent(OVERFLOW_ID, key -> new QueryFingerprintStats(key, "(fingerprints beyond cap)", timer(key)));
+        }
+        String text = fingerprint;
+        return statsById.computeIfAbsent(id, key -> new QueryFingerprintStats(key, text, timer(key)));
+    }
+
+    private Timer timer(String id) {
+        String tag = id;
+        if (!OVERFLOW_ID.equals(id) && exportedFingerprints.incrementAndGet() > maxExportedFingerprints) {
+            tag = OVERFLOW_ID;
+        }
+        return Timer.builder("asn.db.query")
+                .description("JDBC execution time by SQL fingerprint id (see the slowqueries actuator endpoint)")
+                .tag("query", tag)
+                .register(meterRegistry);
+    }
+
+    private void admit(QueryFingerprintStats stats, long nanos, String parameterShape) {
+        SlowQuerySample sample = SlowQuerySample.builder()
+                .fingerprintId(stats.getId())
+                .fingerprint(stats.getFingerprint())
+                .durationMs(QueryFingerprintStats.toMillis(nanos))
+                .parameterShape(parameterShape)
+                .companyCode(TenantContext.getCurrentTenant())
+                .thread(Thread.currentThread().getName())
+                .capturedAt(Instant.now())
+                .build();
+        synchronized (slowest) {
+            slowest.add(sample);
+            if (slowest.size() > slowestSize) {
+                slowest.poll();
+            }
+            if (slowest.size() >= slowestSize) {
+                admissionNanos = Math.max(slowThresholdNanos,
+                        (long) (slowest.peek().getDurationMs() * 1_000_000));
+            }
+        }
+    }
+
+    /**
+     * Slowest captured executions, slowest first
+     */
+    public List<SlowQuerySample> getSlowest() {
+        List<SlowQuerySample> samples;
+        synchronized (slowest) {
+            samples = new ArrayList<>(slowest);
+        }
+        samples.sort(Comparator.comparingDouble(SlowQuerySample::getDurationMs).reversed());
+        return samples;
+    }
+
+    /**
+     * Fingerprints ordered by total time spent, the usual starting point for tuning
+     */
+    public List<Map<String, Object>> getTopFingerprints(int limit) {
+        return statsById.values().stream()
+                .sorted(Comparator.comparingLong(QueryFingerprintStats::getTotalNanos).reversed())
+                .limit(limit)
+                .map(QueryFingerprintStats::snapshot)
+                .toList();
+    }
+
+    /**
+     * Clears the slowest-N list so a fresh window can be observed; fingerprint totals and
+     * meters are cumulative and kept
+     */
+    public void resetSlowest() {
+        synchronized (slowest) {
+            slowest.clear();
+            admissionNanos = slowThresholdNanos;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package in.taxgenie.monitoring;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalizes SQL text into a fingerprint shared by all executions of the same query shape
+ * Comments are dropped, literals become ?, whitespace is collapsed, the text is lower-cased
+ * and IN lists of any length fold to a single (?...) so padded parameter lists group together
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+public final class SqlFingerprint {
+
+    private static final int MAX_LENGTH = 2000;
+    private static final int ID_LENGTH = 8;
+    private static final String ID_PADDING = "00000000";
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\?(?:, ?\\?)+\\)");
+
+    private SqlFingerprint() {
+    }
+
+    public static String normalize(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        StringBuilder out = new StringBuilder(Math.min(sql.length(), MAX_LENGTH));
+        int length = sql.length();
+        int i = 0;
+        boolean pendingSpace = false;
+        while (i < length && out.length() < MAX_LENGTH) {
+            char c = sql.charAt(i);
+            if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+                pendingSpace = out.length() > 0;
+                continue;
+            }
+            if (c == '-' && i + 1 < length && sql.charAt(i + 1) == '-') {
+                int end = sql.indexOf('\n', i);
+                i = end < 0 ? length : end + 1;
+                pendingSpace = out.length() > 0;
+                continue;
+            }
+            if (Character.isWhitespace(c)) {
+                pendingSpace = out.length() > 0;
+                i++;
+                continue;
+            }
+            if (pendingSpace) {
+                char last = out.charAt(out.length() - 1);
+                if (last != '(' && c != ')' && c != ',') {
+                    out.append(' ');
+                }
+                pendingSpace = false;
+            }
+            if (c == '\'') {
+                // String literal, '' is an escaped quote
+                i++;
+                while (i < length) {
+                    if (sql.charAt(i) == '\'') {
+                        if (i + 1 < length && sql.charAt(i + 1) == '\'') {
+                            i += 2;
+                            continue;
+                        }
+                        break;
+                    }
+                    i++;
+                }
+                i++;
+                out.append('?');
+                continue;
+            }
+            if (Character.isDigit(c) && !continuesIdentifier(out)) {
+                while (i < length && (Character.isDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                out.append('?');
+                continue;
+            }
+            if (c == ',' && out.length() > 0 && out.charAt(out.length() - 1) == ' ') {
+                out.setLength(out.length() - 1);
+            }
+            out.append(Character.toLowerCase(c));
+            i++;
+        }
+        String normalized = out.toString().toLowerCase(Locale.ROOT);
+        if (normalized.indexOf('(') >= 0) {
+            normalized = PARAMETER_LIST.matcher(normalized).replaceAll("(?...)");
+        }
+        return normalized;
+    }
+
+    /**
+     * Short stable id for a fingerprint, used as the metric tag and endpoint key
+     */
+    public static String idOf(String fingerprint) {
+        // Runs for every statement; String.format would parse its pattern each time
+        String hex = Integer.toHexString(fingerprint.hashCode());
+        return hex.length() == ID_LENGTH ? hex : ID_PADDING.substring(hex.length()) + hex;
+    }
+
+    private static boolean continuesIdentifier(StringBuilder out) {
+        if (out.length() == 0) {
+            return false;
+        }
+        char last = out.charAt(out.length() - 1);
+        return Character.isLetterOrDigit(last) || last == '_' || last == '$';
+    }
+}
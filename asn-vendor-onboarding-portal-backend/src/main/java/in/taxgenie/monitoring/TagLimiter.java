@@ -0,0 +1,59 @@
+package in.taxgenie.monitoring;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cardinality limiter for a single metric tag
+ * Pinned values are always kept; other values are admitted first come, first served up
+ * to the limit and everything after that folds into {@value #OTHER}. Admission is
+ * permanent for the life of the process so existing series never change their tags.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+public final class TagLimiter {
+
+    public static final String OTHER = "other";
+    public static final String NONE = "none";
+
+    private final int maxValues;
+    private final Set<String> pinned;
+    private final Set<String> admitted = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger admittedCount = new AtomicInteger();
+
+    public TagLimiter(int maxValues, Collection<String> pinned) {
+        this.maxValues = maxValues;
+        this.pinned = Set.copyOf(pinned);
+    }
+
+    /**
+     * @return the value itself if pinned or admitted, otherwise "other"; "none" for null
+     */
+    public String limit(String value) {
+        if (value == null || value.isEmpty()) {
+            return NONE;
+        }
+        if (pinned.contains(value) || admitted.contains(value)) {
+            return value;
+        }
+        // Reserve a slot before adding so concurrent callers cannot overshoot the limit
+        if (admittedCount.incrementAndGet() <= maxValues) {
+            if (!admitted.add(value)) {
+                admittedCount.decrementAndGet();
+            }
+            return value;
+        }
+        admittedCount.decrementAndGet();
+        return OTHER;
+    }
+
+    /**
+     * Number of distinct values the tag can take, including "other" and "none"
+     */
+    public int maxDistinctValues() {
+        return pinned.size() + maxValues + 2;
+    }
+}
@@ -0,0 +1,100 @@
+package in.taxgenie.monitoring;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Startup check of the request execution mode
+ * With spring.threads.virtual.enabled on Java 21+, Tomcat and the application task executor
+ * run on virtual threads and the thread count stops being a limit; the Hikari pool becomes
+ * the only backpressure point, and requests that cannot get a connection wait for up to
+ * the Hikari connection timeout. This logs the effective mode and warns when the
+ * configuration would let requests pile up silently. Watch hikaricp.connections.pending
+ * when comparing modes; portal.threading.virtual tells the runs apart.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class ThreadingModeCheck {
+
+    static final int VIRTUAL_THREADS_MIN_JAVA = 21;
+
+    private final boolean virtualRequested;
+    private final int javaFeatureVersion;
+    private final int tomcatMaxThreads;
+    private final int asyncMaxPoolSize;
+    private final int hikariMaxPoolSize;
+    private final long hikariConnectionTimeoutMs;
+    private final long maxConnectionWaitMs;
+
+    public ThreadingModeCheck(MeterRegistry meterRegistry,
+                              @Value("${spring.threads.virtual.enabled:false}") boolean virtualRequested,
+                              @Value("${server.tomcat.threads.max:200}") int tomcatMaxThreads,
+                              @Value("${spring.task.execution.pool.max-size:2147483647}") int asyncMaxPoolSize,
+                              @Value("${spring.datasource.hikari.maximum-pool-size:10}") int hikariMaxPoolSize,
+                              @Value("${spring.datasource.hikari.connection-timeout:30000}") long hikariConnectionTimeoutMs,
+                              @Value("${asn.vendor.portal.threading.max-connection-wait-ms:5000}") long maxConnectionWaitMs) {
+        this.virtualRequested = virtualRequested;
+        this.javaFeatureVersion = Runtime.version().feature();
+        this.tomcatMaxThreads = tomcatMaxThreads;
+        this.asyncMaxPoolSize = asyncMaxPoolSize;
+        this.hikariMaxPoolSize = hikariMaxPoolSize;
+        this.hikariConnectionTimeoutMs = hikariConnectionTimeoutMs;
+        this.maxConnectionWaitMs = maxConnectionWaitMs;
+
+        Gauge.builder("portal.threading.virtual", this, check -> check.isVirtualActive() ? 1 : 0)
+                .description("1 when requests run on virtual threads")
+                .register(meterRegistry);
+    }
+
+    public boolean isVirtualActive() {
+        return virtualRequested && javaFeatureVersion >= VIRTUAL_THREADS_MIN_JAVA;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report() {
+        if (isVirtualActive()) {
+            log.info("Requests and async tasks run on virtual threads; database concurrency is capped by the Hikari pool of {} connections",
+                    hikariMaxPoolSize);
+        } else {
+            log.info("Requests run on up to {} platform threads; database concurrency is capped by the Hikari pool of {} connections",
+                    tomcatMaxThreads, hikariMaxPoolSize);
+        }
+        findings(virtualRequested, javaFeatureVersion, asyncMaxPoolSize, hikariMaxPoolSize,
+                hikariConnectionTimeoutMs, maxConnectionWaitMs).forEach(log::warn);
+    }
+
+    /**
+     * Configuration problems for the given mode, empty when the setup is consistent
+     */
+    static List<String> findings(boolean virtualRequested, int javaFeatureVersion, int asyncMaxPoolSize,
+                                 int hikariMaxPoolSize, long hikariConnectionTimeoutMs, long maxConnectionWaitMs) {
+        List<String> findings = new ArrayList<>();
+        boolean virtualActive = virtualRequested && javaFeatureVersion >= VIRTUAL_THREADS_MIN_JAVA;
+
+        if (virtualRequested && !virtualActive) {
+            findings.add("spring.threads.virtual.enabled is set but Java " + javaFeatureVersion
+                    + " has no virtual threads (Java " + VIRTUAL_THREADS_MIN_JAVA + "+ required); staying on platform threads");
+        }
+        if (virtualActive && hikariConnectionTimeoutMs > maxConnectionWaitMs) {
+            findings.add("Virtual threads queue on the connection pool instead of the thread pool, for up to "
+                    + hikariConnectionTimeoutMs + " ms per request; lower spring.datasource.hikari.connection-timeout to "
+                    + maxConnectionWaitMs + " ms or less so overload fails fast");
+        }
+        if (!virtualActive && asyncMaxPoolSize >= hikariMaxPoolSize) {
+            findings.add("The task executor may run " + asyncMaxPoolSize + " tasks but the Hikari pool has only "
+                    + hikariMaxPoolSize + " connections; async work can starve request threads of connections");
+        }
+        return findings;
+    }
+}
@@ -0,0 +1,66 @@
+package in.taxgenie.monitoring;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.reflect.Type;
+
+/**
+ * JSON converter that charges serialization to the request's {@link PhaseTimer}
+ * For requests that opted into Server-Timing the body is serialized into memory first so
+ * the header, which must precede the body, can include the serialization time
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+public class TimedJacksonHttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    private final ServerTimingPolicy serverTimingPolicy;
+
+    public TimedJacksonHttpMessageConverter(ObjectMapper objectMapper, ServerTimingPolicy serverTimingPolicy) {
+        super(objectMapper);
+        this.serverTimingPolicy = serverTimingPolicy;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        PhaseTimer timer = PhaseTimer.current();
+        if (timer == null) {
+            super.writeInternal(object, type, outputMessage);
+            return;
+        }
+        if (!serverTimingPolicy.shouldReport(timer)) {
+            try (PhaseTimer.Scope ignored = PhaseTimer.enter(RequestPhase.SERIALIZATION)) {
+                super.writeInternal(object, type, outputMessage);
+            }
+            return;
+        }
+
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(1024);
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(RequestPhase.SERIALIZATION)) {
+            super.writeInternal(object, type, new BufferedOutputMessage(outputMessage.getHeaders(), buffer));
+        }
+        outputMessage.getHeaders().set(ServerTimingPolicy.SERVER_TIMING_HEADER, timer.toServerTimingHeader());
+        buffer.writeTo(outputMessage.getBody());
+    }
+
+    private record BufferedOutputMessage(HttpHeaders headers, OutputStream body) implements HttpOutputMessage {
+
+        @Override
+        public OutputStream getBody() {
+            return body;
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package in.taxgenie.monitoring.jfr;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * Handler interceptor that emits a {@link ControllerInvocationEvent} per controller call
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+public class ControllerEventInterceptor implements HandlerInterceptor {
+
+    private static final String EVENT_ATTRIBUTE = ControllerEventInterceptor.class.getName() + ".event";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod) {
+            ControllerInvocationEvent event = new ControllerInvocationEvent();
+            if (event.isEnabled()) {
+                event.begin();
+                request.setAttribute(EVENT_ATTRIBUTE, event);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object attribute = request.getAttribute(EVENT_ATTRIBUTE);
+        if (attribute instanceof ControllerInvocationEvent event && handler instanceof HandlerMethod handlerMethod) {
+            request.removeAttribute(EVENT_ATTRIBUTE);
+            event.complete(handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName(),
+                    request.getMethod(), response.getStatus(), ex != null);
+        }
+    }
+}
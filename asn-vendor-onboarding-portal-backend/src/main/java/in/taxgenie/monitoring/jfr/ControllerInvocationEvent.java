@@ -0,0 +1,39 @@
+package in.taxgenie.monitoring.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One controller handler invocation, from handler selection to completion
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Name("in.taxgenie.ControllerInvocation")
+@Label("Controller Invocation")
+public class ControllerInvocationEvent extends PortalEvent {
+
+    @Label("Handler")
+    private String handler;
+
+    @Label("HTTP Method")
+    private String httpMethod;
+
+    @Label("Status")
+    private int status;
+
+    @Label("Failed")
+    private boolean failed;
+
+    public void complete(String handler, String httpMethod, int status, boolean failed) {
+        end();
+        if (shouldCommit()) {
+            attribute();
+            this.handler = handler;
+            this.httpMethod = httpMethod;
+            this.status = status;
+            this.failed = failed;
+            commit();
+        }
+    }
+}
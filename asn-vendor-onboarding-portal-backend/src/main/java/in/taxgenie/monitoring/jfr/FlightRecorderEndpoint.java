@@ -0,0 +1,84 @@
+package in.taxgenie.monitoring.jfr;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * Actuator endpoint that dumps the last N minutes of the continuous flight recording
+ * GET /actuator/jfr?minutes=10 returns a .jfr file (admin only, see SecurityConfig)
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@Endpoint(id = "jfr")
+@RequiredArgsConstructor
+public class FlightRecorderEndpoint {
+
+    private static final int DEFAULT_MINUTES = 10;
+
+    private final ObjectProvider<FlightRecorderService> flightRecorderServiceProvider;
+
+    @ReadOperation(produces = "application/octet-stream")
+    public WebEndpointResponse<Resource> dump(@Nullable Integer minutes) {
+        FlightRecorderService flightRecorderService = flightRecorderServiceProvider.getIfAvailable();
+        if (flightRecorderService == null || !flightRecorderService.isRecording()) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+        }
+        int window = minutes != null && minutes > 0 ? minutes : DEFAULT_MINUTES;
+        try {
+            Path file = flightRecorderService.dump(Duration.ofMinutes(window));
+            return new WebEndpointResponse<>(new TemporaryFileResource(file), WebEndpointResponse.STATUS_OK);
+        } catch (FlightRecorderService.DumpInProgressException e) {
+            log.warn("Flight recording dump rejected: {}", e.getMessage());
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS);
+        } catch (IllegalStateException e) {
+            // The recording stopped after the check above
+            log.warn("Flight recording dump unavailable: {}", e.getMessage());
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE);
+        } catch (IOException e) {
+            log.error("Flight recording dump failed", e);
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * File resource that deletes the dump once it has been streamed
+     */
+    private static final class TemporaryFileResource extends FileSystemResource {
+
+        TemporaryFileResource(Path file) {
+            super(file);
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            return new FilterInputStream(super.getInputStream()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        Files.deleteIfExists(getFile().toPath());
+                    }
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package in.taxgenie.monitoring.jfr;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import javax.management.ObjectName;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Owns the continuous flight recording
+ * The recording runs with the JDK "default" settings (designed for production, ~1%
+ * overhead) plus the portal events, and keeps a bounded ring of data on disk. Dumps of
+ * the last N minutes go through the JFR.dump diagnostic command, which supports a
+ * relative begin time; one dump runs at a time.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "asn.vendor.portal.monitoring.jfr.enabled", havingValue = "true", matchIfMissing = true)
+public class FlightRecorderService {
+
+    static final String RECORDING_NAME = "asn-continuous";
+
+    private static final List<Class<? extends PortalEvent>> PORTAL_EVENTS = List.of(
+            JwtVerificationEvent.class,
+            TenantFilterEvent.class,
+            MaskingEvent.class,
+            RepositoryCallEvent.class,
+            ControllerInvocationEvent.class);
+
+    private final Duration maxAge;
+    private final long maxSizeBytes;
+    private final Duration repositoryCallThreshold;
+    private final AtomicBoolean dumpInProgress = new AtomicBoolean();
+
+    private Recording recording;
+
+    public FlightRecorderService(@Value("${asn.vendor.portal.monitoring.jfr.max-age-minutes:30}") long maxAgeMinutes,
+                                @Value("${asn.vendor.portal.monitoring.jfr.max-size-mb:250}") long maxSizeMb,
+                                @Value("${asn.vendor.portal.monitoring.jfr.repository-call-threshold-ms:5}") long repositoryCallThresholdMs) {
+        this.maxAge = Duration.ofMinutes(maxAgeMinutes);
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+        this.repositoryCallThreshold = Duration.ofMillis(repositoryCallThresholdMs);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!FlightRecorder.isAvailable()) {
+            log.warn("Flight Recorder not available in this JVM, continuous recording disabled");
+            return;
+        }
+        PORTAL_EVENTS.forEach(FlightRecorder::register);
+        try {
+            recording = new Recording(Configuration.getConfiguration("default"));
+        } catch (IOException | ParseException e) {
+            log.warn("Could not load JFR default settings, recording portal events only: {}", e.getMessage());
+            recording = new Recording();
+        }
+        recording.setName(RECORDING_NAME);
+        recording.setToDisk(true);
+        recording.setMaxAge(maxAge);
+        recording.setMaxSize(maxSizeBytes);
+        recording.enable(JwtVerificationEvent.class);
+        recording.enable(TenantFilterEvent.class);
+        recording.enable(MaskingEvent.class);
+        recording.enable(ControllerInvocationEvent.class);
+        // Repository calls are frequent; keep only the ones worth looking at
+        recording.enable(RepositoryCallEvent.class).withThreshold(repositoryCallThreshold);
+        recording.start();
+        log.info("Started continuous flight recording '{}' (max age {}, max size {} MB)",
+                RECORDING_NAME, maxAge, maxSizeBytes / (1024 * 1024));
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    public boolean isRecording() {
+        return recording != null;
+    }
+
+    /**
+     * Writes the last {@code window} of the continuous recording to a temporary .jfr file
+     * @return the file; the caller owns and deletes it
+     * @throws DumpInProgressException when another dump is running
+     * @throws IllegalStateException when no recording is active
+     */
+    public Path dump(Duration window) throws IOException {
+        if (recording == null) {
+            throw new IllegalStateException("Continuous flight recording is not running");
+        }
+        if (!dumpInProgress.compareAndSet(false, true)) {
+            throw new DumpInProgressException();
+        }
+        Path file = null;
+        boolean dumped = false;
+        try {
+            file = Files.createTempFile("asn-portal-", ".jfr");
+            try {
+                dumpWindow(file, window);
+            } catch (Exception e) {
+                // Fall back to the full ring if the diagnostic command is unavailable
+                log.warn("JFR.dump with begin offset failed, dumping the whole recording: {}", e.getMessage());
+                recording.dump(file);
+            }
+            dumped = true;
+            return file;
+        } finally {
+            dumpInProgress.set(false);
+            // Only a file handed to the caller outlives the call
+            if (!dumped && file != null) {
+                deleteQuietly(file);
+            }
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete failed flight recording dump {}: {}", file, e.getMessage());
+        }
+    }
+
+    private void dumpWindow(Path file, Duration window) throws Exception {
+        String[] arguments = {
+                "name=" + RECORDING_NAME,
+                "filename=" + file.toAbsolutePath(),
+                "begin=-" + Math.max(1, window.toSeconds()) + "s"
+        };
+        ManagementFactory.getPlatformMBeanServer().invoke(
+                new ObjectName("com.sun.management:type=DiagnosticCommand"),
+                "jfrDump",
+                new Object[]{arguments},
+                new String[]{String[].class.getName()});
+        if (Files.size(file) == 0) {
+            throw new IOException("JFR.dump produced an empty file");
+        }
+    }
+
+    /**
+     * Thrown when a dump is requested while another one is still being written
+     */
+    public static final class DumpInProgressException extends IllegalStateException {
+
+        public DumpInProgressException() {
+            super("A flight recording dump is already in progress");
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package in.taxgenie.monitoring.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JWT verification and authentication of a bearer token
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Name("in.taxgenie.JwtVerification")
+@Label("JWT Verification")
+public class JwtVerificationEvent extends PortalEvent {
+
+    @Label("Token Type")
+    private String tokenType;
+
+    @Label("Authenticated")
+    private boolean authenticated;
+
+    public void complete(String tokenType, boolean authenticated) {
+        end();
+        if (shouldCommit()) {
+            attribute();
+            this.tokenType = tokenType;
+            this.authenticated = authenticated;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package in.taxgenie.monitoring.jfr;
+
+import jdk.jfr.DataAmount;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Sensitive-data masking of a log message or payload
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Name("in.taxgenie.Masking")
+@Label("Sensitive Data Masking")
+public class MaskingEvent extends PortalEvent {
+
+    @Label("Input Size")
+    @DataAmount
+    private long inputSize;
+
+    @Label("JSON")
+    private boolean json;
+
+    public void complete(long inputSize, boolean json) {
+        end();
+        if (shouldCommit()) {
+            attribute();
+            this.inputSize = inputSize;
+            this.json = json;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package in.taxgenie.monitoring.jfr;
+
+import in.taxgenie.multitenancy.context.TenantContext;
+import jakarta.servlet.http.HttpServletRequest;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.StackTrace;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * Base for the portal's JDK Flight Recorder events
+ * Every event carries the tenant and route it ran for, so recordings can be sliced per
+ * tenant alongside GC, lock and I/O events. Stack traces are off to keep events cheap.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Category("ASN Portal")
+@StackTrace(false)
+public abstract class PortalEvent extends Event {
+
+    @Label("Tenant")
+    @Description("Company code from TenantContext, 0 when none")
+    protected long tenant;
+
+    @Label("Route")
+    @Description("Handler path template, or the request URI before handler mapping")
+    protected String route;
+
+    /**
+     * Fills tenant and route from the current thread; call only when shouldCommit() is true
+     */
+    protected void attribute() {
+        Long currentTenant = TenantContext.getCurrentTenant();
+        tenant = currentTenant != null ? currentTenant : 0L;
+        route = currentRoute();
+    }
+
+    static String currentRoute() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (!(attributes instanceof ServletRequestAttributes servletAttributes)) {
+            return null;
+        }
+        HttpServletRequest request = servletAttributes.getRequest();
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : request.getRequestURI();
+    }
+}
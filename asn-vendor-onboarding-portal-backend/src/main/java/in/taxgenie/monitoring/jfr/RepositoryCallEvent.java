@@ -0,0 +1,35 @@
+package in.taxgenie.monitoring.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * One Spring Data repository method call, including statement execution and hydration
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Name("in.taxgenie.RepositoryCall")
+@Label("Repository Call")
+public class RepositoryCallEvent extends PortalEvent {
+
+    @Label("Repository")
+    private String repository;
+
+    @Label("Method")
+    private String method;
+
+    @Label("Failed")
+    private boolean failed;
+
+    public void complete(String repository, String method, boolean failed) {
+        end();
+        if (shouldCommit()) {
+            attribute();
+            this.repository = repository;
+            this.method = method;
+            this.failed = failed;
+            commit();
+        }
+    }
+}
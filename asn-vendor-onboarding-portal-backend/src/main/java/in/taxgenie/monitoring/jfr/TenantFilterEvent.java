@@ -0,0 +1,27 @@
+package in.taxgenie.monitoring.jfr;
+
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Hibernate company filter enabled or disabled on a session
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Name("in.taxgenie.TenantFilter")
+@Label("Tenant Filter")
+public class TenantFilterEvent extends PortalEvent {
+
+    @Label("Action")
+    private String action;
+
+    public void complete(String action) {
+        end();
+        if (shouldCommit()) {
+            attribute();
+            this.action = action;
+            commit();
+        }
+    }
+}
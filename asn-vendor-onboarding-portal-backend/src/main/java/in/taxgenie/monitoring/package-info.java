@@ -0,0 +1,12 @@
+/**
+ * Runtime instrumentation for the ASN Vendor Onboarding Portal application.
+ * 
+ * This package contains:
+ * - Per-request SQL statement, row and JDBC time accounting
+ * - N+1 query detection
+ * - Micrometer meters for the above
+ * 
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+package in.taxgenie.monitoring;
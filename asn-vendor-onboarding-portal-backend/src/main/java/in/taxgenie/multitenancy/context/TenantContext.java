@@ -3,18 +3,31 @@ package in.taxgenie.multitenancy.context;
 /**
  * Thread-local context for storing tenant information
  * Provides tenant isolation for multi-tenant applications
+ * The tenant and schema are held together in one immutable snapshot per thread. Virtual
+ * threads have their own thread-locals, so the context never leaks through a shared carrier
+ * thread, and one entry instead of two keeps the per-thread cost low when every request
+ * gets its own virtual thread.
  */
 public class TenantContext {
 
-    private static final ThreadLocal<Long> currentTenant = new ThreadLocal<>();
-    private static final ThreadLocal<String> currentSchema = new ThreadLocal<>();
+    private static final Snapshot EMPTY = new Snapshot(null, null);
+
+    private static final ThreadLocal<Snapshot> current = new ThreadLocal<>();
+
+    /**
+     * Immutable tenant state of one thread
+     * @param tenant Tenant ID, may be null
+     * @param schema Database schema, may be null
+     */
+    public record Snapshot(Long tenant, String schema) {
+    }
 
     /**
      * Gets the current tenant ID
      * @return Current tenant ID
      */
     public static Long getCurrentTenant() {
-        return currentTenant.get();
+        return snapshot().tenant();
     }
 
     /**
@@ -22,7 +35,7 @@ public class TenantContext {
      * @param tenant Tenant ID to set
      */
     public static void setCurrentTenant(Long tenant) {
-        currentTenant.set(tenant);
+        restore(new Snapshot(tenant, snapshot().schema()));
     }
 
     /**
@@ -30,7 +43,7 @@ public class TenantContext {
      * @param schema Schema name to set
      */
     public static void setCurrentSchema(String schema) {
-        currentSchema.set(schema);
+        restore(new Snapshot(snapshot().tenant(), schema));
     }
 
     /**
@@ -38,7 +51,28 @@ public class TenantContext {
      * @return Current schema name
      */
     public static String getCurrentSchema() {
-        return currentSchema.get();
+        return snapshot().schema();
+    }
+
+    /**
+     * Captures the current tenant context, e.g. to hand it to another thread
+     * @return Current snapshot, never null
+     */
+    public static Snapshot snapshot() {
+        Snapshot snapshot = current.get();
+        return snapshot != null ? snapshot : EMPTY;
+    }
+
+    /**
+     * Replaces the tenant context with a captured snapshot
+     * @param snapshot Snapshot to restore; null or empty clears the context
+     */
+    public static void restore(Snapshot snapshot) {
+        if (snapshot == null || EMPTY.equals(snapshot)) {
+            current.remove();
+        } else {
+            current.set(snapshot);
+        }
     }
 
     /**
@@ -46,7 +80,6 @@ public class TenantContext {
      * Should be called at the end of request processing
      */
     public static void clear() {
-        currentTenant.remove();
-        currentSchema.remove();
+        current.remove();
     }
 }
@@ -1,8 +1,9 @@
 package in.taxgenie.multitenancy.filter;
 
 import in.taxgenie.auth.IJwtFacilities;
+import in.taxgenie.monitoring.PhaseTimer;
+import in.taxgenie.monitoring.RequestPhase;
 import in.taxgenie.multitenancy.context.TenantContext;
-import in.taxgenie.multitenancy.service.TenantFilterService;
 import jakarta.servlet.*;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -16,7 +17,9 @@ import java.io.IOException;
 
 /**
  * Servlet filter for setting up tenant context on each request
- * Extracts company code from JWT token and sets up tenant filtering
+ * Extracts company code from JWT token; the Hibernate company filter itself is
+ * enabled when a transaction begins (see TenantAwareJpaTransactionManager), so
+ * requests that never touch the database never open a session here
  */
 @Component
 @Order(1)
@@ -27,9 +30,6 @@ public class TenantRequestFilter implements Filter {
     @Autowired
     private IJwtFacilities jwtFacilities;
 
-    @Autowired
-    private TenantFilterService tenantFilterService;
-
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain)
             throws IOException, ServletException {
@@ -44,17 +44,14 @@ public class TenantRequestFilter implements Filter {
             if (authHeader != null && authHeader.startsWith("Bearer ")) {
                 String token = authHeader.substring(7);
                 
-                try {
+                try (PhaseTimer.Scope ignored = PhaseTimer.enter(RequestPhase.TENANT)) {
                     // Extract company code from JWT token
                     Long companyCode = jwtFacilities.getCompanyCodeFromToken(token);
                     
                     if (companyCode != null) {
-                        // Set tenant context
+                        // Set tenant context; the company filter is applied at transaction start
                         TenantContext.setCurrentTenant(companyCode);
                         
-                        // Enable Hibernate filter for this tenant
-                        tenantFilterService.enableCompanyFilter();
-                        
                         logger.debug("Set tenant context for company: {}", companyCode);
                     } else {
                         logger.debug("No company code found in token");
@@ -73,7 +70,6 @@ public class TenantRequestFilter implements Filter {
         } finally {
             // Clean up tenant context after request processing
             try {
-                tenantFilterService.disableCompanyFilter();
                 TenantContext.clear();
                 logger.debug("Cleared tenant context");
             } catch (Exception e) {
@@ -0,0 +1,108 @@
+package in.taxgenie.multitenancy.schema;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.hibernate.engine.jdbc.connections.spi.MultiTenantConnectionProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Hands out pooled connections whose search_path points at the session's schema
+ * Dedicated schemas only hold tenant-owned tables, so their search_path falls back to the
+ * shared schema for global tables such as oem_master and subscription_plans. Pooled
+ * connections keep the shared schema from the JDBC URL, so sessions of shared tenants,
+ * the vast majority, cost no extra round trip; dedicated sessions set and reset the path.
+ */
+public class SchemaRoutingConnectionProvider implements MultiTenantConnectionProvider<String> {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchemaRoutingConnectionProvider.class);
+
+    private final DataSource dataSource;
+    private final TenantSchemaRouting routing;
+
+    public SchemaRoutingConnectionProvider(DataSource dataSource, TenantSchemaRouting routing) {
+        this.dataSource = dataSource;
+        this.routing = routing;
+    }
+
+    @Override
+    public Connection getAnyConnection() throws SQLException {
+        return dataSource.getConnection();
+    }
+
+    @Override
+    public void releaseAnyConnection(Connection connection) throws SQLException {
+        connection.close();
+    }
+
+    @Override
+    public Connection getConnection(String schema) throws SQLException {
+        Connection connection = getAnyConnection();
+        if (!isShared(schema)) {
+            try {
+                setSearchPath(connection, TenantSchemaRouting.quote(schema) + ", " + TenantSchemaRouting.quote(routing.getSharedSchema()));
+            } catch (SQLException | RuntimeException e) {
+                connection.close();
+                throw e;
+            }
+        }
+        return connection;
+    }
+
+    @Override
+    public void releaseConnection(String schema, Connection connection) throws SQLException {
+        try {
+            if (!isShared(schema)) {
+                setSearchPath(connection, TenantSchemaRouting.quote(routing.getSharedSchema()));
+            }
+        } catch (SQLException e) {
+            // Never return a connection to the pool still pointing at a tenant schema
+            logger.warn("Could not reset search_path after schema {}, evicting connection: {}", schema, e.getMessage());
+            evict(connection);
+        } finally {
+            connection.close();
+        }
+    }
+
+    @Override
+    public boolean supportsAggressiveRelease() {
+        return false;
+    }
+
+    @Override
+    public boolean isUnwrappableAs(Class<?> unwrapType) {
+        return unwrapType.isInstance(this);
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> unwrapType) {
+        if (isUnwrappableAs(unwrapType)) {
+            return unwrapType.cast(this);
+        }
+        throw new IllegalArgumentException("Cannot unwrap to " + unwrapType);
+    }
+
+    private boolean isShared(String schema) {
+        return schema == null || routing.getSharedSchema().equals(schema);
+    }
+
+    private static void setSearchPath(Connection connection, String searchPath) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("SET search_path TO " + searchPath);
+        }
+    }
+
+    private void evict(Connection connection) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                dataSource.unwrap(HikariDataSource.class).evictConnection(connection);
+            }
+        } catch (SQLException e) {
+            logger.warn("Could not evict connection: {}", e.getMessage());
+        }
+    }
+}
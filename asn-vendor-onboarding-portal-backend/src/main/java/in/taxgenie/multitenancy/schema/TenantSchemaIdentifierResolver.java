@@ -0,0 +1,30 @@
+package in.taxgenie.multitenancy.schema;
+
+import in.taxgenie.multitenancy.context.TenantContext;
+import org.hibernate.context.spi.CurrentTenantIdentifierResolver;
+
+/**
+ * Resolves the Hibernate tenant identifier, which is the schema name, when a session opens
+ * An explicit TenantContext schema wins, so maintenance code can pin a session to a schema;
+ * otherwise the current tenant is looked up in the routing table.
+ */
+public class TenantSchemaIdentifierResolver implements CurrentTenantIdentifierResolver<String> {
+
+    private final TenantSchemaRouting routing;
+
+    public TenantSchemaIdentifierResolver(TenantSchemaRouting routing) {
+        this.routing = routing;
+    }
+
+    @Override
+    public String resolveCurrentTenantIdentifier() {
+        String schema = TenantContext.getCurrentSchema();
+        return schema != null ? schema : routing.schemaFor(TenantContext.getCurrentTenant());
+    }
+
+    @Override
+    public boolean validateExistingCurrentSessions() {
+        // Sessions are bound to transactions, which never outlive the tenant context
+        return false;
+    }
+}
@@ -0,0 +1,111 @@
+package in.taxgenie.multitenancy.schema;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * In-memory routing table from tenant to database schema
+ * Tenants without a route live in the shared schema and are isolated by the company filter;
+ * routed tenants get their own schema. The table is loaded from tenant_schema_routes by
+ * TenantSchemaRoutingRefreshJob and consulted every time a Hibernate session opens, so
+ * lookups never touch the database.
+ */
+@Component
+public class TenantSchemaRouting {
+
+    private static final Pattern SCHEMA_NAME = Pattern.compile("[a-z_][a-z0-9_]{0,62}");
+
+    /**
+     * Effective route of one tenant
+     * @param schema Schema the tenant's sessions use
+     * @param writesFrozen Whether read-write transactions are refused, set during a cutover
+     */
+    public record Route(String schema, boolean writesFrozen) {
+    }
+
+    private final boolean enabled;
+    private final String sharedSchema;
+    private volatile Map<Long, Route> routes = Map.of();
+    private volatile boolean loaded;
+
+    public TenantSchemaRouting(@Value("${asn.vendor.portal.tenancy.schema-per-tenant.enabled:false}") boolean enabled,
+                               @Value("${asn.vendor.portal.tenancy.shared-schema:sch_asn_vendor_onboarding_portal}") String sharedSchema) {
+        this.enabled = enabled;
+        this.sharedSchema = requireValidSchemaName(sharedSchema);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public String getSharedSchema() {
+        return sharedSchema;
+    }
+
+    /**
+     * Schema for a tenant; the shared schema for unrouted tenants and when no tenant is set
+     */
+    public String schemaFor(Long companyCode) {
+        if (!enabled || companyCode == null) {
+            return sharedSchema;
+        }
+        Route route = routes.get(companyCode);
+        return route != null ? route.schema() : sharedSchema;
+    }
+
+    /**
+     * Whether read-write transactions of a tenant must be refused
+     * Until the routing table has been loaded once, a tenant's schema is unknown, so all
+     * tenant writes are refused rather than risk landing in the wrong schema.
+     */
+    public boolean isWriteFrozen(Long companyCode) {
+        if (!enabled || companyCode == null) {
+            return false;
+        }
+        if (!loaded) {
+            return true;
+        }
+        Route route = routes.get(companyCode);
+        return route != null && route.writesFrozen();
+    }
+
+    /**
+     * Swaps in a freshly loaded routing table
+     */
+    public void replace(Map<Long, Route> loadedRoutes) {
+        routes = Map.copyOf(loadedRoutes);
+        loaded = true;
+    }
+
+    public Map<Long, Route> getRoutes() {
+        return routes;
+    }
+
+    /**
+     * Whether the routing table has been loaded since start-up
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Checks that a schema name is a plain lowercase identifier, safe to quote into SQL
+     * @throws IllegalArgumentException when it is not
+     */
+    public static String requireValidSchemaName(String schemaName) {
+        if (schemaName == null || !SCHEMA_NAME.matcher(schemaName).matches()) {
+            throw new IllegalArgumentException("Invalid schema name: " + schemaName);
+        }
+        return schemaName;
+    }
+
+    /**
+     * Quoted schema identifier for use in SQL
+     */
+    public static String quote(String schemaName) {
+        return "\"" + requireValidSchemaName(schemaName) + "\"";
+    }
+}
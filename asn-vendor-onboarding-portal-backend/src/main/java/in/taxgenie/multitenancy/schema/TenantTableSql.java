@@ -0,0 +1,76 @@
+package in.taxgenie.multitenancy.schema;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * SQL for moving one tenant's rows of a tenant-owned table between schemas
+ * All statements bind the tenant as :companyCode. Column and key lists come from the
+ * catalog of the live tables, so the statements follow schema changes without edits here.
+ */
+public final class TenantTableSql {
+
+    private TenantTableSql() {
+    }
+
+    /**
+     * Inserts the tenant's rows missing from the target and updates those that differ
+     * Unchanged rows are skipped, so repeated catch-up copies only write what changed.
+     */
+    public static String upsert(String sourceSchema, String targetSchema, TenantTables.TenantTable table,
+                                List<String> columns, List<String> keyColumns) {
+        List<String> valueColumns = columns.stream().filter(column -> !keyColumns.contains(column)).toList();
+        StringBuilder sql = new StringBuilder()
+                .append("INSERT INTO ").append(qualified(targetSchema, table)).append(" AS d (").append(list(columns, "")).append(")")
+                .append(" SELECT ").append(list(columns, "t.")).append(" FROM ").append(qualified(sourceSchema, table)).append(" t")
+                .append(" WHERE ").append(table.ownerPredicateIn(sourceSchema))
+                .append(" ON CONFLICT (").append(list(keyColumns, "")).append(")");
+        if (valueColumns.isEmpty()) {
+            return sql.append(" DO NOTHING").toString();
+        }
+        return sql.append(" DO UPDATE SET ")
+                .append(valueColumns.stream().map(column -> quote(column) + " = EXCLUDED." + quote(column)).collect(Collectors.joining(", ")))
+                // Text form compares every column type, including json, which has no equality operator
+                .append(" WHERE CAST(ROW(").append(list(valueColumns, "d.")).append(") AS text)")
+                .append(" IS DISTINCT FROM CAST(ROW(").append(list(valueColumns, "EXCLUDED.")).append(") AS text)")
+                .toString();
+    }
+
+    /**
+     * Deletes the tenant's rows from the target that no longer exist in the source
+     */
+    public static String deleteMissing(String sourceSchema, String targetSchema, TenantTables.TenantTable table,
+                                       List<String> keyColumns) {
+        return "DELETE FROM " + qualified(targetSchema, table) + " t"
+                + " WHERE " + table.ownerPredicateIn(targetSchema)
+                + " AND NOT EXISTS (SELECT 1 FROM " + qualified(sourceSchema, table) + " s WHERE "
+                + keyColumns.stream().map(column -> "s." + quote(column) + " = t." + quote(column)).collect(Collectors.joining(" AND "))
+                + ")";
+    }
+
+    /**
+     * Deletes all of the tenant's rows from a schema
+     */
+    public static String deleteAll(String schema, TenantTables.TenantTable table) {
+        return "DELETE FROM " + qualified(schema, table) + " t WHERE " + table.ownerPredicateIn(schema);
+    }
+
+    /**
+     * Counts the tenant's rows in a schema
+     */
+    public static String count(String schema, TenantTables.TenantTable table) {
+        return "SELECT count(*) FROM " + qualified(schema, table) + " t WHERE " + table.ownerPredicateIn(schema);
+    }
+
+    public static String qualified(String schema, TenantTables.TenantTable table) {
+        return TenantSchemaRouting.quote(schema) + "." + quote(table.name());
+    }
+
+    private static String list(List<String> columns, String prefix) {
+        return columns.stream().map(column -> prefix + quote(column)).collect(Collectors.joining(", "));
+    }
+
+    private static String quote(String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+}
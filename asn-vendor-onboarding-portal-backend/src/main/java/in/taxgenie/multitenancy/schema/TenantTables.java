@@ -0,0 +1,68 @@
+package in.taxgenie.multitenancy.schema;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Tenant-owned tables that move with a tenant between the shared and a dedicated schema
+ * Listed parents first, so copies into the shared schema satisfy its foreign keys and
+ * deletes run in reverse. Tables without a company_code column are owned through their
+ * parent. Everything else (OEMs, plans, system config, job state, analytics) is global
+ * and stays in the shared schema, reachable from dedicated schemas through search_path.
+ * Dedicated schemas are copies of these tables and are not migrated by Flyway, so a new
+ * migration must not touch them until it can be applied to every dedicated schema.
+ */
+public final class TenantTables {
+
+    /**
+     * One tenant-owned table
+     * @param name Table name, identical in every schema
+     * @param ownerPredicate SQL condition selecting one tenant's rows of the table aliased
+     *                       t, with {schema} standing for the table's own schema and
+     *                       :companyCode for the tenant
+     */
+    public record TenantTable(String name, String ownerPredicate) {
+
+        /**
+         * Owner condition for the copy of this table in the given schema
+         */
+        public String ownerPredicateIn(String schema) {
+            return ownerPredicate.replace("{schema}", TenantSchemaRouting.quote(schema));
+        }
+    }
+
+    private static final String BY_COMPANY = "t.company_code = :companyCode";
+    private static final String BY_VENDOR =
+            "t.vendor_id IN (SELECT v.vendor_id FROM {schema}.vendors v WHERE v.company_code = :companyCode)";
+
+    public static final List<TenantTable> ALL = List.of(
+            new TenantTable("vendors", BY_COMPANY),
+            new TenantTable("vendor_gstin", BY_COMPANY),
+            new TenantTable("vendor_codes", BY_COMPANY),
+            new TenantTable("vendor_oem_access", BY_COMPANY),
+            new TenantTable("onboarding_process", BY_COMPANY),
+            new TenantTable("onboarding_events",
+                    "t.onboarding_id IN (SELECT p.onboarding_id FROM {schema}.onboarding_process p WHERE p.company_code = :companyCode)"),
+            new TenantTable("subscriptions", BY_COMPANY),
+            new TenantTable("payment_transactions", BY_VENDOR),
+            new TenantTable("api_credentials", BY_COMPANY),
+            new TenantTable("api_request_logs",
+                    "t.credential_id IN (SELECT c.credential_id FROM {schema}.api_credentials c WHERE c.company_code = :companyCode)"),
+            new TenantTable("api_usage_rollups", BY_VENDOR)
+    );
+
+    /**
+     * The same tables in delete order
+     */
+    public static final List<TenantTable> CHILDREN_FIRST = reverse(ALL);
+
+    private TenantTables() {
+    }
+
+    private static List<TenantTable> reverse(List<TenantTable> tables) {
+        List<TenantTable> reversed = new ArrayList<>(tables);
+        Collections.reverse(reversed);
+        return List.copyOf(reversed);
+    }
+}
@@ -1,5 +1,6 @@
 package in.taxgenie.multitenancy.service;
 
+import in.taxgenie.monitoring.jfr.TenantFilterEvent;
 import in.taxgenie.multitenancy.context.TenantContext;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
@@ -30,9 +31,12 @@ public class TenantFilterService {
         Long currentTenant = TenantContext.getCurrentTenant();
         
         if (currentTenant != null) {
+            TenantFilterEvent event = new TenantFilterEvent();
+            event.begin();
             Session session = entityManager.unwrap(Session.class);
             Filter filter = session.enableFilter(COMPANY_FILTER);
             filter.setParameter("companyCode", currentTenant);
+            event.complete("enable");
             
             logger.debug("Enabled company filter for tenant: {}", currentTenant);
         } else {
@@ -40,14 +44,33 @@ public class TenantFilterService {
         }
     }
 
+    /**
+     * Enables the company filter on a specific entity manager for the given tenant
+     * Used when a transaction begins so the filter is active before the first query
+     * @param targetEntityManager Entity manager bound to the new transaction
+     * @param companyCode Tenant to filter by
+     */
+    public void enableCompanyFilter(EntityManager targetEntityManager, Long companyCode) {
+        TenantFilterEvent event = new TenantFilterEvent();
+        event.begin();
+        Session session = targetEntityManager.unwrap(Session.class);
+        session.enableFilter(COMPANY_FILTER).setParameter("companyCode", companyCode);
+        event.complete("enable");
+
+        logger.debug("Enabled company filter for tenant {} at transaction start", companyCode);
+    }
+
     /**
      * Disables the company filter for the current session
      * This should be called at the end of each request
      */
     public void disableCompanyFilter() {
         try {
+            TenantFilterEvent event = new TenantFilterEvent();
+            event.begin();
             Session session = entityManager.unwrap(Session.class);
             session.disableFilter(COMPANY_FILTER);
+            event.complete("disable");
             
             logger.debug("Disabled company filter");
         } catch (Exception e) {
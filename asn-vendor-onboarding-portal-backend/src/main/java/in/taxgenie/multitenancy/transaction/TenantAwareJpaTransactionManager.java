@@ -0,0 +1,64 @@
+package in.taxgenie.multitenancy.transaction;
+
+import in.taxgenie.monitoring.PhaseTimer;
+import in.taxgenie.monitoring.RequestPhase;
+import in.taxgenie.multitenancy.context.TenantContext;
+import in.taxgenie.multitenancy.schema.TenantSchemaRouting;
+import in.taxgenie.multitenancy.service.TenantFilterService;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * JPA transaction manager that enables the Hibernate company filter on the session
+ * as soon as a transaction begins. With open-session-in-view disabled, the session
+ * and its JDBC connection only exist for the lifetime of the transaction, so this is
+ * the earliest point at which the filter can be applied and it costs nothing on
+ * requests that never touch the database.
+ * Read-write transactions of a tenant whose schema cutover is running are refused before
+ * a connection is taken, so no write can land in the schema being left behind.
+ */
+public class TenantAwareJpaTransactionManager extends JpaTransactionManager {
+
+    private static final Logger logger = LoggerFactory.getLogger(TenantAwareJpaTransactionManager.class);
+
+    private final TenantFilterService tenantFilterService;
+    private final TenantSchemaRouting tenantSchemaRouting;
+
+    public TenantAwareJpaTransactionManager(EntityManagerFactory entityManagerFactory, TenantFilterService tenantFilterService,
+                                            TenantSchemaRouting tenantSchemaRouting) {
+        super(entityManagerFactory);
+        this.tenantFilterService = tenantFilterService;
+        this.tenantSchemaRouting = tenantSchemaRouting;
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        Long currentTenant = TenantContext.getCurrentTenant();
+        if (!definition.isReadOnly() && tenantSchemaRouting.isWriteFrozen(currentTenant)) {
+            throw new CannotCreateTransactionException(
+                    "Tenant " + currentTenant + " is being moved between schemas, writes are paused");
+        }
+
+        super.doBegin(transaction, definition);
+
+        if (currentTenant == null) {
+            // Background jobs and public endpoints run without a tenant
+            return;
+        }
+
+        EntityManagerHolder holder = (EntityManagerHolder) TransactionSynchronizationManager.getResource(obtainEntityManagerFactory());
+        if (holder != null) {
+            try (PhaseTimer.Scope ignored = PhaseTimer.enter(RequestPhase.TENANT)) {
+                tenantFilterService.enableCompanyFilter(holder.getEntityManager(), currentTenant);
+            }
+        } else {
+            logger.warn("No entity manager bound at transaction start, company filter not enabled");
+        }
+    }
+}
@@ -12,8 +12,10 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Repository interface for ApiCredential entity
@@ -212,6 +214,15 @@ public interface ApiCredentialRepository extends BaseRepository<ApiCredential> {
 
     boolean existsByVendor(Vendor vendor);
 
+    /**
+     * Find which of the given GSTINs already have API credentials, in a single query
+     *
+     * @param vendorGstins the GSTINs to check
+     * @return List of GSTIN IDs that have at least one credential
+     */
+    @Query("SELECT DISTINCT ac.vendorGstin.gstinId FROM ApiCredential ac WHERE ac.vendorGstin IN :vendorGstins")
+    List<UUID> findGstinIdsWithCredentials(@Param("vendorGstins") Collection<VendorGstin> vendorGstins);
+
    // Optional<ApiCredential> findByVendorAndOem(Vendor vendor, OemMaster oem);
 
 
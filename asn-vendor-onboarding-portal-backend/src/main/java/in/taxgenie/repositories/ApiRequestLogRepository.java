@@ -1,14 +1,23 @@
 package in.taxgenie.repositories;
 
+import in.taxgenie.dto.ApiRequestLogRollupRow;
 import in.taxgenie.entities.ApiCredential;
 import in.taxgenie.entities.ApiRequestLog;
 import in.taxgenie.repositories.base.BaseRepository;
+import in.taxgenie.viewmodels.export.ApiRequestLogExportRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for ApiRequestLog entity
@@ -132,7 +141,10 @@ public interface ApiRequestLogRepository extends BaseRepository<ApiRequestLog> {
      * 
      * @param credential the API credential
      * @return count of API requests
+     * @deprecated Scans every log of the credential, and logs past retention are gone; use
+     *             {@link ApiUsageRollupRepository#sumRequestsByCredential(java.util.UUID)}
      */
+    @Deprecated
     long countByCredential(ApiCredential credential);
 
     /**
@@ -151,7 +163,10 @@ public interface ApiRequestLogRepository extends BaseRepository<ApiRequestLog> {
      * @param startTime the start timestamp
      * @param endTime the end timestamp
      * @return count of API requests
+     * @deprecated Scans the credential's logs in the window; the credential usage series of
+     *             {@link in.taxgenie.services.interfaces.IApiUsageAnalyticsService} carries the total
      */
+    @Deprecated
     long countByCredentialAndRequestTimestampBetween(ApiCredential credential, LocalDateTime startTime, LocalDateTime endTime);
 
     /**
@@ -159,7 +174,10 @@ public interface ApiRequestLogRepository extends BaseRepository<ApiRequestLog> {
      * 
      * @param credential the API credential
      * @return average response time in milliseconds
+     * @deprecated Scans every log of the credential; use
+     *             {@link ApiUsageRollupRepository#calculateAverageResponseTimeByCredential(java.util.UUID)}
      */
+    @Deprecated
     @Query("SELECT AVG(arl.responseTimeMs) FROM ApiRequestLog arl WHERE arl.credential = :credential AND arl.responseTimeMs IS NOT NULL")
     Double calculateAverageResponseTimeByCredential(@Param("credential") ApiCredential credential);
 
@@ -197,4 +215,80 @@ public interface ApiRequestLogRepository extends BaseRepository<ApiRequestLog> {
      */
     @Query("DELETE FROM ApiRequestLog arl WHERE arl.requestTimestamp < :timestamp")
     int deleteOldLogs(@Param("timestamp") LocalDateTime timestamp);
+
+    /**
+     * Delete up to limit API request logs before given timestamp, oldest first
+     * Bounded so retention runs as short transactions instead of one long delete.
+     * 
+     * @param timestamp the timestamp threshold
+     * @param limit the maximum number of rows to delete
+     * @return number of deleted records
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM api_request_logs WHERE log_id IN (
+                SELECT log_id FROM api_request_logs WHERE request_timestamp < :timestamp
+                ORDER BY request_timestamp LIMIT :limit)
+            """, nativeQuery = true)
+    int deleteOldLogsChunk(@Param("timestamp") LocalDateTime timestamp, @Param("limit") int limit);
+
+    /**
+     * Stream API request log export rows for all credentials of a vendor within a time window.
+     * Backed by a server-side cursor so callers must consume the stream inside a
+     * read-only transaction and close it when done.
+     *
+     * @param vendorId the vendor ID
+     * @param startTime the inclusive start timestamp
+     * @param endTime the exclusive end timestamp
+     * @return Stream of export rows ordered by request timestamp
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT new in.taxgenie.viewmodels.export.ApiRequestLogExportRow(arl.logId, arl.requestTimestamp, c.credentialId, arl.endpoint, arl.method, arl.statusCode, arl.responseTimeMs, arl.errorCode) FROM ApiRequestLog arl JOIN arl.credential c WHERE c.vendor.vendorId = :vendorId AND arl.requestTimestamp >= :startTime AND arl.requestTimestamp < :endTime ORDER BY arl.requestTimestamp")
+    Stream<ApiRequestLogExportRow> streamByVendorForExport(@Param("vendorId") UUID vendorId,
+                                                  @Param("startTime") LocalDateTime startTime,
+                                                  @Param("endTime") LocalDateTime endTime);
+
+    /**
+     * Stream API request log export rows for a vendor's credentials against a single OEM within a time window.
+     *
+     * @param vendorId the vendor ID
+     * @param oemId the OEM ID
+     * @param startTime the inclusive start timestamp
+     * @param endTime the exclusive end timestamp
+     * @return Stream of export rows ordered by request timestamp
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT new in.taxgenie.viewmodels.export.ApiRequestLogExportRow(arl.logId, arl.requestTimestamp, c.credentialId, arl.endpoint, arl.method, arl.statusCode, arl.responseTimeMs, arl.errorCode) FROM ApiRequestLog arl JOIN arl.credential c WHERE c.vendor.vendorId = :vendorId AND c.oem.oemId = :oemId AND arl.requestTimestamp >= :startTime AND arl.requestTimestamp < :endTime ORDER BY arl.requestTimestamp")
+    Stream<ApiRequestLogExportRow> streamByVendorAndOemForExport(@Param("vendorId") UUID vendorId,
+                                                        @Param("oemId") UUID oemId,
+                                                        @Param("startTime") LocalDateTime startTime,
+                                                        @Param("endTime") LocalDateTime endTime);
+
+    /**
+     * Find the next chunk of API request logs to fold into usage rollups, in keyset order
+     * after the given (timestamp, log ID) position and strictly before the settle cutoff.
+     *
+     * @param afterTimestamp the request timestamp of the last processed row
+     * @param afterLogId the log ID of the last processed row
+     * @param beforeTimestamp rows at or after this timestamp are left for a later pass
+     * @param pageable the chunk size
+     * @return List of rollup rows ordered by request timestamp and log ID
+     */
+    @Query("SELECT arl.logId AS logId, arl.requestTimestamp AS requestTimestamp, c.credentialId AS credentialId, " +
+           "c.vendor.vendorId AS vendorId, c.oem.oemId AS oemId, arl.endpoint AS endpoint, " +
+           "arl.statusCode AS statusCode, arl.responseTimeMs AS responseTimeMs, arl.errorCode AS errorCode " +
+           "FROM ApiRequestLog arl JOIN arl.credential c " +
+           "WHERE (arl.requestTimestamp > :afterTimestamp OR (arl.requestTimestamp = :afterTimestamp AND arl.logId > :afterLogId)) " +
+           "AND arl.requestTimestamp < :beforeTimestamp " +
+           "ORDER BY arl.requestTimestamp, arl.logId")
+    List<ApiRequestLogRollupRow> findRollupChunk(@Param("afterTimestamp") LocalDateTime afterTimestamp,
+                                                 @Param("afterLogId") UUID afterLogId,
+                                                 @Param("beforeTimestamp") LocalDateTime beforeTimestamp,
+                                                 Pageable pageable);
 }
@@ -0,0 +1,128 @@
+package in.taxgenie.repositories;
+
+import in.taxgenie.entities.ApiUsageRollup;
+import in.taxgenie.entities.enums.RollupGranularity;
+import in.taxgenie.repositories.base.BaseRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository interface for ApiUsageRollup entity
+ * 
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Repository
+public interface ApiUsageRollupRepository extends BaseRepository<ApiUsageRollup> {
+
+    /**
+     * Find existing rollup buckets for a set of bucket starts and credentials, used when merging a chunk
+     *
+     * @param granularity the rollup granularity
+     * @param bucketStarts the bucket start timestamps
+     * @param credentialIds the credential IDs
+     * @return List of matching rollups
+     */
+    @Query("SELECT r FROM ApiUsageRollup r WHERE r.granularity = :granularity AND r.bucketStart IN :bucketStarts AND r.credentialId IN :credentialIds")
+    List<ApiUsageRollup> findBuckets(@Param("granularity") RollupGranularity granularity,
+                                     @Param("bucketStarts") Collection<LocalDateTime> bucketStarts,
+                                     @Param("credentialIds") Collection<UUID> credentialIds);
+
+    /**
+     * Find rollups for an OEM across all vendors within a time window
+     *
+     * @param oemId the OEM ID
+     * @param granularity the rollup granularity
+     * @param startTime the inclusive start timestamp
+     * @param endTime the exclusive end timestamp
+     * @return List of rollups ordered by bucket start
+     */
+    @Query("SELECT r FROM ApiUsageRollup r WHERE r.oemId = :oemId AND r.granularity = :granularity AND r.bucketStart >= :startTime AND r.bucketStart < :endTime ORDER BY r.bucketStart")
+    List<ApiUsageRollup> findByOem(@Param("oemId") UUID oemId,
+                                   @Param("granularity") RollupGranularity granularity,
+                                   @Param("startTime") LocalDateTime startTime,
+                                   @Param("endTime") LocalDateTime endTime);
+
+    /**
+     * Find rollups for a vendor within a time window
+     *
+     * @param vendorId the vendor ID
+     * @param granularity the rollup granularity
+     * @param startTime the inclusive start timestamp
+     * @param endTime the exclusive end timestamp
+     * @return List of rollups ordered by bucket start
+     */
+    @Query("SELECT r FROM ApiUsageRollup r WHERE r.vendorId = :vendorId AND r.granularity = :granularity AND r.bucketStart >= :startTime AND r.bucketStart < :endTime ORDER BY r.bucketStart")
+    List<ApiUsageRollup> findByVendor(@Param("vendorId") UUID vendorId,
+                                      @Param("granularity") RollupGranularity granularity,
+                                      @Param("startTime") LocalDateTime startTime,
+                                      @Param("endTime") LocalDateTime endTime);
+
+    /**
+     * Find rollups for a vendor against a single OEM within a time window
+     *
+     * @param vendorId the vendor ID
+     * @param oemId the OEM ID
+     * @param granularity the rollup granularity
+     * @param startTime the inclusive start timestamp
+     * @param endTime the exclusive end timestamp
+     * @return List of rollups ordered by bucket start
+     */
+    @Query("SELECT r FROM ApiUsageRollup r WHERE r.vendorId = :vendorId AND r.oemId = :oemId AND r.granularity = :granularity AND r.bucketStart >= :startTime AND r.bucketStart < :endTime ORDER BY r.bucketStart")
+    List<ApiUsageRollup> findByVendorAndOem(@Param("vendorId") UUID vendorId,
+                                            @Param("oemId") UUID oemId,
+                                            @Param("granularity") RollupGranularity granularity,
+                                            @Param("startTime") LocalDateTime startTime,
+                                            @Param("endTime") LocalDateTime endTime);
+
+    /**
+     * Find rollups for a single credential within a time window
+     *
+     * @param credentialId the credential ID
+     * @param granularity the rollup granularity
+     * @param startTime the inclusive start timestamp
+     * @param endTime the exclusive end timestamp
+     * @return List of rollups ordered by bucket start
+     */
+    @Query("SELECT r FROM ApiUsageRollup r WHERE r.credentialId = :credentialId AND r.granularity = :granularity AND r.bucketStart >= :startTime AND r.bucketStart < :endTime ORDER BY r.bucketStart")
+    List<ApiUsageRollup> findByCredential(@Param("credentialId") UUID credentialId,
+                                          @Param("granularity") RollupGranularity granularity,
+                                          @Param("startTime") LocalDateTime startTime,
+                                          @Param("endTime") LocalDateTime endTime);
+
+    /**
+     * Count all requests made with a credential, from its day rollups, which are never pruned
+     *
+     * @param credentialId the credential ID
+     * @return number of requests rolled up so far
+     */
+    @Query("SELECT COALESCE(SUM(r.requestCount), 0) FROM ApiUsageRollup r WHERE r.credentialId = :credentialId AND r.granularity = in.taxgenie.entities.enums.RollupGranularity.DAY")
+    long sumRequestsByCredential(@Param("credentialId") UUID credentialId);
+
+    /**
+     * Calculate the average response time of a credential from its day rollups
+     *
+     * @param credentialId the credential ID
+     * @return average response time in milliseconds, null when no request recorded one
+     */
+    @Query("SELECT CAST(SUM(r.latencySumMs) AS Double) / NULLIF(SUM(r.latencyCount), 0) FROM ApiUsageRollup r WHERE r.credentialId = :credentialId AND r.granularity = in.taxgenie.entities.enums.RollupGranularity.DAY")
+    Double calculateAverageResponseTimeByCredential(@Param("credentialId") UUID credentialId);
+
+    /**
+     * Delete rollups of a granularity older than the retention cutoff
+     *
+     * @param granularity the rollup granularity
+     * @param cutoff the bucket start threshold
+     * @return number of deleted records
+     */
+    @Modifying
+    @Query("DELETE FROM ApiUsageRollup r WHERE r.granularity = :granularity AND r.bucketStart < :cutoff")
+    int deleteOlderThan(@Param("granularity") RollupGranularity granularity, @Param("cutoff") LocalDateTime cutoff);
+}
@@ -3,7 +3,12 @@ package in.taxgenie.repositories;
 import in.taxgenie.entities.AuditLog;
 import in.taxgenie.entities.enums.ActorType;
 import in.taxgenie.repositories.base.BaseRepository;
+import in.taxgenie.viewmodels.export.AuditLogExportRow;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -11,6 +16,7 @@ import java.net.InetAddress;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for AuditLog entity
@@ -227,6 +233,22 @@ public interface AuditLogRepository extends BaseRepository<AuditLog> {
     @Query("DELETE FROM AuditLog al WHERE al.eventTime < :timestamp")
     int deleteOldLogs(@Param("timestamp") LocalDateTime timestamp);
 
+    /**
+     * Delete up to limit audit logs before given timestamp, oldest first
+     * Bounded so retention runs as short transactions instead of one long delete.
+     * 
+     * @param timestamp the timestamp threshold
+     * @param limit the maximum number of rows to delete
+     * @return number of deleted records
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM audit_logs WHERE audit_id IN (
+                SELECT audit_id FROM audit_logs WHERE event_time < :timestamp
+                ORDER BY event_time LIMIT :limit)
+            """, nativeQuery = true)
+    int deleteOldLogsChunk(@Param("timestamp") LocalDateTime timestamp, @Param("limit") int limit);
+
     /**
      * Find suspicious activity (multiple failed attempts from same IP)
      * 
@@ -241,4 +263,23 @@ public interface AuditLogRepository extends BaseRepository<AuditLog> {
                                          @Param("eventCategory") String eventCategory, 
                                          @Param("eventAction") String eventAction, 
                                          @Param("timeThreshold") LocalDateTime timeThreshold);
+
+    /**
+     * Stream audit log export rows where the given subject is either the actor or the
+     * resource, within a time window. Backed by a server-side cursor so callers must consume
+     * the stream inside a read-only transaction and close it when done.
+     *
+     * @param subjectId the actor or resource ID (typically the vendor ID)
+     * @param startTime the inclusive start timestamp
+     * @param endTime the exclusive end timestamp
+     * @return Stream of export rows ordered by event time
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+    })
+    @Query("SELECT new in.taxgenie.viewmodels.export.AuditLogExportRow(al.auditId, al.eventTime, al.actorId, al.actorType, al.ipAddress, al.eventCategory, al.eventAction, al.resourceType, al.resourceId, al.requestId, al.sessionId, al.changes) FROM AuditLog al WHERE (al.actorId = :subjectId OR al.resourceId = :subjectId) AND al.eventTime >= :startTime AND al.eventTime < :endTime ORDER BY al.eventTime")
+    Stream<AuditLogExportRow> streamBySubjectForExport(@Param("subjectId") UUID subjectId,
+                                              @Param("startTime") LocalDateTime startTime,
+                                              @Param("endTime") LocalDateTime endTime);
 }
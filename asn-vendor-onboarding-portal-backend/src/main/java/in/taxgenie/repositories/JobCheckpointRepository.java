@@ -0,0 +1,15 @@
+package in.taxgenie.repositories;
+
+import in.taxgenie.entities.JobCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for JobCheckpoint entity
+ * 
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Repository
+public interface JobCheckpointRepository extends JpaRepository<JobCheckpoint, String> {
+}
@@ -0,0 +1,71 @@
+package in.taxgenie.repositories;
+
+import in.taxgenie.entities.JobRun;
+import in.taxgenie.entities.enums.JobRunStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Repository interface for JobRun entity
+ * 
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Repository
+public interface JobRunRepository extends JpaRepository<JobRun, UUID> {
+
+    /**
+     * Find the latest run of a job shard with the given outcome
+     * 
+     * @param jobName the job name
+     * @param shard the shard
+     * @param status the outcome
+     * @return the latest matching run, if any
+     */
+    Optional<JobRun> findFirstByJobNameAndShardAndStatusOrderByFinishedAtDesc(String jobName, Integer shard, JobRunStatus status);
+
+    /**
+     * Find the most recent runs of a job, newest first
+     * 
+     * @param jobName the job name
+     * @return the latest 50 runs
+     */
+    List<JobRun> findTop50ByJobNameOrderByStartedAtDesc(String jobName);
+
+    /**
+     * Mark runs of a job shard still recorded as running as abandoned
+     * Only called while holding the shard's lock, so no such run can still be alive.
+     * 
+     * @param jobName the job name
+     * @param shard the shard
+     * @param finishedAt the time to record
+     * @return number of runs marked
+     */
+    @Modifying
+    @Query("UPDATE JobRun r SET r.status = in.taxgenie.entities.enums.JobRunStatus.ABANDONED, r.finishedAt = :finishedAt " +
+           "WHERE r.jobName = :jobName AND r.shard = :shard AND r.status = in.taxgenie.entities.enums.JobRunStatus.RUNNING")
+    int markAbandoned(@Param("jobName") String jobName, @Param("shard") Integer shard,
+                      @Param("finishedAt") LocalDateTime finishedAt);
+
+    /**
+     * Delete up to limit job runs started before the cutoff
+     * 
+     * @param cutoff the retention cutoff
+     * @param limit the maximum number of rows to delete
+     * @return number of deleted records
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM job_runs WHERE run_id IN (
+                SELECT run_id FROM job_runs WHERE started_at < :cutoff ORDER BY started_at LIMIT :limit)
+            """, nativeQuery = true)
+    int deleteStartedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
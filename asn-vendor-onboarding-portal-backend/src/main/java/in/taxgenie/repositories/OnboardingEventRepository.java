@@ -4,6 +4,7 @@ import in.taxgenie.entities.OnboardingEvent;
 import in.taxgenie.entities.OnboardingProcess;
 import in.taxgenie.entities.enums.ActorType;
 import in.taxgenie.repositories.base.BaseRepository;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -149,4 +150,32 @@ public interface OnboardingEventRepository extends BaseRepository<OnboardingEven
     @Query("SELECT oe FROM OnboardingEvent oe WHERE oe.onboardingProcess = :onboardingProcess AND oe.eventType = :eventType ORDER BY oe.eventTimestamp DESC")
     Optional<OnboardingEvent> findLatestByOnboardingProcessAndEventType(@Param("onboardingProcess") OnboardingProcess onboardingProcess, 
                                                                         @Param("eventType") String eventType);
+
+    /**
+     * Find events of a process written after a given event, oldest first
+     * Used to resume progress streams from the Last-Event-ID the client last saw. Events are
+     * ordered by timestamp, then ID, so events sharing the given event's timestamp are kept.
+     *
+     * @param onboardingProcess the onboarding process
+     * @param lastEventId ID of the last event the client received
+     * @param pageable maximum number of events to return
+     * @return List of later events, empty when the event is unknown
+     */
+    @Query("SELECT oe FROM OnboardingEvent oe, OnboardingEvent le " +
+           "WHERE le.eventId = :lastEventId AND le.onboardingProcess = :onboardingProcess " +
+           "AND oe.onboardingProcess = :onboardingProcess " +
+           "AND (oe.eventTimestamp > le.eventTimestamp " +
+           "OR (oe.eventTimestamp = le.eventTimestamp AND oe.eventId > le.eventId)) " +
+           "ORDER BY oe.eventTimestamp ASC, oe.eventId ASC")
+    List<OnboardingEvent> findByOnboardingProcessAfterEvent(@Param("onboardingProcess") OnboardingProcess onboardingProcess,
+                                                            @Param("lastEventId") UUID lastEventId,
+                                                            Pageable pageable);
+
+    /**
+     * Find the most recent event of a process, in the same order streams resume in
+     *
+     * @param onboardingProcess the onboarding process
+     * @return Optional containing the latest event if any
+     */
+    Optional<OnboardingEvent> findFirstByOnboardingProcessOrderByEventTimestampDescEventIdDesc(OnboardingProcess onboardingProcess);
 }
@@ -0,0 +1,97 @@
+package in.taxgenie.repositories;
+
+import in.taxgenie.entities.OnboardingFunnelCount;
+import in.taxgenie.repositories.base.BaseRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository interface for OnboardingFunnelCount entity
+ * Incremental deltas are written by OnboardingFunnelListener inside the transaction that
+ * moved the process; the statements here rebuild an OEM's cells from onboarding_process.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Repository
+public interface OnboardingFunnelCountRepository extends BaseRepository<OnboardingFunnelCount> {
+
+    /**
+     * Find all funnel cells of an OEM
+     *
+     * @param oemId the OEM ID
+     * @return List of funnel cells
+     */
+    List<OnboardingFunnelCount> findByOemId(UUID oemId);
+
+    /**
+     * Take the transaction-scoped exclusive funnel lock of an OEM
+     * Incremental deltas take the same lock in shared mode, so a reconcile neither misses
+     * nor double counts a transition that commits while it runs.
+     *
+     * @param oemId the OEM ID
+     * @return always 1
+     */
+    @Query(value = """
+            SELECT 1 FROM (SELECT pg_advisory_xact_lock(hashtext('onboarding-funnel:' || CAST(:oemId AS text)))) l
+            """, nativeQuery = true)
+    int lockOemFunnel(@Param("oemId") UUID oemId);
+
+    /**
+     * Rewrite every funnel cell of an OEM from the onboarding processes
+     *
+     * @param oemId the OEM ID
+     * @param staleBefore in-progress processes last updated before this count as stale
+     * @param reconciledAt timestamp stamped on every rewritten cell
+     * @return number of cells written
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO onboarding_funnel_counts (funnel_id, oem_id, current_step, status, vendor_count, stale_count,
+                                                  reconciled_at, updated_at)
+            SELECT gen_random_uuid(), op.oem_id, op.current_step, COALESCE(op.status, 'NOT_STARTED'), count(*),
+                   count(*) FILTER (WHERE op.status = 'IN_PROGRESS'
+                                      AND COALESCE(op.updated_at, op.started_at) < :staleBefore),
+                   :reconciledAt, :reconciledAt
+            FROM onboarding_process op
+            WHERE op.oem_id = :oemId
+            GROUP BY op.oem_id, op.current_step, COALESCE(op.status, 'NOT_STARTED')
+            ON CONFLICT (oem_id, current_step, status) DO UPDATE
+            SET vendor_count = EXCLUDED.vendor_count,
+                stale_count = EXCLUDED.stale_count,
+                reconciled_at = EXCLUDED.reconciled_at,
+                updated_at = EXCLUDED.updated_at
+            """, nativeQuery = true)
+    int rebuildOemFunnel(@Param("oemId") UUID oemId,
+                         @Param("staleBefore") LocalDateTime staleBefore,
+                         @Param("reconciledAt") LocalDateTime reconciledAt);
+
+    /**
+     * Delete the cells of an OEM that the last rebuild did not produce, i.e. emptied steps
+     *
+     * @param oemId the OEM ID
+     * @param reconciledAt timestamp of the rebuild
+     * @return number of deleted cells
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM onboarding_funnel_counts
+            WHERE oem_id = :oemId AND (reconciled_at IS NULL OR reconciled_at <> :reconciledAt)
+            """, nativeQuery = true)
+    int deleteCellsNotReconciledAt(@Param("oemId") UUID oemId, @Param("reconciledAt") LocalDateTime reconciledAt);
+
+    /**
+     * Sum of all cells of an OEM, compared before and after a rebuild to report drift
+     *
+     * @param oemId the OEM ID
+     * @return total vendor count, zero when the OEM has no cells
+     */
+    @Query("SELECT COALESCE(SUM(f.vendorCount), 0) FROM OnboardingFunnelCount f WHERE f.oemId = :oemId")
+    long sumVendorCountByOemId(@Param("oemId") UUID oemId);
+}
@@ -12,6 +12,7 @@ import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Repository interface for OnboardingProcess entity
@@ -171,4 +172,21 @@ public interface OnboardingProcessRepository extends BaseRepository<OnboardingPr
     Optional<OnboardingProcess> findByVendorAndOemAndCompanyCode(@Param("vendor") Vendor vendor,
                                                                 @Param("oem") OemMaster oem,
                                                                 @Param("companyCode") Long companyCode);
+
+    /**
+     * Cheap version tag for the onboarding process of a company and OEM, used as an ETag source
+     * Covers both the process row and the vendor row the dashboard views read.
+     *
+     * @param companyCode the company code
+     * @param oemId the OEM ID
+     * @return Optional containing the version tag if the process exists
+     */
+    @Query(value = """
+            SELECT concat_ws('|', op.onboarding_id, op.updated_at, op.last_updated_at, op.current_step, op.status,
+                             v.vendor_id, v.updated_at, v.status)
+            FROM onboarding_process op
+            JOIN vendors v ON v.vendor_id = op.vendor_id
+            WHERE op.company_code = :companyCode AND op.oem_id = :oemId
+            """, nativeQuery = true)
+    Optional<String> findVersionTag(@Param("companyCode") Long companyCode, @Param("oemId") UUID oemId);
 }
@@ -193,7 +193,7 @@ public interface SubscriptionRepository extends BaseRepository<Subscription> {
      * @param vendor the vendor
      * @return Optional containing the active subscription if found
      */
-    @Query("SELECT s FROM Subscription s WHERE s.vendor = :vendor AND s.status = 'ACTIVE' ORDER BY s.startDate DESC")
+    @Query("SELECT s FROM Subscription s LEFT JOIN FETCH s.plan WHERE s.vendor = :vendor AND s.status = 'ACTIVE' ORDER BY s.startDate DESC")
     Optional<Subscription> findActiveSubscriptionByVendor(@Param("vendor") Vendor vendor);
 
     /**
@@ -203,6 +203,6 @@ public interface SubscriptionRepository extends BaseRepository<Subscription> {
      * @param companyCode the company code
      * @return List of subscriptions
      */
-    @Query("SELECT s FROM Subscription s WHERE s.vendor = :vendor AND s.companyCode = :companyCode ORDER BY s.createdAt DESC")
+    @Query("SELECT s FROM Subscription s LEFT JOIN FETCH s.plan WHERE s.vendor = :vendor AND s.companyCode = :companyCode ORDER BY s.createdAt DESC")
     List<Subscription> findByVendorAndCompanyCodeOrderByCreatedAtDesc(@Param("vendor") Vendor vendor, @Param("companyCode") Long companyCode);
 }
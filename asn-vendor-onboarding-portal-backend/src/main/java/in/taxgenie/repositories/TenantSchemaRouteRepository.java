@@ -0,0 +1,30 @@
+package in.taxgenie.repositories;
+
+import in.taxgenie.entities.TenantSchemaRoute;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for TenantSchemaRoute entity
+ * 
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Repository
+public interface TenantSchemaRouteRepository extends JpaRepository<TenantSchemaRoute, Long> {
+
+    /**
+     * Take the transaction-scoped schema migration lock of a tenant
+     * Every migration step takes it, so two admins cannot copy and cut over the same
+     * tenant at once.
+     *
+     * @param companyCode the tenant
+     * @return always 1
+     */
+    @Query(value = """
+            SELECT 1 FROM (SELECT pg_advisory_xact_lock(hashtext('tenant-schema:' || CAST(:companyCode AS text)))) l
+            """, nativeQuery = true)
+    int lockTenantSchema(@Param("companyCode") Long companyCode);
+}
@@ -1,9 +1,11 @@
 package in.taxgenie.repositories;
 
+import in.taxgenie.entities.Vendor;
 import in.taxgenie.entities.VendorCode;
 import in.taxgenie.entities.VendorGstin;
 import in.taxgenie.entities.enums.Status;
 import in.taxgenie.repositories.base.BaseRepository;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -56,6 +58,17 @@ public interface VendorCodeRepository extends BaseRepository<VendorCode> {
     @Query("SELECT vc FROM VendorCode vc WHERE vc.vendorGstin = :vendorGstin AND vc.companyCode = :companyCode")
     List<VendorCode> findByVendorGstinAndCompanyCode(@Param("vendorGstin") VendorGstin vendorGstin, @Param("companyCode") Long companyCode);
 
+    /**
+     * Find all vendor codes across a vendor's GSTINs with the GSTIN fetched in the same query
+     *
+     * @param vendor the vendor
+     * @param companyCode the company code
+     * @return List of vendor codes ordered by GSTIN and vendor code
+     */
+    @EntityGraph(value = "VendorCode.vendorGstin")
+    @Query("SELECT vc FROM VendorCode vc WHERE vc.vendorGstin.vendor = :vendor AND vc.vendorGstin.companyCode = :companyCode AND vc.companyCode = :companyCode ORDER BY vc.vendorGstin.gstin, vc.vendorCode")
+    List<VendorCode> findByVendorAndCompanyCode(@Param("vendor") Vendor vendor, @Param("companyCode") Long companyCode);
+
     /**
      * Find vendor code by ID and company code
      * 
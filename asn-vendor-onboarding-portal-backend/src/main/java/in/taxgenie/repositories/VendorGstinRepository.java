@@ -188,4 +188,20 @@ public interface VendorGstinRepository extends BaseRepository<VendorGstin>, Pagi
 
     long countByVendorAndCompanyCodeAndIsVerifiedTrue(Vendor vendor, Long companyCode);
 
+    /**
+     * Cheap version tag for all GSTINs of a company and their credentials, used as an ETag source
+     * Row counts are part of the tag so deletes change it too.
+     *
+     * @param companyCode the company code
+     * @return version tag, never empty
+     */
+    @Query(value = """
+            SELECT concat_ws('|', count(g.gstin_id), max(g.updated_at), count(*) FILTER (WHERE g.is_verified),
+                             (SELECT concat_ws('|', count(c.credential_id), max(c.updated_at))
+                              FROM api_credentials c WHERE c.company_code = :companyCode))
+            FROM vendor_gstin g
+            WHERE g.company_code = :companyCode
+            """, nativeQuery = true)
+    String findGstinManagementVersionTag(@Param("companyCode") Long companyCode);
+
 }
@@ -1,5 +1,6 @@
 package in.taxgenie.repositories;
 
+import in.taxgenie.dto.OemOverviewRow;
 import in.taxgenie.entities.OemMaster;
 import in.taxgenie.entities.Vendor;
 import in.taxgenie.entities.VendorOemAccess;
@@ -7,6 +8,7 @@ import in.taxgenie.entities.enums.AccessLevel;
 import in.taxgenie.entities.enums.AccessStatus;
 import in.taxgenie.repositories.base.BaseRepository;
 import in.taxgenie.viewmodels.onboarding.ApiCredentialsResponseViewModel;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -188,6 +190,7 @@ public interface VendorOemAccessRepository extends BaseRepository<VendorOemAcces
      * @param companyCode the company code
      * @return List of access records
      */
+    @EntityGraph(value = "VendorOemAccess.oem")
     @Query("SELECT voa FROM VendorOemAccess voa WHERE voa.vendor = :vendor AND voa.companyCode = :companyCode")
     List<VendorOemAccess> findByVendorAndCompanyCode(@Param("vendor") Vendor vendor, @Param("companyCode") Long companyCode);
 
@@ -206,4 +209,26 @@ public interface VendorOemAccessRepository extends BaseRepository<VendorOemAcces
 
     //ApiCredentialsResponseViewModel findCredentialByGstinAndVendorCode(String gstin, String vendorCode);
 
+
+    /**
+     * Find every OEM the company's vendor is linked to, together with the onboarding process
+     * and the latest active subscription for that OEM, in a single query
+     *
+     * @param companyCode the company code
+     * @return List of overview rows ordered by OEM priority
+     */
+    @Query("SELECT o.oemId AS oemId, o.oemCode AS oemCode, o.oemName AS oemName, o.fullName AS oemFullName, " +
+           "o.asnVersion AS asnVersion, o.asnDeadline AS asnDeadline, " +
+           "voa.vendorCode AS vendorCode, voa.accessLevel AS accessLevel, voa.accessStatus AS accessStatus, " +
+           "op.status AS onboardingStatus, op.currentStep AS currentStep, op.completedAt AS onboardingCompletedAt, " +
+           "s.status AS subscriptionStatus, s.endDate AS subscriptionEndDate, p.planCode AS planCode, p.planName AS planName " +
+           "FROM VendorOemAccess voa JOIN voa.oem o " +
+           "LEFT JOIN OnboardingProcess op ON op.vendor = voa.vendor AND op.oem = o " +
+           "LEFT JOIN Subscription s ON s.vendor = voa.vendor AND s.oem = o AND s.status = 'ACTIVE' " +
+           "AND s.startDate = (SELECT MAX(s2.startDate) FROM Subscription s2 " +
+           "WHERE s2.vendor = voa.vendor AND s2.oem = o AND s2.status = 'ACTIVE') " +
+           "LEFT JOIN s.plan p " +
+           "WHERE voa.companyCode = :companyCode " +
+           "ORDER BY o.priorityRank, o.oemName")
+    List<OemOverviewRow> findOemOverviewByCompanyCode(@Param("companyCode") Long companyCode);
 }
@@ -130,4 +130,20 @@ public interface VendorRepository extends BaseRepository<Vendor> {
     List<Vendor> findActiveWithRecentActivity(@Param("dateTime") LocalDateTime dateTime);
 
     Optional<Vendor> findByCompanyCode(long companyCode);
+
+    /**
+     * Cheap version tag for the vendor and its primary GSTIN, used as an ETag source for company info
+     *
+     * @param companyCode the company code
+     * @return Optional containing the version tag if the vendor exists
+     */
+    @Query(value = """
+            SELECT concat_ws('|', v.vendor_id, v.updated_at, v.status, g.gstin_id, g.updated_at, g.is_verified)
+            FROM vendors v
+            LEFT JOIN vendor_gstin g ON g.vendor_id = v.vendor_id AND g.is_primary = true
+            WHERE v.company_code = :companyCode
+            ORDER BY g.updated_at DESC NULLS LAST
+            LIMIT 1
+            """, nativeQuery = true)
+    Optional<String> findCompanyInfoVersionTag(@Param("companyCode") Long companyCode);
 }
@@ -0,0 +1,43 @@
+package in.taxgenie.scheduling;
+
+/**
+ * One chunk of a keyset iteration, see {@link JobRunContext#runChunks(int, ChunkStep)}
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface ChunkStep {
+
+    /**
+     * Processes the chunk following the key, inside the chunk's transaction
+     * @param afterKey Last key of the previous chunk, null at the start of a pass
+     * @return What the chunk processed; an empty chunk ends the pass
+     */
+    Chunk process(String afterKey);
+
+    /**
+     * Outcome of one chunk
+     * @param items Number of items processed
+     * @param lastKey Key to resume after, or null for steps that need no checkpoint,
+     *                e.g. deletes whose rows drop out of the next query by themselves
+     */
+    record Chunk(int items, String lastKey) {
+
+        public static Chunk empty() {
+            return new Chunk(0, null);
+        }
+
+        public static Chunk of(int items, String lastKey) {
+            return new Chunk(items, lastKey);
+        }
+
+        public static Chunk ofCount(int items) {
+            return new Chunk(items, null);
+        }
+
+        public boolean isEmpty() {
+            return items == 0;
+        }
+    }
+}
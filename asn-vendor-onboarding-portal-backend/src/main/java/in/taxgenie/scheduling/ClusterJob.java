@@ -0,0 +1,18 @@
+package in.taxgenie.scheduling;
+
+/**
+ * Body of a job run by the {@link ClusterJobRunner}
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@FunctionalInterface
+public interface ClusterJob {
+
+    /**
+     * Runs the job, or one shard of it, on this node
+     * @param context Run details and chunked iteration support
+     * @return Number of items processed, recorded on the run
+     */
+    long run(JobRunContext context) throws Exception;
+}
@@ -0,0 +1,282 @@
+package in.taxgenie.scheduling;
+
+import com.zaxxer.hikari.HikariDataSource;
+import in.taxgenie.entities.JobRun;
+import in.taxgenie.entities.enums.JobRunStatus;
+import in.taxgenie.repositories.JobCheckpointRepository;
+import in.taxgenie.repositories.JobRunRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs scheduled jobs on one node of the cluster at a time
+ * Every node fires the same @Scheduled methods; each run first takes a session-level
+ * pg_try_advisory_lock for the job shard on a connection it holds for the whole run. Nodes
+ * that miss the lock skip the run, and a node that dies releases the lock with its
+ * connection. Holding the lock, the runner also skips the run when the shard succeeded
+ * less than minInterval ago, so schedules drifting apart across nodes do not repeat work.
+ * Sharded jobs split their work with {@link JobRunContext#getShard()}; nodes firing at
+ * the same time start at different shards and work through them in parallel, and a node
+ * can also run several of its shards at once.
+ * Each run is recorded in job_runs and timed as asn.job.duration.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+public class ClusterJobRunner {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final DataSource dataSource;
+    private final JobRunRepository jobRunRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final boolean enabled;
+
+    @Getter
+    private final String nodeId;
+
+    public ClusterJobRunner(DataSource dataSource,
+                            JobRunRepository jobRunRepository,
+                            JobCheckpointRepository jobCheckpointRepository,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${asn.vendor.portal.jobs.enabled:true}") boolean enabled,
+                            @Value("${asn.vendor.portal.jobs.node-id:}") String nodeId) {
+        this.dataSource = dataSource;
+        this.jobRunRepository = jobRunRepository;
+        this.jobCheckpointRepository = jobCheckpointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.nodeId = nodeId.isBlank() ? defaultNodeId() : nodeId;
+    }
+
+    /**
+     * Runs the job here unless another node holds it or it succeeded within minInterval
+     * @return true when the job ran on this node, whatever its outcome
+     */
+    public boolean run(String jobName, Duration minInterval, ClusterJob job) {
+        return runShard(jobName, 0, 1, minInterval, job);
+    }
+
+    /**
+     * Runs every shard of the job that no other node holds and that is due
+     * @return Number of shards that ran on this node
+     */
+    public int runSharded(String jobName, int shardCount, Duration minInterval, ClusterJob job) {
+        return runSharded(jobName, shardCount, 1, minInterval, job);
+    }
+
+    /**
+     * Runs every due shard that no other node holds, up to parallelism shards at once
+     * Each running shard holds two pooled connections, its lock and its work, so
+     * parallelism must stay well below the pool size.
+     * @return Number of shards that ran on this node
+     */
+    public int runSharded(String jobName, int shardCount, int parallelism, Duration minInterval, ClusterJob job) {
+        int first = Math.floorMod(nodeId.hashCode(), shardCount);
+        if (parallelism <= 1) {
+            int ran = 0;
+            for (int offset = 0; offset < shardCount; offset++) {
+                if (runShard(jobName, (first + offset) % shardCount, shardCount, minInterval, job)) {
+                    ran++;
+                }
+            }
+            return ran;
+        }
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService workers = Executors.newFixedThreadPool(Math.min(parallelism, shardCount), runnable -> {
+            Thread thread = new Thread(runnable, "job-" + jobName + "-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<Boolean>> shards = new ArrayList<>();
+            for (int offset = 0; offset < shardCount; offset++) {
+                int shard = (first + offset) % shardCount;
+                shards.add(workers.submit(() -> runShard(jobName, shard, shardCount, minInterval, job)));
+            }
+            int ran = 0;
+            for (Future<Boolean> shard : shards) {
+                try {
+                    if (shard.get()) {
+                        ran++;
+                    }
+                } catch (ExecutionException e) {
+                    log.error("Job {} shard failed outside its run", jobName, e.getCause());
+                }
+            }
+            return ran;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private boolean runShard(String jobName, int shard, int shardCount, Duration minInterval, ClusterJob job) {
+        if (!enabled) {
+            return false;
+        }
+        try (Connection lockConnection = dataSource.getConnection()) {
+            if (!advisoryLock(lockConnection, "pg_try_advisory_lock", jobName, shard)) {
+                skipped(jobName, "locked");
+                return false;
+            }
+            try {
+                return runLocked(jobName, shard, shardCount, minInterval, job);
+            } finally {
+                unlock(lockConnection, jobName, shard);
+            }
+        } catch (SQLException e) {
+            log.error("Could not take the lock of job {} shard {}: {}", jobName, shard, e.getMessage());
+            return false;
+        }
+    }
+
+    private boolean runLocked(String jobName, int shard, int shardCount, Duration minInterval, ClusterJob job) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!minInterval.isZero()) {
+            Optional<JobRun> lastSuccess = jobRunRepository
+                    .findFirstByJobNameAndShardAndStatusOrderByFinishedAtDesc(jobName, shard, JobRunStatus.SUCCEEDED);
+            if (lastSuccess.isPresent() && lastSuccess.get().getFinishedAt().isAfter(now.minus(minInterval))) {
+                skipped(jobName, "recent");
+                return false;
+            }
+        }
+
+        Integer abandoned = transactionTemplate.execute(status -> jobRunRepository.markAbandoned(jobName, shard, now));
+        if (abandoned != null && abandoned > 0) {
+            log.warn("Job {} shard {} had {} runs left unfinished by a lost node", jobName, shard, abandoned);
+        }
+
+        JobRun run = jobRunRepository.save(JobRun.builder()
+                .jobName(jobName)
+                .shard(shard)
+                .shardCount(shardCount)
+                .nodeId(nodeId)
+                .startedAt(now)
+                .build());
+        JobRunContext context = new JobRunContext(jobName, shard, shardCount, run.getRunId(),
+                jobCheckpointRepository, transactionTemplate);
+
+        Timer.Sample sample = Timer.start(meterRegistry);
+        JobRunStatus outcome;
+        long items;
+        String error = null;
+        try {
+            items = job.run(context);
+            outcome = JobRunStatus.SUCCEEDED;
+        } catch (Exception e) {
+            // Chunks committed before the failure stay done and are counted
+            items = context.getItemsProcessed();
+            outcome = JobRunStatus.FAILED;
+            error = e.getClass().getSimpleName() + ": " + e.getMessage();
+            log.error("Job {} shard {} failed after {} items", jobName, shard, items, e);
+        }
+        sample.stop(Timer.builder("asn.job.duration")
+                .description("Duration of cluster job runs")
+                .tag("job", jobName)
+                .tag("outcome", outcome.name().toLowerCase())
+                .register(meterRegistry));
+        Counter.builder("asn.job.items")
+                .description("Items processed by cluster job runs")
+                .tag("job", jobName)
+                .register(meterRegistry)
+                .increment(items);
+
+        run.setStatus(outcome);
+        run.setFinishedAt(LocalDateTime.now());
+        run.setItemsProcessed(items);
+        run.setErrorMessage(error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+        jobRunRepository.save(run);
+        return true;
+    }
+
+    private void skipped(String jobName, String reason) {
+        Counter.builder("asn.job.skipped")
+                .description("Cluster job runs skipped on this node")
+                .tag("job", jobName)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+        log.debug("Skipped job {} on this node: {}", jobName, reason);
+    }
+
+    private void unlock(Connection connection, String jobName, int shard) {
+        try {
+            if (!advisoryLock(connection, "pg_advisory_unlock", jobName, shard)) {
+                log.warn("Lock of job {} shard {} was not held at unlock", jobName, shard);
+            }
+        } catch (SQLException e) {
+            // A pooled connection must never go back to the pool still holding the lock
+            log.warn("Could not release the lock of job {} shard {}, evicting connection: {}", jobName, shard, e.getMessage());
+            try {
+                if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                    dataSource.unwrap(HikariDataSource.class).evictConnection(connection);
+                }
+            } catch (SQLException evictionFailure) {
+                log.warn("Could not evict connection: {}", evictionFailure.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Calls a two-key advisory lock function; the (hashtext, shard) keys cannot collide with
+     * the single-key transaction locks used elsewhere
+     */
+    private static boolean advisoryLock(Connection connection, String function, String jobName, int shard) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT " + function + "(hashtext(?), ?)")) {
+            statement.setString(1, "job:" + jobName);
+            statement.setInt(2, shard);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                boolean result = resultSet.next() && resultSet.getBoolean(1);
+                if (!connection.getAutoCommit()) {
+                    connection.commit();
+                }
+                return result;
+            }
+        }
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + ":" + ProcessHandle.current().pid();
+    }
+}
@@ -0,0 +1,113 @@
+package in.taxgenie.scheduling;
+
+import in.taxgenie.entities.JobCheckpoint;
+import in.taxgenie.repositories.JobCheckpointRepository;
+import lombok.Getter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * State of one job run on this node
+ * Jobs that walk a table use {@link #runChunks(int, ChunkStep)}: every chunk and its
+ * checkpoint commit in one transaction, so a run that dies or stops at its chunk limit is
+ * resumed by the next run, on whichever node takes the lock, right after the last
+ * committed chunk.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+public class JobRunContext {
+
+    @Getter
+    private final String jobName;
+
+    @Getter
+    private final int shard;
+
+    @Getter
+    private final int shardCount;
+
+    @Getter
+    private final UUID runId;
+
+    @Getter
+    private long itemsProcessed;
+
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    JobRunContext(String jobName, int shard, int shardCount, UUID runId,
+                  JobCheckpointRepository jobCheckpointRepository, TransactionTemplate transactionTemplate) {
+        this.jobName = jobName;
+        this.shard = shard;
+        this.shardCount = shardCount;
+        this.runId = runId;
+        this.jobCheckpointRepository = jobCheckpointRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Checkpoint name of this job shard; shards resume independently
+     */
+    public String getCheckpointName() {
+        return shardCount == 1 ? jobName : jobName + "#" + shard;
+    }
+
+    /**
+     * Runs chunks until one comes back empty or maxChunks have run
+     * An empty chunk completes the pass and drops the checkpoint, so the next run starts a
+     * new pass from the beginning.
+     * @return Number of items processed by this call
+     */
+    public long runChunks(int maxChunks, ChunkStep step) {
+        return runChunks(null, maxChunks, step);
+    }
+
+    /**
+     * Runs chunks of one phase of a multi-phase job; each phase resumes from its own checkpoint
+     * @param phase Phase name, appended to the checkpoint name
+     * @return Number of items processed by this call
+     */
+    public long runChunks(String phase, int maxChunks, ChunkStep step) {
+        String checkpointName = phase == null ? getCheckpointName() : getCheckpointName() + ":" + phase;
+        long processed = 0;
+        for (int chunkIndex = 0; chunkIndex < maxChunks; chunkIndex++) {
+            ChunkStep.Chunk chunk = transactionTemplate.execute(status -> processChunk(checkpointName, step));
+            if (chunk == null || chunk.isEmpty()) {
+                break;
+            }
+            processed += chunk.items();
+            itemsProcessed += chunk.items();
+        }
+        return processed;
+    }
+
+    /**
+     * Counts items processed outside {@link #runChunks(int, ChunkStep)}, so a run that fails
+     * later still records them
+     */
+    public void addItemsProcessed(long items) {
+        itemsProcessed += items;
+    }
+
+    private ChunkStep.Chunk processChunk(String checkpointName, ChunkStep step) {
+        JobCheckpoint checkpoint = jobCheckpointRepository.findById(checkpointName).orElse(null);
+        ChunkStep.Chunk chunk = step.process(checkpoint != null ? checkpoint.getCheckpointKey() : null);
+
+        if (chunk.isEmpty()) {
+            if (checkpoint != null) {
+                jobCheckpointRepository.delete(checkpoint);
+            }
+        } else if (chunk.lastKey() != null) {
+            if (checkpoint == null) {
+                checkpoint = JobCheckpoint.builder().jobName(checkpointName).build();
+            }
+            checkpoint.setCheckpointKey(chunk.lastKey());
+            checkpoint.setUpdatedAt(LocalDateTime.now());
+            jobCheckpointRepository.save(checkpoint);
+        }
+        return chunk;
+    }
+}
@@ -0,0 +1,14 @@
+/**
+ * Cluster-safe background job execution for the ASN Vendor Onboarding Portal application.
+ * 
+ * This package contains:
+ * - The runner that elects one node per job or job shard with PostgreSQL advisory locks
+ * - The per-run context for chunked keyset iteration with resumable checkpoints
+ * 
+ * Jobs still declare their schedule with @Scheduled on every node; the runner decides
+ * which node actually does the work and records every run in job_runs.
+ * 
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+package in.taxgenie.scheduling;
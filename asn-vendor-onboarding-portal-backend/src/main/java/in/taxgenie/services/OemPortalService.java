@@ -120,7 +120,7 @@ public class OemPortalService implements IOemPortalService {
     }
 
     @Override
-    public Object refreshOemAccess(IAuthContextViewModel auth) {
+    public RefreshOemAccessResponseViewModel refreshOemAccess(IAuthContextViewModel auth) {
         logger.info("Refreshing OEM access for vendor ID: {}", auth.getUserId());
         
         try {
@@ -128,18 +128,18 @@ public class OemPortalService implements IOemPortalService {
             
             // TODO: Implement access refresh logic (check subscriptions, etc.)
             
-            return new Object() {
-                public final boolean success = true;
-                public final String message = "Access refreshed successfully";
-                public final Object updatedAccess = vendorAccess.stream()
-                        .map(access -> new Object() {
-                            public final String oemId = String.valueOf(access.getOem().getOemId());
-                            public final boolean hasAccess = true;//access.getHasAccess();
-                            public final String accessLevel = access.getAccessLevel().toString();
-                            public final String lastUpdated = access.getUpdatedAt().toString();
-                        })
-                        .collect(Collectors.toList());
-            };
+            return RefreshOemAccessResponseViewModel.builder()
+                    .success(true)
+                    .message("Access refreshed successfully")
+                    .updatedAccess(vendorAccess.stream()
+                            .map(access -> RefreshOemAccessResponseViewModel.OemAccessViewModel.builder()
+                                    .oemId(String.valueOf(access.getOem().getOemId()))
+                                    .hasAccess(true)//access.getHasAccess()
+                                    .accessLevel(access.getAccessLevel().toString())
+                                    .lastUpdated(access.getUpdatedAt().toString())
+                                    .build())
+                            .collect(Collectors.toList()))
+                    .build();
             
         } catch (Exception e) {
             logger.error("Error refreshing OEM access for vendor ID: {}", auth.getUserId(), e);
@@ -148,7 +148,7 @@ public class OemPortalService implements IOemPortalService {
     }
 
     @Override
-    public Object requestOemAccess(IAuthContextViewModel auth, String oemId, Object requestData) {
+    public OemAccessRequestResponseViewModel requestOemAccess(IAuthContextViewModel auth, String oemId, Object requestData) {
         logger.info("Requesting OEM access for OEM ID: {} and vendor ID: {}", oemId, auth.getUserId());
         
         try {
@@ -158,12 +158,12 @@ public class OemPortalService implements IOemPortalService {
 
             // TODO: Implement access request logic
             
-            return new Object() {
-                public final boolean success = true;
-                public final String requestId = "REQ-" + System.currentTimeMillis();
-                public final String message = "Access request submitted successfully";
-                public final String estimatedProcessingTime = "2-3 business days";
-            };
+            return OemAccessRequestResponseViewModel.builder()
+                    .success(true)
+                    .requestId("REQ-" + System.currentTimeMillis())
+                    .message("Access request submitted successfully")
+                    .estimatedProcessingTime("2-3 business days")
+                    .build();
             
         } catch (Exception e) {
             logger.error("Error requesting OEM access for OEM ID: {} and vendor ID: {}", oemId, auth.getUserId(), e);
@@ -9,6 +9,7 @@ import in.taxgenie.repositories.VendorGstinRepository;
 import in.taxgenie.services.interfaces.IUserService;
 import in.taxgenie.viewmodels.user.UserProfileViewModel;
 import in.taxgenie.viewmodels.user.GstinDetailViewModel;
+import in.taxgenie.viewmodels.user.UserSessionContextViewModel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
@@ -127,24 +128,24 @@ public class UserService implements IUserService {
 
     @Override
     @Transactional(readOnly = true)
-    public Object getUserSessionContext(IAuthContextViewModel auth) {
+    public UserSessionContextViewModel getUserSessionContext(IAuthContextViewModel auth) {
         logger.info("Getting user session context for user ID: {}", auth.getUserId());
 
         UserProfileViewModel userProfile = getUserProfile(auth);
         UserSessionService.SelectedOemData selectedOem = userSessionService.getSelectedOem(auth);
 
-        return new Object() {
-            public final Object user = new Object() {
-                public final String id = userProfile.getId();
-                public final String email = userProfile.getEmail();
-                public final String name = userProfile.getName();
-            };
-            public final Object selectedOEM = selectedOem != null ? new Object() {
-                public final String id = selectedOem.getOemId();
-                public final String name = selectedOem.getOemName();
-            } : null;
-            public final String sessionExpiry = "2024-12-31T23:59:59Z"; // TODO: Calculate from JWT
-        };
+        return UserSessionContextViewModel.builder()
+                .user(UserSessionContextViewModel.SessionUserViewModel.builder()
+                        .id(userProfile.getId())
+                        .email(userProfile.getEmail())
+                        .name(userProfile.getName())
+                        .build())
+                .selectedOEM(selectedOem != null ? UserSessionContextViewModel.SelectedOemViewModel.builder()
+                        .id(selectedOem.getOemId())
+                        .name(selectedOem.getOemName())
+                        .build() : null)
+                .sessionExpiry("2024-12-31T23:59:59Z") // TODO: Calculate from JWT
+                .build();
     }
 
     private GstinDetailViewModel mapToGstinDetailViewModel(VendorGstin vendorGstin) {
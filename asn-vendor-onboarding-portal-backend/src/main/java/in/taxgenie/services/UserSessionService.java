@@ -2,23 +2,27 @@ package in.taxgenie.services;
 
 import in.taxgenie.auth.IAuthContextViewModel;
 import in.taxgenie.multitenancy.context.TenantContext;
+import in.taxgenie.session.UserSessionState;
+import in.taxgenie.session.UserSessionStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.Map;
-
 /**
  * Service for managing user session data including selected OEM
+ * State lives in the configured UserSessionStore, which bounds and expires it and, with
+ * the postgres backend, shares it between nodes.
  */
 @Service
 public class UserSessionService {
 
     private static final Logger logger = LoggerFactory.getLogger(UserSessionService.class);
 
-    // In-memory session storage (in production, use Redis or database)
-    private final Map<String, UserSessionData> userSessions = new ConcurrentHashMap<>();
+    private final UserSessionStore userSessionStore;
+
+    public UserSessionService(UserSessionStore userSessionStore) {
+        this.userSessionStore = userSessionStore;
+    }
 
     /**
      * Sets the selected OEM for a user session
@@ -27,12 +31,7 @@ public class UserSessionService {
      * @param oemName Selected OEM name
      */
     public void setSelectedOem(IAuthContextViewModel auth, String oemId, String oemName) {
-        String sessionKey = generateSessionKey(auth);
-        
-        UserSessionData sessionData = userSessions.computeIfAbsent(sessionKey, k -> new UserSessionData());
-        sessionData.setSelectedOemId(oemId);
-        sessionData.setSelectedOemName(oemName);
-        sessionData.setLastActivity(System.currentTimeMillis());
+        userSessionStore.put(generateSessionKey(auth), UserSessionState.withSelectedOem(oemId, oemName));
         
         logger.info("Set selected OEM {} for user {}", oemId, auth.getUserId());
     }
@@ -43,11 +42,10 @@ public class UserSessionService {
      * @return Selected OEM data or null if not set
      */
     public SelectedOemData getSelectedOem(IAuthContextViewModel auth) {
-        String sessionKey = generateSessionKey(auth);
-        UserSessionData sessionData = userSessions.get(sessionKey);
+        UserSessionState sessionData = userSessionStore.get(generateSessionKey(auth));
         
-        if (sessionData != null && sessionData.getSelectedOemId() != null) {
-            return new SelectedOemData(sessionData.getSelectedOemId(), sessionData.getSelectedOemName());
+        if (sessionData != null && sessionData.selectedOemId() != null) {
+            return new SelectedOemData(sessionData.selectedOemId(), sessionData.selectedOemName());
         }
         
         return null;
@@ -59,11 +57,10 @@ public class UserSessionService {
      */
     public void clearSelectedOem(IAuthContextViewModel auth) {
         String sessionKey = generateSessionKey(auth);
-        UserSessionData sessionData = userSessions.get(sessionKey);
+        UserSessionState sessionData = userSessionStore.get(sessionKey);
         
         if (sessionData != null) {
-            sessionData.setSelectedOemId(null);
-            sessionData.setSelectedOemName(null);
+            userSessionStore.put(sessionKey, UserSessionState.withSelectedOem(null, null));
             logger.info("Cleared selected OEM for user {}", auth.getUserId());
         }
     }
@@ -73,8 +70,7 @@ public class UserSessionService {
      * @param auth Authentication context
      */
     public void clearUserSession(IAuthContextViewModel auth) {
-        String sessionKey = generateSessionKey(auth);
-        userSessions.remove(sessionKey);
+        userSessionStore.remove(generateSessionKey(auth));
         logger.info("Cleared session data for user {}", auth.getUserId());
     }
 
@@ -88,35 +84,15 @@ public class UserSessionService {
     }
 
     /**
-     * Updates last activity timestamp for user session
-     * @param auth Authentication context
+     * Removes expired sessions from the store (called by UserSessionCleanupJob)
+     * @return Number of sessions removed
      */
-    public void updateLastActivity(IAuthContextViewModel auth) {
-        String sessionKey = generateSessionKey(auth);
-        UserSessionData sessionData = userSessions.get(sessionKey);
-        
-        if (sessionData != null) {
-            sessionData.setLastActivity(System.currentTimeMillis());
+    public int cleanupExpiredSessions() {
+        int removed = userSessionStore.purgeExpired();
+        if (removed > 0) {
+            logger.debug("Removed {} expired sessions", removed);
         }
-    }
-
-    /**
-     * Cleans up expired sessions (should be called periodically)
-     * @param maxInactiveTime Maximum inactive time in milliseconds
-     */
-    public void cleanupExpiredSessions(long maxInactiveTime) {
-        long currentTime = System.currentTimeMillis();
-        
-        userSessions.entrySet().removeIf(entry -> {
-            UserSessionData sessionData = entry.getValue();
-            boolean isExpired = (currentTime - sessionData.getLastActivity()) > maxInactiveTime;
-            
-            if (isExpired) {
-                logger.info("Removing expired session: {}", entry.getKey());
-            }
-            
-            return isExpired;
-        });
+        return removed;
     }
 
     private String generateSessionKey(IAuthContextViewModel auth) {
@@ -125,43 +101,6 @@ public class UserSessionService {
         return String.format("%d:%d", tenantId != null ? tenantId : 0L, auth.getUserId());
     }
 
-    /**
-     * Internal class for storing user session data
-     */
-    private static class UserSessionData {
-        private String selectedOemId;
-        private String selectedOemName;
-        private long lastActivity;
-
-        public UserSessionData() {
-            this.lastActivity = System.currentTimeMillis();
-        }
-
-        public String getSelectedOemId() {
-            return selectedOemId;
-        }
-
-        public void setSelectedOemId(String selectedOemId) {
-            this.selectedOemId = selectedOemId;
-        }
-
-        public String getSelectedOemName() {
-            return selectedOemName;
-        }
-
-        public void setSelectedOemName(String selectedOemName) {
-            this.selectedOemName = selectedOemName;
-        }
-
-        public long getLastActivity() {
-            return lastActivity;
-        }
-
-        public void setLastActivity(long lastActivity) {
-            this.lastActivity = lastActivity;
-        }
-    }
-
     /**
      * Data class for selected OEM information
      */
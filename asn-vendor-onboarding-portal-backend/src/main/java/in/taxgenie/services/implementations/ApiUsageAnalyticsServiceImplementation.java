@@ -0,0 +1,367 @@
+package in.taxgenie.services.implementations;
+
+import in.taxgenie.auth.IAuthContextViewModel;
+import in.taxgenie.dto.ApiRequestLogRollupRow;
+import in.taxgenie.entities.ApiCredential;
+import in.taxgenie.entities.ApiUsageRollup;
+import in.taxgenie.entities.JobCheckpoint;
+import in.taxgenie.entities.Vendor;
+import in.taxgenie.entities.enums.RollupGranularity;
+import in.taxgenie.exception.ResourceNotFoundException;
+import in.taxgenie.repositories.ApiCredentialRepository;
+import in.taxgenie.repositories.ApiRequestLogRepository;
+import in.taxgenie.repositories.ApiUsageRollupRepository;
+import in.taxgenie.repositories.JobCheckpointRepository;
+import in.taxgenie.repositories.VendorRepository;
+import in.taxgenie.services.interfaces.IApiUsageAnalyticsService;
+import in.taxgenie.utils.LatencySketch;
+import in.taxgenie.viewmodels.analytics.ApiUsageSeriesViewModel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains per-minute, per-hour and per-day API usage rollups and answers analytics
+ * queries from them. Raw logs are folded in keyset order from a persisted checkpoint,
+ * so each log row is counted exactly once and a pass only touches new rows.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class ApiUsageAnalyticsServiceImplementation implements IApiUsageAnalyticsService {
+
+    static final String ROLLUP_JOB_NAME = "api-usage-rollup";
+
+    private static final LocalDateTime INITIAL_CHECKPOINT = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final UUID INITIAL_LOG_ID = new UUID(0L, 0L);
+    private static final int MAX_SERIES_POINTS = 1500;
+
+    private final ApiRequestLogRepository apiRequestLogRepository;
+    private final ApiUsageRollupRepository apiUsageRollupRepository;
+    private final JobCheckpointRepository jobCheckpointRepository;
+    private final ApiCredentialRepository apiCredentialRepository;
+    private final VendorRepository vendorRepository;
+
+    @Value("${asn.vendor.portal.analytics.rollup.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${asn.vendor.portal.analytics.rollup.settle-seconds:120}")
+    private long settleSeconds;
+
+    @Value("${asn.vendor.portal.analytics.rollup.minute-retention-days:14}")
+    private long minuteRetentionDays;
+
+    @Value("${asn.vendor.portal.analytics.rollup.hour-retention-days:400}")
+    private long hourRetentionDays;
+
+    // ==================== Rollup Maintenance ====================
+
+    @Override
+    @Transactional
+    public int rollUpNextChunk() {
+        JobCheckpoint checkpoint = jobCheckpointRepository.findById(ROLLUP_JOB_NAME)
+                .orElseGet(() -> JobCheckpoint.builder()
+                        .jobName(ROLLUP_JOB_NAME)
+                        .checkpointTimestamp(INITIAL_CHECKPOINT)
+                        .checkpointKey(INITIAL_LOG_ID.toString())
+                        .build());
+
+        LocalDateTime cutoff = LocalDateTime.now().minusSeconds(settleSeconds);
+        List<ApiRequestLogRollupRow> rows = apiRequestLogRepository.findRollupChunk(
+                checkpoint.getCheckpointTimestamp(),
+                UUID.fromString(checkpoint.getCheckpointKey()),
+                cutoff,
+                PageRequest.of(0, chunkSize));
+
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        for (RollupGranularity granularity : RollupGranularity.values()) {
+            mergeIntoRollups(granularity, rows);
+        }
+
+        ApiRequestLogRollupRow last = rows.get(rows.size() - 1);
+        checkpoint.setCheckpointTimestamp(last.getRequestTimestamp());
+        checkpoint.setCheckpointKey(last.getLogId().toString());
+        checkpoint.setUpdatedAt(LocalDateTime.now());
+        jobCheckpointRepository.save(checkpoint);
+
+        log.debug("Rolled up {} API request logs up to {}", rows.size(), last.getRequestTimestamp());
+        return rows.size();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<LocalDateTime> getRollupWatermark() {
+        return jobCheckpointRepository.findById(ROLLUP_JOB_NAME)
+                .map(JobCheckpoint::getCheckpointTimestamp);
+    }
+
+    @Override
+    @Transactional
+    public int pruneExpiredRollups() {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = apiUsageRollupRepository.deleteOlderThan(RollupGranularity.MINUTE, now.minusDays(minuteRetentionDays));
+        deleted += apiUsageRollupRepository.deleteOlderThan(RollupGranularity.HOUR, now.minusDays(hourRetentionDays));
+        if (deleted > 0) {
+            log.info("Pruned {} expired API usage rollups", deleted);
+        }
+        return deleted;
+    }
+
+    // ==================== Analytics Queries ====================
+
+    @Override
+    @Transactional(readOnly = true)
+    public ApiUsageSeriesViewModel getVendorUsage(IAuthContextViewModel auth, UUID oemId, RollupGranularity granularity,
+                                                  LocalDateTime from, LocalDateTime to) {
+        Vendor vendor = findVendor(auth);
+        RollupGranularity resolved = resolveGranularity(granularity, from, to);
+        LocalDateTime start = truncate(from, resolved);
+
+        List<ApiUsageRollup> rollups = oemId != null
+                ? apiUsageRollupRepository.findByVendorAndOem(vendor.getVendorId(), oemId, resolved, start, to)
+                : apiUsageRollupRepository.findByVendor(vendor.getVendorId(), resolved, start, to);
+
+        return buildSeries(rollups, resolved, start, to);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ApiUsageSeriesViewModel getOemUsage(UUID oemId, RollupGranularity granularity, LocalDateTime from, LocalDateTime to) {
+        RollupGranularity resolved = resolveGranularity(granularity, from, to);
+        LocalDateTime start = truncate(from, resolved);
+
+        return buildSeries(apiUsageRollupRepository.findByOem(oemId, resolved, start, to), resolved, start, to);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ApiUsageSeriesViewModel getCredentialUsage(IAuthContextViewModel auth, UUID credentialId, RollupGranularity granularity,
+                                                      LocalDateTime from, LocalDateTime to) {
+        Vendor vendor = findVendor(auth);
+        ApiCredential credential = apiCredentialRepository.findById(credentialId)
+                .orElseThrow(() -> new ResourceNotFoundException("API credential not found: " + credentialId));
+        if (credential.getVendor() == null || !vendor.getVendorId().equals(credential.getVendor().getVendorId())) {
+            throw new ResourceNotFoundException("API credential not found: " + credentialId);
+        }
+
+        RollupGranularity resolved = resolveGranularity(granularity, from, to);
+        LocalDateTime start = truncate(from, resolved);
+
+        return buildSeries(apiUsageRollupRepository.findByCredential(credentialId, resolved, start, to), resolved, start, to);
+    }
+
+    // ==================== Helper Methods ====================
+
+    private void mergeIntoRollups(RollupGranularity granularity, List<ApiRequestLogRollupRow> rows) {
+        Map<RollupKey, RollupAccumulator> accumulators = new LinkedHashMap<>();
+        for (ApiRequestLogRollupRow row : rows) {
+            RollupKey key = new RollupKey(truncate(row.getRequestTimestamp(), granularity), row.getCredentialId(), row.getEndpoint());
+            accumulators.computeIfAbsent(key, k -> new RollupAccumulator(row.getVendorId(), row.getOemId())).add(row);
+        }
+
+        Set<LocalDateTime> bucketStarts = accumulators.keySet().stream().map(RollupKey::bucketStart).collect(Collectors.toSet());
+        Set<UUID> credentialIds = accumulators.keySet().stream().map(RollupKey::credentialId).collect(Collectors.toSet());
+        Map<RollupKey, ApiUsageRollup> existing = apiUsageRollupRepository.findBuckets(granularity, bucketStarts, credentialIds)
+                .stream()
+                .collect(Collectors.toMap(
+                        r -> new RollupKey(r.getBucketStart(), r.getCredentialId(), r.getEndpoint()),
+                        r -> r));
+
+        List<ApiUsageRollup> toSave = new ArrayList<>(accumulators.size());
+        accumulators.forEach((key, accumulator) -> {
+            ApiUsageRollup rollup = existing.get(key);
+            if (rollup == null) {
+                rollup = ApiUsageRollup.builder()
+                        .granularity(granularity)
+                        .bucketStart(key.bucketStart())
+                        .credentialId(key.credentialId())
+                        .endpoint(key.endpoint())
+                        .vendorId(accumulator.vendorId)
+                        .oemId(accumulator.oemId)
+                        .build();
+            }
+            accumulator.applyTo(rollup);
+            toSave.add(rollup);
+        });
+
+        apiUsageRollupRepository.saveAll(toSave);
+    }
+
+    private ApiUsageSeriesViewModel buildSeries(List<ApiUsageRollup> rollups, RollupGranularity granularity,
+                                                LocalDateTime from, LocalDateTime to) {
+        // Rollups arrive ordered by bucket start; several credentials/endpoints share a bucket
+        Map<LocalDateTime, List<ApiUsageRollup>> byBucket = rollups.stream()
+                .collect(Collectors.groupingBy(ApiUsageRollup::getBucketStart, TreeMap::new, Collectors.toList()));
+
+        LatencySketch total = new LatencySketch();
+        long totalRequests = 0;
+        long totalErrors = 0;
+        long totalLatencyCount = 0;
+        long totalLatencySum = 0;
+        List<ApiUsageSeriesViewModel.ApiUsagePointViewModel> points = new ArrayList<>(byBucket.size());
+
+        for (Map.Entry<LocalDateTime, List<ApiUsageRollup>> entry : byBucket.entrySet()) {
+            LatencySketch sketch = new LatencySketch();
+            long requests = 0;
+            long errors = 0;
+            long latencyCount = 0;
+            long latencySum = 0;
+            Integer min = null;
+            Integer max = null;
+
+            for (ApiUsageRollup rollup : entry.getValue()) {
+                requests += rollup.getRequestCount();
+                errors += rollup.getErrorCount();
+                latencyCount += rollup.getLatencyCount();
+                latencySum += rollup.getLatencySumMs();
+                min = minOf(min, rollup.getLatencyMinMs());
+                max = maxOf(max, rollup.getLatencyMaxMs());
+                sketch.merge(LatencySketch.fromBytes(rollup.getLatencySketch()));
+            }
+
+            points.add(ApiUsageSeriesViewModel.ApiUsagePointViewModel.builder()
+                    .bucketStart(entry.getKey())
+                    .requestCount(requests)
+                    .errorCount(errors)
+                    .averageResponseTimeMs(latencyCount > 0 ? (double) latencySum / latencyCount : null)
+                    .minResponseTimeMs(min)
+                    .maxResponseTimeMs(max)
+                    .p50ResponseTimeMs(sketch.quantile(0.50))
+                    .p95ResponseTimeMs(sketch.quantile(0.95))
+                    .p99ResponseTimeMs(sketch.quantile(0.99))
+                    .build());
+
+            total.merge(sketch);
+            totalRequests += requests;
+            totalErrors += errors;
+            totalLatencyCount += latencyCount;
+            totalLatencySum += latencySum;
+        }
+
+        return ApiUsageSeriesViewModel.builder()
+                .granularity(granularity.name())
+                .from(from)
+                .to(to)
+                .totalRequests(totalRequests)
+                .totalErrors(totalErrors)
+                .averageResponseTimeMs(totalLatencyCount > 0 ? (double) totalLatencySum / totalLatencyCount : null)
+                .p50ResponseTimeMs(total.quantile(0.50))
+                .p95ResponseTimeMs(total.quantile(0.95))
+                .p99ResponseTimeMs(total.quantile(0.99))
+                .points(points)
+                .build();
+    }
+
+    private Vendor findVendor(IAuthContextViewModel auth) {
+        return vendorRepository.findByCompanyCode(auth.getCompanyCode())
+                .orElseThrow(() -> new ResourceNotFoundException("Vendor not found for company code: " + auth.getCompanyCode()));
+    }
+
+    /**
+     * Uses the requested granularity unless it would produce more than MAX_SERIES_POINTS buckets,
+     * in which case the next coarser one is used.
+     */
+    private RollupGranularity resolveGranularity(RollupGranularity requested, LocalDateTime from, LocalDateTime to) {
+        if (!from.isBefore(to)) {
+            throw new IllegalArgumentException("'from' must be before 'to'");
+        }
+        long minutes = Duration.between(from, to).toMinutes();
+        RollupGranularity granularity = requested != null ? requested : RollupGranularity.MINUTE;
+
+        if (granularity == RollupGranularity.MINUTE && minutes > MAX_SERIES_POINTS) {
+            granularity = RollupGranularity.HOUR;
+        }
+        if (granularity == RollupGranularity.HOUR && minutes / 60 > MAX_SERIES_POINTS) {
+            granularity = RollupGranularity.DAY;
+        }
+        return granularity;
+    }
+
+    private static LocalDateTime truncate(LocalDateTime timestamp, RollupGranularity granularity) {
+        return switch (granularity) {
+            case MINUTE -> timestamp.truncatedTo(ChronoUnit.MINUTES);
+            case HOUR -> timestamp.truncatedTo(ChronoUnit.HOURS);
+            case DAY -> timestamp.truncatedTo(ChronoUnit.DAYS);
+        };
+    }
+
+    private static Integer minOf(Integer current, Integer candidate) {
+        if (candidate == null) {
+            return current;
+        }
+        return current == null ? candidate : Math.min(current, candidate);
+    }
+
+    private static Integer maxOf(Integer current, Integer candidate) {
+        if (candidate == null) {
+            return current;
+        }
+        return current == null ? candidate : Math.max(current, candidate);
+    }
+
+    private record RollupKey(LocalDateTime bucketStart, UUID credentialId, String endpoint) {
+    }
+
+    /**
+     * In-memory aggregate for one rollup bucket within a single chunk
+     */
+    private static class RollupAccumulator {
+        private final UUID vendorId;
+        private final UUID oemId;
+        private final LatencySketch sketch = new LatencySketch();
+        private long requestCount;
+        private long errorCount;
+        private long latencySum;
+        private Integer latencyMin;
+        private Integer latencyMax;
+
+        RollupAccumulator(UUID vendorId, UUID oemId) {
+            this.vendorId = vendorId;
+            this.oemId = oemId;
+        }
+
+        void add(ApiRequestLogRollupRow row) {
+            requestCount++;
+            boolean failed = (row.getStatusCode() != null && row.getStatusCode() >= 400) || row.getErrorCode() != null;
+            if (failed) {
+                errorCount++;
+            }
+            Integer latency = row.getResponseTimeMs();
+            if (latency != null) {
+                sketch.record(latency);
+                latencySum += latency;
+                latencyMin = minOf(latencyMin, latency);
+                latencyMax = maxOf(latencyMax, latency);
+            }
+        }
+
+        void applyTo(ApiUsageRollup rollup) {
+            LatencySketch merged = LatencySketch.fromBytes(rollup.getLatencySketch());
+            merged.merge(sketch);
+
+            rollup.setRequestCount(rollup.getRequestCount() + requestCount);
+            rollup.setErrorCount(rollup.getErrorCount() + errorCount);
+            rollup.setLatencyCount(rollup.getLatencyCount() + sketch.getCount());
+            rollup.setLatencySumMs(rollup.getLatencySumMs() + latencySum);
+            rollup.setLatencyMinMs(minOf(rollup.getLatencyMinMs(), latencyMin));
+            rollup.setLatencyMaxMs(maxOf(rollup.getLatencyMaxMs(), latencyMax));
+            rollup.setLatencySketch(merged.toBytes());
+            rollup.setUpdatedAt(LocalDateTime.now());
+        }
+    }
+}
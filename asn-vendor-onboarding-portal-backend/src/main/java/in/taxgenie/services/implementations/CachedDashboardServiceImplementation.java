@@ -0,0 +1,112 @@
+package in.taxgenie.services.implementations;
+
+import in.taxgenie.cache.DashboardSnapshotCache;
+import in.taxgenie.cache.DashboardSnapshotCache.View;
+import in.taxgenie.services.interfaces.IDashboardService;
+import in.taxgenie.viewmodels.dashboard.DashboardStatsViewModel;
+import in.taxgenie.viewmodels.dashboard.OemOverviewViewModel;
+import in.taxgenie.viewmodels.dashboard.ProgressViewModel;
+import in.taxgenie.viewmodels.dashboard.UserProfileViewModel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Dashboard service that serves the polled views from {@link DashboardSnapshotCache}
+ * Deliberately not transactional: a cache hit must not borrow a connection. Misses and
+ * all other operations go to {@link DashboardServiceImplementation}. The placeholders it
+ * returns when a view fails to load are passed through but never cached. Callers pass the ETag
+ * they serve, so a view cached before the data changed is reloaded instead of sent under the
+ * new tag.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Service
+@Primary
+@RequiredArgsConstructor
+public class CachedDashboardServiceImplementation implements IDashboardService {
+
+    private final DashboardServiceImplementation delegate;
+    private final DashboardSnapshotCache snapshotCache;
+
+    @Override
+    public DashboardStatsViewModel getDashboardStats(String vendorId, String oemId, String companyCode) {
+        return getDashboardStats(vendorId, oemId, companyCode, null);
+    }
+
+    @Override
+    public DashboardStatsViewModel getDashboardStats(String vendorId, String oemId, String companyCode, String versionTag) {
+        return cached(companyCode, oemId, View.STATS, versionTag,
+                () -> delegate.getDashboardStats(vendorId, oemId, companyCode), stats -> !stats.isDegraded());
+    }
+
+    @Override
+    public ProgressViewModel getOnboardingProgress(String vendorId, String oemId, String companyCode) {
+        return getOnboardingProgress(vendorId, oemId, companyCode, null);
+    }
+
+    @Override
+    public ProgressViewModel getOnboardingProgress(String vendorId, String oemId, String companyCode, String versionTag) {
+        return cached(companyCode, oemId, View.ONBOARDING_PROGRESS, versionTag,
+                () -> delegate.getOnboardingProgress(vendorId, oemId, companyCode), progress -> !progress.isDegraded());
+    }
+
+    @Override
+    public ProgressViewModel getImplementationProgress(String vendorId, String oemId, String companyCode) {
+        return getImplementationProgress(vendorId, oemId, companyCode, null);
+    }
+
+    @Override
+    public ProgressViewModel getImplementationProgress(String vendorId, String oemId, String companyCode, String versionTag) {
+        return cached(companyCode, oemId, View.IMPLEMENTATION_PROGRESS, versionTag,
+                () -> delegate.getImplementationProgress(vendorId, oemId, companyCode), progress -> !progress.isDegraded());
+    }
+
+    @Override
+    public UserProfileViewModel getUserProfile(String vendorId, String companyCode) {
+        return delegate.getUserProfile(vendorId, companyCode);
+    }
+
+    @Override
+    public UserProfileViewModel updateUserProfile(String vendorId, UserProfileViewModel userProfile, String companyCode) {
+        return delegate.updateUserProfile(vendorId, userProfile, companyCode);
+    }
+
+    @Override
+    public List<QuickActionViewModel> getQuickActions(String vendorId, String oemId, String companyCode) {
+        return getQuickActions(vendorId, oemId, companyCode, null);
+    }
+
+    @Override
+    public List<QuickActionViewModel> getQuickActions(String vendorId, String oemId, String companyCode, String versionTag) {
+        // Empty when loading failed or the vendor or OEM is missing; neither is worth keeping
+        return cached(companyCode, oemId, View.QUICK_ACTIONS, versionTag,
+                () -> List.copyOf(delegate.getQuickActions(vendorId, oemId, companyCode)), actions -> !actions.isEmpty());
+    }
+
+    @Override
+    public List<ActivityViewModel> getRecentActivities(String vendorId, String oemId, String companyCode, Integer limit) {
+        return delegate.getRecentActivities(vendorId, oemId, companyCode, limit);
+    }
+
+    @Override
+    public List<OemOverviewViewModel> getOemOverview(String vendorId, String companyCode) {
+        return delegate.getOemOverview(vendorId, companyCode);
+    }
+
+    private <T> T cached(String companyCode, String oemId, View view, String versionTag, Supplier<T> loader,
+                         Predicate<? super T> cacheable) {
+        Long companyCodeLong;
+        try {
+            companyCodeLong = Long.parseLong(companyCode);
+        } catch (NumberFormatException e) {
+            return loader.get();
+        }
+        return snapshotCache.get(companyCodeLong, oemId, view, versionTag, loader, cacheable);
+    }
+}
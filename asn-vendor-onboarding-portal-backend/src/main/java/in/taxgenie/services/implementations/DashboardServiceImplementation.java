@@ -1,11 +1,15 @@
 package in.taxgenie.services.implementations;
 
+import in.taxgenie.dto.OemOverviewRow;
 import in.taxgenie.entities.*;
 import in.taxgenie.entities.enums.OnboardingStatus;
 import in.taxgenie.entities.enums.PaymentStatus;
+import in.taxgenie.monitoring.PhaseTimer;
+import in.taxgenie.monitoring.RequestPhase;
 import in.taxgenie.repositories.*;
 import in.taxgenie.services.interfaces.IDashboardService;
 import in.taxgenie.viewmodels.dashboard.DashboardStatsViewModel;
+import in.taxgenie.viewmodels.dashboard.OemOverviewViewModel;
 import in.taxgenie.viewmodels.dashboard.ProgressViewModel;
 import in.taxgenie.viewmodels.dashboard.UserProfileViewModel;
 import lombok.extern.slf4j.Slf4j;
@@ -17,8 +21,11 @@ import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Service implementation for dashboard operations
@@ -52,6 +59,9 @@ public class DashboardServiceImplementation implements IDashboardService {
     @Autowired
     private OemMasterRepository oemMasterRepository;
 
+    @Autowired
+    private VendorOemAccessRepository vendorOemAccessRepository;
+
     // ASN 2.1 deadline - September 30, 2025
     private static final LocalDateTime ASN_DEADLINE = LocalDateTime.of(2025, 11, 30, 23, 59, 59);
 
@@ -59,7 +69,8 @@ public class DashboardServiceImplementation implements IDashboardService {
     public DashboardStatsViewModel getDashboardStats(String vendorId, String oemId, String companyCode) {
         log.info("Getting dashboard stats for vendor: {}, OEM ID: {}, company: {}", vendorId, oemId, companyCode);
 
-        try {
+        // Repository calls are charged to db, so the rest of the method counts as mapping
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(RequestPhase.MAPPING)) {
             // Get vendor information using company code
             Long companyCodeLong = Long.parseLong(companyCode);
             Optional<Vendor> vendorOpt = vendorRepository.findByCompanyCode(companyCodeLong);
@@ -111,7 +122,9 @@ public class DashboardServiceImplementation implements IDashboardService {
                 
         } catch (Exception e) {
             log.error("Error getting dashboard stats for vendor: {}", vendorId, e);
-            return buildDefaultDashboardStats();
+            DashboardStatsViewModel fallback = buildDefaultDashboardStats();
+            fallback.setDegraded(true);
+            return fallback;
         }
     }
 
@@ -119,7 +132,7 @@ public class DashboardServiceImplementation implements IDashboardService {
     public ProgressViewModel getOnboardingProgress(String vendorId, String oemId, String companyCode) {
         log.info("Getting onboarding progress for vendor: {}, OEM ID: {}, company: {}", vendorId, oemId, companyCode);
 
-        try {
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(RequestPhase.MAPPING)) {
             // Get vendor information using company code
             Long companyCodeLong = Long.parseLong(companyCode);
             Optional<Vendor> vendorOpt = vendorRepository.findByCompanyCode(companyCodeLong);
@@ -177,7 +190,9 @@ public class DashboardServiceImplementation implements IDashboardService {
                 
         } catch (Exception e) {
             log.error("Error getting onboarding progress for vendor: {}", vendorId, e);
-            return buildDefaultOnboardingProgress();
+            ProgressViewModel fallback = buildDefaultOnboardingProgress();
+            fallback.setDegraded(true);
+            return fallback;
         }
     }
 
@@ -185,7 +200,7 @@ public class DashboardServiceImplementation implements IDashboardService {
     public ProgressViewModel getImplementationProgress(String vendorId, String oemId, String companyCode) {
         log.info("Getting implementation progress for vendor: {}, OEM ID: {}, company: {}", vendorId, oemId, companyCode);
 
-        try {
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(RequestPhase.MAPPING)) {
             // Get vendor information using company code
             Long companyCodeLong = Long.parseLong(companyCode);
             Optional<Vendor> vendorOpt = vendorRepository.findByCompanyCode(companyCodeLong);
@@ -243,7 +258,9 @@ public class DashboardServiceImplementation implements IDashboardService {
                 
         } catch (Exception e) {
             log.error("Error getting implementation progress for vendor: {}", vendorId, e);
-            return buildDefaultImplementationProgress();
+            ProgressViewModel fallback = buildDefaultImplementationProgress();
+            fallback.setDegraded(true);
+            return fallback;
         }
     }
 
@@ -492,15 +509,69 @@ public class DashboardServiceImplementation implements IDashboardService {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<OemOverviewViewModel> getOemOverview(String vendorId, String companyCode) {
+        log.info("Getting OEM overview for vendor: {}, company: {}", vendorId, companyCode);
+
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(RequestPhase.MAPPING)) {
+            List<OemOverviewRow> rows = vendorOemAccessRepository.findOemOverviewByCompanyCode(Long.parseLong(companyCode));
+
+            // Two active subscriptions starting on the same day would repeat an OEM; keep the first
+            Map<UUID, OemOverviewViewModel> overview = new LinkedHashMap<>();
+            for (OemOverviewRow row : rows) {
+                overview.putIfAbsent(row.getOemId(), toOemOverview(row));
+            }
+            return new ArrayList<>(overview.values());
+
+        } catch (Exception e) {
+            log.error("Error getting OEM overview for vendor: {}", vendorId, e);
+            throw new RuntimeException("Failed to get OEM overview: " + e.getMessage());
+        }
+    }
+
+    private OemOverviewViewModel toOemOverview(OemOverviewRow row) {
+        OnboardingStatus onboardingStatus = row.getOnboardingStatus() != null
+            ? row.getOnboardingStatus()
+            : OnboardingStatus.NOT_STARTED;
+
+        return OemOverviewViewModel.builder()
+            .oemId(row.getOemId().toString())
+            .oemCode(row.getOemCode())
+            .oemName(row.getOemName())
+            .fullName(row.getOemFullName())
+            .asnVersion(row.getAsnVersion())
+            .asnDeadline(row.getAsnDeadline())
+            .vendorCode(row.getVendorCode())
+            .accessLevel(row.getAccessLevel() != null ? row.getAccessLevel().name() : null)
+            .accessStatus(row.getAccessStatus() != null ? row.getAccessStatus().name() : null)
+            .onboardingStatus(onboardingStatus.name())
+            .currentStep(row.getCurrentStep())
+            .progress(row.getOnboardingStatus() != null ? calculateOverallProgress(onboardingStatus) : 0)
+            .onboardingCompletedAt(row.getOnboardingCompletedAt())
+            .planCode(row.getPlanCode())
+            .planName(row.getPlanName())
+            .subscriptionStatus(row.getSubscriptionStatus() != null ? row.getSubscriptionStatus().name() : null)
+            .subscriptionEndDate(row.getSubscriptionEndDate())
+            .build();
+    }
+
     // Helper methods
 
     private int calculateOverallProgress(OnboardingProcess onboarding) {
         if (onboarding == null) {
             return 0;
         }
+        return calculateOverallProgress(onboarding.getStatus());
+    }
+
+    private int calculateOverallProgress(OnboardingStatus status) {
+        if (status == null) {
+            return 0;
+        }
 
         // Calculate based on onboarding status and implementation progress
-        switch (onboarding.getStatus()) {
+        switch (status) {
             case NOT_STARTED:
                 return 10;
             case IN_PROGRESS:
@@ -0,0 +1,136 @@
+package in.taxgenie.services.implementations;
+
+import in.taxgenie.repositories.ApiRequestLogRepository;
+import in.taxgenie.repositories.AuditLogRepository;
+import in.taxgenie.repositories.JobRunRepository;
+import in.taxgenie.services.interfaces.IDataRetentionService;
+import in.taxgenie.utils.MonthlyPartitions;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Deletes expired log rows in bounded chunks
+ * Every chunk is a short transaction on the timestamp index, so retention never holds
+ * locks or bloats the WAL the way one unbounded DELETE would. On the monthly partitioned
+ * log tables whole expired months are dropped first, which costs no row deletes at all;
+ * the chunks then only clear the month straddling the cutoff.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class DataRetentionServiceImplementation implements IDataRetentionService {
+
+    private static final String API_REQUEST_LOGS = "api_request_logs";
+    private static final String AUDIT_LOGS = "audit_logs";
+    private static final List<String> PARTITIONED_LOG_TABLES = List.of(API_REQUEST_LOGS, AUDIT_LOGS);
+
+    private final ApiRequestLogRepository apiRequestLogRepository;
+    private final AuditLogRepository auditLogRepository;
+    private final JobRunRepository jobRunRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    @Transactional
+    public int deleteApiRequestLogsBefore(LocalDateTime cutoff, int limit) {
+        return apiRequestLogRepository.deleteOldLogsChunk(cutoff, limit);
+    }
+
+    @Override
+    @Transactional
+    public int deleteAuditLogsBefore(LocalDateTime cutoff, int limit) {
+        return auditLogRepository.deleteOldLogsChunk(cutoff, limit);
+    }
+
+    @Override
+    public int dropApiRequestLogPartitionsBefore(LocalDateTime cutoff) {
+        return dropPartitionsBefore(API_REQUEST_LOGS, cutoff);
+    }
+
+    @Override
+    public int dropAuditLogPartitionsBefore(LocalDateTime cutoff) {
+        return dropPartitionsBefore(AUDIT_LOGS, cutoff);
+    }
+
+    @Override
+    public int createLogPartitionsThrough(YearMonth lastMonth) {
+        int created = 0;
+        for (String table : PARTITIONED_LOG_TABLES) {
+            if (!isPartitioned(table)) {
+                continue;
+            }
+            // Continue after the newest range partition, so months never overlap the legacy one
+            YearMonth month = partitions(table).stream()
+                    .map(partition -> MonthlyPartitions.upperBound(partition[1]))
+                    .flatMap(Optional::stream)
+                    .max(Comparator.naturalOrder())
+                    .map(YearMonth::from)
+                    .orElseGet(YearMonth::now);
+            for (; !month.isAfter(lastMonth); month = month.plusMonths(1)) {
+                String partition = MonthlyPartitions.partitionName(table, month);
+                try {
+                    jdbcTemplate.execute(MonthlyPartitions.createSql(table, month));
+                    created++;
+                    log.info("Created partition {}", partition);
+                } catch (DataAccessException e) {
+                    log.warn("Could not create partition {}; its rows stay in the default partition", partition, e);
+                    break;
+                }
+            }
+        }
+        return created;
+    }
+
+    @Override
+    @Transactional
+    public int deleteJobRunsBefore(LocalDateTime cutoff, int limit) {
+        return jobRunRepository.deleteStartedBefore(cutoff, limit);
+    }
+
+    /**
+     * Drops every range partition of the table ending at or before the cutoff
+     * Each DROP is its own short statement; the DEFAULT partition is never dropped.
+     */
+    private int dropPartitionsBefore(String table, LocalDateTime cutoff) {
+        int dropped = 0;
+        for (String[] partition : partitions(table)) {
+            if (MonthlyPartitions.isExpired(partition[1], cutoff)) {
+                jdbcTemplate.execute("DROP TABLE " + MonthlyPartitions.quote(partition[0]));
+                dropped++;
+                log.info("Dropped expired partition {} ({})", partition[0], partition[1]);
+            }
+        }
+        return dropped;
+    }
+
+    /**
+     * Name and bound expression of every partition of the table, none when it is not partitioned
+     */
+    private List<String[]> partitions(String table) {
+        return jdbcTemplate.query("""
+                SELECT c.relname, pg_get_expr(c.relpartbound, c.oid)
+                FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = to_regclass(?)
+                ORDER BY c.relname
+                """, (rs, rowNum) -> new String[]{rs.getString(1), rs.getString(2)}, table);
+    }
+
+    private boolean isPartitioned(String table) {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM pg_partitioned_table WHERE partrelid = to_regclass(?))",
+                Boolean.class, table));
+    }
+}
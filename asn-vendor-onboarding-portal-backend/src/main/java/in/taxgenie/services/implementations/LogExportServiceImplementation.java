@@ -0,0 +1,210 @@
+package in.taxgenie.services.implementations;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import in.taxgenie.auth.IAuthContextViewModel;
+import in.taxgenie.exception.ResourceNotFoundException;
+import in.taxgenie.repositories.ApiRequestLogRepository;
+import in.taxgenie.repositories.AuditLogRepository;
+import in.taxgenie.repositories.VendorRepository;
+import in.taxgenie.services.interfaces.ILogExportService;
+import in.taxgenie.viewmodels.export.ApiRequestLogExportRow;
+import in.taxgenie.viewmodels.export.AuditLogExportRow;
+import in.taxgenie.viewmodels.export.ExportFormat;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Streams audit and API request logs straight from a database cursor to the response.
+ * Rows are read as projections rather than entities, so nothing accumulates in the
+ * persistence context and heap usage stays flat regardless of how many rows the export covers.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class LogExportServiceImplementation implements ILogExportService {
+
+    private static final List<String> AUDIT_LOG_COLUMNS = List.of(
+            "auditId", "eventTime", "actorId", "actorType", "ipAddress", "eventCategory",
+            "eventAction", "resourceType", "resourceId", "requestId", "sessionId", "changes");
+
+    private static final List<String> API_REQUEST_LOG_COLUMNS = List.of(
+            "logId", "requestTimestamp", "credentialId", "endpoint", "method",
+            "statusCode", "responseTimeMs", "errorCode");
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+    private static final int FLUSH_INTERVAL_ROWS = 1000;
+    /**
+     * Leading characters that make spreadsheets evaluate a cell as a formula
+     */
+    private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+    private final AuditLogRepository auditLogRepository;
+    private final ApiRequestLogRepository apiRequestLogRepository;
+    private final VendorRepository vendorRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    @Transactional(readOnly = true)
+    public UUID resolveVendorId(IAuthContextViewModel auth) {
+        return vendorRepository.findByCompanyCode(auth.getCompanyCode())
+                .orElseThrow(() -> new ResourceNotFoundException("Vendor not found for company code: " + auth.getCompanyCode()))
+                .getVendorId();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportAuditLogs(UUID vendorId, LocalDateTime startTime, LocalDateTime endTime,
+                                ExportFormat format, boolean gzip, OutputStream outputStream) throws IOException {
+        log.info("Exporting audit logs for vendor {} between {} and {} as {}", vendorId, startTime, endTime, format);
+
+        try (Stream<AuditLogExportRow> rows = auditLogRepository.streamBySubjectForExport(vendorId, startTime, endTime)) {
+            long count = writeRows(rows, AUDIT_LOG_COLUMNS, this::toAuditLogValues, format, gzip, outputStream);
+            log.info("Exported {} audit log rows for vendor {}", count, vendorId);
+            return count;
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long exportApiRequestLogs(UUID vendorId, UUID oemId, LocalDateTime startTime, LocalDateTime endTime,
+                                     ExportFormat format, boolean gzip, OutputStream outputStream) throws IOException {
+        log.info("Exporting API request logs for vendor {} and OEM {} between {} and {} as {}",
+                vendorId, oemId, startTime, endTime, format);
+
+        Stream<ApiRequestLogExportRow> source = oemId != null
+                ? apiRequestLogRepository.streamByVendorAndOemForExport(vendorId, oemId, startTime, endTime)
+                : apiRequestLogRepository.streamByVendorForExport(vendorId, startTime, endTime);
+
+        try (Stream<ApiRequestLogExportRow> rows = source) {
+            long count = writeRows(rows, API_REQUEST_LOG_COLUMNS, this::toApiRequestLogValues, format, gzip, outputStream);
+            log.info("Exported {} API request log rows for vendor {}", count, vendorId);
+            return count;
+        }
+    }
+
+    // ==================== Helper Methods ====================
+
+    private <T> long writeRows(Stream<T> rows, List<String> columns, Function<T, List<Object>> extractor,
+                               ExportFormat format, boolean gzip, OutputStream outputStream) throws IOException {
+        GZIPOutputStream gzipStream = gzip ? new GZIPOutputStream(outputStream, WRITE_BUFFER_SIZE) : null;
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(gzipStream != null ? gzipStream : outputStream, StandardCharsets.UTF_8),
+                WRITE_BUFFER_SIZE);
+
+        if (format == ExportFormat.CSV) {
+            writeCsvLine(writer, columns);
+        }
+
+        long count = 0;
+        Iterator<T> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            T row = iterator.next();
+            List<Object> values = extractor.apply(row);
+
+            if (format == ExportFormat.CSV) {
+                writeCsvLine(writer, values);
+            } else {
+                writeJsonLine(writer, columns, values);
+            }
+
+            if (++count % FLUSH_INTERVAL_ROWS == 0) {
+                writer.flush();
+            }
+        }
+
+        writer.flush();
+        if (gzipStream != null) {
+            gzipStream.finish();
+        }
+        return count;
+    }
+
+    private List<Object> toAuditLogValues(AuditLogExportRow auditLog) {
+        return Arrays.asList(
+                auditLog.auditId(),
+                auditLog.eventTime(),
+                auditLog.actorId(),
+                auditLog.actorType(),
+                auditLog.ipAddress() != null ? auditLog.ipAddress().getHostAddress() : null,
+                auditLog.eventCategory(),
+                auditLog.eventAction(),
+                auditLog.resourceType(),
+                auditLog.resourceId(),
+                auditLog.requestId(),
+                auditLog.sessionId(),
+                auditLog.changes());
+    }
+
+    private List<Object> toApiRequestLogValues(ApiRequestLogExportRow requestLog) {
+        return Arrays.asList(
+                requestLog.logId(),
+                requestLog.requestTimestamp(),
+                requestLog.credentialId(),
+                requestLog.endpoint(),
+                requestLog.method(),
+                requestLog.statusCode(),
+                requestLog.responseTimeMs(),
+                requestLog.errorCode());
+    }
+
+    private void writeCsvLine(Writer writer, List<?> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = values.get(i);
+            if (value != null) {
+                writer.write(escapeCsv(value.toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeJsonLine(Writer writer, List<String> columns, List<Object> values) throws IOException {
+        Map<String, Object> line = new LinkedHashMap<>();
+        for (int i = 0; i < columns.size(); i++) {
+            Object value = values.get(i);
+            line.put(columns.get(i), value instanceof Enum<?> || value instanceof UUID ? value.toString() : value);
+        }
+        writer.write(objectMapper.writeValueAsString(line));
+        writer.write('\n');
+    }
+
+    /**
+     * Quotes the value when CSV requires it, and prefixes text a spreadsheet would evaluate as
+     * a formula with an apostrophe, since endpoints, changes and request IDs come from clients
+     */
+    private String escapeCsv(String value) {
+        if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        boolean needsQuoting = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!needsQuoting) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
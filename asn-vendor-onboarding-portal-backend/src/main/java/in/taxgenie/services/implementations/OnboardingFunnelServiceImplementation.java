@@ -0,0 +1,72 @@
+package in.taxgenie.services.implementations;
+
+import in.taxgenie.entities.OemMaster;
+import in.taxgenie.funnel.OnboardingFunnelAssembler;
+import in.taxgenie.repositories.OemMasterRepository;
+import in.taxgenie.repositories.OnboardingFunnelCountRepository;
+import in.taxgenie.services.interfaces.IOnboardingFunnelService;
+import in.taxgenie.viewmodels.analytics.OnboardingFunnelViewModel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Serves the onboarding funnel from onboarding_funnel_counts, which holds one row per
+ * (OEM, step, status), so a read costs the same for ten vendors or a hundred thousand.
+ * The cells are kept current by OnboardingFunnelListener; reconcile rebuilds an OEM's cells
+ * from onboarding_process to repair drift and to refresh the time-dependent stale counts.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class OnboardingFunnelServiceImplementation implements IOnboardingFunnelService {
+
+    private final OnboardingFunnelCountRepository onboardingFunnelCountRepository;
+    private final OemMasterRepository oemMasterRepository;
+
+    @Value("${asn.vendor.portal.analytics.funnel.stale-after-days:7}")
+    private int staleAfterDays;
+
+    @Override
+    @Transactional(readOnly = true)
+    public OnboardingFunnelViewModel getOemFunnel(UUID oemId) {
+        return OnboardingFunnelAssembler.assemble(oemId, onboardingFunnelCountRepository.findByOemId(oemId), staleAfterDays);
+    }
+
+    @Override
+    @Transactional
+    public long reconcileOemFunnel(UUID oemId) {
+        onboardingFunnelCountRepository.lockOemFunnel(oemId);
+        long before = onboardingFunnelCountRepository.sumVendorCountByOemId(oemId);
+
+        LocalDateTime reconciledAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        int cells = onboardingFunnelCountRepository.rebuildOemFunnel(oemId, reconciledAt.minusDays(staleAfterDays), reconciledAt);
+        int emptied = onboardingFunnelCountRepository.deleteCellsNotReconciledAt(oemId, reconciledAt);
+        long after = onboardingFunnelCountRepository.sumVendorCountByOemId(oemId);
+
+        if (before != after) {
+            log.warn("Onboarding funnel for OEM {} drifted by {} vendors, rebuilt {} cells", oemId, after - before, cells);
+        } else {
+            log.debug("Onboarding funnel for OEM {} reconciled: {} cells, {} emptied", oemId, cells, emptied);
+        }
+        return after - before;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<UUID> getFunnelOemIds() {
+        return oemMasterRepository.findAll().stream()
+                .map(OemMaster::getOemId)
+                .toList();
+    }
+}
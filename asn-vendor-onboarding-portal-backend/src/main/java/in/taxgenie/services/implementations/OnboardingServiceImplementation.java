@@ -1,6 +1,7 @@
 package in.taxgenie.services.implementations;
 
 import in.taxgenie.auth.IAuthContextViewModel;
+import in.taxgenie.cache.DashboardChangedEvent;
 import in.taxgenie.entities.*;
 import in.taxgenie.entities.enums.OnboardingStatus;
 import in.taxgenie.entities.enums.PaymentStatus;
@@ -8,9 +9,12 @@ import in.taxgenie.entities.enums.Environment;
 import in.taxgenie.entities.enums.Status;
 import in.taxgenie.repositories.*;
 import in.taxgenie.services.interfaces.IOnboardingService;
+import in.taxgenie.streaming.OnboardingEventRecordedEvent;
 import in.taxgenie.viewmodels.onboarding.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -39,6 +43,7 @@ public class OnboardingServiceImplementation implements IOnboardingService {
 
     private final VendorGstinRepository vendorGstinRepository;
     private final VendorCodeRepository vendorCodeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
 
     @Override
@@ -99,6 +104,7 @@ public class OnboardingServiceImplementation implements IOnboardingService {
             // Save vendor
             vendor = vendorRepository.save(vendor);
             log.info("Vendor created successfully with ID: {}", vendor.getVendorId());
+            eventPublisher.publishEvent(DashboardChangedEvent.forCompany(companyCode));
 
             // Generate vendor code
             String vendorCode = "V" + vendor.getVendorId().toString().substring(0, 8).toUpperCase();
@@ -306,6 +312,47 @@ public class OnboardingServiceImplementation implements IOnboardingService {
         }
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<OnboardingStreamEventViewModel> getOnboardingEventsSince(IAuthContextViewModel auth, String oemId,
+                                                                         String lastEventId, int limit) {
+        UUID lastId;
+        try {
+            lastId = UUID.fromString(lastEventId);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return Collections.emptyList();
+        }
+
+        try {
+            return findOnboardingProcess(auth, oemId)
+                .map(process -> onboardingEventRepository.findByOnboardingProcessAfterEvent(
+                    process, lastId, PageRequest.of(0, limit)))
+                .orElse(Collections.emptyList())
+                .stream()
+                .map(this::toStreamEvent)
+                .collect(Collectors.toList());
+
+        } catch (Exception e) {
+            log.error("Error getting onboarding events for vendor: {} and OEM ID: {} since: {}",
+                auth.getUserId(), oemId, lastEventId, e);
+            throw new RuntimeException("Failed to get onboarding events: " + e.getMessage());
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<OnboardingStreamEventViewModel> getLatestOnboardingEvent(IAuthContextViewModel auth, String oemId) {
+        try {
+            return findOnboardingProcess(auth, oemId)
+                .flatMap(onboardingEventRepository::findFirstByOnboardingProcessOrderByEventTimestampDescEventIdDesc)
+                .map(this::toStreamEvent);
+
+        } catch (Exception e) {
+            log.error("Error getting latest onboarding event for vendor: {} and OEM ID: {}", auth.getUserId(), oemId, e);
+            throw new RuntimeException("Failed to get latest onboarding event: " + e.getMessage());
+        }
+    }
+
     @Override
     public AsnConfirmationResponseViewModel confirmAsnActivation(IAuthContextViewModel auth, 
                                                                AsnConfirmationRequestViewModel request) {
@@ -351,6 +398,7 @@ public class OnboardingServiceImplementation implements IOnboardingService {
             // Create onboarding event
             createOnboardingEvent(onboardingProcess, "ASN_CONFIRMATION", 
                 "ASN 2.1 activation confirmed", auth.getUserId());
+            publishDashboardChange(auth, oem);
 
             // Build response
             return AsnConfirmationResponseViewModel.builder()
@@ -403,6 +451,7 @@ public class OnboardingServiceImplementation implements IOnboardingService {
                 .build();
 
             transaction = paymentTransactionRepository.save(transaction);
+            publishDashboardChange(auth, oem);
 
             // Build response
             return PaymentInitiationResponseViewModel.builder()
@@ -435,6 +484,11 @@ public class OnboardingServiceImplementation implements IOnboardingService {
             .orElseThrow(() -> new RuntimeException("Vendor not found for user: " + auth.getUserId()));
     }
 
+    private Optional<OnboardingProcess> findOnboardingProcess(IAuthContextViewModel auth, String oemId) {
+        return onboardingProcessRepository.findByVendorAndOemAndCompanyCode(
+            getVendorByAuth(auth), getOemById(oemId), auth.getCompanyCode());
+    }
+
     private VendorGstin getVendorGstingById(String gstinId) {
         return vendorGstinRepository.findById(UUID.fromString(gstinId))
                 .orElseThrow(() -> new RuntimeException("VendorGSTIN not found for Id: " + gstinId));
@@ -445,6 +499,13 @@ public class OnboardingServiceImplementation implements IOnboardingService {
             .orElseThrow(() -> new RuntimeException("OEM not found: " + oemCode));
     }
 
+    /**
+     * Drops the cached dashboard for this vendor and OEM once the current transaction commits
+     */
+    private void publishDashboardChange(IAuthContextViewModel auth, OemMaster oem) {
+        eventPublisher.publishEvent(DashboardChangedEvent.forOem(auth.getCompanyCode(), oem.getOemId().toString()));
+    }
+
     private OemMaster getOemById(String oemId) {
         return oemMasterRepository.findById(java.util.UUID.fromString(oemId))
             .orElseThrow(() -> new RuntimeException("OEM not found with ID: " + oemId));
@@ -607,7 +668,22 @@ public class OnboardingServiceImplementation implements IOnboardingService {
             .triggeredBy(UUID.randomUUID()) // Convert Long to UUID if needed
             .build();
 
-        onboardingEventRepository.save(event);
+        event = onboardingEventRepository.save(event);
+
+        // Live progress streams pick this up after commit
+        eventPublisher.publishEvent(new OnboardingEventRecordedEvent(
+            process.getCompanyCode(),
+            process.getOem().getOemId().toString(),
+            toStreamEvent(event),
+            buildOnboardingProgress(process)));
+    }
+
+    private OnboardingStreamEventViewModel toStreamEvent(OnboardingEvent event) {
+        return OnboardingStreamEventViewModel.builder()
+            .eventId(event.getEventId().toString())
+            .eventType(event.getEventType())
+            .occurredAt(event.getEventTimestamp())
+            .build();
     }
 
     @Override
@@ -690,6 +766,7 @@ public class OnboardingServiceImplementation implements IOnboardingService {
             // Create onboarding event
             createOnboardingEvent(onboardingProcess, "DEPLOYMENT_SELECTION",
                 "Deployment method selected: " + request.getDeploymentType(), auth.getUserId());
+            publishDashboardChange(auth, oem);
 
             // Build response based on deployment type
             return buildDeploymentSelectionResponse(request.getDeploymentType());
@@ -796,6 +873,7 @@ public class OnboardingServiceImplementation implements IOnboardingService {
             // Create onboarding event
             createOnboardingEvent(onboardingProcess, "API_CREDENTIALS_CREATED",
                 "API credentials created successfully", auth.getUserId());
+            publishDashboardChange(auth, oem);
 
             // Build response
             return buildApiCredentialsResponse(credential, oem.getOemCode());
@@ -887,6 +965,7 @@ public class OnboardingServiceImplementation implements IOnboardingService {
             }
 
             credential = apiCredentialRepository.save(credential);
+            publishDashboardChange(auth, oem);
 
             // Create onboarding event
             OnboardingProcess onboardingProcess = onboardingProcessRepository
@@ -967,6 +1046,7 @@ public class OnboardingServiceImplementation implements IOnboardingService {
             // Create onboarding event
             createOnboardingEvent(onboardingProcess, "STEP_STATUS_UPDATED",
                 "Step " + stepId + " status updated to " + status, auth.getUserId());
+            publishDashboardChange(auth, oem);
 
             return buildOnboardingProgress(onboardingProcess);
 
@@ -1031,6 +1111,7 @@ public class OnboardingServiceImplementation implements IOnboardingService {
             // Create completion event
             createOnboardingEvent(onboardingProcess, "ONBOARDING_COMPLETED",
                 "Onboarding process completed successfully", auth.getUserId());
+            publishDashboardChange(auth, oem);
 
             // Build completion response
             return OnboardingCompletionViewModel.builder()
@@ -0,0 +1,89 @@
+package in.taxgenie.services.implementations;
+
+import in.taxgenie.repositories.OnboardingProcessRepository;
+import in.taxgenie.repositories.VendorGstinRepository;
+import in.taxgenie.repositories.VendorRepository;
+import in.taxgenie.services.interfaces.IResourceVersionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Builds strong ETags from entity version columns
+ * Not transactional on purpose: each lookup is one auto-commit query, and a failed lookup
+ * must not mark a surrounding transaction rollback-only. On failure the caller just
+ * serves a full response.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ResourceVersionServiceImplementation implements IResourceVersionService {
+
+    private final OnboardingProcessRepository onboardingProcessRepository;
+    private final VendorRepository vendorRepository;
+    private final VendorGstinRepository vendorGstinRepository;
+
+    @Override
+    public Optional<String> getDashboardETag(Long companyCode, String oemId, String view) {
+        // Dashboard views count days to the ASN deadline, so the tag also rolls over daily
+        return onboardingVersion(companyCode, oemId)
+                .map(version -> eTag("dashboard", view, companyCode, oemId, LocalDate.now(), version));
+    }
+
+    @Override
+    public Optional<String> getOnboardingProgressETag(Long companyCode, String oemId) {
+        return onboardingVersion(companyCode, oemId)
+                .map(version -> eTag("onboarding-progress", companyCode, oemId, LocalDate.now(), version));
+    }
+
+    @Override
+    public Optional<String> getCompanyInfoETag(Long companyCode) {
+        return lookup("company info", companyCode, () -> vendorRepository.findCompanyInfoVersionTag(companyCode))
+                .map(version -> eTag("company-info", companyCode, version));
+    }
+
+    @Override
+    public Optional<String> getGstinManagementETag(Long companyCode, Pageable pageable) {
+        return lookup("GSTIN management", companyCode,
+                () -> Optional.ofNullable(vendorGstinRepository.findGstinManagementVersionTag(companyCode)))
+                .map(version -> eTag("gstin-management", companyCode, pageable, version));
+    }
+
+    private Optional<String> onboardingVersion(Long companyCode, String oemId) {
+        UUID oemUuid;
+        try {
+            oemUuid = UUID.fromString(oemId);
+        } catch (IllegalArgumentException | NullPointerException e) {
+            return Optional.empty();
+        }
+        return lookup("onboarding", companyCode, () -> onboardingProcessRepository.findVersionTag(companyCode, oemUuid));
+    }
+
+    private Optional<String> lookup(String resource, Long companyCode, Supplier<Optional<String>> query) {
+        if (companyCode == null) {
+            return Optional.empty();
+        }
+        try {
+            return query.get();
+        } catch (Exception e) {
+            log.warn("Could not read {} version for company: {}, serving without ETag", resource, companyCode, e);
+            return Optional.empty();
+        }
+    }
+
+    private static String eTag(Object... parts) {
+        StringBuilder source = new StringBuilder();
+        for (Object part : parts) {
+            source.append(part).append('\u001f');
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(source.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -1,6 +1,8 @@
 package in.taxgenie.services.implementations;
 
 import in.taxgenie.auth.IAuthContextViewModel;
+import in.taxgenie.cache.DashboardChangedEvent;
+import in.taxgenie.context.ParallelReadExecutor;
 import in.taxgenie.entities.*;
 import in.taxgenie.entities.enums.Status;
 import in.taxgenie.repositories.*;
@@ -11,15 +13,18 @@ import in.taxgenie.viewmodels.settings.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.springframework.data.domain.Pageable;
 
@@ -63,6 +68,12 @@ public class SettingsServiceImplementation implements ISettingsService {
     @Autowired
     private ApiCredentialRepository apiCredentialRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ParallelReadExecutor parallelReadExecutor;
+
     @Override
     @Transactional(readOnly = true)
     public CompanyInfoResponseViewModel getCompanyInfo(IAuthContextViewModel auth) {
@@ -141,6 +152,7 @@ public class SettingsServiceImplementation implements ISettingsService {
             vendor.setUpdatedAt(LocalDateTime.now());
 
             vendorRepository.save(vendor);
+            publishDashboardChange(auth);
 
             return getCompanyInfo(auth);
             
@@ -162,8 +174,13 @@ public class SettingsServiceImplementation implements ISettingsService {
             // Use the new paginated repository method
             Page<VendorGstin> gstinPage = vendorGstinRepository.findByVendorAndCompanyCode(vendor, auth.getCompanyCode(), pageable);
 
+            // Resolve credential presence for the whole page in one query instead of per row
+            Set<UUID> gstinIdsWithCredentials = gstinPage.hasContent()
+                    ? new HashSet<>(apiCredentialRepository.findGstinIdsWithCredentials(gstinPage.getContent()))
+                    : Collections.emptySet();
+
             List<GstinManagementViewModel.GstinDetailViewModel> gstinDetails = gstinPage.getContent().stream()
-                    .map(this::mapToGstinDetailViewModel) // We will update this helper method
+                    .map(vendorGstin -> mapToGstinDetailViewModel(vendorGstin, gstinIdsWithCredentials.contains(vendorGstin.getGstinId())))
                     .collect(Collectors.toList());
 
             // Get summary counts from the full list (this query is fast)
@@ -219,6 +236,7 @@ public class SettingsServiceImplementation implements ISettingsService {
             vendorGstin.setCompanyCode(auth.getCompanyCode());
 
             vendorGstin = vendorGstinRepository.save(vendorGstin);
+            publishDashboardChange(auth);
 
             return mapToGstinDetailViewModel(vendorGstin);
             
@@ -251,6 +269,7 @@ public class SettingsServiceImplementation implements ISettingsService {
             vendorGstin.setUpdatedAt(LocalDateTime.now());
 
             vendorGstin = vendorGstinRepository.save(vendorGstin);
+            publishDashboardChange(auth);
 
             return mapToGstinDetailViewModel(vendorGstin);
             
@@ -282,6 +301,7 @@ public class SettingsServiceImplementation implements ISettingsService {
             }
 
             vendorGstinRepository.delete(vendorGstin);
+            publishDashboardChange(auth);
             return true;
             
         } catch (Exception e) {
@@ -292,10 +312,10 @@ public class SettingsServiceImplementation implements ISettingsService {
 
     // Helper methods
     private GstinManagementViewModel.GstinDetailViewModel mapToGstinDetailViewModel(VendorGstin vendorGstin) {
+        return mapToGstinDetailViewModel(vendorGstin, !vendorGstin.getApiCredentials().isEmpty());
+    }
 
-        boolean credentialsExist = apiCredentialRepository.existsByVendor(vendorGstin.getVendor());
-
-
+    private GstinManagementViewModel.GstinDetailViewModel mapToGstinDetailViewModel(VendorGstin vendorGstin, boolean credentialsCreated) {
         return GstinManagementViewModel.GstinDetailViewModel.builder()
                 .id(vendorGstin.getGstinId().toString())
                 .gstin(vendorGstin.getGstin())
@@ -307,7 +327,7 @@ public class SettingsServiceImplementation implements ISettingsService {
                 .verifiedAt(vendorGstin.getVerifiedAt() != null ? vendorGstin.getVerifiedAt().format(DATE_FORMATTER) : null)
                 .status(vendorGstin.getIsVerified() ? "VERIFIED" : "PENDING")
                 .createdAt(vendorGstin.getCreatedAt() != null ? vendorGstin.getCreatedAt().format(DATE_FORMATTER) : null)
-                .areCredentialsCreated(vendorGstin.getApiCredentials().isEmpty() ? false : true) // Set the new boolean flag
+                .areCredentialsCreated(credentialsCreated)
                 .build();
     }
 
@@ -370,16 +390,33 @@ public class SettingsServiceImplementation implements ISettingsService {
     }
 
     @Override
-    @Transactional(readOnly = true)
+    // No connection is held here while the parallel reads run in their own transactions
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SubscriptionBillingViewModel getSubscriptionBilling(IAuthContextViewModel auth) {
         logger.info("Getting subscription billing for vendor: {}", auth.getUserId());
 
         try {
             Vendor vendor = vendorRepository.findByCompanyCode(auth.getCompanyCode())
                     .orElseThrow(() -> new RuntimeException("Vendor not found"));
-
-            // Get current active subscription
-            Optional<Subscription> currentSubscription = subscriptionRepository.findActiveSubscriptionByVendor(vendor);
+            Long companyCode = auth.getCompanyCode();
+
+            // The four reads are independent; each runs in its own read-only transaction
+            ParallelReadExecutor.ReadBatch reads = parallelReadExecutor.batch();
+            CompletableFuture<Optional<Subscription>> currentSubscriptionRead = reads.fork(
+                    () -> subscriptionRepository.findActiveSubscriptionByVendor(vendor));
+            CompletableFuture<List<SubscriptionBillingViewModel.SubscriptionHistoryViewModel>> historyRead = reads.fork(
+                    () -> subscriptionRepository.findByVendorAndCompanyCodeOrderByCreatedAtDesc(vendor, companyCode).stream()
+                            .map(this::mapToSubscriptionHistoryViewModel)
+                            .collect(Collectors.toList()));
+            CompletableFuture<List<PaymentTransaction>> paymentHistoryRead = reads.fork(
+                    () -> paymentTransactionRepository.findByVendorAndCompanyCodeOrderByCreatedAtDesc(vendor, companyCode));
+            CompletableFuture<List<SubscriptionBillingViewModel.SubscriptionPlanViewModel>> plansRead = reads.fork(
+                    () -> subscriptionPlanRepository.findByIsActiveTrue().stream()
+                            .map(this::mapToSubscriptionPlanViewModel)
+                            .collect(Collectors.toList()));
+
+            // Get current active subscription (plan is fetch-joined)
+            Optional<Subscription> currentSubscription = reads.join(currentSubscriptionRead);
 
             SubscriptionBillingViewModel.CurrentSubscriptionViewModel currentSub = null;
             if (currentSubscription.isPresent()) {
@@ -387,13 +424,10 @@ public class SettingsServiceImplementation implements ISettingsService {
             }
 
             // Get subscription history
-            List<Subscription> subscriptionHistory = subscriptionRepository.findByVendorAndCompanyCodeOrderByCreatedAtDesc(vendor, auth.getCompanyCode());
-            List<SubscriptionBillingViewModel.SubscriptionHistoryViewModel> historyList = subscriptionHistory.stream()
-                    .map(this::mapToSubscriptionHistoryViewModel)
-                    .collect(Collectors.toList());
+            List<SubscriptionBillingViewModel.SubscriptionHistoryViewModel> historyList = reads.join(historyRead);
 
             // Get payment history
-            List<PaymentTransaction> paymentHistory = paymentTransactionRepository.findByVendorAndCompanyCodeOrderByCreatedAtDesc(vendor, auth.getCompanyCode());
+            List<PaymentTransaction> paymentHistory = reads.join(paymentHistoryRead);
             List<SubscriptionBillingViewModel.PaymentHistoryViewModel> paymentList = paymentHistory.stream()
                     .map(this::mapToPaymentHistoryViewModel)
                     .collect(Collectors.toList());
@@ -402,10 +436,7 @@ public class SettingsServiceImplementation implements ISettingsService {
             SubscriptionBillingViewModel.BillingInfoViewModel billingInfo = calculateBillingInfo(paymentHistory, currentSubscription.orElse(null));
 
             // Get available subscription plans
-            List<SubscriptionPlan> plans = subscriptionPlanRepository.findByIsActiveTrue();
-            List<SubscriptionBillingViewModel.SubscriptionPlanViewModel> subscriptionPlans = plans.stream()
-                    .map(this::mapToSubscriptionPlanViewModel)
-                    .collect(Collectors.toList());
+            List<SubscriptionBillingViewModel.SubscriptionPlanViewModel> subscriptionPlans = reads.join(plansRead);
 
             return SubscriptionBillingViewModel.builder()
                     .currentSubscription(currentSub)
@@ -512,6 +543,13 @@ public class SettingsServiceImplementation implements ISettingsService {
         }
     }
 
+    /**
+     * Drops every cached dashboard of the company once the current transaction commits
+     */
+    private void publishDashboardChange(IAuthContextViewModel auth) {
+        eventPublisher.publishEvent(DashboardChangedEvent.forCompany(auth.getCompanyCode()));
+    }
+
     // Helper methods for mapping entities to view models
     private SubscriptionBillingViewModel.CurrentSubscriptionViewModel mapToCurrentSubscriptionViewModel(Subscription subscription) {
         // Parse pricing JSON
@@ -742,15 +780,8 @@ public class SettingsServiceImplementation implements ISettingsService {
             Vendor vendor = vendorRepository.findByCompanyCode(auth.getCompanyCode())
                     .orElseThrow(() -> new RuntimeException("Vendor not found"));
 
-            // Get all GSTINs for the vendor
-            List<VendorGstin> vendorGstins = vendorGstinRepository.findByVendorAndCompanyCode(vendor, auth.getCompanyCode());
-
-            // Get all vendor codes for all GSTINs
-            List<VendorCode> allVendorCodes = new ArrayList<>();
-            for (VendorGstin gstin : vendorGstins) {
-                List<VendorCode> codes = vendorCodeRepository.findByVendorGstinAndCompanyCode(gstin, auth.getCompanyCode());
-                allVendorCodes.addAll(codes);
-            }
+            // Get all vendor codes across the vendor's GSTINs, with the GSTIN fetched alongside
+            List<VendorCode> allVendorCodes = vendorCodeRepository.findByVendorAndCompanyCode(vendor, auth.getCompanyCode());
 
             List<VendorCodeManagementViewModel.VendorCodeDetailViewModel> vendorCodeDetails = allVendorCodes.stream()
                     .map(this::mapToVendorCodeDetailViewModel)
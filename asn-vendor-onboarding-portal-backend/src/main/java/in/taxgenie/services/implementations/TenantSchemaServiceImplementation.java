@@ -0,0 +1,474 @@
+package in.taxgenie.services.implementations;
+
+import in.taxgenie.entities.TenantSchemaRoute;
+import in.taxgenie.entities.enums.TenantSchemaMode;
+import in.taxgenie.jobs.TenantSchemaRoutingRefreshJob;
+import in.taxgenie.multitenancy.context.TenantContext;
+import in.taxgenie.multitenancy.schema.TenantSchemaRouting;
+import in.taxgenie.multitenancy.schema.TenantTableSql;
+import in.taxgenie.multitenancy.schema.TenantTables;
+import in.taxgenie.repositories.TenantSchemaRouteRepository;
+import in.taxgenie.services.interfaces.ITenantSchemaService;
+import in.taxgenie.viewmodels.tenancy.TenantSchemaMigrationViewModel;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Moves a tenant online between the shared schema and a dedicated schema.
+ * Copies run while the tenant keeps working and only rewrite rows that changed. The
+ * cutover freezes the tenant's writes through the routing table and returns; in the
+ * background it waits until every instance has seen the freeze and in-flight writes have
+ * committed, then syncs the last changes, deletes rows removed meanwhile and flips the
+ * route in one transaction. Reads keep working throughout. All SQL is schema-qualified and runs without a tenant, so the
+ * admin's own tenant routing does not matter.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Service
+@Slf4j
+public class TenantSchemaServiceImplementation implements ITenantSchemaService {
+
+    private static final long REFRESH_MARGIN_MS = 1000;
+    private static final long DRAIN_POLL_MS = 200;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final TenantSchemaRouteRepository tenantSchemaRouteRepository;
+    private final TenantSchemaRouting routing;
+    private final TenantSchemaRoutingRefreshJob routingRefreshJob;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskExecutor taskExecutor;
+    private final long refreshIntervalMs;
+    private final long drainTimeoutMs;
+    /**
+     * Cutovers running on this instance, and the last failure per tenant
+     */
+    private final Set<Long> runningCutovers = ConcurrentHashMap.newKeySet();
+    private final Map<Long, String> failedCutovers = new ConcurrentHashMap<>();
+
+    public TenantSchemaServiceImplementation(TenantSchemaRouteRepository tenantSchemaRouteRepository,
+                                             TenantSchemaRouting routing,
+                                             TenantSchemaRoutingRefreshJob routingRefreshJob,
+                                             PlatformTransactionManager transactionManager,
+                                             @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor,
+                                             @Value("${asn.vendor.portal.tenancy.schema-per-tenant.refresh-interval-ms:5000}") long refreshIntervalMs,
+                                             @Value("${asn.vendor.portal.tenancy.schema-per-tenant.drain-timeout-ms:60000}") long drainTimeoutMs) {
+        this.tenantSchemaRouteRepository = tenantSchemaRouteRepository;
+        this.routing = routing;
+        this.routingRefreshJob = routingRefreshJob;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.taskExecutor = taskExecutor;
+        this.refreshIntervalMs = refreshIntervalMs;
+        this.drainTimeoutMs = drainTimeoutMs;
+    }
+
+    @Override
+    public TenantSchemaMigrationViewModel getStatus(Long companyCode) {
+        requireEnabled();
+        return inMaintenanceTransaction(status ->
+                toViewModel(companyCode, tenantSchemaRouteRepository.findById(companyCode).orElse(null), Map.of()));
+    }
+
+    @Override
+    public TenantSchemaMigrationViewModel prepare(Long companyCode, String schemaName) {
+        requireEnabled();
+        TenantSchemaRouting.requireValidSchemaName(schemaName);
+        if (schemaName.equals(routing.getSharedSchema())) {
+            throw new IllegalArgumentException("The dedicated schema must differ from the shared schema");
+        }
+
+        return inMaintenanceTransaction(status -> {
+            tenantSchemaRouteRepository.lockTenantSchema(companyCode);
+            TenantSchemaRoute route = tenantSchemaRouteRepository.findById(companyCode)
+                    .orElseGet(() -> TenantSchemaRoute.builder().companyCode(companyCode).schemaName(schemaName).build());
+            if (route.getMode() != TenantSchemaMode.SHARED) {
+                throw new IllegalStateException("Tenant " + companyCode + " already lives in schema " + route.getSchemaName());
+            }
+            if (!schemaName.equals(route.getSchemaName())) {
+                throw new IllegalStateException("Tenant " + companyCode + " was prepared for schema " + route.getSchemaName()
+                        + "; purge it before choosing another");
+            }
+            boolean taken = tenantSchemaRouteRepository.findAll().stream()
+                    .anyMatch(other -> !other.getCompanyCode().equals(companyCode) && schemaName.equals(other.getSchemaName()));
+            if (taken) {
+                throw new IllegalStateException("Schema " + schemaName + " belongs to another tenant");
+            }
+
+            execute("CREATE SCHEMA IF NOT EXISTS " + TenantSchemaRouting.quote(schemaName));
+            for (TenantTables.TenantTable table : TenantTables.ALL) {
+                if (tableExists(routing.getSharedSchema(), table)) {
+                    execute("CREATE TABLE IF NOT EXISTS " + TenantTableSql.qualified(schemaName, table)
+                            + " (LIKE " + TenantTableSql.qualified(routing.getSharedSchema(), table) + " INCLUDING ALL)");
+                    addMissingColumns(routing.getSharedSchema(), schemaName, table);
+                }
+            }
+
+            route.setUpdatedAt(LocalDateTime.now());
+            tenantSchemaRouteRepository.save(route);
+            log.info("Prepared schema {} for tenant {}", schemaName, companyCode);
+            return toViewModel(companyCode, route, Map.of());
+        });
+    }
+
+    @Override
+    public TenantSchemaMigrationViewModel copy(Long companyCode) {
+        requireEnabled();
+        Map<String, long[]> changes = new LinkedHashMap<>();
+        // One transaction per table keeps copies of large tenants from holding one long transaction
+        for (TenantTables.TenantTable table : TenantTables.ALL) {
+            inMaintenanceTransaction(status -> {
+                TenantSchemaRoute route = lockRoute(companyCode);
+                if (Boolean.TRUE.equals(route.getWritesFrozen())) {
+                    throw new IllegalStateException("Tenant " + companyCode + " is being cut over");
+                }
+                String source = activeSchema(route);
+                String target = inactiveSchema(route);
+                if (tableExists(source, table) && tableExists(target, table)) {
+                    changes.put(table.name(), new long[]{upsert(source, target, table, companyCode), 0});
+                }
+                return null;
+            });
+        }
+        TenantSchemaMigrationViewModel result = inMaintenanceTransaction(status ->
+                toViewModel(companyCode, lockRoute(companyCode), changes));
+        log.info("Copied tenant {} from {} to the other schema: {} rows changed", companyCode,
+                result.getActiveSchema(), changes.values().stream().mapToLong(change -> change[0]).sum());
+        return result;
+    }
+
+    @Override
+    public TenantSchemaMigrationViewModel cutover(Long companyCode) {
+        requireEnabled();
+        if (!runningCutovers.add(companyCode)) {
+            throw new IllegalStateException("Tenant " + companyCode + " is already being cut over");
+        }
+        TenantSchemaMigrationViewModel frozen;
+        try {
+            frozen = inMaintenanceTransaction(status -> {
+                TenantSchemaRoute route = lockRoute(companyCode);
+                if (Boolean.TRUE.equals(route.getWritesFrozen())) {
+                    throw new IllegalStateException("Tenant " + companyCode + " is already being cut over");
+                }
+                if (!schemaExists(route.getSchemaName())) {
+                    throw new IllegalStateException("Schema " + route.getSchemaName() + " does not exist; prepare it first");
+                }
+                route.setWritesFrozen(true);
+                route.setUpdatedAt(LocalDateTime.now());
+                tenantSchemaRouteRepository.save(route);
+                return toViewModel(companyCode, route, Map.of());
+            });
+        } catch (RuntimeException e) {
+            runningCutovers.remove(companyCode);
+            throw e;
+        }
+        failedCutovers.remove(companyCode);
+        routingRefreshJob.refreshTenantSchemaRouting();
+        log.info("Froze writes of tenant {} for schema cutover", companyCode);
+
+        try {
+            taskExecutor.execute(() -> completeCutover(companyCode));
+        } catch (TaskRejectedException e) {
+            failCutover(companyCode, e);
+            runningCutovers.remove(companyCode);
+            routingRefreshJob.refreshTenantSchemaRouting();
+            throw new IllegalStateException("No thread available for the cutover of tenant " + companyCode + ", writes resumed", e);
+        }
+        return frozen;
+    }
+
+    @Override
+    public TenantSchemaMigrationViewModel purgeInactive(Long companyCode) {
+        requireEnabled();
+        TenantSchemaMigrationViewModel result = inMaintenanceTransaction(status -> {
+            TenantSchemaRoute route = lockRoute(companyCode);
+            if (Boolean.TRUE.equals(route.getWritesFrozen())) {
+                throw new IllegalStateException("Tenant " + companyCode + " is being cut over");
+            }
+
+            if (route.getMode() == TenantSchemaMode.SHARED) {
+                // Back in the shared schema: the dedicated schema only holds this tenant
+                execute("DROP SCHEMA IF EXISTS " + TenantSchemaRouting.quote(route.getSchemaName()) + " CASCADE");
+                tenantSchemaRouteRepository.delete(route);
+                log.info("Dropped schema {} of tenant {}", route.getSchemaName(), companyCode);
+                return toViewModel(companyCode, null, Map.of());
+            }
+
+            Map<String, long[]> changes = new LinkedHashMap<>();
+            for (TenantTables.TenantTable table : TenantTables.CHILDREN_FIRST) {
+                if (tableExists(routing.getSharedSchema(), table)) {
+                    Query delete = entityManager.createNativeQuery(TenantTableSql.deleteAll(routing.getSharedSchema(), table))
+                            .setParameter("companyCode", companyCode);
+                    changes.put(table.name(), new long[]{0, delete.executeUpdate()});
+                }
+            }
+            log.info("Removed tenant {} rows from the shared schema", companyCode);
+            return toViewModel(companyCode, route, changes);
+        });
+        routingRefreshJob.refreshTenantSchemaRouting();
+        return result;
+    }
+
+    private void requireEnabled() {
+        if (!routing.isEnabled()) {
+            throw new IllegalStateException("Schema-per-tenant routing is disabled");
+        }
+    }
+
+    /**
+     * Runs a step pinned to the shared schema and without a tenant, so neither the admin's
+     * own routing nor a write freeze applies to the tooling itself
+     */
+    private <T> T inMaintenanceTransaction(TransactionCallback<T> work) {
+        TenantContext.Snapshot caller = TenantContext.snapshot();
+        TenantContext.restore(new TenantContext.Snapshot(null, routing.getSharedSchema()));
+        try {
+            return transactionTemplate.execute(work);
+        } finally {
+            TenantContext.restore(caller);
+        }
+    }
+
+    private void unfreeze(Long companyCode) {
+        inMaintenanceTransaction(status -> {
+            TenantSchemaRoute route = lockRoute(companyCode);
+            route.setWritesFrozen(false);
+            route.setUpdatedAt(LocalDateTime.now());
+            return tenantSchemaRouteRepository.save(route);
+        });
+    }
+
+    /**
+     * Second half of a cutover, on the task executor: waits for writes begun before the freeze,
+     * then syncs the last changes, deletes rows removed meanwhile and flips the route
+     */
+    private void completeCutover(Long companyCode) {
+        try {
+            awaitWritesBeforeFreeze();
+
+            TenantSchemaMigrationViewModel result = inMaintenanceTransaction(status -> {
+                TenantSchemaRoute route = lockRoute(companyCode);
+                String source = activeSchema(route);
+                String target = inactiveSchema(route);
+
+                Map<String, long[]> changes = new LinkedHashMap<>();
+                for (TenantTables.TenantTable table : TenantTables.ALL) {
+                    if (tableExists(source, table) && tableExists(target, table)) {
+                        changes.put(table.name(), new long[]{upsert(source, target, table, companyCode), 0});
+                    }
+                }
+                // Children first, so rows removed from the source disappear before their parents
+                for (TenantTables.TenantTable table : TenantTables.CHILDREN_FIRST) {
+                    long[] change = changes.get(table.name());
+                    if (change != null) {
+                        change[1] = deleteMissing(source, target, table, companyCode);
+                    }
+                }
+
+                route.setMode(route.getMode() == TenantSchemaMode.SHARED ? TenantSchemaMode.DEDICATED : TenantSchemaMode.SHARED);
+                route.setWritesFrozen(false);
+                route.setUpdatedAt(LocalDateTime.now());
+                tenantSchemaRouteRepository.save(route);
+                return toViewModel(companyCode, route, changes);
+            });
+            log.info("Cut tenant {} over to schema {}", companyCode, result.getActiveSchema());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            failCutover(companyCode, e);
+        } catch (RuntimeException e) {
+            failCutover(companyCode, e);
+        } finally {
+            runningCutovers.remove(companyCode);
+            routingRefreshJob.refreshTenantSchemaRouting();
+        }
+    }
+
+    /**
+     * Waits one routing refresh, after which no instance starts a write for the frozen tenant,
+     * then polls until every transaction open at that point has ended. Transactions are not
+     * tagged with their tenant, so other tenants' long transactions delay the cutover as well.
+     * @throws IllegalStateException when some are still open after the drain timeout
+     */
+    private void awaitWritesBeforeFreeze() throws InterruptedException {
+        Thread.sleep(refreshIntervalMs + REFRESH_MARGIN_MS);
+        String seenEverywhere = inMaintenanceTransaction(status ->
+                (String) entityManager.createNativeQuery("SELECT CAST(clock_timestamp() AS text)").getSingleResult());
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(drainTimeoutMs);
+        while (true) {
+            long open = inMaintenanceTransaction(status -> ((Number) entityManager.createNativeQuery("""
+                            SELECT count(*) FROM pg_stat_activity
+                            WHERE datname = current_database() AND backend_type = 'client backend'
+                              AND pid <> pg_backend_pid() AND xact_start < CAST(:since AS timestamptz)
+                            """)
+                    .setParameter("since", seenEverywhere)
+                    .getSingleResult()).longValue());
+            if (open == 0) {
+                return;
+            }
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException(open + " transactions begun before the write freeze were still open after "
+                        + drainTimeoutMs + " ms");
+            }
+            Thread.sleep(DRAIN_POLL_MS);
+        }
+    }
+
+    private void failCutover(Long companyCode, Exception cause) {
+        log.error("Cutover of tenant {} failed, resuming writes in the current schema", companyCode, cause);
+        failedCutovers.put(companyCode, cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName());
+        try {
+            unfreeze(companyCode);
+        } catch (RuntimeException e) {
+            log.error("Could not resume writes of tenant {}; clear writes_frozen in tenant_schema_routes", companyCode, e);
+        }
+    }
+
+    private TenantSchemaRoute lockRoute(Long companyCode) {
+        tenantSchemaRouteRepository.lockTenantSchema(companyCode);
+        return tenantSchemaRouteRepository.findById(companyCode)
+                .orElseThrow(() -> new IllegalStateException("Tenant " + companyCode + " has no dedicated schema; prepare it first"));
+    }
+
+    private String activeSchema(TenantSchemaRoute route) {
+        return route.getMode() == TenantSchemaMode.DEDICATED ? route.getSchemaName() : routing.getSharedSchema();
+    }
+
+    private String inactiveSchema(TenantSchemaRoute route) {
+        return route.getMode() == TenantSchemaMode.DEDICATED ? routing.getSharedSchema() : route.getSchemaName();
+    }
+
+    private long upsert(String source, String target, TenantTables.TenantTable table, Long companyCode) {
+        List<String> columns = columns(source, table);
+        List<String> keyColumns = keyColumns(target, table);
+        if (keyColumns.isEmpty()) {
+            throw new IllegalStateException("Table " + table.name() + " in " + target + " has no primary key");
+        }
+        return entityManager.createNativeQuery(TenantTableSql.upsert(source, target, table, columns, keyColumns))
+                .setParameter("companyCode", companyCode)
+                .executeUpdate();
+    }
+
+    private long deleteMissing(String source, String target, TenantTables.TenantTable table, Long companyCode) {
+        return entityManager.createNativeQuery(TenantTableSql.deleteMissing(source, target, table, keyColumns(target, table)))
+                .setParameter("companyCode", companyCode)
+                .executeUpdate();
+    }
+
+    private void addMissingColumns(String source, String target, TenantTables.TenantTable table) {
+        List<String> existing = columns(target, table);
+        for (Object[] column : columnDefinitions(source, table)) {
+            String name = (String) column[0];
+            if (!existing.contains(name)) {
+                execute("ALTER TABLE " + TenantTableSql.qualified(target, table)
+                        + " ADD COLUMN IF NOT EXISTS \"" + name.replace("\"", "\"\"") + "\" " + column[1]);
+                log.info("Added column {} to {}.{}", name, target, table.name());
+            }
+        }
+    }
+
+    private List<String> columns(String schema, TenantTables.TenantTable table) {
+        return columnDefinitions(schema, table).stream().map(column -> (String) column[0]).toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object[]> columnDefinitions(String schema, TenantTables.TenantTable table) {
+        return entityManager.createNativeQuery("""
+                        SELECT CAST(a.attname AS text), format_type(a.atttypid, a.atttypmod)
+                        FROM pg_attribute a
+                        WHERE a.attrelid = CAST(:tableName AS regclass) AND a.attnum > 0 AND NOT a.attisdropped AND a.attgenerated = ''
+                        ORDER BY a.attnum
+                        """)
+                .setParameter("tableName", TenantTableSql.qualified(schema, table))
+                .getResultList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<String> keyColumns(String schema, TenantTables.TenantTable table) {
+        return entityManager.createNativeQuery("""
+                        SELECT CAST(a.attname AS text)
+                        FROM pg_index i
+                        JOIN pg_attribute a ON a.attrelid = i.indrelid AND a.attnum = ANY (i.indkey)
+                        WHERE i.indrelid = CAST(:tableName AS regclass) AND i.indisprimary
+                        ORDER BY array_position(CAST(i.indkey AS int2[]), a.attnum)
+                        """)
+                .setParameter("tableName", TenantTableSql.qualified(schema, table))
+                .getResultList();
+    }
+
+    private boolean tableExists(String schema, TenantTables.TenantTable table) {
+        return entityManager.createNativeQuery("SELECT CAST(to_regclass(:tableName) AS text)")
+                .setParameter("tableName", TenantTableSql.qualified(schema, table))
+                .getSingleResult() != null;
+    }
+
+    private boolean schemaExists(String schema) {
+        return !entityManager.createNativeQuery("SELECT 1 FROM pg_namespace WHERE nspname = :schemaName")
+                .setParameter("schemaName", schema)
+                .getResultList()
+                .isEmpty();
+    }
+
+    private long countRows(String schema, TenantTables.TenantTable table, Long companyCode) {
+        return ((Number) entityManager.createNativeQuery(TenantTableSql.count(schema, table))
+                .setParameter("companyCode", companyCode)
+                .getSingleResult()).longValue();
+    }
+
+    private void execute(String ddl) {
+        entityManager.createNativeQuery(ddl).executeUpdate();
+    }
+
+    private TenantSchemaMigrationViewModel toViewModel(Long companyCode, TenantSchemaRoute route, Map<String, long[]> changes) {
+        String dedicatedSchema = route != null ? route.getSchemaName() : null;
+        boolean dedicatedExists = dedicatedSchema != null && schemaExists(dedicatedSchema);
+
+        List<TenantSchemaMigrationViewModel.TableViewModel> tables = new ArrayList<>();
+        for (TenantTables.TenantTable table : TenantTables.ALL) {
+            boolean inShared = tableExists(routing.getSharedSchema(), table);
+            boolean inDedicated = dedicatedExists && tableExists(dedicatedSchema, table);
+            if (!inShared && !inDedicated) {
+                continue;
+            }
+            long[] change = changes.get(table.name());
+            tables.add(TenantSchemaMigrationViewModel.TableViewModel.builder()
+                    .table(table.name())
+                    .sharedRows(inShared ? countRows(routing.getSharedSchema(), table, companyCode) : null)
+                    .dedicatedRows(inDedicated ? countRows(dedicatedSchema, table, companyCode) : null)
+                    .copied(change != null ? change[0] : null)
+                    .deleted(change != null ? change[1] : null)
+                    .build());
+        }
+
+        return TenantSchemaMigrationViewModel.builder()
+                .companyCode(companyCode)
+                .schemaName(dedicatedSchema)
+                .mode(route != null ? route.getMode().name() : TenantSchemaMode.SHARED.name())
+                .activeSchema(route != null ? activeSchema(route) : routing.getSharedSchema())
+                .writesFrozen(route != null && Boolean.TRUE.equals(route.getWritesFrozen()))
+                .cutoverRunning(runningCutovers.contains(companyCode))
+                .cutoverError(failedCutovers.get(companyCode))
+                .tables(tables)
+                .build();
+    }
+}
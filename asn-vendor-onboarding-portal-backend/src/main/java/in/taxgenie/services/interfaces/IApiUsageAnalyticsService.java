@@ -0,0 +1,67 @@
+package in.taxgenie.services.interfaces;
+
+import in.taxgenie.auth.IAuthContextViewModel;
+import in.taxgenie.entities.enums.RollupGranularity;
+import in.taxgenie.viewmodels.analytics.ApiUsageSeriesViewModel;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Service interface for API usage analytics backed by incremental rollups
+ */
+public interface IApiUsageAnalyticsService {
+
+    /**
+     * Fold the next chunk of unprocessed API request logs into minute, hour and day rollups
+     * @return Number of raw log rows processed, zero when caught up
+     */
+    int rollUpNextChunk();
+
+    /**
+     * Timestamp of the newest request log folded into the rollups
+     * @return Rollup watermark, empty before the first chunk
+     */
+    Optional<LocalDateTime> getRollupWatermark();
+
+    /**
+     * Delete minute and hour rollups that are past their retention window
+     * @return Number of rollup rows deleted
+     */
+    int pruneExpiredRollups();
+
+    /**
+     * Get the usage series for the authenticated vendor, optionally for one OEM
+     * @param auth Authentication context
+     * @param oemId OEM ID, or null for all OEMs
+     * @param granularity Requested granularity, or null to pick one from the window
+     * @param from Inclusive start of the window
+     * @param to Exclusive end of the window
+     * @return Usage series
+     */
+    ApiUsageSeriesViewModel getVendorUsage(IAuthContextViewModel auth, UUID oemId, RollupGranularity granularity,
+                                           LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Get the usage series for an OEM across all vendors
+     * @param oemId OEM ID
+     * @param granularity Requested granularity, or null to pick one from the window
+     * @param from Inclusive start of the window
+     * @param to Exclusive end of the window
+     * @return Usage series
+     */
+    ApiUsageSeriesViewModel getOemUsage(UUID oemId, RollupGranularity granularity, LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Get the usage series for a single API credential of the authenticated vendor
+     * @param auth Authentication context
+     * @param credentialId Credential ID
+     * @param granularity Requested granularity, or null to pick one from the window
+     * @param from Inclusive start of the window
+     * @param to Exclusive end of the window
+     * @return Usage series
+     */
+    ApiUsageSeriesViewModel getCredentialUsage(IAuthContextViewModel auth, UUID credentialId, RollupGranularity granularity,
+                                               LocalDateTime from, LocalDateTime to);
+}
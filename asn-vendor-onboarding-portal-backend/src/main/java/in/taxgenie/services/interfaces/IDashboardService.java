@@ -1,6 +1,7 @@
 package in.taxgenie.services.interfaces;
 
 import in.taxgenie.viewmodels.dashboard.DashboardStatsViewModel;
+import in.taxgenie.viewmodels.dashboard.OemOverviewViewModel;
 import in.taxgenie.viewmodels.dashboard.ProgressViewModel;
 import in.taxgenie.viewmodels.dashboard.UserProfileViewModel;
 
@@ -22,6 +23,15 @@ public interface IDashboardService {
      */
     DashboardStatsViewModel getDashboardStats(String vendorId, String oemId, String companyCode);
 
+    /**
+     * As {@link #getDashboardStats(String, String, String)}, for a response served under the given ETag
+     *
+     * @param versionTag ETag of the response, or null; a cached view loaded under another tag is not served
+     */
+    default DashboardStatsViewModel getDashboardStats(String vendorId, String oemId, String companyCode, String versionTag) {
+        return getDashboardStats(vendorId, oemId, companyCode);
+    }
+
     /**
      * Get onboarding progress for a vendor
      *
@@ -32,6 +42,15 @@ public interface IDashboardService {
      */
     ProgressViewModel getOnboardingProgress(String vendorId, String oemId, String companyCode);
 
+    /**
+     * As {@link #getOnboardingProgress(String, String, String)}, for a response served under the given ETag
+     *
+     * @param versionTag ETag of the response, or null; a cached view loaded under another tag is not served
+     */
+    default ProgressViewModel getOnboardingProgress(String vendorId, String oemId, String companyCode, String versionTag) {
+        return getOnboardingProgress(vendorId, oemId, companyCode);
+    }
+
     /**
      * Get implementation progress for a vendor
      *
@@ -42,6 +61,15 @@ public interface IDashboardService {
      */
     ProgressViewModel getImplementationProgress(String vendorId, String oemId, String companyCode);
 
+    /**
+     * As {@link #getImplementationProgress(String, String, String)}, for a response served under the given ETag
+     *
+     * @param versionTag ETag of the response, or null; a cached view loaded under another tag is not served
+     */
+    default ProgressViewModel getImplementationProgress(String vendorId, String oemId, String companyCode, String versionTag) {
+        return getImplementationProgress(vendorId, oemId, companyCode);
+    }
+
     /**
      * Get user profile information
      * 
@@ -71,6 +99,15 @@ public interface IDashboardService {
      */
     java.util.List<QuickActionViewModel> getQuickActions(String vendorId, String oemId, String companyCode);
 
+    /**
+     * As {@link #getQuickActions(String, String, String)}, for a response served under the given ETag
+     *
+     * @param versionTag ETag of the response, or null; a cached view loaded under another tag is not served
+     */
+    default java.util.List<QuickActionViewModel> getQuickActions(String vendorId, String oemId, String companyCode, String versionTag) {
+        return getQuickActions(vendorId, oemId, companyCode);
+    }
+
     /**
      * Get recent activities for the dashboard
      *
@@ -82,6 +119,15 @@ public interface IDashboardService {
      */
     java.util.List<ActivityViewModel> getRecentActivities(String vendorId, String oemId, String companyCode, Integer limit);
 
+    /**
+     * Get onboarding, subscription and access status for every OEM the vendor is linked to
+     *
+     * @param vendorId Vendor ID
+     * @param companyCode Company code for multi-tenancy
+     * @return One entry per linked OEM, ordered by OEM priority
+     */
+    java.util.List<OemOverviewViewModel> getOemOverview(String vendorId, String companyCode);
+
     /**
      * Nested class for quick actions
      */
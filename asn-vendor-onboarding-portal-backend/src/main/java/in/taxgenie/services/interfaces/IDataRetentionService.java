@@ -0,0 +1,60 @@
+package in.taxgenie.services.interfaces;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+
+/**
+ * Service interface for deleting log and job history rows past their retention window
+ * Each call deletes one bounded chunk, oldest first, in its own or the caller's transaction.
+ * The partitioned log tables also lose whole expired months at once and get their upcoming
+ * months created ahead of time.
+ */
+public interface IDataRetentionService {
+
+    /**
+     * Delete the oldest API request logs before the cutoff
+     * @param cutoff Logs before this time are deleted
+     * @param limit Maximum number of rows to delete
+     * @return Number of rows deleted, zero when none are left
+     */
+    int deleteApiRequestLogsBefore(LocalDateTime cutoff, int limit);
+
+    /**
+     * Delete the oldest audit logs before the cutoff
+     * @param cutoff Logs before this time are deleted
+     * @param limit Maximum number of rows to delete
+     * @return Number of rows deleted, zero when none are left
+     */
+    int deleteAuditLogsBefore(LocalDateTime cutoff, int limit);
+
+    /**
+     * Drop the API request log partitions that hold only rows before the cutoff
+     * @param cutoff Partitions ending at or before this time are dropped
+     * @return Number of partitions dropped
+     */
+    int dropApiRequestLogPartitionsBefore(LocalDateTime cutoff);
+
+    /**
+     * Drop the audit log partitions that hold only rows before the cutoff
+     * @param cutoff Partitions ending at or before this time are dropped
+     * @return Number of partitions dropped
+     */
+    int dropAuditLogPartitionsBefore(LocalDateTime cutoff);
+
+    /**
+     * Create the monthly log partitions from the current month through the given one
+     * A month that cannot be created, e.g. because the DEFAULT partition already holds rows for
+     * it, is logged and skipped; its rows keep landing in the DEFAULT partition.
+     * @param lastMonth Last month to create
+     * @return Number of partitions created
+     */
+    int createLogPartitionsThrough(YearMonth lastMonth);
+
+    /**
+     * Delete the oldest recorded job runs before the cutoff
+     * @param cutoff Runs started before this time are deleted
+     * @param limit Maximum number of rows to delete
+     * @return Number of rows deleted, zero when none are left
+     */
+    int deleteJobRunsBefore(LocalDateTime cutoff, int limit);
+}
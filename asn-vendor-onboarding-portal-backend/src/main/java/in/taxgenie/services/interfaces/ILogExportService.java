@@ -0,0 +1,52 @@
+package in.taxgenie.services.interfaces;
+
+import in.taxgenie.auth.IAuthContextViewModel;
+import in.taxgenie.viewmodels.export.ExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Service interface for streaming compliance exports of audit and API request logs
+ */
+public interface ILogExportService {
+
+    /**
+     * Resolve the vendor whose logs the caller is allowed to export
+     * @param auth Authentication context
+     * @return Vendor ID for the caller's company
+     * @throws in.taxgenie.exception.ResourceNotFoundException when the company has no vendor
+     */
+    UUID resolveVendorId(IAuthContextViewModel auth);
+
+    /**
+     * Stream audit logs where the vendor is the actor or the affected resource
+     * @param vendorId Vendor ID
+     * @param startTime Inclusive start of the window
+     * @param endTime Exclusive end of the window
+     * @param format Output format
+     * @param gzip Whether to gzip the output
+     * @param outputStream Target stream, not closed by this method
+     * @return Number of rows written
+     * @throws IOException if writing to the output stream fails
+     */
+    long exportAuditLogs(UUID vendorId, LocalDateTime startTime, LocalDateTime endTime,
+                         ExportFormat format, boolean gzip, OutputStream outputStream) throws IOException;
+
+    /**
+     * Stream API request logs for the vendor's credentials, optionally restricted to one OEM
+     * @param vendorId Vendor ID
+     * @param oemId OEM ID, or null for all OEMs
+     * @param startTime Inclusive start of the window
+     * @param endTime Exclusive end of the window
+     * @param format Output format
+     * @param gzip Whether to gzip the output
+     * @param outputStream Target stream, not closed by this method
+     * @return Number of rows written
+     * @throws IOException if writing to the output stream fails
+     */
+    long exportApiRequestLogs(UUID vendorId, UUID oemId, LocalDateTime startTime, LocalDateTime endTime,
+                              ExportFormat format, boolean gzip, OutputStream outputStream) throws IOException;
+}
@@ -2,7 +2,9 @@ package in.taxgenie.services.interfaces;
 
 import in.taxgenie.auth.IAuthContextViewModel;
 import in.taxgenie.viewmodels.oem.AvailableOemsResponseViewModel;
+import in.taxgenie.viewmodels.oem.OemAccessRequestResponseViewModel;
 import in.taxgenie.viewmodels.oem.OemViewModel;
+import in.taxgenie.viewmodels.oem.RefreshOemAccessResponseViewModel;
 import in.taxgenie.viewmodels.oem.SelectOemRequestViewModel;
 import in.taxgenie.viewmodels.oem.SelectOemResponseViewModel;
 
@@ -39,7 +41,7 @@ public interface IOemPortalService {
      * @param auth Authentication context
      * @return Updated access information
      */
-    Object refreshOemAccess(IAuthContextViewModel auth);
+    RefreshOemAccessResponseViewModel refreshOemAccess(IAuthContextViewModel auth);
 
     /**
      * Requests access to a specific OEM
@@ -48,5 +50,5 @@ public interface IOemPortalService {
      * @param requestData Access request data
      * @return Access request response
      */
-    Object requestOemAccess(IAuthContextViewModel auth, String oemId, Object requestData);
+    OemAccessRequestResponseViewModel requestOemAccess(IAuthContextViewModel auth, String oemId, Object requestData);
 }
@@ -0,0 +1,32 @@
+package in.taxgenie.services.interfaces;
+
+import in.taxgenie.viewmodels.analytics.OnboardingFunnelViewModel;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Service interface for the materialized per-OEM onboarding funnel
+ */
+public interface IOnboardingFunnelService {
+
+    /**
+     * Get the onboarding funnel of an OEM from the materialized cells
+     * @param oemId OEM ID
+     * @return Funnel with per-step and per-status counts
+     */
+    OnboardingFunnelViewModel getOemFunnel(UUID oemId);
+
+    /**
+     * Rebuild the funnel cells of an OEM from the onboarding processes and refresh stale counts
+     * @param oemId OEM ID
+     * @return Difference between the vendor total before and after the rebuild
+     */
+    long reconcileOemFunnel(UUID oemId);
+
+    /**
+     * IDs of every OEM whose funnel the reconcile job should rebuild
+     * @return OEM IDs
+     */
+    List<UUID> getFunnelOemIds();
+}
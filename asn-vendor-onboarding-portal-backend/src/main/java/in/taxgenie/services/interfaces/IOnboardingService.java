@@ -3,6 +3,9 @@ package in.taxgenie.services.interfaces;
 import in.taxgenie.auth.IAuthContextViewModel;
 import in.taxgenie.viewmodels.onboarding.*;
 
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Service interface for onboarding operations
  */
@@ -32,6 +35,25 @@ public interface IOnboardingService {
      */
     OnboardingProgressViewModel getOnboardingProgress(IAuthContextViewModel auth, String oemId);
 
+    /**
+     * Get onboarding events written after the given event, oldest first
+     * @param auth Authentication context
+     * @param oemId OEM ID
+     * @param lastEventId ID of the last event the client received
+     * @param limit Maximum number of events to return
+     * @return Later events, empty when the event ID is unknown or malformed
+     */
+    List<OnboardingStreamEventViewModel> getOnboardingEventsSince(IAuthContextViewModel auth, String oemId,
+                                                                  String lastEventId, int limit);
+
+    /**
+     * Get the most recent onboarding event for the current vendor and OEM
+     * @param auth Authentication context
+     * @param oemId OEM ID
+     * @return Latest event, empty before the first event
+     */
+    Optional<OnboardingStreamEventViewModel> getLatestOnboardingEvent(IAuthContextViewModel auth, String oemId);
+
     /**
      * Confirm ASN 2.1 activation
      * @param auth Authentication context
@@ -0,0 +1,45 @@
+package in.taxgenie.services.interfaces;
+
+import org.springframework.data.domain.Pageable;
+
+import java.util.Optional;
+
+/**
+ * Service interface for strong ETags derived from entity versions
+ * Each lookup is a single indexed query, so controllers can answer conditional GETs
+ * before building any view model.
+ */
+public interface IResourceVersionService {
+
+    /**
+     * ETag for a dashboard view of a company and OEM
+     * @param companyCode Company code for multi-tenancy
+     * @param oemId OEM ID
+     * @param view Name of the dashboard view, so different views never share a tag
+     * @return Quoted ETag, empty when the onboarding process does not exist yet
+     */
+    Optional<String> getDashboardETag(Long companyCode, String oemId, String view);
+
+    /**
+     * ETag for the onboarding progress of a company and OEM
+     * @param companyCode Company code for multi-tenancy
+     * @param oemId OEM ID
+     * @return Quoted ETag, empty when the onboarding process does not exist yet
+     */
+    Optional<String> getOnboardingProgressETag(Long companyCode, String oemId);
+
+    /**
+     * ETag for the company info settings view
+     * @param companyCode Company code for multi-tenancy
+     * @return Quoted ETag, empty when the vendor does not exist
+     */
+    Optional<String> getCompanyInfoETag(Long companyCode);
+
+    /**
+     * ETag for one page of the GSTIN management view
+     * @param companyCode Company code for multi-tenancy
+     * @param pageable Requested page
+     * @return Quoted ETag
+     */
+    Optional<String> getGstinManagementETag(Long companyCode, Pageable pageable);
+}
@@ -0,0 +1,51 @@
+package in.taxgenie.services.interfaces;
+
+import in.taxgenie.viewmodels.tenancy.TenantSchemaMigrationViewModel;
+
+/**
+ * Service interface for moving a tenant online between the shared schema and a dedicated schema
+ * A move runs as prepare, one or more copies while the tenant keeps working, a cutover
+ * with a short write pause, and finally a purge of the schema left behind.
+ */
+public interface ITenantSchemaService {
+
+    /**
+     * Get where a tenant lives and its row counts in both schemas
+     * @param companyCode Tenant
+     * @return Placement and per-table row counts
+     */
+    TenantSchemaMigrationViewModel getStatus(Long companyCode);
+
+    /**
+     * Create the dedicated schema of a shared tenant with the tenant-owned tables, or add
+     * columns the shared tables gained since
+     * @param companyCode Tenant
+     * @param schemaName Dedicated schema name, lowercase letters, digits and underscores
+     * @return Placement and per-table row counts
+     */
+    TenantSchemaMigrationViewModel prepare(Long companyCode, String schemaName);
+
+    /**
+     * Copy the tenant's rows from its active schema to the other one while it keeps working;
+     * repeatable, each run only rewrites rows that changed
+     * @param companyCode Tenant
+     * @return Rows copied per table
+     */
+    TenantSchemaMigrationViewModel copy(Long companyCode);
+
+    /**
+     * Pause the tenant's writes and, in the background, bring the other schema exactly in line
+     * and switch the tenant to it; poll the status until the cutover is no longer running
+     * @param companyCode Tenant
+     * @return Placement with writes frozen
+     */
+    TenantSchemaMigrationViewModel cutover(Long companyCode);
+
+    /**
+     * Remove the tenant's rows from the schema it no longer uses; after a move back to the
+     * shared schema this drops the dedicated schema
+     * @param companyCode Tenant
+     * @return Placement and per-table row counts
+     */
+    TenantSchemaMigrationViewModel purgeInactive(Long companyCode);
+}
@@ -2,6 +2,7 @@ package in.taxgenie.services.interfaces;
 
 import in.taxgenie.auth.IAuthContextViewModel;
 import in.taxgenie.viewmodels.user.UserProfileViewModel;
+import in.taxgenie.viewmodels.user.UserSessionContextViewModel;
 
 /**
  * Interface for user service operations
@@ -42,5 +43,5 @@ public interface IUserService {
      * @param auth Authentication context
      * @return User session information
      */
-    Object getUserSessionContext(IAuthContextViewModel auth);
+    UserSessionContextViewModel getUserSessionContext(IAuthContextViewModel auth);
 }
@@ -0,0 +1,51 @@
+package in.taxgenie.session;
+
+import in.taxgenie.utils.BoundedTtlCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Session store kept in this node's memory
+ * Bounded by max-entries, dropping the least recently used session when full, and by the
+ * session TTL. State is not shared between nodes; use the postgres store for more than one.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "asn.vendor.portal.session.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryUserSessionStore implements UserSessionStore {
+
+    private final BoundedTtlCache<String, UserSessionState> sessions;
+
+    public InMemoryUserSessionStore(@Value("${asn.vendor.portal.session.max-entries:10000}") int maxEntries,
+                                    @Value("${asn.vendor.portal.features.default-session-timeout:3600}") long ttlSeconds) {
+        this.sessions = new BoundedTtlCache<>(maxEntries, Duration.ofSeconds(ttlSeconds));
+        log.info("User sessions kept in memory: up to {} sessions, {} s time to live", maxEntries, ttlSeconds);
+    }
+
+    @Override
+    public UserSessionState get(String sessionKey) {
+        return sessions.get(sessionKey);
+    }
+
+    @Override
+    public void put(String sessionKey, UserSessionState state) {
+        sessions.put(sessionKey, state);
+    }
+
+    @Override
+    public void remove(String sessionKey) {
+        sessions.remove(sessionKey);
+    }
+
+    @Override
+    public int purgeExpired() {
+        return sessions.purgeExpired();
+    }
+}
@@ -0,0 +1,131 @@
+package in.taxgenie.session;
+
+import in.taxgenie.cache.CacheInvalidation;
+import in.taxgenie.cache.CacheInvalidationPublisher;
+import in.taxgenie.cache.InvalidatableCache;
+import in.taxgenie.monitoring.PortalMetrics;
+import in.taxgenie.utils.BoundedTtlCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Session store shared by all nodes through a PostgreSQL UNLOGGED table
+ * Session state is cheap to lose, so the table skips the WAL: writes cost no fsync and are
+ * not replicated, and a crash empties it, which only makes users pick their OEM again.
+ * Sessions read or written here are kept in a small near-cache, so repeated reads cost no
+ * round trip. Misses are not cached, so a session created on another node is found on the
+ * next read. Writes reach the other nodes' near-caches through the invalidation bus; when it
+ * is disabled, another node's change shows up here within the near-cache TTL.
+ * The statements run on plain JDBC, outside JPA sessions and the company filter, and the
+ * table always lives in the shared schema, where the V6 migration creates it.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "asn.vendor.portal.session.store", havingValue = "postgres")
+public class PostgresUserSessionStore implements UserSessionStore, InvalidatableCache {
+
+    public static final String CACHE_NAME = "user-session";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BoundedTtlCache<String, UserSessionState> nearCache;
+    private final PortalMetrics.CacheMeter cacheMeter;
+    private final CacheInvalidationPublisher invalidationPublisher;
+    private final long ttlSeconds;
+
+    public PostgresUserSessionStore(JdbcTemplate jdbcTemplate,
+                                    PortalMetrics portalMetrics,
+                                    CacheInvalidationPublisher invalidationPublisher,
+                                    @Value("${asn.vendor.portal.session.max-entries:10000}") int maxEntries,
+                                    @Value("${asn.vendor.portal.session.near-cache-ttl-seconds:15}") long nearCacheTtlSeconds,
+                                    @Value("${asn.vendor.portal.features.default-session-timeout:3600}") long ttlSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.nearCache = new BoundedTtlCache<>(maxEntries, Duration.ofSeconds(nearCacheTtlSeconds));
+        this.cacheMeter = portalMetrics.cache(CACHE_NAME);
+        this.invalidationPublisher = invalidationPublisher;
+        this.ttlSeconds = ttlSeconds;
+        log.info("User sessions kept in PostgreSQL with a {} s time to live", ttlSeconds);
+    }
+
+    @Override
+    public UserSessionState get(String sessionKey) {
+        UserSessionState cached = nearCache.get(sessionKey);
+        if (cached != null) {
+            cacheMeter.hit();
+            if (cached.isExpired(ttlSeconds * 1000, System.currentTimeMillis())) {
+                return null;
+            }
+            return cached;
+        }
+
+        cacheMeter.miss();
+        List<UserSessionState> rows = jdbcTemplate.query("""
+                        SELECT selected_oem_id, selected_oem_name, last_activity
+                        FROM user_session_state
+                        WHERE session_key = ? AND expires_at > now()
+                        """,
+                (resultSet, rowNumber) -> new UserSessionState(
+                        resultSet.getString("selected_oem_id"),
+                        resultSet.getString("selected_oem_name"),
+                        resultSet.getLong("last_activity")),
+                sessionKey);
+        if (rows.isEmpty()) {
+            return null;
+        }
+        UserSessionState state = rows.get(0);
+        nearCache.put(sessionKey, state);
+        return state;
+    }
+
+    @Override
+    public void put(String sessionKey, UserSessionState state) {
+        jdbcTemplate.update("""
+                        INSERT INTO user_session_state (session_key, selected_oem_id, selected_oem_name, last_activity, expires_at)
+                        VALUES (?, ?, ?, ?, now() + make_interval(secs => ?))
+                        ON CONFLICT (session_key) DO UPDATE SET
+                            selected_oem_id = EXCLUDED.selected_oem_id,
+                            selected_oem_name = EXCLUDED.selected_oem_name,
+                            last_activity = EXCLUDED.last_activity,
+                            expires_at = EXCLUDED.expires_at
+                        """,
+                sessionKey, state.selectedOemId(), state.selectedOemName(), state.lastActivity(), (double) ttlSeconds);
+        nearCache.put(sessionKey, state);
+        invalidationPublisher.publish(CacheInvalidation.of(CACHE_NAME, sessionKey));
+    }
+
+    @Override
+    public void remove(String sessionKey) {
+        jdbcTemplate.update("DELETE FROM user_session_state WHERE session_key = ?", sessionKey);
+        nearCache.remove(sessionKey);
+        invalidationPublisher.publish(CacheInvalidation.of(CACHE_NAME, sessionKey));
+    }
+
+    @Override
+    public int purgeExpired() {
+        nearCache.purgeExpired();
+        return jdbcTemplate.update("DELETE FROM user_session_state WHERE expires_at <= now()");
+    }
+
+    @Override
+    public String cacheName() {
+        return CACHE_NAME;
+    }
+
+    @Override
+    public void evict(String key) {
+        nearCache.remove(key);
+    }
+
+    @Override
+    public void evictAll() {
+        nearCache.clear();
+    }
+}
@@ -0,0 +1,20 @@
+package in.taxgenie.session;
+
+/**
+ * Immutable session state of one user in one tenant
+ * Stores hand out shared instances, so updates always create a new state.
+ *
+ * @param selectedOemId Selected OEM ID, null when none is selected
+ * @param selectedOemName Selected OEM name
+ * @param lastActivity Epoch milliseconds of the last write; the session expires a TTL after it
+ */
+public record UserSessionState(String selectedOemId, String selectedOemName, long lastActivity) {
+
+    public static UserSessionState withSelectedOem(String selectedOemId, String selectedOemName) {
+        return new UserSessionState(selectedOemId, selectedOemName, System.currentTimeMillis());
+    }
+
+    public boolean isExpired(long ttlMillis, long nowMillis) {
+        return nowMillis - lastActivity >= ttlMillis;
+    }
+}
@@ -0,0 +1,34 @@
+package in.taxgenie.session;
+
+/**
+ * Storage for user session state, keyed by tenant and user
+ * Sessions expire a fixed time after their last write; reads do not extend them.
+ */
+public interface UserSessionStore {
+
+    /**
+     * Gets the session state
+     * @param sessionKey Tenant and user key
+     * @return State, or null when absent or expired
+     */
+    UserSessionState get(String sessionKey);
+
+    /**
+     * Stores the session state, restarting its time to live
+     * @param sessionKey Tenant and user key
+     * @param state State to store
+     */
+    void put(String sessionKey, UserSessionState state);
+
+    /**
+     * Removes the session state
+     * @param sessionKey Tenant and user key
+     */
+    void remove(String sessionKey);
+
+    /**
+     * Drops expired sessions without waiting for them to be read
+     * @return Number of sessions removed
+     */
+    int purgeExpired();
+}
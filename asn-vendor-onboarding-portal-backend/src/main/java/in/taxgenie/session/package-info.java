@@ -0,0 +1,15 @@
+/**
+ * User session state for the ASN Vendor Onboarding Portal application.
+ * 
+ * This package contains:
+ * - The session store abstraction behind UserSessionService
+ * - A bounded in-memory store with TTL and size-based eviction, for single-node runs
+ * - A PostgreSQL UNLOGGED table store with a local near-cache, so session state such as
+ *   the selected OEM follows the user across nodes
+ * 
+ * The backend is chosen with asn.vendor.portal.session.store (memory or postgres).
+ * 
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+package in.taxgenie.session;
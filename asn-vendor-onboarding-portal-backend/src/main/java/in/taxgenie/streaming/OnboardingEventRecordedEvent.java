@@ -0,0 +1,26 @@
+package in.taxgenie.streaming;
+
+import in.taxgenie.viewmodels.onboarding.OnboardingProgressViewModel;
+import in.taxgenie.viewmodels.onboarding.OnboardingStreamEventViewModel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Published when an onboarding event is written
+ * Carries the progress computed from the same process state, so subscribers can be
+ * updated after commit without another query.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Getter
+@ToString
+@RequiredArgsConstructor
+public class OnboardingEventRecordedEvent {
+
+    private final Long companyCode;
+    private final String oemId;
+    private final OnboardingStreamEventViewModel event;
+    private final OnboardingProgressViewModel progress;
+}
@@ -0,0 +1,352 @@
+package in.taxgenie.streaming;
+
+import in.taxgenie.viewmodels.onboarding.OnboardingProgressViewModel;
+import in.taxgenie.viewmodels.onboarding.OnboardingStreamEventViewModel;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Registry of open onboarding progress streams, one channel per (company, OEM)
+ * Each committed onboarding event is pushed to every subscriber of its channel, followed
+ * by the progress view model when it differs from the last one sent. Publishing only queues
+ * the event on each stream; a small dispatcher pool drains each stream's queue in order, so
+ * the request that wrote the event never waits on a client and a stalled client holds up at
+ * most one dispatcher thread. A stream whose queue fills up is closed, and the client
+ * reconnects with Last-Event-ID to pick up what it missed. A new stream joins its channel
+ * before the replay is read, so events committed meanwhile are held until the replay is
+ * sent and then delivered unless the replay already carried them.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Component
+@Slf4j
+public class OnboardingProgressStreams {
+
+    public static final String EVENT_ONBOARDING = "onboarding-event";
+    public static final String EVENT_PROGRESS = "progress";
+
+    private final int maxStreamsPerTenant;
+    private final long streamTimeoutMs;
+    private final int sendQueueCapacity;
+    private final Map<ChannelKey, Channel> channels = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicInteger> openPerTenant = new ConcurrentHashMap<>();
+    private final AtomicInteger openStreams = new AtomicInteger();
+    /**
+     * Runs at most one drain per stream at a time, so its queue never holds more tasks than
+     * there are open streams
+     */
+    private final ExecutorService dispatcher;
+
+    @Autowired
+    public OnboardingProgressStreams(MeterRegistry meterRegistry,
+                                     @Value("${asn.vendor.portal.streams.onboarding-progress.max-per-tenant:20}") int maxStreamsPerTenant,
+                                     @Value("${asn.vendor.portal.streams.onboarding-progress.timeout-ms:1800000}") long streamTimeoutMs,
+                                     @Value("${asn.vendor.portal.streams.onboarding-progress.send-queue-capacity:64}") int sendQueueCapacity,
+                                     @Value("${asn.vendor.portal.streams.onboarding-progress.dispatch-threads:4}") int dispatchThreads) {
+        this(meterRegistry, maxStreamsPerTenant, streamTimeoutMs, sendQueueCapacity,
+                Executors.newFixedThreadPool(dispatchThreads, runnable -> {
+                    Thread thread = new Thread(runnable, "onboarding-stream-dispatch");
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+    }
+
+    OnboardingProgressStreams(MeterRegistry meterRegistry, int maxStreamsPerTenant, long streamTimeoutMs,
+                              int sendQueueCapacity, ExecutorService dispatcher) {
+        this.maxStreamsPerTenant = maxStreamsPerTenant;
+        this.streamTimeoutMs = streamTimeoutMs;
+        this.sendQueueCapacity = sendQueueCapacity;
+        this.dispatcher = dispatcher;
+        Gauge.builder("asn.streams.open", openStreams, AtomicInteger::get)
+                .description("Open onboarding progress streams")
+                .tag("stream", "onboarding-progress")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Opens a stream for the channel unless the tenant already has its maximum open
+     * @return the stream, empty when the tenant is at its cap
+     * @throws IllegalArgumentException when there is no company; callers reject such users first
+     */
+    public Optional<Subscription> open(Long companyCode, String oemId) {
+        if (companyCode == null) {
+            throw new IllegalArgumentException("A company is required to open an onboarding progress stream");
+        }
+        AtomicInteger tenantCount = openPerTenant.computeIfAbsent(companyCode, key -> new AtomicInteger());
+        if (tenantCount.incrementAndGet() > maxStreamsPerTenant) {
+            tenantCount.decrementAndGet();
+            log.warn("Rejected onboarding progress stream for company: {}, {} already open",
+                    companyCode, maxStreamsPerTenant);
+            return Optional.empty();
+        }
+
+        ChannelKey key = new ChannelKey(companyCode, normalizeOemId(oemId));
+        Subscription subscription = new Subscription(key, new SseEmitter(streamTimeoutMs));
+        channels.compute(key, (k, channel) -> {
+            Channel target = channel != null ? channel : new Channel();
+            target.subscriptions.add(subscription);
+            return target;
+        });
+        openStreams.incrementAndGet();
+
+        SseEmitter emitter = subscription.getEmitter();
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscription.close());
+        return Optional.of(subscription);
+    }
+
+    /**
+     * Sends the replayed events and the current progress to a new subscriber, then releases
+     * the live events queued since it opened, minus those the replay already contained
+     * Called before the handler returns the emitter, so the sends are buffered by the emitter
+     * rather than written, and the replay may exceed the send queue capacity.
+     * @param snapshotEventId ID of the newest event reflected in the snapshot, may be null
+     */
+    public void sendInitial(Subscription subscription, List<OnboardingStreamEventViewModel> replay,
+                            OnboardingProgressViewModel snapshot, String snapshotEventId) {
+        Channel channel = channels.get(subscription.key);
+        if (channel != null && channel.lastProgress == null) {
+            channel.lastProgress = snapshot;
+        }
+        Set<String> replayedEventIds = new HashSet<>();
+        for (OnboardingStreamEventViewModel event : replay) {
+            subscription.send(EVENT_ONBOARDING, event.getEventId(), event);
+            replayedEventIds.add(event.getEventId());
+        }
+        subscription.send(EVENT_PROGRESS, snapshotEventId, snapshot);
+        subscription.startLive(replayedEventIds);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEventRecorded(OnboardingEventRecordedEvent recorded) {
+        ChannelKey key = new ChannelKey(recorded.getCompanyCode(), normalizeOemId(recorded.getOemId()));
+        if (!channels.containsKey(key)) {
+            return;
+        }
+        publish(key, recorded);
+    }
+
+    /**
+     * Comment line on every open stream so proxies and load balancers keep idle connections
+     */
+    @Scheduled(fixedDelayString = "${asn.vendor.portal.streams.onboarding-progress.heartbeat-ms:15000}")
+    public void sendHeartbeats() {
+        if (openStreams.get() == 0) {
+            return;
+        }
+        channels.values().forEach(channel ->
+                channel.subscriptions.forEach(subscription -> subscription.enqueue(null, SseEmitter.event().comment("heartbeat"))));
+    }
+
+    public int getOpenStreamCount() {
+        return openStreams.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        channels.values().forEach(channel -> channel.subscriptions.forEach(subscription -> subscription.getEmitter().complete()));
+    }
+
+    private void publish(ChannelKey key, OnboardingEventRecordedEvent recorded) {
+        Channel channel = channels.get(key);
+        if (channel == null) {
+            return;
+        }
+        OnboardingStreamEventViewModel event = recorded.getEvent();
+        // Events committed concurrently on one channel are queued in the same order on every stream
+        synchronized (channel) {
+            boolean progressChanged = !Objects.equals(channel.lastProgress, recorded.getProgress());
+            channel.lastProgress = recorded.getProgress();
+
+            for (Subscription subscription : channel.subscriptions) {
+                subscription.enqueue(event.getEventId(), event(EVENT_ONBOARDING, event.getEventId(), event));
+                if (progressChanged) {
+                    subscription.enqueue(event.getEventId(), event(EVENT_PROGRESS, event.getEventId(), recorded.getProgress()));
+                }
+            }
+        }
+    }
+
+    private static SseEmitter.SseEventBuilder event(String name, String id, Object data) {
+        SseEmitter.SseEventBuilder event = SseEmitter.event().name(name).data(data);
+        if (id != null) {
+            event.id(id);
+        }
+        return event;
+    }
+
+    private static String normalizeOemId(String oemId) {
+        return oemId.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record ChannelKey(Long companyCode, String oemId) {
+    }
+
+    /**
+     * Queued send with the ID of the onboarding event it belongs to, null for heartbeats
+     */
+    private record Outgoing(String eventId, SseEmitter.SseEventBuilder event) {
+    }
+
+    private static final class Channel {
+        private final Set<Subscription> subscriptions = ConcurrentHashMap.newKeySet();
+        private volatile OnboardingProgressViewModel lastProgress;
+    }
+
+    /**
+     * One open stream; closing it is idempotent and releases the tenant slot
+     */
+    public final class Subscription {
+
+        private final ChannelKey key;
+        private final SseEmitter emitter;
+        private final BlockingQueue<Outgoing> pending = new ArrayBlockingQueue<>(sendQueueCapacity);
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private volatile boolean evicted;
+        /**
+         * Events the replay sent; written before live is set, read only by drains after it
+         */
+        private Set<String> replayedEventIds = Set.of();
+        private volatile boolean live;
+
+        private Subscription(ChannelKey key, SseEmitter emitter) {
+            this.key = key;
+            this.emitter = emitter;
+        }
+
+        public SseEmitter getEmitter() {
+            return emitter;
+        }
+
+        /**
+         * Releases the stream, for callers that fail before handing the emitter to Spring MVC
+         */
+        public void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            openStreams.decrementAndGet();
+            openPerTenant.get(key.companyCode()).decrementAndGet();
+            channels.computeIfPresent(key, (k, channel) -> {
+                channel.subscriptions.remove(this);
+                return channel.subscriptions.isEmpty() ? null : channel;
+            });
+            pending.clear();
+        }
+
+        public boolean isClosed() {
+            return closed.get();
+        }
+
+        private void send(String name, String id, Object data) {
+            write(event(name, id, data));
+        }
+
+        /**
+         * Lets queued and future live events through once the initial sends are done
+         */
+        private void startLive(Set<String> replayed) {
+            replayedEventIds = replayed;
+            live = true;
+            scheduleDrain();
+        }
+
+        /**
+         * Queues the event without touching the emitter, whose methods block while a send is in
+         * progress; a full queue means the client stopped reading, so the stream is closed
+         */
+        private void enqueue(String eventId, SseEmitter.SseEventBuilder event) {
+            if (closed.get()) {
+                return;
+            }
+            if (!pending.offer(new Outgoing(eventId, event))) {
+                log.info("Closing slow onboarding progress stream for company: {}, OEM ID: {}, {} events pending",
+                        key.companyCode(), key.oemId(), sendQueueCapacity);
+                evicted = true;
+                close();
+            }
+            scheduleDrain();
+        }
+
+        /**
+         * Until the initial sends are done, queued events wait, unless the stream was evicted
+         * and only needs completing
+         */
+        private void scheduleDrain() {
+            if (!live && !evicted) {
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    dispatcher.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void drain() {
+            try {
+                Outgoing outgoing;
+                while (!closed.get() && (outgoing = pending.poll()) != null) {
+                    if (outgoing.eventId() == null || !replayedEventIds.contains(outgoing.eventId())) {
+                        write(outgoing.event());
+                    }
+                }
+                if (evicted) {
+                    emitter.complete();
+                }
+            } finally {
+                draining.set(false);
+            }
+            // An event queued after the last poll but before the flag was cleared
+            if (!closed.get() && !pending.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void write(SseEmitter.SseEventBuilder event) {
+            if (closed.get()) {
+                return;
+            }
+            try {
+                emitter.send(event);
+            } catch (IOException | IllegalStateException e) {
+                log.debug("Dropping onboarding progress stream for company: {}, OEM ID: {}: {}",
+                        key.companyCode(), key.oemId(), e.getMessage());
+                close();
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
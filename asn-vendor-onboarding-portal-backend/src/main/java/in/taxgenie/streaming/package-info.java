@@ -0,0 +1,11 @@
+/**
+ * Server-sent event streams for the ASN Vendor Onboarding Portal application.
+ * 
+ * This package contains:
+ * - Live onboarding progress streams per (company, OEM)
+ * - Events published by onboarding write paths to feed them after commit
+ * 
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+package in.taxgenie.streaming;
@@ -0,0 +1,113 @@
+package in.taxgenie.utils;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Small in-memory cache with a hard size bound and a per-entry time to live.
+ * Entries are kept in access order, so once the bound is reached the least
+ * recently used entry is dropped. Expired entries are removed lazily on read.
+ * All operations are synchronized; the cache is meant for a few thousand entries
+ * that are read far more often than they are written.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+public final class BoundedTtlCache<K, V> {
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    public BoundedTtlCache(int maxEntries, Duration ttl) {
+        this(maxEntries, ttl, System::nanoTime);
+    }
+
+    BoundedTtlCache(int maxEntries, Duration ttl, LongSupplier clock) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive");
+        }
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                return size() > BoundedTtlCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached value, or null when absent or expired
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (clock.getAsLong() - entry.storedAt >= ttlNanos) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.value;
+    }
+
+    public synchronized void put(K key, V value) {
+        entries.put(key, new Entry<>(value, clock.getAsLong()));
+    }
+
+    public synchronized V remove(K key) {
+        Entry<V> entry = entries.remove(key);
+        return entry != null ? entry.value : null;
+    }
+
+    /**
+     * Removes every entry whose key matches
+     * @return number of entries removed
+     */
+    public synchronized int removeIf(Predicate<? super K> keyPredicate) {
+        int removed = 0;
+        Iterator<K> keys = entries.keySet().iterator();
+        while (keys.hasNext()) {
+            if (keyPredicate.test(keys.next())) {
+                keys.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * Drops expired entries without waiting for them to be read
+     * @return number of entries removed
+     */
+    public synchronized int purgeExpired() {
+        long now = clock.getAsLong();
+        int removed = 0;
+        Iterator<Entry<V>> values = entries.values().iterator();
+        while (values.hasNext()) {
+            if (now - values.next().storedAt >= ttlNanos) {
+                values.remove();
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private record Entry<V>(V value, long storedAt) {
+    }
+}
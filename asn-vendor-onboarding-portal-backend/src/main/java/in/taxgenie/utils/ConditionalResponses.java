@@ -0,0 +1,80 @@
+package in.taxgenie.utils;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Optional;
+
+/**
+ * Helpers for conditional GETs on polled endpoints
+ * Responses carry {@code Cache-Control: private, no-cache} so browsers keep the body but
+ * revalidate every poll with {@code If-None-Match}, which the controller answers with an
+ * empty 304 before any view model is built.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+public final class ConditionalResponses {
+
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+    private static final CacheControl NO_STORE = CacheControl.noStore();
+
+    private ConditionalResponses() {
+    }
+
+    /**
+     * Whether the client already holds the representation identified by the ETag
+     * Uses the weak comparison RFC 9110 prescribes for If-None-Match.
+     */
+    public static boolean isNotModified(WebRequest request, Optional<String> eTag) {
+        if (eTag.isEmpty()) {
+            return false;
+        }
+        String[] values = request.getHeaderValues(HttpHeaders.IF_NONE_MATCH);
+        if (values == null) {
+            return false;
+        }
+        String current = opaqueTag(eTag.get());
+        for (String value : values) {
+            for (String candidate : value.split(",")) {
+                String tag = candidate.trim();
+                if ("*".equals(tag) || opaqueTag(tag).equals(current)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public static <T> ResponseEntity<T> notModified(Optional<String> eTag) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE);
+        eTag.ifPresent(builder::eTag);
+        return builder.build();
+    }
+
+    /**
+     * 200 response tagged with the ETag when one is known
+     */
+    public static <T> ResponseEntity<T> ok(T body, Optional<String> eTag) {
+        if (eTag.isEmpty()) {
+            return ResponseEntity.ok(body);
+        }
+        return ResponseEntity.ok().eTag(eTag.get()).cacheControl(REVALIDATE).body(body);
+    }
+
+    /**
+     * 200 response that no cache may keep, for placeholders served when the view failed to load
+     * The ETag was computed from the data version, so it must not be attached to such a body:
+     * the client would keep the placeholder until the data next changes.
+     */
+    public static <T> ResponseEntity<T> noStore(T body) {
+        return ResponseEntity.ok().cacheControl(NO_STORE).body(body);
+    }
+
+    private static String opaqueTag(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
@@ -0,0 +1,165 @@
+package in.taxgenie.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+/**
+ * Mergeable log-linear latency histogram used by the API usage rollups.
+ * Values below 16 ms are recorded exactly; larger values fall into one of 16
+ * sub-buckets per power of two, which bounds quantile error to about 6%.
+ * Two sketches merge by adding bucket counts, so minute buckets can be folded
+ * into hour and day buckets without touching raw logs.
+ */
+public final class LatencySketch {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 62;
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    private final long[] counts;
+    private long totalCount;
+
+    public LatencySketch() {
+        this.counts = new long[BUCKET_COUNT];
+    }
+
+    /**
+     * Records a single latency observation
+     * @param valueMs Latency in milliseconds; negative values are treated as zero
+     */
+    public void record(long valueMs) {
+        counts[bucketIndex(Math.max(0, valueMs))]++;
+        totalCount++;
+    }
+
+    /**
+     * Adds all observations of another sketch into this one
+     * @param other Sketch to merge, may be null
+     */
+    public void merge(LatencySketch other) {
+        if (other == null) {
+            return;
+        }
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] += other.counts[i];
+        }
+        totalCount += other.totalCount;
+    }
+
+    public long getCount() {
+        return totalCount;
+    }
+
+    /**
+     * Estimates the value at the given quantile
+     * @param quantile Quantile between 0 and 1, e.g. 0.95
+     * @return Estimated latency in milliseconds, or null when the sketch is empty
+     */
+    public Long quantile(double quantile) {
+        if (totalCount == 0) {
+            return null;
+        }
+        long rank = Math.max(1, (long) Math.ceil(Math.min(1.0, Math.max(0.0, quantile)) * totalCount));
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulative += counts[i];
+            if (cumulative >= rank) {
+                return bucketMidpoint(i);
+            }
+        }
+        return bucketMidpoint(BUCKET_COUNT - 1);
+    }
+
+    /**
+     * Serializes the non-empty buckets as varint (index delta, count) pairs
+     * @return Compact binary representation
+     */
+    public byte[] toBytes() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        int previousIndex = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (counts[i] != 0) {
+                writeVarLong(out, i - previousIndex);
+                writeVarLong(out, counts[i]);
+                previousIndex = i;
+            }
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Restores a sketch written by {@link #toBytes()}
+     * @param bytes Serialized sketch, may be null or empty
+     * @return Restored sketch
+     */
+    public static LatencySketch fromBytes(byte[] bytes) {
+        LatencySketch sketch = new LatencySketch();
+        if (bytes == null) {
+            return sketch;
+        }
+        int[] position = {0};
+        int index = 0;
+        while (position[0] < bytes.length) {
+            index += (int) readVarLong(bytes, position);
+            long count = readVarLong(bytes, position);
+            if (index < 0 || index >= BUCKET_COUNT) {
+                throw new IllegalArgumentException("Corrupt latency sketch: bucket index " + index);
+            }
+            sketch.counts[index] += count;
+            sketch.totalCount += count;
+        }
+        return sketch;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) - SUB_BUCKET_COUNT;
+        return SUB_BUCKET_COUNT + (exponent - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    static long bucketMidpoint(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int exponent = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT + SUB_BUCKET_BITS;
+        int subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+        int shift = exponent - SUB_BUCKET_BITS;
+        long lower = (long) (SUB_BUCKET_COUNT + subBucket) << shift;
+        long width = 1L << shift;
+        return lower + width / 2;
+    }
+
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(byte[] bytes, int[] position) {
+        long result = 0;
+        int shift = 0;
+        while (true) {
+            if (position[0] >= bytes.length || shift > 63) {
+                throw new IllegalArgumentException("Corrupt latency sketch: truncated varint");
+            }
+            byte b = bytes[position[0]++];
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+            shift += 7;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LatencySketch{count=" + totalCount + ", nonEmptyBuckets="
+                + Arrays.stream(counts).filter(c -> c != 0).count() + '}';
+    }
+}
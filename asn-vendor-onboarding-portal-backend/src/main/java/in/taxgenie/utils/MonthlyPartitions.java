@@ -0,0 +1,75 @@
+package in.taxgenie.utils;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Naming and bounds of monthly range partitions on a timestamp column
+ * A month's partition is named {@code <table>_pYYYY_MM} and covers [first of the month, first
+ * of the next month), matching the partitions the V3 migration creates. Bounds are read back
+ * from {@code pg_get_expr(relpartbound, oid)}, so partitions created by hand are handled too.
+ *
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+public final class MonthlyPartitions {
+
+    private static final DateTimeFormatter NAME_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+    private static final DateTimeFormatter BOUND = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final Pattern UPPER_BOUND = Pattern.compile("\\bTO \\('([^']+)'\\)");
+
+    private MonthlyPartitions() {
+    }
+
+    /**
+     * Name of the partition holding the given month
+     */
+    public static String partitionName(String table, YearMonth month) {
+        return table + "_p" + month.format(NAME_SUFFIX);
+    }
+
+    /**
+     * DDL creating the month's partition, a no-op when it already exists
+     */
+    public static String createSql(String table, YearMonth month) {
+        return "CREATE TABLE IF NOT EXISTS " + quote(partitionName(table, month))
+                + " PARTITION OF " + quote(table)
+                + " FOR VALUES FROM ('" + month.atDay(1).atStartOfDay().format(BOUND)
+                + "') TO ('" + month.plusMonths(1).atDay(1).atStartOfDay().format(BOUND) + "')";
+    }
+
+    /**
+     * Exclusive upper bound of a range partition
+     * @param boundExpression partition bound as printed by pg_get_expr
+     * @return the bound, empty for the DEFAULT partition and for MAXVALUE
+     */
+    public static Optional<LocalDateTime> upperBound(String boundExpression) {
+        if (boundExpression == null) {
+            return Optional.empty();
+        }
+        Matcher matcher = UPPER_BOUND.matcher(boundExpression);
+        if (!matcher.find()) {
+            return Optional.empty();
+        }
+        // Printed as "2026-11-01 00:00:00", with fractional seconds when the bound has them
+        return Optional.of(LocalDateTime.parse(matcher.group(1).replace(' ', 'T')));
+    }
+
+    /**
+     * Whether every row the partition can hold is older than the cutoff
+     */
+    public static boolean isExpired(String boundExpression, LocalDateTime cutoff) {
+        return upperBound(boundExpression).map(upper -> !upper.isAfter(cutoff)).orElse(false);
+    }
+
+    /**
+     * Quoted identifier for use in SQL
+     */
+    public static String quote(String identifier) {
+        return "\"" + identifier.replace("\"", "\"\"") + "\"";
+    }
+}
@@ -0,0 +1,49 @@
+package in.taxgenie.viewmodels.analytics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * View model for an API usage time series built from rollup buckets
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApiUsageSeriesViewModel {
+
+    private String granularity;
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private long totalRequests;
+    private long totalErrors;
+    private Double averageResponseTimeMs;
+    private Long p50ResponseTimeMs;
+    private Long p95ResponseTimeMs;
+    private Long p99ResponseTimeMs;
+    private List<ApiUsagePointViewModel> points;
+
+    /**
+     * Nested class for a single bucket of the series
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ApiUsagePointViewModel {
+        private LocalDateTime bucketStart;
+        private long requestCount;
+        private long errorCount;
+        private Double averageResponseTimeMs;
+        private Integer minResponseTimeMs;
+        private Integer maxResponseTimeMs;
+        private Long p50ResponseTimeMs;
+        private Long p95ResponseTimeMs;
+        private Long p99ResponseTimeMs;
+    }
+}
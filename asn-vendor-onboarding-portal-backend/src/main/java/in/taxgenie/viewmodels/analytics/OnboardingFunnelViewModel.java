@@ -0,0 +1,45 @@
+package in.taxgenie.viewmodels.analytics;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * View model for the onboarding funnel of one OEM across its whole vendor base
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OnboardingFunnelViewModel {
+
+    private String oemId;
+    private long totalVendors;
+    private long completedVendors;
+    private double completionRate;
+    private long staleVendors;
+    private int staleAfterDays;
+    private LocalDateTime staleCountedAt;
+    private LocalDateTime updatedAt;
+    private List<FunnelStepViewModel> steps;
+
+    /**
+     * Nested class for one onboarding step of the funnel
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FunnelStepViewModel {
+        private String step;
+        private long vendorCount;
+        private long reachedCount;
+        private long staleCount;
+        private Map<String, Long> statusCounts;
+    }
+}
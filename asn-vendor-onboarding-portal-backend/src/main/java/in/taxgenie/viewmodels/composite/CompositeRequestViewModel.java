@@ -0,0 +1,61 @@
+package in.taxgenie.viewmodels.composite;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * View model for a composite call: several GET sub-requests answered in one response
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompositeRequestViewModel {
+
+    @NotEmpty
+    @Valid
+    private List<SubRequestViewModel> requests;
+
+    /**
+     * Nested class for one sub-request
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SubRequestViewModel {
+
+        /**
+         * Caller-chosen ID echoed on the matching part of the response
+         */
+        @NotBlank
+        @Size(max = 50)
+        private String id;
+
+        /**
+         * HTTP method, only GET is supported; defaults to GET
+         */
+        private String method;
+
+        /**
+         * Route relative to the API base path, with optional query, e.g. /dashboard/stats/{oemId}
+         */
+        @NotBlank
+        @Size(max = 500)
+        private String path;
+
+        /**
+         * Conditional and negotiation headers for this part only, e.g. If-None-Match
+         */
+        private Map<String, String> headers;
+    }
+}
@@ -0,0 +1,37 @@
+package in.taxgenie.viewmodels.composite;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * View model for the multiplexed response of a composite call, one part per sub-request
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompositeResponseViewModel {
+
+    private List<PartViewModel> parts;
+
+    /**
+     * Nested class for the outcome of one sub-request
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PartViewModel {
+        private String id;
+        private int status;
+        private Map<String, String> headers;
+        private JsonNode body;
+        private long durationMs;
+    }
+}
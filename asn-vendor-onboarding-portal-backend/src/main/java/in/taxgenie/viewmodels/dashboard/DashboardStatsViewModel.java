@@ -1,5 +1,6 @@
 package in.taxgenie.viewmodels.dashboard;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -59,6 +60,13 @@ public class DashboardStatsViewModel {
      */
     private CriticalAlertViewModel criticalAlert;
 
+    /**
+     * Set on the placeholder served when the view could not be loaded; such a body is
+     * neither cached nor tagged with an ETag
+     */
+    @JsonIgnore
+    private boolean degraded;
+
     /**
      * Nested class for critical alerts
      */
@@ -0,0 +1,68 @@
+package in.taxgenie.viewmodels.dashboard;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * View model for one OEM on the vendor's multi-OEM overview
+ * 
+ * @author ASN Development Team
+ * @version 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OemOverviewViewModel {
+
+    private String oemId;
+
+    private String oemCode;
+
+    private String oemName;
+
+    private String fullName;
+
+    private String asnVersion;
+
+    private LocalDate asnDeadline;
+
+    /**
+     * Vendor code assigned by this OEM
+     */
+    private String vendorCode;
+
+    private String accessLevel;
+
+    private String accessStatus;
+
+    /**
+     * Onboarding status, NOT_STARTED when no onboarding process exists yet
+     */
+    private String onboardingStatus;
+
+    private String currentStep;
+
+    /**
+     * Overall progress percentage, computed the same way as the dashboard stats
+     */
+    private Integer progress;
+
+    private LocalDateTime onboardingCompletedAt;
+
+    /**
+     * Active subscription plan, null when the vendor has no active subscription for this OEM
+     */
+    private String planCode;
+
+    private String planName;
+
+    private String subscriptionStatus;
+
+    private LocalDate subscriptionEndDate;
+}
@@ -1,5 +1,6 @@
 package in.taxgenie.viewmodels.dashboard;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -60,6 +61,13 @@ public class ProgressViewModel {
      */
     private LocalDateTime lastUpdated;
 
+    /**
+     * Set on the placeholder served when the view could not be loaded; such a body is
+     * neither cached nor tagged with an ETag
+     */
+    @JsonIgnore
+    private boolean degraded;
+
     /**
      * Nested class for individual step progress
      */
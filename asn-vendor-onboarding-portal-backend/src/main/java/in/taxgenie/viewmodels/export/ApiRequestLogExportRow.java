@@ -0,0 +1,12 @@
+package in.taxgenie.viewmodels.export;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One API request log row of an export, selected as a projection so no entity is loaded
+ */
+public record ApiRequestLogExportRow(UUID logId, LocalDateTime requestTimestamp, UUID credentialId,
+                                     String endpoint, String method, Short statusCode,
+                                     Integer responseTimeMs, String errorCode) {
+}
@@ -0,0 +1,16 @@
+package in.taxgenie.viewmodels.export;
+
+import in.taxgenie.entities.enums.ActorType;
+
+import java.net.InetAddress;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One audit log row of an export, selected as a projection so no entity is loaded
+ */
+public record AuditLogExportRow(UUID auditId, LocalDateTime eventTime, UUID actorId, ActorType actorType,
+                                InetAddress ipAddress, String eventCategory, String eventAction,
+                                String resourceType, UUID resourceId, String requestId, String sessionId,
+                                String changes) {
+}
@@ -0,0 +1,21 @@
+package in.taxgenie.viewmodels.oem;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response view model for a request to access an OEM
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OemAccessRequestResponseViewModel {
+
+    private boolean success;
+    private String requestId;
+    private String message;
+    private String estimatedProcessingTime;
+}
@@ -0,0 +1,33 @@
+package in.taxgenie.viewmodels.oem;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response view model for refreshing the vendor's OEM access
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshOemAccessResponseViewModel {
+
+    private boolean success;
+    private String message;
+    private List<OemAccessViewModel> updatedAccess;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class OemAccessViewModel {
+        private String oemId;
+        private boolean hasAccess;
+        private String accessLevel;
+        private String lastUpdated;
+    }
+}
@@ -0,0 +1,24 @@
+package in.taxgenie.viewmodels.onboarding;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * View model for an onboarding event pushed on the progress stream
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OnboardingStreamEventViewModel {
+
+    private String eventId;
+
+    private String eventType;
+
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,67 @@
+package in.taxgenie.viewmodels.tenancy;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * View model for the schema placement of a tenant and the outcome of a migration step
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class TenantSchemaMigrationViewModel {
+
+    private Long companyCode;
+
+    /**
+     * Dedicated schema of the tenant, null when it has never been prepared
+     */
+    private String schemaName;
+
+    private String mode;
+
+    /**
+     * Schema the tenant's sessions currently use
+     */
+    private String activeSchema;
+
+    private Boolean writesFrozen;
+
+    /**
+     * Whether this instance is still completing a cutover of the tenant; poll until false
+     */
+    private Boolean cutoverRunning;
+
+    /**
+     * Why the last cutover on this instance failed, null after a success
+     */
+    private String cutoverError;
+
+    private List<TableViewModel> tables;
+
+    /**
+     * Nested class for the tenant's rows of one table
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TableViewModel {
+        private String table;
+        private Long sharedRows;
+        private Long dedicatedRows;
+        /**
+         * Rows inserted or changed in the target schema by this step
+         */
+        private Long copied;
+        /**
+         * Rows removed from the target schema by this step
+         */
+        private Long deleted;
+    }
+}
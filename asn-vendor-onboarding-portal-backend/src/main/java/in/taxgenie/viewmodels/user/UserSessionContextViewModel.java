@@ -0,0 +1,39 @@
+package in.taxgenie.viewmodels.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * View model for the current user's session: who they are and which OEM they selected
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSessionContextViewModel {
+
+    private SessionUserViewModel user;
+    private SelectedOemViewModel selectedOEM;
+    private String sessionExpiry;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SessionUserViewModel {
+        private String id;
+        private String email;
+        private String name;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SelectedOemViewModel {
+        private String id;
+        private String name;
+    }
+}
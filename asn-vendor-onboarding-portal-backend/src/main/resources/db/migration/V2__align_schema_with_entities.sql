@@ -0,0 +1,68 @@
+-- V2: bring the baseline in line with the entity mappings
+-- Until now ddl-auto=update patched these differences in at boot. Every statement is guarded,
+-- so databases where Hibernate already added a column or table pass through unchanged.
+
+-- vendor_codes definition
+
+CREATE TABLE IF NOT EXISTS vendor_codes (
+	company_code int8 NOT NULL,
+	created_at timestamp(6) NULL,
+	updated_at timestamp(6) NULL,
+	created_by uuid NULL,
+	gstin_id uuid NOT NULL,
+	updated_by uuid NULL,
+	vendor_code_id uuid NOT NULL,
+	status varchar(20) NULL,
+	vendor_code varchar(50) NOT NULL,
+	description varchar(200) NULL,
+	CONSTRAINT vendor_codes_pkey PRIMARY KEY (vendor_code_id),
+	CONSTRAINT uk_vendor_codes_code UNIQUE (vendor_code),
+	CONSTRAINT vendor_codes_status_check CHECK (((status)::text = ANY ((ARRAY['ACTIVE'::character varying, 'INACTIVE'::character varying, 'SUSPENDED'::character varying, 'PENDING_APPROVAL'::character varying, 'COMING_SOON'::character varying, 'DEPRECATED'::character varying])::text[]))),
+	CONSTRAINT fk_vendor_codes_gstin FOREIGN KEY (gstin_id) REFERENCES vendor_gstin(gstin_id)
+);
+CREATE INDEX IF NOT EXISTS idx_vendor_codes_gstin ON vendor_codes USING btree (gstin_id);
+CREATE INDEX IF NOT EXISTS idx_vendor_codes_status ON vendor_codes USING btree (status);
+
+
+-- Columns mapped by the entities but missing from the baseline
+-- If one is still missing on a table that has rows, the migration stops here: backfill it by hand.
+
+ALTER TABLE vendors ADD COLUMN IF NOT EXISTS user_id int8 NOT NULL;
+ALTER TABLE vendor_gstin ADD COLUMN IF NOT EXISTS vendor_code varchar(10) NOT NULL;
+ALTER TABLE api_credentials ADD COLUMN IF NOT EXISTS gstin uuid NOT NULL;
+ALTER TABLE api_credentials ADD COLUMN IF NOT EXISTS vendor_code uuid NOT NULL;
+
+DO $$
+BEGIN
+	IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'fk_api_credentials_gstin'
+	               AND conrelid = 'api_credentials'::regclass) THEN
+		ALTER TABLE api_credentials ADD CONSTRAINT fk_api_credentials_gstin
+			FOREIGN KEY (gstin) REFERENCES vendor_gstin(gstin_id);
+	END IF;
+	IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'fk_api_credentials_vendor_code'
+	               AND conrelid = 'api_credentials'::regclass) THEN
+		ALTER TABLE api_credentials ADD CONSTRAINT fk_api_credentials_vendor_code
+			FOREIGN KEY (vendor_code) REFERENCES vendor_codes(vendor_code_id);
+	END IF;
+END $$;
+
+
+-- Subscription plans are per company, not per OEM: the entity has no oem_id and plan codes are
+-- unique on their own. The column stays for existing rows but no longer blocks inserts.
+
+ALTER TABLE subscription_plans ALTER COLUMN oem_id DROP NOT NULL;
+
+DO $$
+BEGIN
+	IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uk_subscription_plans_code'
+	               AND conrelid = 'subscription_plans'::regclass) THEN
+		ALTER TABLE subscription_plans ADD CONSTRAINT uk_subscription_plans_code UNIQUE (plan_code);
+	END IF;
+END $$;
+
+
+-- ddl-auto=update never touches check constraints, so the payment status check still lacked
+-- the statuses added to PaymentStatus after the baseline
+
+ALTER TABLE payment_transactions DROP CONSTRAINT IF EXISTS payment_transactions_status_check;
+ALTER TABLE payment_transactions ADD CONSTRAINT payment_transactions_status_check CHECK (((status)::text = ANY ((ARRAY['PENDING'::character varying, 'PROCESSING'::character varying, 'SUCCESS'::character varying, 'COMPLETED'::character varying, 'FAILED'::character varying, 'CANCELLED'::character varying, 'REFUNDED'::character varying])::text[])));
@@ -0,0 +1,106 @@
+-- V3: partition api_request_logs and audit_logs by month
+-- Both tables only grow and are trimmed by age. With monthly range partitions, LogRetentionJob
+-- drops whole expired months instead of deleting them row by row, and time-range reads only
+-- scan the months they cover. The primary keys gain the partition column, as PostgreSQL requires.
+--
+-- No rows are copied: the existing table is attached as one partition covering everything up to
+-- the end of the current month and is dropped once all of it has expired. The next three months
+-- are created here; LogRetentionJob keeps creating months ahead of time, and a DEFAULT partition
+-- takes rows no month covers (such as clock-skewed timestamps), so an insert never fails.
+--
+-- The indexes for "latest rows of a credential, actor or resource" include the timestamp, so
+-- those LIMIT queries read each partition's newest rows in index order.
+
+
+-- api_request_logs definition
+
+ALTER TABLE api_request_logs RENAME TO api_request_logs_legacy;
+ALTER TABLE api_request_logs_legacy DROP CONSTRAINT IF EXISTS api_request_logs_pkey;
+ALTER INDEX IF EXISTS idx_api_request_logs_credential RENAME TO api_request_logs_legacy_credential_idx;
+ALTER INDEX IF EXISTS idx_api_request_logs_timestamp RENAME TO api_request_logs_legacy_timestamp_idx;
+
+CREATE TABLE api_request_logs (
+	response_time_ms int4 NULL,
+	status_code int2 NULL,
+	request_timestamp timestamp(6) NOT NULL,
+	"method" varchar(10) NOT NULL,
+	credential_id uuid NOT NULL,
+	log_id uuid NOT NULL,
+	error_code varchar(50) NULL,
+	endpoint varchar(100) NOT NULL,
+	request_data jsonb NULL,
+	response_data jsonb NULL,
+	CONSTRAINT api_request_logs_pkey PRIMARY KEY (log_id, request_timestamp),
+	CONSTRAINT fk_api_request_logs_credential FOREIGN KEY (credential_id) REFERENCES api_credentials(credential_id)
+) PARTITION BY RANGE (request_timestamp);
+CREATE INDEX idx_api_request_logs_credential ON api_request_logs USING btree (credential_id, request_timestamp);
+CREATE INDEX idx_api_request_logs_timestamp ON api_request_logs USING btree (request_timestamp);
+
+DO $$
+DECLARE
+	legacy_end timestamp := date_trunc('month', GREATEST(now() AT TIME ZONE 'UTC',
+			(SELECT max(request_timestamp) FROM api_request_logs_legacy))) + interval '1 month';
+	month_start timestamp;
+BEGIN
+	-- A valid CHECK matching the bound lets ATTACH skip its validation scan
+	EXECUTE format('ALTER TABLE api_request_logs_legacy ADD CONSTRAINT api_request_logs_legacy_range CHECK (request_timestamp < %L)', legacy_end);
+	EXECUTE format('ALTER TABLE api_request_logs ATTACH PARTITION api_request_logs_legacy FOR VALUES FROM (MINVALUE) TO (%L)', legacy_end);
+	ALTER TABLE api_request_logs_legacy DROP CONSTRAINT api_request_logs_legacy_range;
+
+	FOR i IN 0..2 LOOP
+		month_start := legacy_end + make_interval(months => i);
+		EXECUTE format('CREATE TABLE %I PARTITION OF api_request_logs FOR VALUES FROM (%L) TO (%L)',
+				'api_request_logs_p' || to_char(month_start, 'YYYY_MM'), month_start, month_start + interval '1 month');
+	END LOOP;
+END $$;
+CREATE TABLE api_request_logs_default PARTITION OF api_request_logs DEFAULT;
+DROP INDEX IF EXISTS api_request_logs_legacy_credential_idx;
+
+
+-- audit_logs definition
+
+ALTER TABLE audit_logs RENAME TO audit_logs_legacy;
+ALTER TABLE audit_logs_legacy DROP CONSTRAINT IF EXISTS audit_logs_pkey;
+ALTER INDEX IF EXISTS idx_audit_logs_actor RENAME TO audit_logs_legacy_actor_idx;
+ALTER INDEX IF EXISTS idx_audit_logs_resource RENAME TO audit_logs_legacy_resource_idx;
+ALTER INDEX IF EXISTS idx_audit_logs_timestamp RENAME TO audit_logs_legacy_timestamp_idx;
+
+CREATE TABLE audit_logs (
+	event_time timestamp(6) NOT NULL,
+	actor_id uuid NULL,
+	audit_id uuid NOT NULL,
+	resource_id uuid NULL,
+	ip_address inet NULL,
+	actor_type varchar(20) NULL,
+	event_action varchar(50) NOT NULL,
+	event_category varchar(50) NOT NULL,
+	resource_type varchar(50) NULL,
+	request_id varchar(100) NULL,
+	session_id varchar(100) NULL,
+	changes jsonb NULL,
+	CONSTRAINT audit_logs_actor_type_check CHECK (((actor_type)::text = ANY ((ARRAY['SYSTEM'::character varying, 'VENDOR'::character varying, 'ADMIN'::character varying])::text[]))),
+	CONSTRAINT audit_logs_pkey PRIMARY KEY (audit_id, event_time)
+) PARTITION BY RANGE (event_time);
+CREATE INDEX idx_audit_logs_actor ON audit_logs USING btree (actor_id, event_time);
+CREATE INDEX idx_audit_logs_resource ON audit_logs USING btree (resource_type, resource_id, event_time);
+CREATE INDEX idx_audit_logs_timestamp ON audit_logs USING btree (event_time);
+
+DO $$
+DECLARE
+	legacy_end timestamp := date_trunc('month', GREATEST(now() AT TIME ZONE 'UTC',
+			(SELECT max(event_time) FROM audit_logs_legacy))) + interval '1 month';
+	month_start timestamp;
+BEGIN
+	EXECUTE format('ALTER TABLE audit_logs_legacy ADD CONSTRAINT audit_logs_legacy_range CHECK (event_time < %L)', legacy_end);
+	EXECUTE format('ALTER TABLE audit_logs ATTACH PARTITION audit_logs_legacy FOR VALUES FROM (MINVALUE) TO (%L)', legacy_end);
+	ALTER TABLE audit_logs_legacy DROP CONSTRAINT audit_logs_legacy_range;
+
+	FOR i IN 0..2 LOOP
+		month_start := legacy_end + make_interval(months => i);
+		EXECUTE format('CREATE TABLE %I PARTITION OF audit_logs FOR VALUES FROM (%L) TO (%L)',
+				'audit_logs_p' || to_char(month_start, 'YYYY_MM'), month_start, month_start + interval '1 month');
+	END LOOP;
+END $$;
+CREATE TABLE audit_logs_default PARTITION OF audit_logs DEFAULT;
+DROP INDEX IF EXISTS audit_logs_legacy_actor_idx;
+DROP INDEX IF EXISTS audit_logs_legacy_resource_idx;
@@ -0,0 +1,25 @@
+-- V4: indexes for the queries the service runs most
+-- CONCURRENTLY keeps tables writable while the indexes build, so Flyway runs this script outside
+-- a transaction. IF NOT EXISTS lets a failed run be repeated; drop any index it left INVALID first.
+
+-- Tenant-scoped version tags behind the polled dashboard and company endpoints
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_vendors_company ON vendors USING btree (company_code);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_vendor_gstin_company ON vendor_gstin USING btree (company_code);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_api_credentials_company ON api_credentials USING btree (company_code);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_onboarding_process_company_oem ON onboarding_process USING btree (company_code, oem_id);
+
+-- Latest events of a process and idempotent event replays
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_onboarding_events_onboarding_time ON onboarding_events USING btree (onboarding_id, event_timestamp);
+DROP INDEX CONCURRENTLY IF EXISTS idx_onboarding_events_onboarding;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_onboarding_events_idempotency ON onboarding_events USING btree (idempotency_key) WHERE idempotency_key IS NOT NULL;
+
+-- Payment history of a vendor, newest first, and per-OEM totals
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_payment_transactions_vendor_date ON payment_transactions USING btree (vendor_id, initiated_at);
+DROP INDEX CONCURRENTLY IF EXISTS idx_payment_transactions_vendor;
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_payment_transactions_oem_status ON payment_transactions USING btree (oem_id, status);
+
+-- Foreign keys without an index make every delete of the referenced row scan the child table
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_subscriptions_plan ON subscriptions USING btree (plan_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_api_credentials_oem ON api_credentials USING btree (oem_id);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_api_credentials_gstin ON api_credentials USING btree (gstin);
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_api_credentials_vendor_code ON api_credentials USING btree (vendor_code);
@@ -0,0 +1,7 @@
+-- V5: index for the audit log export
+-- The export selects the rows where a subject is the actor or the resource. The actor side uses
+-- idx_audit_logs_actor, but idx_audit_logs_resource leads with resource_type, which the export
+-- does not know, so the resource side scanned every partition in the window.
+-- audit_logs is partitioned, and an index on a partitioned table cannot be built CONCURRENTLY,
+-- so audit inserts wait while this builds; partitions created later get the index with them.
+CREATE INDEX IF NOT EXISTS idx_audit_logs_resource_id ON audit_logs USING btree (resource_id, event_time);
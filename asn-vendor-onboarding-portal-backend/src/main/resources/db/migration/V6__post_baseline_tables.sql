@@ -0,0 +1,133 @@
+-- V6: tables and indexes added after the baseline
+-- Databases baselined at V1 may already hold some of them from a later copy of the schema script,
+-- hence IF NOT EXISTS. user_session_state stays UNLOGGED (see PostgresUserSessionStore).
+
+-- Expiry and billing sweeps of the subscription lifecycle job
+CREATE INDEX IF NOT EXISTS idx_subscriptions_end_date ON subscriptions USING btree (end_date);
+CREATE INDEX IF NOT EXISTS idx_subscriptions_next_billing ON subscriptions USING btree (next_billing_date);
+
+
+-- api_usage_rollups definition
+
+-- Drop table
+
+-- DROP TABLE api_usage_rollups;
+
+CREATE TABLE IF NOT EXISTS api_usage_rollups (
+	latency_max_ms int4 NULL,
+	latency_min_ms int4 NULL,
+	error_count int8 NOT NULL,
+	latency_count int8 NOT NULL,
+	latency_sum_ms int8 NOT NULL,
+	request_count int8 NOT NULL,
+	bucket_start timestamp(6) NOT NULL,
+	updated_at timestamp(6) NOT NULL,
+	credential_id uuid NOT NULL,
+	oem_id uuid NULL,
+	rollup_id uuid NOT NULL,
+	vendor_id uuid NULL,
+	granularity varchar(10) NOT NULL,
+	endpoint varchar(100) NOT NULL,
+	latency_sketch bytea NULL,
+	CONSTRAINT api_usage_rollups_granularity_check CHECK (((granularity)::text = ANY ((ARRAY['MINUTE'::character varying, 'HOUR'::character varying, 'DAY'::character varying])::text[]))),
+	CONSTRAINT api_usage_rollups_pkey PRIMARY KEY (rollup_id),
+	CONSTRAINT uk_api_usage_rollups_bucket UNIQUE (granularity, bucket_start, credential_id, endpoint)
+);
+CREATE INDEX IF NOT EXISTS idx_api_usage_rollups_credential ON api_usage_rollups USING btree (credential_id, granularity, bucket_start);
+CREATE INDEX IF NOT EXISTS idx_api_usage_rollups_oem ON api_usage_rollups USING btree (oem_id, granularity, bucket_start);
+CREATE INDEX IF NOT EXISTS idx_api_usage_rollups_vendor ON api_usage_rollups USING btree (vendor_id, granularity, bucket_start);
+
+
+-- job_checkpoints definition
+
+-- Drop table
+
+-- DROP TABLE job_checkpoints;
+
+CREATE TABLE IF NOT EXISTS job_checkpoints (
+	checkpoint_timestamp timestamp(6) NULL,
+	updated_at timestamp(6) NOT NULL,
+	checkpoint_key varchar(100) NULL,
+	job_name varchar(100) NOT NULL,
+	CONSTRAINT job_checkpoints_pkey PRIMARY KEY (job_name)
+);
+
+
+-- onboarding_funnel_counts definition
+
+-- Drop table
+
+-- DROP TABLE onboarding_funnel_counts;
+
+CREATE TABLE IF NOT EXISTS onboarding_funnel_counts (
+	stale_count int8 NOT NULL,
+	vendor_count int8 NOT NULL,
+	reconciled_at timestamp(6) NULL,
+	updated_at timestamp(6) NOT NULL,
+	funnel_id uuid NOT NULL,
+	oem_id uuid NOT NULL,
+	status varchar(20) NOT NULL,
+	current_step varchar(50) NOT NULL,
+	CONSTRAINT onboarding_funnel_counts_pkey PRIMARY KEY (funnel_id),
+	CONSTRAINT uk_onboarding_funnel_counts_cell UNIQUE (oem_id, current_step, status)
+);
+
+
+-- tenant_schema_routes definition
+
+-- Drop table
+
+-- DROP TABLE tenant_schema_routes;
+
+CREATE TABLE IF NOT EXISTS tenant_schema_routes (
+	company_code int8 NOT NULL,
+	writes_frozen bool NOT NULL,
+	updated_at timestamp(6) NOT NULL,
+	"mode" varchar(20) NOT NULL,
+	schema_name varchar(63) NOT NULL,
+	CONSTRAINT tenant_schema_routes_pkey PRIMARY KEY (company_code),
+	CONSTRAINT tenant_schema_routes_mode_check CHECK (((mode)::text = ANY ((ARRAY['SHARED'::character varying, 'DEDICATED'::character varying])::text[]))),
+	CONSTRAINT uk_tenant_schema_routes_schema UNIQUE (schema_name)
+);
+
+
+-- user_session_state definition
+-- UNLOGGED: session state is disposable, so writes skip the WAL; a crash empties the table
+
+-- Drop table
+
+-- DROP TABLE user_session_state;
+
+CREATE UNLOGGED TABLE IF NOT EXISTS user_session_state (
+	last_activity int8 NOT NULL,
+	expires_at timestamptz NOT NULL,
+	session_key varchar(100) NOT NULL,
+	selected_oem_id varchar(100) NULL,
+	selected_oem_name varchar(255) NULL,
+	CONSTRAINT user_session_state_pkey PRIMARY KEY (session_key)
+);
+CREATE INDEX IF NOT EXISTS idx_user_session_state_expires ON user_session_state USING btree (expires_at);
+
+
+-- job_runs definition
+
+-- Drop table
+
+-- DROP TABLE job_runs;
+
+CREATE TABLE IF NOT EXISTS job_runs (
+	shard int4 NOT NULL,
+	shard_count int4 NOT NULL,
+	items_processed int8 NOT NULL,
+	finished_at timestamp(6) NULL,
+	started_at timestamp(6) NOT NULL,
+	run_id uuid NOT NULL,
+	status varchar(20) NOT NULL,
+	job_name varchar(100) NOT NULL,
+	node_id varchar(100) NULL,
+	error_message varchar(500) NULL,
+	CONSTRAINT job_runs_pkey PRIMARY KEY (run_id),
+	CONSTRAINT job_runs_status_check CHECK (((status)::text = ANY ((ARRAY['RUNNING'::character varying, 'SUCCEEDED'::character varying, 'FAILED'::character varying, 'ABANDONED'::character varying])::text[])))
+);
+CREATE INDEX IF NOT EXISTS idx_job_runs_job_shard_started ON job_runs USING btree (job_name, shard, started_at);
+CREATE INDEX IF NOT EXISTS idx_job_runs_started ON job_runs USING btree (started_at);
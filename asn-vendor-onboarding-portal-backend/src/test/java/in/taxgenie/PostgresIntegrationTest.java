@@ -0,0 +1,28 @@
+package in.taxgenie;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+/**
+ * Base class for tests that boot the application on PostgreSQL
+ * Subclasses share one context, so they must not add properties of their own, and each adds
+ * {@code @EnabledIf("in.taxgenie.TestDatabase#isAvailable")} to skip without a database.
+ * Background jobs stay off; the PostgreSQL session store and schema routing are on so their
+ * beans are exercised.
+ */
+@SpringBootTest(properties = {
+        "asn.vendor.portal.jobs.enabled=false",
+        "asn.vendor.portal.session.store=postgres",
+        "asn.vendor.portal.tenancy.schema-per-tenant.enabled=true",
+        "asn.vendor.portal.monitoring.jfr.enabled=false"
+})
+@ActiveProfiles("test")
+public abstract class PostgresIntegrationTest {
+
+    @DynamicPropertySource
+    static void database(DynamicPropertyRegistry registry) {
+        TestDatabase.register(registry);
+    }
+}
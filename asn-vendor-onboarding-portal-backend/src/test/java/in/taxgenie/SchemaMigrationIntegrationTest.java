@@ -0,0 +1,52 @@
+package in.taxgenie;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the schema the application boots on
+ * The context only starts once Flyway has migrated the database and Hibernate has validated the
+ * entities against it, as in production
+ */
+@EnabledIf("in.taxgenie.TestDatabase#isAvailable")
+class SchemaMigrationIntegrationTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private Flyway flyway;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Value("${spring.jpa.hibernate.ddl-auto}")
+    private String ddlAuto;
+
+    @Test
+    void testBootsOnLatestMigrationWithValidation() {
+        MigrationInfo[] applied = flyway.info().applied();
+        MigrationInfo latest = Arrays.stream(flyway.info().all()).reduce((first, second) -> second).orElseThrow();
+
+        assertEquals(0, flyway.info().pending().length);
+        assertEquals(latest.getVersion(), flyway.info().current().getVersion());
+        assertTrue(applied.length > 0);
+        assertEquals("validate", ddlAuto);
+    }
+
+    @Test
+    void testSessionTableComesFromMigration() {
+        String persistence = jdbcTemplate.queryForObject(
+                "SELECT c.relpersistence FROM pg_class c JOIN pg_namespace n ON n.oid = c.relnamespace "
+                        + "WHERE n.nspname = ? AND c.relname = 'user_session_state'",
+                String.class, TestDatabase.SHARED_SCHEMA);
+
+        assertEquals("u", persistence, "V6 creates the session table UNLOGGED");
+    }
+}
@@ -0,0 +1,73 @@
+package in.taxgenie;
+
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+
+/**
+ * PostgreSQL database for the integration tests
+ * Uses TEST_DB_URL, TEST_DB_USERNAME and TEST_DB_PASSWORD when set, otherwise one PostgreSQL 16
+ * container per JVM. Point TEST_DB_URL at a scratch database: Flyway migrates it and the tests
+ * write to it. Tests guarded by {@link #isAvailable()} are skipped when neither is available.
+ */
+public final class TestDatabase {
+
+    public static final String SHARED_SCHEMA = "sch_asn_vendor_onboarding_portal";
+
+    private static final String EXTERNAL_URL = System.getenv("TEST_DB_URL");
+
+    private static PostgreSQLContainer<?> container;
+
+    private TestDatabase() {
+    }
+
+    /**
+     * Condition for {@code @EnabledIf("in.taxgenie.TestDatabase#isAvailable")}
+     */
+    public static boolean isAvailable() {
+        return EXTERNAL_URL != null || DockerClientFactory.instance().isDockerAvailable();
+    }
+
+    public static String url() {
+        if (EXTERNAL_URL != null) {
+            return EXTERNAL_URL;
+        }
+        return container().getJdbcUrl() + "&currentSchema=" + SHARED_SCHEMA;
+    }
+
+    public static String username() {
+        return EXTERNAL_URL != null ? System.getenv().getOrDefault("TEST_DB_USERNAME", "postgres") : container().getUsername();
+    }
+
+    public static String password() {
+        return EXTERNAL_URL != null ? System.getenv().getOrDefault("TEST_DB_PASSWORD", "") : container().getPassword();
+    }
+
+    public static DataSourceProperties dataSourceProperties() {
+        DataSourceProperties properties = new DataSourceProperties();
+        properties.setUrl(url());
+        properties.setUsername(username());
+        properties.setPassword(password());
+        return properties;
+    }
+
+    /**
+     * Replaces the test profile's per-context jdbc:tc URL, so every Spring test shares the database
+     */
+    public static void register(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", TestDatabase::url);
+        registry.add("spring.datasource.username", TestDatabase::username);
+        registry.add("spring.datasource.password", TestDatabase::password);
+        registry.add("spring.datasource.driver-class-name", () -> "org.postgresql.Driver");
+    }
+
+    private static synchronized PostgreSQLContainer<?> container() {
+        if (container == null) {
+            container = new PostgreSQLContainer<>("postgres:16-alpine").withDatabaseName("db_asn_vendor_onboarding_portal")
+                    .withUsername("postgres");
+            container.start();
+        }
+        return container;
+    }
+}
@@ -0,0 +1,65 @@
+package in.taxgenie.billing;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for renewal pricing, billing date rollover and lifecycle checkpoints
+ */
+class RenewalTermsTest {
+
+    private static final UUID SUBSCRIPTION = UUID.fromString("6f1c2e1a-0000-4000-8000-00000000000a");
+
+    @Test
+    void testYearlySnapshotChargesTheDiscountedYearlyCost() {
+        RenewalTerms terms = RenewalTerms.fromSnapshot("""
+                {"monthly_cost": 8000, "yearly_cost": 80000, "currency": "INR", "billing_cycle": "yearly", "discount_applied": 10}
+                """);
+
+        assertEquals(BillingCycle.YEARLY, terms.cycle());
+        assertEquals(new BigDecimal("72000.00"), terms.amount());
+        assertEquals("INR", terms.currency());
+    }
+
+    @Test
+    void testMissingCycleBillsMonthlyAndFreePlansAreNotCharged() {
+        RenewalTerms paid = RenewalTerms.fromSnapshot("{\"monthly_cost\": 15000}");
+        RenewalTerms free = RenewalTerms.fromSnapshot("{}");
+
+        assertEquals(BillingCycle.MONTHLY, paid.cycle());
+        assertEquals(new BigDecimal("15000.00"), paid.amount());
+        assertTrue(paid.isChargeable());
+        assertFalse(free.isChargeable());
+    }
+
+    @Test
+    void testMonthlyRolloverClampsToTheMonthEnd() {
+        assertEquals(LocalDate.of(2025, 2, 28), BillingCycle.MONTHLY.advance(LocalDate.of(2025, 1, 31)));
+        assertEquals(LocalDate.of(2025, 2, 28), BillingCycle.YEARLY.advance(LocalDate.of(2024, 2, 29)));
+    }
+
+    @Test
+    void testTransactionRefIsStablePerBillingDateAndFitsTheColumn() {
+        String ref = RenewalTerms.transactionRef(SUBSCRIPTION, LocalDate.of(2025, 3, 1));
+
+        assertEquals(ref, RenewalTerms.transactionRef(SUBSCRIPTION, LocalDate.of(2025, 3, 1)));
+        assertNotEquals(ref, RenewalTerms.transactionRef(SUBSCRIPTION, LocalDate.of(2025, 4, 1)));
+        assertTrue(ref.length() <= 50);
+    }
+
+    @Test
+    void testCheckpointFromAnEarlierDayStartsThePassOver() {
+        LocalDate today = LocalDate.of(2025, 3, 2);
+        String todays = SubscriptionLifecycleBatch.checkpointKey(today, SUBSCRIPTION);
+        String yesterdays = SubscriptionLifecycleBatch.checkpointKey(today.minusDays(1), SUBSCRIPTION);
+
+        assertEquals(SUBSCRIPTION, SubscriptionLifecycleBatch.resumeAfter(todays, today));
+        assertEquals(SubscriptionLifecycleBatch.FIRST_KEY, SubscriptionLifecycleBatch.resumeAfter(yesterdays, today));
+        assertEquals(SubscriptionLifecycleBatch.FIRST_KEY, SubscriptionLifecycleBatch.resumeAfter(null, today));
+    }
+}
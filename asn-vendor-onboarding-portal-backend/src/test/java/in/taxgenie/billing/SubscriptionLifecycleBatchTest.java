@@ -0,0 +1,57 @@
+package in.taxgenie.billing;
+
+import in.taxgenie.multitenancy.schema.TenantSchemaRouting;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the scopes of the subscription lifecycle batch
+ * Verifies that each tenant is covered in the schema its route is active in, and that
+ * frozen tenants are left out everywhere
+ */
+class SubscriptionLifecycleBatchTest {
+
+    private static final String SHARED = "sch_asn_vendor_onboarding_portal";
+
+    @Test
+    void testSharedSchemaOnlyWithoutRouting() {
+        TenantSchemaRouting routing = new TenantSchemaRouting(false, SHARED);
+
+        assertEquals(List.of(new SubscriptionLifecycleBatch.Scope(SHARED, true, List.of())), batch(routing).scopes());
+    }
+
+    @Test
+    void testNoScopesUntilRoutingLoads() {
+        TenantSchemaRouting routing = new TenantSchemaRouting(true, SHARED);
+
+        assertTrue(batch(routing).scopes().isEmpty());
+    }
+
+    @Test
+    void testTenantsAreCoveredInTheirActiveSchema() {
+        TenantSchemaRouting routing = new TenantSchemaRouting(true, SHARED);
+        routing.replace(Map.of(
+                1L, new TenantSchemaRouting.Route("sch_tenant_1", false),
+                2L, new TenantSchemaRouting.Route("sch_tenant_2", true),
+                3L, new TenantSchemaRouting.Route(SHARED, false),
+                4L, new TenantSchemaRouting.Route(SHARED, true)));
+
+        List<SubscriptionLifecycleBatch.Scope> scopes = batch(routing).scopes();
+
+        assertEquals(2, scopes.size());
+        SubscriptionLifecycleBatch.Scope shared = scopes.get(0);
+        assertTrue(shared.shared());
+        assertEquals("", shared.phaseSuffix());
+        assertEquals(List.of(1L, 2L, 4L), shared.companyCodes().stream().sorted().toList());
+        assertEquals(new SubscriptionLifecycleBatch.Scope("sch_tenant_1", false, List.of(1L)), scopes.get(1));
+        assertEquals("@sch_tenant_1", scopes.get(1).phaseSuffix());
+    }
+
+    private static SubscriptionLifecycleBatch batch(TenantSchemaRouting routing) {
+        return new SubscriptionLifecycleBatch(null, null, null, routing);
+    }
+}
@@ -0,0 +1,123 @@
+package in.taxgenie.cache;
+
+import in.taxgenie.TestDatabase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the cache invalidation bus against PostgreSQL
+ * Verifies a committed invalidation reaches the other node, and that both sides recover
+ * when their connection is terminated, the listener by clearing its caches
+ */
+@EnabledIf("in.taxgenie.TestDatabase#isAvailable")
+class CacheInvalidationBusIntegrationTest {
+
+    private static final String CHANNEL = "asn_cache_invalidation_test";
+
+    private final DataSourceProperties dataSourceProperties = TestDatabase.dataSourceProperties();
+    private final CacheInvalidationPublisher sendingNode = publisher();
+    private final CacheInvalidationPublisher receivingNode = publisher();
+    private final RecordingCache cache = new RecordingCache();
+    private final CacheInvalidationListener listener = new CacheInvalidationListener(receivingNode, dataSourceProperties,
+            List.of(cache), new SimpleMeterRegistry(), 10, 500, 100, 200);
+
+    @AfterEach
+    void tearDown() {
+        listener.stop();
+        sendingNode.stop();
+        receivingNode.stop();
+    }
+
+    @Test
+    void testPublishedInvalidationIsAppliedOnOtherNode() {
+        listen();
+
+        sendingNode.publish(CacheInvalidation.of(RecordingCache.NAME, "1/oem-a"));
+        receivingNode.publish(CacheInvalidation.of(RecordingCache.NAME, "own node"));
+        sendingNode.publish(CacheInvalidation.of(RecordingCache.NAME, "1/oem-b"));
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> cache.evicted.size() >= 2);
+        assertEquals(List.of("1/oem-a", "1/oem-b"), cache.evicted, "A node skips its own notifications");
+    }
+
+    @Test
+    void testListenerClearsCachesAfterReconnecting() throws SQLException {
+        listen();
+
+        terminate("asn-cache-invalidation");
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> cache.cleared.get() == 2);
+        sendingNode.publish(CacheInvalidation.of(RecordingCache.NAME, "after reconnect"));
+        await().atMost(Duration.ofSeconds(10)).until(() -> cache.evicted.contains("after reconnect"));
+    }
+
+    @Test
+    void testPublisherRetriesOnNewConnection() throws SQLException {
+        listen();
+        sendingNode.publish(CacheInvalidation.of(RecordingCache.NAME, "first"));
+        await().atMost(Duration.ofSeconds(10)).until(() -> cache.evicted.contains("first"));
+
+        terminate("asn-cache-invalidation-sender");
+        sendingNode.publish(CacheInvalidation.of(RecordingCache.NAME, "second"));
+
+        await().atMost(Duration.ofSeconds(10)).until(() -> cache.evicted.contains("second"));
+    }
+
+    private CacheInvalidationPublisher publisher() {
+        return new CacheInvalidationPublisher(dataSourceProperties, new SimpleMeterRegistry(), true, CHANNEL, 10);
+    }
+
+    /**
+     * Starts the listener and waits for its first LISTEN, which clears the caches once
+     */
+    private void listen() {
+        listener.start();
+        await().atMost(Duration.ofSeconds(10)).until(() -> cache.cleared.get() == 1);
+    }
+
+    private void terminate(String applicationName) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(TestDatabase.url(), TestDatabase.username(), TestDatabase.password());
+             Statement statement = connection.createStatement()) {
+            statement.execute("SELECT pg_terminate_backend(pid) FROM pg_stat_activity WHERE application_name = '"
+                    + applicationName + "'");
+        }
+    }
+
+    private static final class RecordingCache implements InvalidatableCache {
+
+        private static final String NAME = "recording";
+
+        private final List<String> evicted = new CopyOnWriteArrayList<>();
+        private final AtomicInteger cleared = new AtomicInteger();
+
+        @Override
+        public String cacheName() {
+            return NAME;
+        }
+
+        @Override
+        public void evict(String key) {
+            evicted.add(key);
+        }
+
+        @Override
+        public void evictAll() {
+            cleared.incrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package in.taxgenie.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the invalidation bus wire format and the coalescing of received bursts
+ */
+class CacheInvalidationCodecTest {
+
+    @Test
+    void testPayloadRoundTripKeepsKeysAndCacheWideEntries() {
+        List<String> payloads = CacheInvalidationCodec.encode("node-a",
+                List.of(CacheInvalidation.of("dashboard", "12/acme"), CacheInvalidation.all("user-session")), 7500);
+
+        assertEquals(1, payloads.size());
+        CacheInvalidationCodec.Message message = CacheInvalidationCodec.decode(payloads.get(0));
+        assertEquals("node-a", message.origin());
+        assertEquals(List.of(CacheInvalidation.of("dashboard", "12/acme"), CacheInvalidation.all("user-session")),
+                message.entries());
+    }
+
+    @Test
+    void testLargeSetsAreSplitBelowTheNotifyLimit() {
+        List<CacheInvalidation> invalidations = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            invalidations.add(CacheInvalidation.of("user-session", "session-" + i));
+        }
+
+        List<String> payloads = CacheInvalidationCodec.encode("node-a", invalidations, 1000);
+
+        assertTrue(payloads.size() > 1);
+        int decoded = 0;
+        for (String payload : payloads) {
+            assertTrue(payload.getBytes(StandardCharsets.UTF_8).length <= 1000);
+            decoded += CacheInvalidationCodec.decode(payload).entries().size();
+        }
+        assertEquals(1000, decoded);
+    }
+
+    @Test
+    void testBurstsAreDeduplicatedAndOwnNotificationsSkipped() {
+        CoalescedInvalidations batch = new CoalescedInvalidations("node-a", 2);
+
+        batch.add(message("node-b", CacheInvalidation.of("dashboard", "1"), CacheInvalidation.of("dashboard", "1")));
+        batch.add(message("node-a", CacheInvalidation.of("dashboard", "2")));
+        batch.add(message("node-b", CacheInvalidation.of("user-session", "a"), CacheInvalidation.of("user-session", "b"),
+                CacheInvalidation.of("user-session", "c")));
+
+        assertEquals(Set.of("1"), batch.getKeysByCache().get("dashboard"));
+        assertFalse(batch.getKeysByCache().containsKey("user-session"));
+        assertEquals(Set.of("user-session"), batch.getCacheWide());
+        assertEquals(5, batch.getReceived());
+    }
+
+    private static CacheInvalidationCodec.Message message(String origin, CacheInvalidation... entries) {
+        return CacheInvalidationCodec.decode(CacheInvalidationCodec.encode(origin, List.of(entries), 7500).get(0));
+    }
+}
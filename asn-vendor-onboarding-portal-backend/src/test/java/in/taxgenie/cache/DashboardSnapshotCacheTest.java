@@ -0,0 +1,86 @@
+package in.taxgenie.cache;
+
+import in.taxgenie.cache.DashboardSnapshotCache.View;
+import in.taxgenie.monitoring.PortalMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the per-(company, OEM) dashboard snapshot cache
+ * Verifies polls are served from memory, change events drop the right entries, a view is
+ * never served under another version tag and neither a load that overlaps an invalidation
+ * nor a placeholder is cached
+ */
+class DashboardSnapshotCacheTest {
+
+    private static final String OEM_A = "6f1c2e1a-0000-4000-8000-00000000000a";
+    private static final String OEM_B = "6f1c2e1a-0000-4000-8000-00000000000b";
+
+    private final PortalMetrics metrics = new PortalMetrics(new SimpleMeterRegistry(), 10, "", 10);
+    private final DashboardSnapshotCache cache = new DashboardSnapshotCache(metrics,
+            new CacheInvalidationPublisher(null, new SimpleMeterRegistry(), false, "asn_cache_invalidation", 10), true, 300, 100);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void testRepeatedPollsAreServedFromMemory() {
+        assertEquals("v1", cache.get(1L, OEM_A, View.STATS, () -> load("v1")));
+        assertEquals("v1", cache.get(1L, OEM_A.toUpperCase(), View.STATS, () -> load("v2")));
+        assertEquals(1, loads.get());
+        assertEquals(0.5, metrics.cache("dashboard").hitRatio(), 0.0001);
+    }
+
+    @Test
+    void testChangeEventsInvalidateOemOrWholeCompany() {
+        cache.get(1L, OEM_A, View.STATS, () -> load("a"));
+        cache.get(1L, OEM_B, View.STATS, () -> load("b"));
+        cache.get(2L, OEM_A, View.STATS, () -> load("other company"));
+
+        cache.onDashboardChanged(DashboardChangedEvent.forOem(1L, OEM_A));
+        assertEquals(2, cache.size());
+
+        cache.onDashboardChanged(DashboardChangedEvent.forCompany(1L));
+        assertEquals(1, cache.size());
+        assertEquals("other company", cache.get(2L, OEM_A, View.STATS, () -> load("reloaded")));
+    }
+
+    @Test
+    void testLoadOverlappingInvalidationIsNotCached() {
+        String value = cache.get(1L, OEM_A, View.QUICK_ACTIONS, () -> {
+            cache.invalidate(1L, OEM_A);
+            return load("read before commit");
+        });
+
+        assertEquals("read before commit", value);
+        assertEquals(0, cache.size());
+        assertEquals("fresh", cache.get(1L, OEM_A, View.QUICK_ACTIONS, () -> load("fresh")));
+    }
+
+    @Test
+    void testViewLoadedUnderAnotherVersionIsReloaded() {
+        assertEquals("before", cache.get(1L, OEM_A, View.STATS, "\"v1\"", () -> load("before"), value -> true));
+        assertEquals("before", cache.get(1L, OEM_A, View.STATS, "\"v1\"", () -> load("unused"), value -> true));
+
+        assertEquals("after", cache.get(1L, OEM_A, View.STATS, "\"v2\"", () -> load("after"), value -> true));
+        assertEquals("after", cache.get(1L, OEM_A, View.STATS, "\"v2\"", () -> load("unused"), value -> true));
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void testPlaceholderFromFailedLoadIsNotCached() {
+        String placeholder = cache.get(1L, OEM_A, View.STATS, null, () -> load("placeholder"), value -> !value.equals("placeholder"));
+
+        assertEquals("placeholder", placeholder);
+        assertEquals(0, cache.size());
+        assertEquals("recovered", cache.get(1L, OEM_A, View.STATS, () -> load("recovered")));
+        assertEquals(2, loads.get());
+    }
+
+    private String load(String value) {
+        loads.incrementAndGet();
+        return value;
+    }
+}
@@ -0,0 +1,114 @@
+package in.taxgenie.composite;
+
+import in.taxgenie.controllers.OnboardingController;
+import in.taxgenie.viewmodels.composite.CompositeRequestViewModel;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for composite sub-requests
+ * Verifies parts are isolated from the outer request and only buffered GET routes may run
+ */
+class SubRequestTest {
+
+    private static final List<String> ALLOWED = List.of("/dashboard/", "/onboarding/progress/*", "/user/profile");
+
+    @Test
+    void testPartHasItsOwnPathParametersHeadersAndAttributes() {
+        MockHttpServletRequest outer = new MockHttpServletRequest("POST", "/api/v1/composite");
+        outer.setContextPath("/api/v1");
+        outer.addHeader(HttpHeaders.AUTHORIZATION, "Bearer token");
+        outer.setAttribute("outer", "value");
+        HttpHeaders forwarded = new HttpHeaders();
+        forwarded.add(HttpHeaders.AUTHORIZATION, "Bearer token");
+
+        SubRequest part = SubRequest.of(outer, "/dashboard/activities/abc?limit=5&tag=a%20b",
+                forwarded, Map.of(HttpHeaders.IF_NONE_MATCH, "\"v1\""));
+        part.setAttribute("part", "only");
+
+        assertEquals("GET", part.getMethod());
+        assertEquals("/api/v1/dashboard/activities/abc", part.getRequestURI());
+        assertEquals("/dashboard/activities/abc", part.getServletPath());
+        assertEquals("5", part.getParameter("limit"));
+        assertArrayEquals(new String[]{"a b"}, part.getParameterValues("tag"));
+        assertEquals("Bearer token", part.getHeader(HttpHeaders.AUTHORIZATION));
+        assertEquals("\"v1\"", part.getHeader(HttpHeaders.IF_NONE_MATCH));
+        assertNull(part.getAttribute("outer"));
+        assertNull(outer.getAttribute("part"));
+    }
+
+    @Test
+    void testBufferedResponseNeverTouchesTheOuterResponse() {
+        MockHttpServletResponse outer = new MockHttpServletResponse();
+        BufferedSubResponse part = new BufferedSubResponse(outer);
+
+        part.setStatus(304);
+        part.setHeader(HttpHeaders.ETAG, "\"v1\"");
+        part.getWriter().write("{}");
+
+        assertEquals(304, part.getStatus());
+        assertEquals("{}", new String(part.getBody(), StandardCharsets.UTF_8));
+        assertEquals("\"v1\"", part.getHeadersSnapshot().getETag());
+        assertEquals(200, outer.getStatus());
+        assertFalse(outer.containsHeader(HttpHeaders.ETAG));
+        assertEquals(0, outer.getContentAsByteArray().length);
+    }
+
+    @Test
+    void testOnlyGetRoutesUnderAllowedPathsAreAccepted() {
+        assertNull(CompositeRequestDispatcher.rejectionReason(part("GET", "/dashboard/stats/1"), ALLOWED));
+        assertNull(CompositeRequestDispatcher.rejectionReason(part(null, "/user/profile"), ALLOWED));
+        assertNotNull(CompositeRequestDispatcher.rejectionReason(part("PUT", "/user/profile"), ALLOWED));
+        assertNotNull(CompositeRequestDispatcher.rejectionReason(part("GET", "/settings/company-info"), ALLOWED));
+        assertNotNull(CompositeRequestDispatcher.rejectionReason(part("GET", "/dashboard/../settings/company-info"), ALLOWED));
+        assertNotNull(CompositeRequestDispatcher.rejectionReason(part("GET", "/dashboard/%2e%2e/settings"), ALLOWED));
+        assertNotNull(CompositeRequestDispatcher.rejectionReason(part("GET", "dashboard/stats/1"), ALLOWED));
+    }
+
+    @Test
+    void testPatternAllowsProgressButNotItsStream() {
+        assertNull(CompositeRequestDispatcher.rejectionReason(part("GET", "/onboarding/progress/oem-1"), ALLOWED));
+        assertNull(CompositeRequestDispatcher.rejectionReason(part("GET", "/onboarding/progress/oem-1?x=1"), ALLOWED));
+        assertNotNull(CompositeRequestDispatcher.rejectionReason(part("GET", "/onboarding/progress/oem-1/stream"), ALLOWED));
+    }
+
+    @Test
+    void testStreamingAndAsyncBodiesAreDetected() {
+        assertTrue(CompositeRequestDispatcher.hasAsyncBody(returnType(OnboardingController.class, "streamOnboardingProgress")));
+        assertTrue(CompositeRequestDispatcher.hasAsyncBody(returnType(Handlers.class, "streaming")));
+        assertTrue(CompositeRequestDispatcher.hasAsyncBody(returnType(Handlers.class, "deferred")));
+        assertFalse(CompositeRequestDispatcher.hasAsyncBody(returnType(OnboardingController.class, "getOnboardingProgress")));
+        assertFalse(CompositeRequestDispatcher.hasAsyncBody(returnType(Handlers.class, "wildcard")));
+    }
+
+    private static MethodParameter returnType(Class<?> type, String name) {
+        Method method = Arrays.stream(type.getMethods()).filter(m -> m.getName().equals(name)).findFirst().orElseThrow();
+        return new MethodParameter(method, -1);
+    }
+
+    interface Handlers {
+        ResponseEntity<StreamingResponseBody> streaming();
+
+        ResponseEntity<DeferredResult<String>> deferred();
+
+        ResponseEntity<?> wildcard();
+    }
+
+    private static CompositeRequestViewModel.SubRequestViewModel part(String method, String path) {
+        return CompositeRequestViewModel.SubRequestViewModel.builder().id("p").method(method).path(path).build();
+    }
+}
@@ -0,0 +1,51 @@
+package in.taxgenie.config;
+
+import org.hibernate.LazyInitializationException;
+import org.hibernate.event.spi.InitializeCollectionEvent;
+import org.hibernate.event.spi.LoadEvent;
+import org.hibernate.event.spi.LoadEventListener;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Test class for the lazy-load guard used in the test profile
+ * Verifies lazy initialization is rejected only when no transaction is active
+ */
+class LazyLoadGuardIntegratorTest {
+
+    private final LazyLoadGuardIntegrator.LazyLoadGuardListener listener = new LazyLoadGuardIntegrator.LazyLoadGuardListener();
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void testCollectionInitializationOutsideTransactionFails() {
+        InitializeCollectionEvent event = mock(InitializeCollectionEvent.class);
+        assertThrows(LazyInitializationException.class, () -> listener.onInitializeCollection(event));
+    }
+
+    @Test
+    void testCollectionInitializationInsideTransactionPasses() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        InitializeCollectionEvent event = mock(InitializeCollectionEvent.class);
+        assertDoesNotThrow(() -> listener.onInitializeCollection(event));
+    }
+
+    @Test
+    void testProxyInitializationOutsideTransactionFails() {
+        LoadEvent event = mock(LoadEvent.class);
+        assertThrows(LazyInitializationException.class, () -> listener.onLoad(event, LoadEventListener.IMMEDIATE_LOAD));
+    }
+
+    @Test
+    void testExplicitLoadOutsideTransactionIsNotGuarded() {
+        LoadEvent event = mock(LoadEvent.class);
+        assertDoesNotThrow(() -> listener.onLoad(event, LoadEventListener.GET));
+    }
+}
@@ -0,0 +1,63 @@
+package in.taxgenie.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.GenericBeanDefinition;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for deferring beans by package
+ * Verifies beans are matched by their class or by the configuration class declaring them
+ */
+class LazyPackagesPostProcessorTest {
+
+    private final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+
+    @Test
+    void testBeansFromListedPackagesBecomeLazy() {
+        register("openApiResource", "org.springdoc.webmvc.api.OpenApiWebMvcResource", null);
+        register("springDocConfiguration", "org.springdoc.core.configuration.SpringDocConfiguration", null);
+        register("openApiService", null, "springDocConfiguration");
+        register("dashboardController", "in.taxgenie.controllers.DashboardController", null);
+
+        new LazyPackagesPostProcessor(List.of("org.springdoc")).postProcessBeanFactory(beanFactory);
+
+        assertTrue(isLazy("openApiResource"));
+        assertTrue(isLazy("openApiService"), "declared by a springdoc configuration class");
+        assertFalse(isLazy("dashboardController"));
+    }
+
+    @Test
+    void testPackagePrefixMatchesWholeSegmentsOnly() {
+        register("lookalike", "org.springdocs.Helper", null);
+
+        new LazyPackagesPostProcessor(List.of("org.springdoc")).postProcessBeanFactory(beanFactory);
+
+        assertFalse(isLazy("lookalike"));
+    }
+
+    @Test
+    void testInfrastructureBeansStayEager() {
+        register("springdocBeanFactoryConfigurer", "org.springdoc.core.configurer.SpringdocBeanFactoryConfigurer", null);
+        beanFactory.getBeanDefinition("springdocBeanFactoryConfigurer").setRole(BeanDefinition.ROLE_INFRASTRUCTURE);
+
+        new LazyPackagesPostProcessor(List.of("org.springdoc", "")).postProcessBeanFactory(beanFactory);
+
+        assertFalse(isLazy("springdocBeanFactoryConfigurer"));
+    }
+
+    private void register(String name, String className, String factoryBeanName) {
+        GenericBeanDefinition definition = new GenericBeanDefinition();
+        definition.setBeanClassName(className);
+        definition.setFactoryBeanName(factoryBeanName);
+        beanFactory.registerBeanDefinition(name, definition);
+    }
+
+    private boolean isLazy(String name) {
+        return beanFactory.getBeanDefinition(name).isLazyInit();
+    }
+}
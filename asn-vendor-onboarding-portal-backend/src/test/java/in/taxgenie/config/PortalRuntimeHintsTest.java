@@ -0,0 +1,50 @@
+package in.taxgenie.config;
+
+import in.taxgenie.viewmodels.oem.RefreshOemAccessResponseViewModel;
+import in.taxgenie.viewmodels.user.UserSessionContextViewModel;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the native image hints
+ * Verifies view models, including nested ones, are bound and by-name lookups are registered
+ */
+class PortalRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    @Test
+    void testViewModelsAndNestedViewModelsAreRegisteredForBinding() throws NoSuchMethodException {
+        new PortalRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(
+                UserSessionContextViewModel.class.getMethod("getSelectedOEM")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(
+                RefreshOemAccessResponseViewModel.OemAccessViewModel.class.getMethod("isHasAccess")).test(hints));
+    }
+
+    @Test
+    void testAnonymousClassesAreNotScanned() {
+        assertTrue(PortalRuntimeHints.bindingTypes("in.taxgenie.viewmodels", getClass().getClassLoader()).stream()
+                .noneMatch(Class::isAnonymousClass));
+    }
+
+    @Test
+    void testClassesLoadedByNameAreRegistered() {
+        new PortalRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertTrue(RuntimeHintsPredicates.reflection().onType(TypeReference.of(PortalRuntimeHints.PG_OBJECT))
+                .withMemberCategory(MemberCategory.INVOKE_PUBLIC_METHODS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(
+                TypeReference.of("io.jsonwebtoken.impl.DefaultJwtParserBuilder")).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(
+                TypeReference.of(PortalRuntimeHints.CACHE_INVALIDATION_WIRE)).test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource(
+                "META-INF/services/io.jsonwebtoken.io.Deserializer").test(hints));
+    }
+}
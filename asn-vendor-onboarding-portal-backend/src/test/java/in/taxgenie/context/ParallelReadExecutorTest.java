@@ -0,0 +1,76 @@
+package in.taxgenie.context;
+
+import in.taxgenie.monitoring.PortalMetrics;
+import in.taxgenie.multitenancy.context.TenantContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for the parallel read executor
+ * Verifies reads run on its own pool with the caller's tenant, and fall back to the calling
+ * thread once that pool and its queue are full
+ */
+class ParallelReadExecutorTest {
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final PortalMetrics metrics = new PortalMetrics(new SimpleMeterRegistry(), 10, "", 10);
+    private final ParallelReadExecutor reads = new ParallelReadExecutor(new TenantAwareTaskDecorator(), metrics,
+            transactionManager, 4, 5_000, 1, 0);
+
+    @AfterEach
+    void tearDown() {
+        reads.shutdown();
+        TenantContext.clear();
+    }
+
+    @Test
+    void testReadsRunOnOwnPoolWithCallersTenant() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        TenantContext.setCurrentTenant(42L);
+        ParallelReadExecutor.ReadBatch batch = reads.batch();
+
+        String read = batch.join(batch.fork(() -> Thread.currentThread().getName() + " " + TenantContext.getCurrentTenant()));
+
+        assertTrue(read.startsWith("parallel-read-"), read);
+        assertTrue(read.endsWith(" 42"), read);
+    }
+
+    @Test
+    void testSaturatedPoolRunsReadOnCallingThread() throws Exception {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ParallelReadExecutor.ReadBatch batch = reads.batch();
+        CompletableFuture<String> blocking = batch.fork(() -> {
+            started.countDown();
+            await(release);
+            return "blocking";
+        });
+        started.await();
+
+        String overflow = batch.join(batch.fork(() -> Thread.currentThread().getName()));
+        release.countDown();
+
+        assertEquals(Thread.currentThread().getName(), overflow);
+        assertEquals("blocking", batch.join(blocking));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
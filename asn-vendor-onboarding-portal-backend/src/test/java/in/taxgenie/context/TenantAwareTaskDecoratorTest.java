@@ -0,0 +1,76 @@
+package in.taxgenie.context;
+
+import in.taxgenie.multitenancy.context.TenantContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the task decorator that carries request context to executor threads
+ * Verifies tenant, schema, security context and MDC reach the task and are cleared after it
+ */
+class TenantAwareTaskDecoratorTest {
+
+    private final TenantAwareTaskDecorator decorator = new TenantAwareTaskDecorator();
+
+    @AfterEach
+    void clearContext() {
+        TenantContext.clear();
+        SecurityContextHolder.clearContext();
+        MDC.clear();
+    }
+
+    @Test
+    void testTaskSeesSubmittersContextOnAnotherThread() throws InterruptedException {
+        Authentication caller = new UsernamePasswordAuthenticationToken("vendor", null, List.of());
+        TenantContext.setCurrentTenant(42L);
+        TenantContext.setCurrentSchema("sch_tenant");
+        SecurityContextHolder.getContext().setAuthentication(caller);
+        MDC.put("requestId", "r-1");
+
+        AtomicReference<Long> tenant = new AtomicReference<>();
+        AtomicReference<String> schema = new AtomicReference<>();
+        AtomicReference<Authentication> authentication = new AtomicReference<>();
+        AtomicReference<String> requestId = new AtomicReference<>();
+        Runnable task = decorator.decorate(() -> {
+            tenant.set(TenantContext.getCurrentTenant());
+            schema.set(TenantContext.getCurrentSchema());
+            authentication.set(SecurityContextHolder.getContext().getAuthentication());
+            requestId.set(MDC.get("requestId"));
+        });
+
+        AtomicReference<Long> tenantAfter = new AtomicReference<>(-1L);
+        Thread worker = new Thread(() -> {
+            task.run();
+            tenantAfter.set(TenantContext.getCurrentTenant());
+        });
+        worker.start();
+        worker.join();
+
+        assertEquals(42L, tenant.get());
+        assertEquals("sch_tenant", schema.get());
+        assertSame(caller, authentication.get());
+        assertEquals("r-1", requestId.get());
+        assertNull(tenantAfter.get());
+    }
+
+    @Test
+    void testCallerRunsLeavesCallersContextInPlace() {
+        TenantContext.setCurrentTenant(7L);
+        MDC.put("requestId", "r-2");
+        Runnable task = decorator.decorate(TenantContext::clear);
+
+        task.run();
+
+        assertEquals(7L, TenantContext.getCurrentTenant());
+        assertEquals("r-2", MDC.get("requestId"));
+    }
+}
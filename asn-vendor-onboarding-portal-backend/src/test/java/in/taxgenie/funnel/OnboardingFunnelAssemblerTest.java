@@ -0,0 +1,65 @@
+package in.taxgenie.funnel;
+
+import in.taxgenie.entities.OnboardingFunnelCount;
+import in.taxgenie.viewmodels.analytics.OnboardingFunnelViewModel;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for assembling the onboarding funnel from its count cells
+ * Verifies step order, reached counts, status merging and that negative drift is hidden
+ */
+class OnboardingFunnelAssemblerTest {
+
+    private static final UUID OEM_ID = UUID.fromString("00000000-0000-0000-0000-000000000001");
+
+    @Test
+    void testStepsFollowTheFlowAndAccumulateReachedCounts() {
+        OnboardingFunnelViewModel funnel = OnboardingFunnelAssembler.assemble(OEM_ID, List.of(
+                cell("PAYMENT", "IN_PROGRESS", 3, 1),
+                cell("CONFIRMATION", "IN_PROGRESS", 5, 2),
+                cell("COMPLETION", "COMPLETED", 2, 0),
+                cell("LEGACY_STEP", "FAILED", 1, 0)), 7);
+
+        List<String> steps = funnel.getSteps().stream().map(OnboardingFunnelViewModel.FunnelStepViewModel::getStep).toList();
+        assertEquals(List.of("CONFIRMATION", "DEPLOYMENT", "PAYMENT", "API_CREDENTIALS", "SERVICE_DETAILS",
+                "COMPLETION", "COMPLETED", "LEGACY_STEP"), steps);
+        assertEquals(10, funnel.getSteps().get(0).getReachedCount());
+        assertEquals(5, funnel.getSteps().get(2).getReachedCount());
+        assertEquals(1, funnel.getSteps().get(7).getReachedCount());
+        assertEquals(11, funnel.getTotalVendors());
+        assertEquals(2, funnel.getCompletedVendors());
+        assertEquals(18.2, funnel.getCompletionRate());
+        assertEquals(3, funnel.getStaleVendors());
+    }
+
+    @Test
+    void testStatusesOfAStepMergeAndNegativeDriftIsHidden() {
+        OnboardingFunnelViewModel funnel = OnboardingFunnelAssembler.assemble(OEM_ID, List.of(
+                cell("PAYMENT", "IN_PROGRESS", 4, 0),
+                cell("PAYMENT", "FAILED", 1, 0),
+                cell("PAYMENT", "CANCELLED", -1, 0)), 7);
+
+        OnboardingFunnelViewModel.FunnelStepViewModel payment = funnel.getSteps().get(2);
+        assertEquals(5, payment.getVendorCount());
+        assertEquals(4L, payment.getStatusCounts().get("IN_PROGRESS"));
+        assertEquals(0L, payment.getStatusCounts().get("CANCELLED"));
+        assertEquals(0.0, funnel.getCompletionRate());
+    }
+
+    private static OnboardingFunnelCount cell(String step, String status, long vendors, long stale) {
+        return OnboardingFunnelCount.builder()
+                .oemId(OEM_ID)
+                .currentStep(step)
+                .status(status)
+                .vendorCount(vendors)
+                .staleCount(stale)
+                .reconciledAt(LocalDateTime.of(2026, 1, 1, 0, 0))
+                .build();
+    }
+}
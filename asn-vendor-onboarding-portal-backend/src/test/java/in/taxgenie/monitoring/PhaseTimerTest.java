@@ -0,0 +1,63 @@
+package in.taxgenie.monitoring;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the request phase timer
+ * Verifies exclusive accounting of nested phases and the Server-Timing header format
+ */
+class PhaseTimerTest {
+
+    @AfterEach
+    void tearDown() {
+        PhaseTimer.clear();
+    }
+
+    @Test
+    void testEnterWithoutTimerIsNoOp() {
+        assertDoesNotThrow(() -> {
+            try (PhaseTimer.Scope ignored = PhaseTimer.enter(RequestPhase.DB)) {
+                assertNull(PhaseTimer.current());
+            }
+        });
+    }
+
+    @Test
+    void testNestedPhaseIsChargedExclusively() {
+        AtomicLong now = new AtomicLong(1_000);
+        PhaseTimer timer = PhaseTimer.start(now::get);
+        now.addAndGet(5);
+        try (PhaseTimer.Scope mapping = PhaseTimer.enter(RequestPhase.MAPPING)) {
+            now.addAndGet(20);
+            try (PhaseTimer.Scope db = PhaseTimer.enter(RequestPhase.DB)) {
+                now.addAndGet(40);
+                assertEquals(40, timer.getNanos(RequestPhase.DB), "Open phase counts up to now");
+            }
+            now.addAndGet(3);
+        }
+        now.addAndGet(7);
+
+        assertEquals(23, timer.getNanos(RequestPhase.MAPPING));
+        assertEquals(40, timer.getNanos(RequestPhase.DB));
+        assertEquals(0, timer.getNanos(RequestPhase.AUTH));
+        assertEquals(75, timer.getElapsedNanos());
+        assertEquals(12, timer.getUnattributedNanos());
+    }
+
+    @Test
+    void testServerTimingHeaderListsUsedPhasesAppAndTotal() {
+        AtomicLong now = new AtomicLong();
+        PhaseTimer timer = PhaseTimer.start(now::get);
+        try (PhaseTimer.Scope ignored = PhaseTimer.enter(RequestPhase.AUTH)) {
+            now.addAndGet(1_250_000);
+        }
+        now.addAndGet(2_004_000);
+
+        assertEquals("auth;dur=1.25, app;dur=2.0, total;dur=3.25", timer.toServerTimingHeader());
+    }
+}
@@ -0,0 +1,69 @@
+package in.taxgenie.monitoring;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the bounded portal metrics
+ * Verifies the tenant tag limiter folds the long tail into "other" and the cache and
+ * transition meters record as expected
+ */
+class PortalMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final PortalMetrics metrics = new PortalMetrics(registry, 2, "900", 10);
+
+    @Test
+    void testTagLimiterAdmitsUpToLimitThenFoldsIntoOther() {
+        TagLimiter limiter = new TagLimiter(2, List.of("pinned"));
+        assertEquals("a", limiter.limit("a"));
+        assertEquals("b", limiter.limit("b"));
+        assertEquals(TagLimiter.OTHER, limiter.limit("c"));
+        assertEquals("a", limiter.limit("a"));
+        assertEquals("pinned", limiter.limit("pinned"));
+        assertEquals(TagLimiter.NONE, limiter.limit(null));
+        assertEquals(5, limiter.maxDistinctValues());
+    }
+
+    @Test
+    void testTenantTagsAreBounded() {
+        for (long tenant = 1; tenant <= 20; tenant++) {
+            metrics.recordOnboardingTransition("TATA_MOTORS", tenant, "CONFIRMATION", "PAYMENT", Duration.ofHours(2));
+        }
+        metrics.recordOnboardingTransition("TATA_MOTORS", 900L, "CONFIRMATION", "PAYMENT", null);
+
+        // two admitted tenants, "other" and the pinned tenant
+        assertEquals(4, registry.find("asn.onboarding.tenant.transitions").counters().size());
+        assertEquals(18.0, registry.get("asn.onboarding.tenant.transitions").tag("tenant", "other").counter().count());
+        assertEquals(21.0, registry.get("asn.onboarding.step.transitions")
+                .tags("oem", "TATA_MOTORS", "from", "CONFIRMATION", "to", "PAYMENT").counter().count());
+        assertEquals(20, registry.get("asn.onboarding.step.duration").tag("step", "CONFIRMATION").timer().count());
+    }
+
+    @Test
+    void testPaymentTransitionRecordsSettlementForTerminalStates() {
+        metrics.recordPaymentTransition("TATA_MOTORS", 1L, null, "PENDING", null);
+        metrics.recordPaymentTransition("TATA_MOTORS", 1L, "PENDING", "SUCCESS", Duration.ofMinutes(3));
+
+        assertEquals(1.0, registry.get("asn.payment.transitions").tags("from", "NEW", "to", "PENDING").counter().count());
+        assertEquals(1, registry.get("asn.payment.settlement.duration").tag("outcome", "SUCCESS").timer().count());
+    }
+
+    @Test
+    void testCacheHitRatio() {
+        PortalMetrics.CacheMeter cache = metrics.cache("dashboard");
+        cache.hit();
+        cache.hit();
+        cache.hit();
+        cache.miss();
+
+        assertSame(cache, metrics.cache("dashboard"));
+        assertEquals(0.75, registry.get("asn.cache.hit.ratio").tag("cache", "dashboard").gauge().value());
+        assertEquals(3.0, registry.get("asn.cache.requests").tags("cache", "dashboard", "result", "hit").functionCounter().count());
+    }
+}
@@ -0,0 +1,45 @@
+package in.taxgenie.monitoring;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Query budget assertions for tests
+ * Take the stats of a scope the test opens around the code under test, e.g.
+ * <pre>
+ * QueryCountHolder.start();
+ * settingsService.getVendorCodeManagement(auth);
+ * QueryCountAssertions.assertStatementsAtMost(QueryCountHolder.stop(), 3);
+ * </pre>
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    public static void assertStatementsAtMost(QueryStats stats, int max) {
+        assertScope(stats);
+        assertTrue(stats.getStatements() <= max,
+                "Expected at most " + max + " SQL statements but was " + stats.getStatements() + ": " + stats);
+    }
+
+    public static void assertSelectsAtMost(QueryStats stats, int max) {
+        assertScope(stats);
+        assertTrue(stats.getSelects() <= max,
+                "Expected at most " + max + " selects but was " + stats.getSelects() + ": " + stats);
+    }
+
+    /**
+     * Fails when any single statement ran more than maxRepeats times (N+1 signature)
+     */
+    public static void assertNoStatementRepeatedMoreThan(QueryStats stats, int maxRepeats) {
+        assertScope(stats);
+        assertTrue(stats.getMostRepeatedCount() <= maxRepeats,
+                "Statement executed " + stats.getMostRepeatedCount() + " times (limit " + maxRepeats + "): "
+                        + stats.getMostRepeatedSql());
+    }
+
+    private static void assertScope(QueryStats stats) {
+        assertNotNull(stats, "No query-count scope was open");
+    }
+}
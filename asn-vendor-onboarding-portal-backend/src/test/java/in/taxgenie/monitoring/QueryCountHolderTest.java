@@ -0,0 +1,61 @@
+package in.taxgenie.monitoring;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for per-request query counting
+ * Verifies statement classification, repeat detection and the assertion helpers
+ */
+class QueryCountHolderTest {
+
+    private final QueryCountingStatementInspector inspector = new QueryCountingStatementInspector();
+
+    @AfterEach
+    void tearDown() {
+        QueryCountHolder.clear();
+    }
+
+    @Test
+    void testStatementsOutsideScopeAreIgnored() {
+        inspector.inspect("select 1");
+        assertNull(QueryCountHolder.current());
+        assertNull(QueryCountHolder.stop());
+    }
+
+    @Test
+    void testStatementsAreClassifiedByVerb() {
+        QueryCountHolder.start();
+        inspector.inspect("/* load Vendor */ select v1_0.vendor_id from vendors v1_0 where v1_0.vendor_id=?");
+        inspector.inspect("insert into audit_logs (id) values (?)");
+        inspector.inspect("  update vendors set legal_name=? where vendor_id=?");
+        inspector.inspect("delete from user_sessions where id=?");
+        inspector.inspect("(select 1) union (select 2)");
+        QueryStats stats = QueryCountHolder.stop();
+
+        assertEquals(5, stats.getStatements());
+        assertEquals(2, stats.getSelects());
+        assertEquals(1, stats.getInserts());
+        assertEquals(1, stats.getUpdates());
+        assertEquals(1, stats.getDeletes());
+        assertNull(QueryCountHolder.current(), "A stopped scope must not stay on the thread");
+    }
+
+    @Test
+    void testRepeatedStatementIsReported() {
+        QueryCountHolder.start();
+        inspector.inspect("select * from vendor_gstins where vendor_id=?");
+        for (int i = 0; i < 12; i++) {
+            inspector.inspect("select * from vendor_codes where gstin_id=?");
+        }
+        QueryStats stats = QueryCountHolder.stop();
+
+        assertEquals(12, stats.getMostRepeatedCount());
+        assertEquals("select * from vendor_codes where gstin_id=?", stats.getMostRepeatedSql());
+        QueryCountAssertions.assertStatementsAtMost(stats, 13);
+        assertThrows(AssertionError.class, () -> QueryCountAssertions.assertNoStatementRepeatedMoreThan(stats, 3));
+        assertThrows(AssertionError.class, () -> QueryCountAssertions.assertSelectsAtMost(stats, 5));
+    }
+}
@@ -0,0 +1,79 @@
+package in.taxgenie.monitoring;
+
+import in.taxgenie.multitenancy.context.TenantContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for SQL fingerprinting and the slow-query sampler
+ * Verifies literal normalization, IN-list folding, fingerprint ids and slowest-N retention with
+ * tenant attribution
+ */
+class SlowQuerySamplerTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SlowQuerySampler sampler = new SlowQuerySampler(registry, 100, 3, 1000, 100);
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void testFingerprintNormalizesLiteralsCommentsAndWhitespace() {
+        String fingerprint = SqlFingerprint.normalize(
+                "/* load Vendor */ SELECT v1_0.vendor_id\n  FROM vendors v1_0 WHERE v1_0.company_code = 42 AND v1_0.status = 'ACTIVE'");
+        assertEquals("select v1_0.vendor_id from vendors v1_0 where v1_0.company_code = ? and v1_0.status = ?", fingerprint);
+    }
+
+    @Test
+    void testFingerprintFoldsInListsOfAnyLength() {
+        String three = SqlFingerprint.normalize("select * from vendor_codes where gstin_id in (?,?,?)");
+        String five = SqlFingerprint.normalize("select * from vendor_codes where gstin_id in ( ?, ?, ?, ?, ? )");
+        assertEquals(three, five);
+        assertEquals(SqlFingerprint.idOf(three), SqlFingerprint.idOf(five));
+    }
+
+    @Test
+    void testFingerprintIdIsZeroPaddedHash() {
+        assertEquals("00000000", SqlFingerprint.idOf(""));
+        assertEquals("00000061", SqlFingerprint.idOf("a"));
+        for (String fingerprint : List.of("select ?", "select * from vendors where vendor_id = ?", "delete from audit_logs")) {
+            assertEquals(String.format("%08x", fingerprint.hashCode()), SqlFingerprint.idOf(fingerprint));
+        }
+    }
+
+    @Test
+    void testSlowestKeepsTopNWithTenant() {
+        TenantContext.setCurrentTenant(7L);
+        for (int i = 1; i <= 5; i++) {
+            sampler.record("select * from vendor_gstins where vendor_id=" + i, TimeUnit.MILLISECONDS.toNanos(100L * i), "(UUID)");
+        }
+        sampler.record("select 1", TimeUnit.MILLISECONDS.toNanos(5), "()");
+
+        List<SlowQuerySample> slowest = sampler.getSlowest();
+        assertEquals(3, slowest.size());
+        assertEquals(500.0, slowest.get(0).getDurationMs());
+        assertEquals(300.0, slowest.get(2).getDurationMs());
+        assertEquals(7L, slowest.get(0).getCompanyCode());
+        assertEquals("(UUID)", slowest.get(0).getParameterShape());
+
+        // Literal vendor ids collapse into one fingerprint
+        assertEquals(2, sampler.getTopFingerprints(10).size());
+        assertEquals(5L, sampler.getTopFingerprints(1).get(0).get("count"));
+        assertEquals(5.0, registry.get("asn.db.query.slow").counter().count());
+    }
+
+    @Test
+    void testResetClearsSlowest() {
+        sampler.record("select 1", TimeUnit.MILLISECONDS.toNanos(250), "()");
+        sampler.resetSlowest();
+        assertTrue(sampler.getSlowest().isEmpty());
+    }
+}
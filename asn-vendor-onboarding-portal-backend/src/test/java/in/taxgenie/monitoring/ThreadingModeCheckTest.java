@@ -0,0 +1,35 @@
+package in.taxgenie.monitoring;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the start-up check of the request threading mode
+ * Verifies the findings for virtual threads on old Java, long connection waits and an
+ * oversized task executor
+ */
+class ThreadingModeCheckTest {
+
+    @Test
+    void testVirtualThreadsOnOldJavaFallBackToPlatformThreads() {
+        List<String> findings = ThreadingModeCheck.findings(true, 17, 16, 20, 30000, 5000);
+
+        assertEquals(1, findings.size());
+        assertTrue(findings.get(0).contains("Java 17"));
+    }
+
+    @Test
+    void testVirtualThreadsWantAShortConnectionWait() {
+        assertEquals(1, ThreadingModeCheck.findings(true, 21, 16, 20, 30000, 5000).size());
+        assertTrue(ThreadingModeCheck.findings(true, 21, 16, 20, 3000, 5000).isEmpty());
+    }
+
+    @Test
+    void testPlatformThreadsWantTheTaskExecutorBelowThePoolSize() {
+        assertTrue(ThreadingModeCheck.findings(false, 17, 16, 20, 30000, 5000).isEmpty());
+        assertEquals(1, ThreadingModeCheck.findings(false, 17, 32, 20, 30000, 5000).size());
+    }
+}
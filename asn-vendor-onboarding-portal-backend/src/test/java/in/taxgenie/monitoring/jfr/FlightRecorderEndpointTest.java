@@ -0,0 +1,57 @@
+package in.taxgenie.monitoring.jfr;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.Resource;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for the flight recording dump endpoint
+ * Verifies only a concurrent dump is rate limited and a recording that is not running is unavailable
+ */
+class FlightRecorderEndpointTest {
+
+    private final FlightRecorderService service = mock(FlightRecorderService.class);
+    private final FlightRecorderEndpoint endpoint = new FlightRecorderEndpoint(provider(service));
+
+    @Test
+    void testConcurrentDumpIsTooManyRequests() throws Exception {
+        when(service.isRecording()).thenReturn(true);
+        when(service.dump(any(Duration.class))).thenThrow(new FlightRecorderService.DumpInProgressException());
+
+        WebEndpointResponse<Resource> response = endpoint.dump(5);
+
+        assertEquals(WebEndpointResponse.STATUS_TOO_MANY_REQUESTS, response.getStatus());
+    }
+
+    @Test
+    void testRecordingStoppedBeforeDumpIsUnavailable() throws Exception {
+        when(service.isRecording()).thenReturn(true);
+        when(service.dump(any(Duration.class))).thenThrow(new IllegalStateException("Continuous flight recording is not running"));
+
+        WebEndpointResponse<Resource> response = endpoint.dump(5);
+
+        assertEquals(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE, response.getStatus());
+    }
+
+    @Test
+    void testNoRecordingIsUnavailable() {
+        when(service.isRecording()).thenReturn(false);
+
+        assertEquals(WebEndpointResponse.STATUS_SERVICE_UNAVAILABLE, endpoint.dump(null).getStatus());
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ObjectProvider<FlightRecorderService> provider(FlightRecorderService service) {
+        ObjectProvider<FlightRecorderService> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(service);
+        return provider;
+    }
+}
@@ -0,0 +1,61 @@
+package in.taxgenie.monitoring.jfr;
+
+import in.taxgenie.audit.SensitiveDataMasker;
+import in.taxgenie.multitenancy.context.TenantContext;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the portal flight recorder events
+ * Verifies events are committed with tenant attribution and readable from a recording
+ */
+class PortalEventTest {
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void testMaskingEventCarriesTenant() throws Exception {
+        Path file = Files.createTempFile("portal-event-test", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(MaskingEvent.class);
+            recording.enable(TenantFilterEvent.class);
+            recording.start();
+
+            TenantContext.setCurrentTenant(4242L);
+            SensitiveDataMasker.mask("{\"pan\":\"ABCDE1234F\"}");
+            TenantFilterEvent filterEvent = new TenantFilterEvent();
+            filterEvent.begin();
+            filterEvent.complete("enable");
+
+            recording.stop();
+            recording.dump(file);
+
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+            RecordedEvent masking = events.stream()
+                    .filter(event -> event.getEventType().getName().equals("in.taxgenie.Masking"))
+                    .findFirst()
+                    .orElseThrow();
+            assertEquals(4242L, masking.getLong("tenant"));
+            assertTrue(masking.getBoolean("json"));
+            assertEquals(20L, masking.getLong("inputSize"));
+            assertNull(masking.getString("route"));
+
+            assertTrue(events.stream().anyMatch(event -> event.getEventType().getName().equals("in.taxgenie.TenantFilter")
+                    && "enable".equals(event.getString("action"))));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
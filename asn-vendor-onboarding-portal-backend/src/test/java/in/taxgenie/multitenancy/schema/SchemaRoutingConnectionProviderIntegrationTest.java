@@ -0,0 +1,87 @@
+package in.taxgenie.multitenancy.schema;
+
+import in.taxgenie.TestDatabase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the schema routing connection provider against PostgreSQL
+ * Verifies that a dedicated session searches its own schema before the shared one, and that
+ * the connection is handed back to the pool pointing at the shared schema again
+ */
+@EnabledIf("in.taxgenie.TestDatabase#isAvailable")
+class SchemaRoutingConnectionProviderIntegrationTest {
+
+    private static final String SHARED = "routing_test_shared";
+    private static final String DEDICATED = "routing_test_dedicated";
+
+    private SingleConnectionDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private SchemaRoutingConnectionProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new SingleConnectionDataSource(TestDatabase.url(), TestDatabase.username(), TestDatabase.password(), true);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SHARED + ", " + DEDICATED + " CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA " + SHARED);
+        jdbcTemplate.execute("CREATE SCHEMA " + DEDICATED);
+        jdbcTemplate.execute("CREATE TABLE " + SHARED + ".oem_master (oem_code text)");
+        jdbcTemplate.execute("INSERT INTO " + SHARED + ".oem_master VALUES ('global')");
+        jdbcTemplate.execute("CREATE TABLE " + SHARED + ".vendors (company_name text)");
+        jdbcTemplate.execute("INSERT INTO " + SHARED + ".vendors VALUES ('shared tenant')");
+        jdbcTemplate.execute("CREATE TABLE " + DEDICATED + ".vendors (company_name text)");
+        jdbcTemplate.execute("INSERT INTO " + DEDICATED + ".vendors VALUES ('dedicated tenant')");
+        // Pooled connections start in the shared schema, as with currentSchema in the JDBC URL
+        jdbcTemplate.execute("SET search_path TO " + SHARED);
+
+        provider = new SchemaRoutingConnectionProvider(dataSource, new TenantSchemaRouting(true, SHARED));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SHARED + ", " + DEDICATED + " CASCADE");
+        dataSource.destroy();
+    }
+
+    @Test
+    void testDedicatedSessionReadsItsOwnTablesAndSharedGlobals() throws SQLException {
+        Connection connection = provider.getConnection(DEDICATED);
+
+        assertEquals(DEDICATED, jdbcTemplate.queryForObject("SELECT current_schema()", String.class));
+        assertEquals("dedicated tenant", jdbcTemplate.queryForObject("SELECT company_name FROM vendors", String.class));
+        assertEquals("global", jdbcTemplate.queryForObject("SELECT oem_code FROM oem_master", String.class),
+                "Global tables resolve from the shared schema");
+
+        provider.releaseConnection(DEDICATED, connection);
+    }
+
+    @Test
+    void testReleaseResetsSearchPathToSharedSchema() throws SQLException {
+        provider.releaseConnection(DEDICATED, provider.getConnection(DEDICATED));
+
+        assertEquals(SHARED, jdbcTemplate.queryForObject("SELECT current_schema()", String.class));
+        assertEquals("shared tenant", jdbcTemplate.queryForObject("SELECT company_name FROM vendors", String.class));
+    }
+
+    @Test
+    void testSharedSessionKeepsPooledSearchPath() throws SQLException {
+        jdbcTemplate.execute("SET search_path TO " + SHARED + ", public");
+
+        Connection connection = provider.getConnection(SHARED);
+        String searchPath = jdbcTemplate.queryForObject("SHOW search_path", String.class);
+        provider.releaseConnection(SHARED, connection);
+
+        assertEquals(SHARED + ", public", searchPath, "Shared sessions issue no SET");
+        assertEquals(SHARED + ", public", jdbcTemplate.queryForObject("SHOW search_path", String.class));
+    }
+}
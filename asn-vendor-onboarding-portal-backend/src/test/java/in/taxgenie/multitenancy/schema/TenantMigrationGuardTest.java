@@ -0,0 +1,55 @@
+package in.taxgenie.multitenancy.schema;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for migrations against dedicated tenant schemas
+ * Flyway only migrates the shared schema, so a migration after the reviewed set that touches a
+ * tenant table would leave every dedicated schema behind
+ */
+class TenantMigrationGuardTest {
+
+    /**
+     * Newest migration already applied to the tables dedicated schemas are copied from
+     * V6 only creates api_usage_rollups and two subscriptions indexes, and runs before the
+     * application can move a tenant, so every dedicated schema is copied with them
+     */
+    private static final int LAST_REVIEWED_VERSION = 6;
+
+    private static final Pattern VERSION = Pattern.compile("^V(\\d+)__.*\\.sql$");
+
+    @Test
+    void testNewMigrationsLeaveTenantTablesAlone() throws Exception {
+        List<String> violations = new ArrayList<>();
+        Resource[] migrations = new PathMatchingResourcePatternResolver().getResources("classpath:db/migration/V*.sql");
+        assertTrue(migrations.length > 0, "No migrations found");
+
+        for (Resource migration : migrations) {
+            Matcher version = VERSION.matcher(migration.getFilename());
+            assertTrue(version.matches(), "Unexpected migration name: " + migration.getFilename());
+            if (Integer.parseInt(version.group(1)) <= LAST_REVIEWED_VERSION) {
+                continue;
+            }
+            String sql = migration.getContentAsString(StandardCharsets.UTF_8).toLowerCase(Locale.ROOT);
+            for (TenantTables.TenantTable table : TenantTables.ALL) {
+                if (Pattern.compile("\\b" + table.name() + "\\b").matcher(sql).find()) {
+                    violations.add(migration.getFilename() + " touches " + table.name());
+                }
+            }
+        }
+
+        assertTrue(violations.isEmpty(), "Dedicated tenant schemas are not migrated by Flyway; apply the change to "
+                + "each of them before changing a tenant table: " + violations);
+    }
+}
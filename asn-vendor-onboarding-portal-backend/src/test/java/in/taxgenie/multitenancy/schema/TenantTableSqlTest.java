@@ -0,0 +1,68 @@
+package in.taxgenie.multitenancy.schema;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the SQL that moves tenant rows between schemas
+ * Verifies the generated upsert and delete statements, table order and the routing table
+ */
+class TenantTableSqlTest {
+
+    private static final TenantTables.TenantTable PAYMENTS = TenantTables.ALL.stream()
+            .filter(table -> table.name().equals("payment_transactions"))
+            .findFirst()
+            .orElseThrow();
+
+    @Test
+    void testUpsertCopiesOwnedRowsAndOnlyRewritesChangedOnes() {
+        String sql = TenantTableSql.upsert("sch_shared", "sch_big", PAYMENTS,
+                List.of("transaction_id", "vendor_id", "amount"), List.of("transaction_id"));
+
+        assertEquals("INSERT INTO \"sch_big\".\"payment_transactions\" AS d (\"transaction_id\", \"vendor_id\", \"amount\")"
+                + " SELECT t.\"transaction_id\", t.\"vendor_id\", t.\"amount\" FROM \"sch_shared\".\"payment_transactions\" t"
+                + " WHERE t.vendor_id IN (SELECT v.vendor_id FROM \"sch_shared\".vendors v WHERE v.company_code = :companyCode)"
+                + " ON CONFLICT (\"transaction_id\") DO UPDATE SET \"vendor_id\" = EXCLUDED.\"vendor_id\", \"amount\" = EXCLUDED.\"amount\""
+                + " WHERE CAST(ROW(d.\"vendor_id\", d.\"amount\") AS text) IS DISTINCT FROM CAST(ROW(EXCLUDED.\"vendor_id\", EXCLUDED.\"amount\") AS text)",
+                sql);
+    }
+
+    @Test
+    void testDeleteMissingMatchesOwnershipInTargetSchema() {
+        String sql = TenantTableSql.deleteMissing("sch_big", "sch_shared", PAYMENTS, List.of("transaction_id"));
+
+        assertTrue(sql.startsWith("DELETE FROM \"sch_shared\".\"payment_transactions\" t WHERE t.vendor_id IN (SELECT v.vendor_id FROM \"sch_shared\".vendors"));
+        assertTrue(sql.endsWith("NOT EXISTS (SELECT 1 FROM \"sch_big\".\"payment_transactions\" s WHERE s.\"transaction_id\" = t.\"transaction_id\")"));
+    }
+
+    @Test
+    void testParentsAreCopiedBeforeChildrenAndDeletedAfterThem() {
+        List<String> order = TenantTables.ALL.stream().map(TenantTables.TenantTable::name).toList();
+        List<String> deleteOrder = TenantTables.CHILDREN_FIRST.stream().map(TenantTables.TenantTable::name).toList();
+
+        assertTrue(order.indexOf("vendors") < order.indexOf("payment_transactions"));
+        assertTrue(order.indexOf("subscriptions") < order.indexOf("payment_transactions"));
+        assertTrue(order.indexOf("api_credentials") < order.indexOf("api_request_logs"));
+        assertEquals("vendors", deleteOrder.get(deleteOrder.size() - 1));
+    }
+
+    @Test
+    void testRoutingFreezesWritesUntilLoadedAndRejectsUnsafeSchemaNames() {
+        TenantSchemaRouting routing = new TenantSchemaRouting(true, "sch_shared");
+
+        assertTrue(routing.isWriteFrozen(1001L));
+        assertFalse(routing.isWriteFrozen(null));
+
+        routing.replace(Map.of(1001L, new TenantSchemaRouting.Route("sch_big", false)));
+
+        assertFalse(routing.isWriteFrozen(1001L));
+        assertEquals("sch_big", routing.schemaFor(1001L));
+        assertEquals("sch_shared", routing.schemaFor(2002L));
+        assertThrows(IllegalArgumentException.class, () -> TenantSchemaRouting.quote("sch\"; DROP SCHEMA x"));
+        assertThrows(IllegalArgumentException.class, () -> TenantSchemaRouting.requireValidSchemaName("Sch_Upper"));
+    }
+}
@@ -0,0 +1,97 @@
+package in.taxgenie.multitenancy.transaction;
+
+import in.taxgenie.PostgresIntegrationTest;
+import in.taxgenie.entities.Vendor;
+import in.taxgenie.entities.VendorGstin;
+import in.taxgenie.multitenancy.context.TenantContext;
+import in.taxgenie.repositories.VendorGstinRepository;
+import in.taxgenie.repositories.VendorRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the company filter in transactions of the application's transaction manager
+ * Collections initialized lazily inside a transaction, as @Transactional service methods do,
+ * only load the current tenant's rows
+ */
+@EnabledIf("in.taxgenie.TestDatabase#isAvailable")
+class TenantAwareJpaTransactionManagerIntegrationTest extends PostgresIntegrationTest {
+
+    private static final long TENANT = 9101L;
+    private static final long OTHER_TENANT = 9102L;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private VendorRepository vendorRepository;
+
+    @Autowired
+    private VendorGstinRepository vendorGstinRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID vendorId;
+
+    @BeforeEach
+    void setUp() {
+        String pan = "ABCDE" + ThreadLocalRandom.current().nextInt(1000, 10000) + "F";
+        vendorId = new TransactionTemplate(transactionManager).execute(status -> {
+            Vendor vendor = Vendor.builder().userId(1L).companyName("Filter Test Vendor").panNumber(pan).build();
+            vendor.setCompanyCode(TENANT);
+            vendorRepository.save(vendor);
+            vendorGstinRepository.save(gstin(vendor, TENANT, "27" + pan + "1Z5"));
+            vendorGstinRepository.save(gstin(vendor, OTHER_TENANT, "29" + pan + "1Z5"));
+            return vendor.getVendorId();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+        jdbcTemplate.update("DELETE FROM vendor_gstin WHERE vendor_id = ?", vendorId);
+        jdbcTemplate.update("DELETE FROM vendors WHERE vendor_id = ?", vendorId);
+    }
+
+    @Test
+    void testLazyCollectionIsFilteredToCurrentTenant() {
+        TenantContext.setCurrentTenant(TENANT);
+
+        Set<Long> loaded = new TransactionTemplate(transactionManager).execute(status ->
+                vendorRepository.findById(vendorId).orElseThrow().getVendorGstins().stream()
+                        .map(VendorGstin::getCompanyCode)
+                        .collect(Collectors.toSet()));
+
+        assertEquals(Set.of(TENANT), loaded);
+    }
+
+    @Test
+    void testLazyCollectionIsUnfilteredWithoutTenant() {
+        Set<Long> loaded = new TransactionTemplate(transactionManager).execute(status ->
+                vendorRepository.findById(vendorId).orElseThrow().getVendorGstins().stream()
+                        .map(VendorGstin::getCompanyCode)
+                        .collect(Collectors.toSet()));
+
+        assertEquals(Set.of(TENANT, OTHER_TENANT), loaded, "Background jobs run without a tenant and see every row");
+    }
+
+    private static VendorGstin gstin(Vendor vendor, long companyCode, String number) {
+        VendorGstin gstin = VendorGstin.builder().vendor(vendor).gstin(number).stateCode(number.substring(0, 2)).vendorCode("V1").build();
+        gstin.setCompanyCode(companyCode);
+        return gstin;
+    }
+}
@@ -0,0 +1,83 @@
+package in.taxgenie.scheduling;
+
+import in.taxgenie.PostgresIntegrationTest;
+import in.taxgenie.repositories.JobCheckpointRepository;
+import in.taxgenie.repositories.JobRunRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for running sharded jobs against PostgreSQL
+ * Verifies that a parallel run executes every shard once, several at a time, and that a
+ * repeat within the minimum interval runs none
+ */
+@EnabledIf("in.taxgenie.TestDatabase#isAvailable")
+class ClusterJobRunnerIntegrationTest extends PostgresIntegrationTest {
+
+    private static final String JOB_NAME = "cluster-job-runner-test";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JobRunRepository jobRunRepository;
+
+    @Autowired
+    private JobCheckpointRepository jobCheckpointRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM job_runs WHERE job_name = ?", JOB_NAME);
+    }
+
+    @Test
+    void testRunShardedRunsEveryShardOnceInParallel() {
+        ClusterJobRunner runner = new ClusterJobRunner(dataSource, jobRunRepository, jobCheckpointRepository,
+                transactionManager, new SimpleMeterRegistry(), true, "test-node");
+        Set<Integer> shards = ConcurrentHashMap.newKeySet();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        // Each pair of shards meets at the barrier, which only trips if two run at once
+        CyclicBarrier pair = new CyclicBarrier(2);
+
+        int ran = runner.runSharded(JOB_NAME, 4, 2, Duration.ofHours(1), context -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                pair.await(10, TimeUnit.SECONDS);
+                assertTrue(shards.add(context.getShard()), "Shard ran twice: " + context.getShard());
+                return 1;
+            } finally {
+                running.decrementAndGet();
+            }
+        });
+
+        assertEquals(4, ran);
+        assertEquals(Set.of(0, 1, 2, 3), shards);
+        assertEquals(2, maxRunning.get());
+        assertEquals(4, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM job_runs WHERE job_name = ? AND status = 'SUCCEEDED'", Integer.class, JOB_NAME));
+        assertEquals(0, runner.runSharded(JOB_NAME, 4, 2, Duration.ofHours(1), context -> 1),
+                "Shards that succeeded within the interval are skipped");
+    }
+}
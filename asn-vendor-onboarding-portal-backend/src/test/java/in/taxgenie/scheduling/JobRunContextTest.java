@@ -0,0 +1,91 @@
+package in.taxgenie.scheduling;
+
+import in.taxgenie.entities.JobCheckpoint;
+import in.taxgenie.repositories.JobCheckpointRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for chunked keyset iteration with checkpoints
+ * Verifies a run stopped at its chunk limit resumes after the last chunk and a completed
+ * pass starts over
+ */
+class JobRunContextTest {
+
+    private final Map<String, JobCheckpoint> checkpoints = new HashMap<>();
+    private final JobCheckpointRepository repository = checkpointRepository(checkpoints);
+    private final TransactionTemplate transactionTemplate = transactionTemplate();
+
+    @Test
+    void testStoppedRunResumesAfterTheLastCommittedChunk() {
+        List<String> seen = new ArrayList<>();
+        ChunkStep step = keysetOver(List.of("a", "b", "c", "d", "e"), 2, seen);
+
+        assertEquals(4, context(0, 1).runChunks(2, step));
+        assertEquals("d", checkpoints.get("sweep").getCheckpointKey());
+
+        assertEquals(1, context(0, 1).runChunks(10, step));
+        assertEquals(List.of("a", "b", "c", "d", "e"), seen);
+        assertFalse(checkpoints.containsKey("sweep"));
+    }
+
+    @Test
+    void testShardsKeepSeparateCheckpoints() {
+        context(1, 4).runChunks(1, keysetOver(List.of("x", "y"), 1, new ArrayList<>()));
+
+        assertEquals("x", checkpoints.get("sweep#1").getCheckpointKey());
+        assertFalse(checkpoints.containsKey("sweep"));
+    }
+
+    private JobRunContext context(int shard, int shardCount) {
+        return new JobRunContext("sweep", shard, shardCount, UUID.randomUUID(), repository, transactionTemplate);
+    }
+
+    private static ChunkStep keysetOver(List<String> keys, int chunkSize, List<String> seen) {
+        return afterKey -> {
+            List<String> chunk = keys.stream()
+                    .filter(key -> afterKey == null || key.compareTo(afterKey) > 0)
+                    .limit(chunkSize)
+                    .toList();
+            if (chunk.isEmpty()) {
+                return ChunkStep.Chunk.empty();
+            }
+            seen.addAll(chunk);
+            return ChunkStep.Chunk.of(chunk.size(), chunk.get(chunk.size() - 1));
+        };
+    }
+
+    private static JobCheckpointRepository checkpointRepository(Map<String, JobCheckpoint> store) {
+        JobCheckpointRepository repository = mock(JobCheckpointRepository.class);
+        when(repository.findById(any())).thenAnswer(call -> Optional.ofNullable(store.get(call.<String>getArgument(0))));
+        when(repository.save(any())).thenAnswer(call -> {
+            JobCheckpoint checkpoint = call.getArgument(0);
+            store.put(checkpoint.getJobName(), checkpoint);
+            return checkpoint;
+        });
+        doAnswer(call -> store.remove(call.<JobCheckpoint>getArgument(0).getJobName()))
+                .when(repository).delete(any());
+        return repository;
+    }
+
+    private static TransactionTemplate transactionTemplate() {
+        PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        return new TransactionTemplate(transactionManager);
+    }
+}
@@ -0,0 +1,165 @@
+package in.taxgenie.services;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import in.taxgenie.auth.IAuthContextViewModel;
+import in.taxgenie.entities.enums.ActorType;
+import in.taxgenie.exception.ResourceNotFoundException;
+import in.taxgenie.repositories.ApiRequestLogRepository;
+import in.taxgenie.repositories.AuditLogRepository;
+import in.taxgenie.repositories.VendorRepository;
+import in.taxgenie.services.implementations.LogExportServiceImplementation;
+import in.taxgenie.viewmodels.export.ApiRequestLogExportRow;
+import in.taxgenie.viewmodels.export.AuditLogExportRow;
+import in.taxgenie.viewmodels.export.ExportFormat;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for the log export service
+ * Verifies the CSV header, escaping and formula neutralization, one NDJSON object per line with
+ * the application's Jackson settings, and that the cursor is closed whether or not the export
+ * completes
+ */
+class LogExportServiceTest {
+
+    private static final UUID VENDOR_ID = UUID.fromString("6f1c2e1a-0000-4000-8000-000000000001");
+    private static final LocalDateTime START = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final LocalDateTime END = LocalDateTime.of(2026, 2, 1, 0, 0);
+
+    private final AuditLogRepository auditLogRepository = mock(AuditLogRepository.class);
+    private final ApiRequestLogRepository apiRequestLogRepository = mock(ApiRequestLogRepository.class);
+    private final LogExportServiceImplementation service = new LogExportServiceImplementation(
+            auditLogRepository, apiRequestLogRepository, null, Jackson2ObjectMapperBuilder.json()
+            .serializationInclusion(JsonInclude.Include.NON_NULL)
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build());
+
+    @Test
+    void testCsvHasHeaderAndEscapesValues() throws Exception {
+        when(auditLogRepository.streamBySubjectForExport(VENDOR_ID, START, END)).thenReturn(Stream.of(
+                auditRow("{\"name\": \"Acme, Inc.\", \"note\": \"say \\\"hi\\\"\"}", "line one\nline two")));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long count = service.exportAuditLogs(VENDOR_ID, START, END, ExportFormat.CSV, false, output);
+
+        assertEquals(1, count);
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\r\n", 2);
+        assertEquals("auditId,eventTime,actorId,actorType,ipAddress,eventCategory,eventAction,"
+                + "resourceType,resourceId,requestId,sessionId,changes", lines[0]);
+        assertEquals("6f1c2e1a-0000-4000-8000-0000000000a1,2026-01-15T10:30,"
+                + "6f1c2e1a-0000-4000-8000-000000000001,VENDOR,10.0.0.7,VENDOR,UPDATE,,,"
+                + "\"line one\nline two\",,\"{\"\"name\"\": \"\"Acme, Inc.\"\", \"\"note\"\": \"\"say \\\"\"hi\\\"\"\"\"}\"\r\n",
+                lines[1]);
+    }
+
+    @Test
+    void testCsvNeutralizesFormulaCells() throws Exception {
+        UUID credentialId = UUID.fromString("6f1c2e1a-0000-4000-8000-0000000000c1");
+        when(apiRequestLogRepository.streamByVendorForExport(VENDOR_ID, START, END)).thenReturn(Stream.of(
+                new ApiRequestLogExportRow(UUID.fromString("6f1c2e1a-0000-4000-8000-0000000000b1"),
+                        LocalDateTime.of(2026, 1, 15, 10, 30), credentialId, "=HYPERLINK(\"http://x\",\"y\")", "+1",
+                        (short) 400, 5, "-2+3")));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        service.exportApiRequestLogs(VENDOR_ID, null, START, END, ExportFormat.CSV, false, output);
+
+        String row = output.toString(StandardCharsets.UTF_8).split("\r\n")[1];
+        assertEquals("6f1c2e1a-0000-4000-8000-0000000000b1,2026-01-15T10:30,6f1c2e1a-0000-4000-8000-0000000000c1,"
+                + "\"'=HYPERLINK(\"\"http://x\"\",\"\"y\"\")\",'+1,400,5,'-2+3", row);
+    }
+
+    @Test
+    void testMissingVendorIsNotFound() {
+        VendorRepository vendorRepository = mock(VendorRepository.class);
+        IAuthContextViewModel auth = mock(IAuthContextViewModel.class);
+        when(auth.getCompanyCode()).thenReturn(42L);
+        when(vendorRepository.findByCompanyCode(42L)).thenReturn(Optional.empty());
+        LogExportServiceImplementation withVendors = new LogExportServiceImplementation(
+                auditLogRepository, apiRequestLogRepository, vendorRepository, Jackson2ObjectMapperBuilder.json().build());
+
+        assertThrows(ResourceNotFoundException.class, () -> withVendors.resolveVendorId(auth));
+    }
+
+    @Test
+    void testNdjsonWritesOneObjectPerLine() throws Exception {
+        UUID credentialId = UUID.fromString("6f1c2e1a-0000-4000-8000-0000000000c1");
+        when(apiRequestLogRepository.streamByVendorForExport(VENDOR_ID, START, END)).thenReturn(Stream.of(
+                new ApiRequestLogExportRow(UUID.fromString("6f1c2e1a-0000-4000-8000-0000000000b1"),
+                        LocalDateTime.of(2026, 1, 15, 10, 30), credentialId, "/asn", "POST", (short) 201, 42, null),
+                new ApiRequestLogExportRow(UUID.fromString("6f1c2e1a-0000-4000-8000-0000000000b2"),
+                        LocalDateTime.of(2026, 1, 15, 10, 31), credentialId, "/asn", "POST", (short) 429, 3, "RATE_LIMITED")));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long count = service.exportApiRequestLogs(VENDOR_ID, null, START, END, ExportFormat.NDJSON, false, output);
+
+        assertEquals(2, count);
+        assertEquals("{\"logId\":\"6f1c2e1a-0000-4000-8000-0000000000b1\",\"requestTimestamp\":\"2026-01-15T10:30:00\","
+                + "\"credentialId\":\"6f1c2e1a-0000-4000-8000-0000000000c1\",\"endpoint\":\"/asn\",\"method\":\"POST\","
+                + "\"statusCode\":201,\"responseTimeMs\":42}\n"
+                + "{\"logId\":\"6f1c2e1a-0000-4000-8000-0000000000b2\",\"requestTimestamp\":\"2026-01-15T10:31:00\","
+                + "\"credentialId\":\"6f1c2e1a-0000-4000-8000-0000000000c1\",\"endpoint\":\"/asn\",\"method\":\"POST\","
+                + "\"statusCode\":429,\"responseTimeMs\":3,\"errorCode\":\"RATE_LIMITED\"}\n",
+                output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void testCompletedGzipExportClosesCursorAndEndsStream() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(auditLogRepository.streamBySubjectForExport(VENDOR_ID, START, END))
+                .thenReturn(Stream.of(auditRow(null, null)).onClose(() -> closed.set(true)));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        service.exportAuditLogs(VENDOR_ID, START, END, ExportFormat.NDJSON, true, output);
+
+        assertTrue(closed.get());
+        try (GZIPInputStream unzipped = new GZIPInputStream(new ByteArrayInputStream(output.toByteArray()))) {
+            String written = new String(unzipped.readAllBytes(), StandardCharsets.UTF_8);
+            assertTrue(written.startsWith("{\"auditId\":\"6f1c2e1a-0000-4000-8000-0000000000a1\""), written);
+            assertTrue(written.endsWith("\"eventAction\":\"UPDATE\"}\n"), written);
+        }
+    }
+
+    @Test
+    void testFailedWriteClosesCursor() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        AuditLogExportRow row = auditRow(null, null);
+        when(auditLogRepository.streamBySubjectForExport(any(), any(), any()))
+                .thenReturn(Stream.generate(() -> row).onClose(() -> closed.set(true)));
+        OutputStream disconnected = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Client disconnected");
+            }
+        };
+
+        assertThrows(IOException.class,
+                () -> service.exportAuditLogs(VENDOR_ID, START, END, ExportFormat.CSV, false, disconnected));
+        assertTrue(closed.get(), "An aborted export must release its cursor");
+    }
+
+    private static AuditLogExportRow auditRow(String changes, String requestId) throws UnknownHostException {
+        return new AuditLogExportRow(UUID.fromString("6f1c2e1a-0000-4000-8000-0000000000a1"),
+                LocalDateTime.of(2026, 1, 15, 10, 30), VENDOR_ID, ActorType.VENDOR,
+                InetAddress.getByAddress(new byte[]{10, 0, 0, 7}), "VENDOR", "UPDATE", null, null, requestId, null, changes);
+    }
+}
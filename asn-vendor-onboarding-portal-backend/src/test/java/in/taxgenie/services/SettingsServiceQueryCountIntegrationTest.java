@@ -0,0 +1,124 @@
+package in.taxgenie.services;
+
+import in.taxgenie.PostgresIntegrationTest;
+import in.taxgenie.auth.IAuthContextViewModel;
+import in.taxgenie.entities.Vendor;
+import in.taxgenie.entities.VendorCode;
+import in.taxgenie.entities.VendorGstin;
+import in.taxgenie.monitoring.QueryCountAssertions;
+import in.taxgenie.monitoring.QueryCountHolder;
+import in.taxgenie.monitoring.QueryStats;
+import in.taxgenie.multitenancy.context.TenantContext;
+import in.taxgenie.repositories.VendorCodeRepository;
+import in.taxgenie.repositories.VendorGstinRepository;
+import in.taxgenie.repositories.VendorRepository;
+import in.taxgenie.services.interfaces.ISettingsService;
+import in.taxgenie.viewmodels.settings.GstinManagementViewModel;
+import in.taxgenie.viewmodels.settings.VendorCodeManagementViewModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for the query counts of the settings screens against PostgreSQL
+ * Pins the statements per screen so a lookup per GSTIN (N+1) fails the build
+ */
+@EnabledIf("in.taxgenie.TestDatabase#isAvailable")
+class SettingsServiceQueryCountIntegrationTest extends PostgresIntegrationTest {
+
+    private static final long TENANT = 9401L;
+    private static final int GSTINS = 5;
+    private static final int CODES_PER_GSTIN = 2;
+
+    @Autowired
+    private ISettingsService settingsService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private VendorRepository vendorRepository;
+
+    @Autowired
+    private VendorGstinRepository vendorGstinRepository;
+
+    @Autowired
+    private VendorCodeRepository vendorCodeRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private IAuthContextViewModel auth;
+    private UUID vendorId;
+
+    @BeforeEach
+    void setUp() {
+        String pan = "QCNTE" + ThreadLocalRandom.current().nextInt(1000, 10000) + "F";
+        vendorId = new TransactionTemplate(transactionManager).execute(status -> {
+            Vendor vendor = Vendor.builder().userId(1L).companyName("Query Count Test Vendor").panNumber(pan).build();
+            vendor.setCompanyCode(TENANT);
+            vendorRepository.save(vendor);
+            for (int i = 0; i < GSTINS; i++) {
+                String number = "2" + i + pan + "1Z5";
+                VendorGstin gstin = VendorGstin.builder().vendor(vendor).gstin(number).stateCode(number.substring(0, 2)).vendorCode("V" + i).build();
+                gstin.setCompanyCode(TENANT);
+                vendorGstinRepository.save(gstin);
+                for (int j = 0; j < CODES_PER_GSTIN; j++) {
+                    VendorCode code = VendorCode.builder().vendorGstin(gstin).vendorCode(pan + "-" + i + "-" + j).build();
+                    code.setCompanyCode(TENANT);
+                    vendorCodeRepository.save(code);
+                }
+            }
+            return vendor.getVendorId();
+        });
+
+        auth = mock(IAuthContextViewModel.class);
+        when(auth.getCompanyCode()).thenReturn(TENANT);
+        when(auth.getUserId()).thenReturn(1L);
+        TenantContext.setCurrentTenant(TENANT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+        QueryCountHolder.clear();
+        jdbcTemplate.update("DELETE FROM vendor_codes WHERE gstin_id IN (SELECT gstin_id FROM vendor_gstin WHERE vendor_id = ?)", vendorId);
+        jdbcTemplate.update("DELETE FROM vendor_gstin WHERE vendor_id = ?", vendorId);
+        jdbcTemplate.update("DELETE FROM vendors WHERE vendor_id = ?", vendorId);
+    }
+
+    @Test
+    void testVendorCodeScreenDoesNotQueryPerGstin() {
+        QueryCountHolder.start();
+        VendorCodeManagementViewModel screen = settingsService.getVendorCodeManagement(auth);
+        QueryStats stats = QueryCountHolder.stop();
+
+        assertEquals(GSTINS * CODES_PER_GSTIN, screen.getTotalCount());
+        QueryCountAssertions.assertNoStatementRepeatedMoreThan(stats, 1);
+        QueryCountAssertions.assertStatementsAtMost(stats, 2);
+    }
+
+    @Test
+    void testGstinScreenResolvesCredentialsForTheWholePage() {
+        QueryCountHolder.start();
+        GstinManagementViewModel screen = settingsService.getGstinManagement(auth, PageRequest.of(0, 10));
+        QueryStats stats = QueryCountHolder.stop();
+
+        assertEquals(GSTINS, screen.getGstinDetails().size());
+        QueryCountAssertions.assertNoStatementRepeatedMoreThan(stats, 1);
+        QueryCountAssertions.assertStatementsAtMost(stats, 4);
+    }
+}
@@ -0,0 +1,80 @@
+package in.taxgenie.services;
+
+import in.taxgenie.PostgresIntegrationTest;
+import in.taxgenie.entities.Vendor;
+import in.taxgenie.jobs.TenantSchemaRoutingRefreshJob;
+import in.taxgenie.repositories.VendorRepository;
+import in.taxgenie.services.interfaces.ITenantSchemaService;
+import in.taxgenie.viewmodels.tenancy.TenantSchemaMigrationViewModel;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for moving a tenant to a dedicated schema against PostgreSQL
+ * Verifies that the cutover returns once writes are frozen and completes in the background
+ */
+@EnabledIf("in.taxgenie.TestDatabase#isAvailable")
+class TenantSchemaServiceIntegrationTest extends PostgresIntegrationTest {
+
+    private static final long TENANT = 9201L;
+    private static final String SCHEMA = "sch_tenant_9201_test";
+
+    @Autowired
+    private ITenantSchemaService tenantSchemaService;
+
+    @Autowired
+    private TenantSchemaRoutingRefreshJob routingRefreshJob;
+
+    @Autowired
+    private VendorRepository vendorRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM tenant_schema_routes WHERE company_code = ?", TENANT);
+        jdbcTemplate.execute("DROP SCHEMA IF EXISTS " + SCHEMA + " CASCADE");
+        jdbcTemplate.update("DELETE FROM vendors WHERE company_code = ?", TENANT);
+        routingRefreshJob.refreshTenantSchemaRouting();
+    }
+
+    @Test
+    void testCutoverCompletesInBackground() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            Vendor vendor = Vendor.builder().userId(1L).companyName("Cutover Test Vendor").panNumber("CUTOV9201A").build();
+            vendor.setCompanyCode(TENANT);
+            vendorRepository.save(vendor);
+        });
+        tenantSchemaService.prepare(TENANT, SCHEMA);
+        tenantSchemaService.copy(TENANT);
+
+        TenantSchemaMigrationViewModel started = tenantSchemaService.cutover(TENANT);
+
+        assertTrue(started.getWritesFrozen());
+        assertTrue(started.getCutoverRunning());
+        assertEquals("SHARED", started.getMode());
+        assertThrows(IllegalStateException.class, () -> tenantSchemaService.cutover(TENANT));
+
+        await().atMost(Duration.ofSeconds(30)).until(() -> !tenantSchemaService.getStatus(TENANT).getCutoverRunning());
+        TenantSchemaMigrationViewModel done = tenantSchemaService.getStatus(TENANT);
+        assertNull(done.getCutoverError());
+        assertEquals("DEDICATED", done.getMode());
+        assertEquals(SCHEMA, done.getActiveSchema());
+        assertFalse(done.getWritesFrozen());
+        assertEquals(1L, done.getTables().get(0).getDedicatedRows());
+    }
+}
@@ -0,0 +1,74 @@
+package in.taxgenie.services;
+
+import in.taxgenie.auth.IAuthContextViewModel;
+import in.taxgenie.multitenancy.context.TenantContext;
+import in.taxgenie.session.InMemoryUserSessionStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test class for the user session service on the in-memory store
+ * Verifies that sessions are kept per tenant and user, bounded and expired
+ */
+class UserSessionServiceTest {
+
+    @AfterEach
+    void clearTenant() {
+        TenantContext.clear();
+    }
+
+    @Test
+    void testSelectedOemIsKeptPerTenantAndUser() {
+        UserSessionService service = new UserSessionService(new InMemoryUserSessionStore(10, 3600));
+        IAuthContextViewModel user = user(7L);
+
+        TenantContext.setCurrentTenant(1L);
+        service.setSelectedOem(user, "oem-1", "OEM One");
+        assertEquals("oem-1", service.getSelectedOem(user).getOemId());
+
+        TenantContext.setCurrentTenant(2L);
+        assertFalse(service.hasSelectedOem(user));
+
+        TenantContext.setCurrentTenant(1L);
+        service.clearSelectedOem(user);
+        assertNull(service.getSelectedOem(user));
+    }
+
+    @Test
+    void testStoreDropsLeastRecentlyUsedSessionWhenFull() {
+        UserSessionService service = new UserSessionService(new InMemoryUserSessionStore(2, 3600));
+        IAuthContextViewModel first = user(1L);
+        IAuthContextViewModel second = user(2L);
+        IAuthContextViewModel third = user(3L);
+
+        service.setSelectedOem(first, "oem-1", "OEM One");
+        service.setSelectedOem(second, "oem-2", "OEM Two");
+        service.getSelectedOem(first);
+        service.setSelectedOem(third, "oem-3", "OEM Three");
+
+        assertTrue(service.hasSelectedOem(first));
+        assertFalse(service.hasSelectedOem(second));
+        assertTrue(service.hasSelectedOem(third));
+    }
+
+    @Test
+    void testSessionsExpireAfterTimeToLive() {
+        UserSessionService service = new UserSessionService(new InMemoryUserSessionStore(10, 0));
+        IAuthContextViewModel user = user(1L);
+
+        service.setSelectedOem(user, "oem-1", "OEM One");
+
+        assertFalse(service.hasSelectedOem(user));
+        assertEquals(0, service.cleanupExpiredSessions());
+    }
+
+    private static IAuthContextViewModel user(long userId) {
+        IAuthContextViewModel auth = mock(IAuthContextViewModel.class);
+        when(auth.getUserId()).thenReturn(userId);
+        return auth;
+    }
+}
@@ -0,0 +1,78 @@
+package in.taxgenie.session;
+
+import in.taxgenie.PostgresIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIf;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the PostgreSQL session store
+ * Verifies reads through the near-cache, that a missing session is looked up again rather than
+ * remembered, and that expired sessions are neither returned nor kept
+ */
+@EnabledIf("in.taxgenie.TestDatabase#isAvailable")
+class PostgresUserSessionStoreIntegrationTest extends PostgresIntegrationTest {
+
+    private static final String KEY = "9301:1";
+
+    @Autowired
+    private PostgresUserSessionStore store;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM user_session_state WHERE session_key LIKE '9301:%'");
+        store.evictAll();
+    }
+
+    @Test
+    void testStoredSessionIsServedFromNearCache() {
+        store.put(KEY, UserSessionState.withSelectedOem("oem-1", "OEM One"));
+        jdbcTemplate.update("UPDATE user_session_state SET selected_oem_id = 'oem-2' WHERE session_key = ?", KEY);
+
+        assertEquals("oem-1", store.get(KEY).selectedOemId());
+
+        store.evict(KEY);
+        assertEquals("oem-2", store.get(KEY).selectedOemId(), "Evicted keys are read from the table again");
+    }
+
+    @Test
+    void testMissingSessionIsNotCached() {
+        assertNull(store.get(KEY));
+
+        // Written by another node whose invalidation never reached this one
+        insert(KEY, "oem-3", "now() + interval '1 hour'");
+
+        assertEquals("oem-3", store.get(KEY).selectedOemId());
+    }
+
+    @Test
+    void testRemovedSessionIsGone() {
+        store.put(KEY, UserSessionState.withSelectedOem("oem-1", "OEM One"));
+
+        store.remove(KEY);
+
+        assertNull(store.get(KEY));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT count(*) FROM user_session_state WHERE session_key = ?", Integer.class, KEY));
+    }
+
+    @Test
+    void testExpiredSessionIsIgnoredAndPurged() {
+        insert(KEY, "oem-4", "now() - interval '1 second'");
+
+        assertNull(store.get(KEY));
+        assertTrue(store.purgeExpired() >= 1);
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT count(*) FROM user_session_state WHERE session_key = ?", Integer.class, KEY));
+    }
+
+    private void insert(String sessionKey, String oemId, String expiresAt) {
+        jdbcTemplate.update("INSERT INTO user_session_state (session_key, selected_oem_id, selected_oem_name, last_activity, expires_at)"
+                + " VALUES (?, ?, 'OEM', ?, " + expiresAt + ")", sessionKey, oemId, System.currentTimeMillis());
+    }
+}
@@ -0,0 +1,162 @@
+package in.taxgenie.streaming;
+
+import in.taxgenie.viewmodels.onboarding.OnboardingProgressViewModel;
+import in.taxgenie.viewmodels.onboarding.OnboardingStreamEventViewModel;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.StandardServletAsyncWebRequest;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitterReturnValueHandler;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the onboarding progress stream registry
+ * Verifies the per-tenant cap, that closing a stream releases its slot exactly once, that live
+ * events follow the replay without repeating it, and that a client that stops reading is
+ * disconnected instead of holding up other streams
+ */
+class OnboardingProgressStreamsTest {
+
+    private static final String OEM_ID = "6f1c2e1a-0000-4000-8000-00000000000a";
+
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor();
+    private final OnboardingProgressStreams streams = new OnboardingProgressStreams(new SimpleMeterRegistry(), 2, 60_000, 2, dispatcher);
+
+    @AfterEach
+    void tearDown() {
+        streams.shutdown();
+    }
+
+    @Test
+    void testTenantCapRejectsExtraStreamsOnly() {
+        assertTrue(streams.open(1L, OEM_ID).isPresent());
+        assertTrue(streams.open(1L, OEM_ID.toUpperCase()).isPresent());
+        assertTrue(streams.open(1L, OEM_ID).isEmpty(), "Third stream for the tenant should be rejected");
+        assertTrue(streams.open(2L, OEM_ID).isPresent(), "Other tenants are not affected");
+        assertEquals(3, streams.getOpenStreamCount());
+    }
+
+    @Test
+    void testClosingReleasesSlotOnce() {
+        Optional<OnboardingProgressStreams.Subscription> first = streams.open(1L, OEM_ID);
+        streams.open(1L, OEM_ID);
+        assertTrue(first.isPresent());
+
+        first.get().close();
+        first.get().close();
+
+        assertEquals(1, streams.getOpenStreamCount());
+        assertTrue(streams.open(1L, OEM_ID).isPresent());
+        assertTrue(streams.open(1L, OEM_ID).isEmpty());
+    }
+
+    @Test
+    void testStreamWithoutCompanyIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> streams.open(null, OEM_ID));
+        assertEquals(0, streams.getOpenStreamCount());
+    }
+
+    @Test
+    void testInitialSnapshotIsBufferedBeforeHandlerAttaches() throws Exception {
+        OnboardingProgressStreams.Subscription subscription = streams.open(1L, OEM_ID).orElseThrow();
+        OnboardingStreamEventViewModel missed = OnboardingStreamEventViewModel.builder()
+                .eventId("6f1c2e1a-0000-4000-8000-0000000000e1")
+                .build();
+
+        streams.sendInitial(subscription, List.of(missed),
+                OnboardingProgressViewModel.builder().percentage(40).build(), missed.getEventId());
+        String written = attach(subscription.getEmitter());
+
+        assertTrue(written.startsWith("event:onboarding-event\ndata:{\"eventId\":\"" + missed.getEventId() + "\""), written);
+        assertTrue(written.contains("\n\nevent:progress\ndata:{\"percentage\":40,"), written);
+        assertTrue(written.endsWith("id:" + missed.getEventId() + "\n\n"), "Snapshot carries the newest replayed event ID");
+        assertEquals(1, streams.getOpenStreamCount());
+    }
+
+    @Test
+    void testLiveEventsWaitForReplayAndSkipReplayedOnes() throws Exception {
+        OnboardingProgressStreams roomy = new OnboardingProgressStreams(new SimpleMeterRegistry(), 2, 60_000, 8, dispatcher);
+        OnboardingProgressStreams.Subscription subscription = roomy.open(1L, OEM_ID).orElseThrow();
+        OnboardingProgressViewModel progress = OnboardingProgressViewModel.builder().percentage(60).build();
+        OnboardingStreamEventViewModel replayed = OnboardingStreamEventViewModel.builder()
+                .eventId("6f1c2e1a-0000-4000-8000-0000000000e1")
+                .build();
+        OnboardingStreamEventViewModel newer = OnboardingStreamEventViewModel.builder()
+                .eventId("6f1c2e1a-0000-4000-8000-0000000000e2")
+                .build();
+
+        // Both commit after the stream opened; only the first was read by the replay query
+        roomy.onEventRecorded(new OnboardingEventRecordedEvent(1L, OEM_ID, replayed, progress));
+        roomy.onEventRecorded(new OnboardingEventRecordedEvent(1L, OEM_ID, newer, progress));
+        roomy.sendInitial(subscription, List.of(replayed), progress, replayed.getEventId());
+        dispatcher.submit(() -> { }).get();
+        String written = attach(subscription.getEmitter());
+
+        assertEquals(2, written.split("event:onboarding-event", -1).length - 1, written);
+        assertTrue(written.indexOf(replayed.getEventId()) < written.indexOf("event:progress"), written);
+        assertTrue(written.indexOf("event:progress") < written.indexOf(newer.getEventId()), written);
+        assertTrue(written.endsWith("id:" + newer.getEventId() + "\n\n"), written);
+        roomy.shutdown();
+    }
+
+    @Test
+    void testStalledStreamIsClosedWhenItsQueueFills() throws Exception {
+        CountDownLatch stalled = new CountDownLatch(1);
+        dispatcher.execute(() -> {
+            try {
+                stalled.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        OnboardingProgressStreams.Subscription subscription = streams.open(1L, OEM_ID).orElseThrow();
+
+        streams.sendHeartbeats();
+        streams.sendHeartbeats();
+        assertFalse(subscription.isClosed(), "Queue of two still has room");
+
+        streams.sendHeartbeats();
+        assertTrue(subscription.isClosed());
+        assertEquals(0, streams.getOpenStreamCount());
+        assertTrue(streams.open(1L, OEM_ID).isPresent(), "Slot of the closed stream is released");
+        stalled.countDown();
+    }
+
+    /**
+     * Hands the emitter to Spring MVC as a handler returning it would, and returns what was
+     * written to the response
+     */
+    private static String attach(SseEmitter emitter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAsyncSupported(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        WebAsyncUtils.getAsyncManager(webRequest).setAsyncWebRequest(new StandardServletAsyncWebRequest(request, response));
+
+        ResponseBodyEmitterReturnValueHandler handler = new ResponseBodyEmitterReturnValueHandler(
+                List.of(new StringHttpMessageConverter(), new MappingJackson2HttpMessageConverter()));
+        handler.handleReturnValue(emitter, new MethodParameter(Handlers.class.getMethod("stream"), -1),
+                new ModelAndViewContainer(), webRequest);
+        return response.getContentAsString();
+    }
+
+    interface Handlers {
+        SseEmitter stream();
+    }
+}
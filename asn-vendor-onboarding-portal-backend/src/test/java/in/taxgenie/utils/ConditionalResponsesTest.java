@@ -0,0 +1,59 @@
+package in.taxgenie.utils;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for conditional GET helpers
+ * Verifies If-None-Match matching and the headers on 200, placeholder and 304 responses
+ */
+class ConditionalResponsesTest {
+
+    private static final Optional<String> ETAG = Optional.of("\"abc123\"");
+
+    @Test
+    void testMatchesAnyListedTagIncludingWeakForm() {
+        assertTrue(ConditionalResponses.isNotModified(request("\"old\", W/\"abc123\""), ETAG));
+        assertTrue(ConditionalResponses.isNotModified(request("*"), ETAG));
+        assertFalse(ConditionalResponses.isNotModified(request("\"old\""), ETAG));
+        assertFalse(ConditionalResponses.isNotModified(request(null), ETAG));
+        assertFalse(ConditionalResponses.isNotModified(request("*"), Optional.empty()));
+    }
+
+    @Test
+    void testResponsesCarryValidatorAndRevalidateCacheControl() {
+        ResponseEntity<String> ok = ConditionalResponses.ok("body", ETAG);
+        assertEquals("\"abc123\"", ok.getHeaders().getETag());
+        assertEquals("no-cache, private", ok.getHeaders().getCacheControl());
+
+        ResponseEntity<String> notModified = ConditionalResponses.notModified(ETAG);
+        assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatusCode());
+        assertNull(notModified.getBody());
+
+        assertNull(ConditionalResponses.ok("body", Optional.empty()).getHeaders().getETag());
+    }
+
+    @Test
+    void testPlaceholderIsNeitherStoredNorTagged() {
+        ResponseEntity<String> placeholder = ConditionalResponses.noStore("placeholder");
+
+        assertEquals(HttpStatus.OK, placeholder.getStatusCode());
+        assertEquals("no-store", placeholder.getHeaders().getCacheControl());
+        assertNull(placeholder.getHeaders().getETag());
+    }
+
+    private static ServletWebRequest request(String ifNoneMatch) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/dashboard/stats/1");
+        if (ifNoneMatch != null) {
+            request.addHeader("If-None-Match", ifNoneMatch);
+        }
+        return new ServletWebRequest(request);
+    }
+}
@@ -0,0 +1,85 @@
+package in.taxgenie.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the mergeable latency sketch used by API usage rollups
+ * Verifies quantile accuracy, merging and binary round-tripping
+ */
+class LatencySketchTest {
+
+    @Test
+    void testEmptySketchHasNoQuantiles() {
+        LatencySketch sketch = new LatencySketch();
+        assertEquals(0, sketch.getCount());
+        assertNull(sketch.quantile(0.5), "Empty sketch should not report a quantile");
+    }
+
+    @Test
+    void testSmallValuesAreExact() {
+        LatencySketch sketch = new LatencySketch();
+        for (int i = 0; i < 10; i++) {
+            sketch.record(i);
+        }
+        assertEquals(4L, sketch.quantile(0.5));
+        assertEquals(9L, sketch.quantile(1.0));
+    }
+
+    @Test
+    void testQuantilesWithinRelativeError() {
+        LatencySketch sketch = new LatencySketch();
+        for (int i = 1; i <= 10_000; i++) {
+            sketch.record(i);
+        }
+        assertWithinError(5_000, sketch.quantile(0.50));
+        assertWithinError(9_500, sketch.quantile(0.95));
+        assertWithinError(9_900, sketch.quantile(0.99));
+    }
+
+    @Test
+    void testMergeEqualsRecordingEverything() {
+        LatencySketch whole = new LatencySketch();
+        LatencySketch first = new LatencySketch();
+        LatencySketch second = new LatencySketch();
+        for (int i = 0; i < 5_000; i++) {
+            long value = (i * 37L) % 2_000;
+            whole.record(value);
+            (i % 2 == 0 ? first : second).record(value);
+        }
+
+        first.merge(second);
+
+        assertEquals(whole.getCount(), first.getCount());
+        assertEquals(whole.quantile(0.5), first.quantile(0.5));
+        assertEquals(whole.quantile(0.99), first.quantile(0.99));
+    }
+
+    @Test
+    void testBinaryRoundTrip() {
+        LatencySketch sketch = new LatencySketch();
+        sketch.record(3);
+        sketch.record(250);
+        sketch.record(250);
+        sketch.record(120_000);
+
+        LatencySketch restored = LatencySketch.fromBytes(sketch.toBytes());
+
+        assertEquals(sketch.getCount(), restored.getCount());
+        assertEquals(sketch.quantile(0.25), restored.quantile(0.25));
+        assertEquals(sketch.quantile(0.5), restored.quantile(0.5));
+        assertEquals(sketch.quantile(1.0), restored.quantile(1.0));
+    }
+
+    @Test
+    void testFromNullBytesIsEmpty() {
+        assertEquals(0, LatencySketch.fromBytes(null).getCount());
+    }
+
+    private static void assertWithinError(long expected, Long actual) {
+        assertNotNull(actual);
+        double relativeError = Math.abs(actual - expected) / (double) expected;
+        assertTrue(relativeError <= 0.07, "Expected ~" + expected + " but was " + actual);
+    }
+}
@@ -0,0 +1,50 @@
+package in.taxgenie.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for monthly partition naming, DDL and bound parsing
+ */
+class MonthlyPartitionsTest {
+
+    @Test
+    void testCreateSqlCoversExactlyTheMonth() {
+        YearMonth december = YearMonth.of(2026, 12);
+
+        assertEquals("audit_logs_p2026_12", MonthlyPartitions.partitionName("audit_logs", december));
+        assertEquals("CREATE TABLE IF NOT EXISTS \"audit_logs_p2026_12\" PARTITION OF \"audit_logs\""
+                        + " FOR VALUES FROM ('2026-12-01 00:00:00') TO ('2027-01-01 00:00:00')",
+                MonthlyPartitions.createSql("audit_logs", december));
+    }
+
+    @Test
+    void testUpperBoundIsReadFromMonthlyAndLegacyPartitions() {
+        assertEquals(Optional.of(LocalDateTime.of(2026, 11, 1, 0, 0)), MonthlyPartitions.upperBound(
+                "FOR VALUES FROM ('2026-10-01 00:00:00') TO ('2026-11-01 00:00:00')"));
+        assertEquals(Optional.of(LocalDateTime.of(2026, 11, 1, 0, 0)), MonthlyPartitions.upperBound(
+                "FOR VALUES FROM (MINVALUE) TO ('2026-11-01 00:00:00')"));
+    }
+
+    @Test
+    void testDefaultPartitionNeverExpires() {
+        LocalDateTime farFuture = LocalDateTime.of(2100, 1, 1, 0, 0);
+
+        assertEquals(Optional.empty(), MonthlyPartitions.upperBound("DEFAULT"));
+        assertFalse(MonthlyPartitions.isExpired("DEFAULT", farFuture));
+        assertFalse(MonthlyPartitions.isExpired("FOR VALUES FROM ('2026-10-01 00:00:00') TO (MAXVALUE)", farFuture));
+    }
+
+    @Test
+    void testPartitionExpiresOnlyOnceItsWholeRangeIsPastTheCutoff() {
+        String october = "FOR VALUES FROM ('2026-10-01 00:00:00') TO ('2026-11-01 00:00:00')";
+
+        assertTrue(MonthlyPartitions.isExpired(october, LocalDateTime.of(2026, 11, 1, 0, 0)));
+        assertFalse(MonthlyPartitions.isExpired(october, LocalDateTime.of(2026, 10, 31, 23, 59)));
+    }
+}